@@ -228,6 +228,50 @@ public class AdaptableSupportTests {
 
 	}
 
+	@SuppressWarnings("serial")
+	@Test
+	public void retrievalIsUpdatedOnRegistrationChanges() {
+		AdaptableSupportWrapper td = new AdaptableSupportWrapper();
+
+		ParameterizedType<ParameterType1> adapter1 = new ParameterizedType<>();
+		ParameterizedType<ParameterType2> adapter2 = new ParameterizedType<>();
+
+		// nothing registered
+		assertNull(td.getAdapter(ParameterizedSuperType.class));
+
+		// single adapter can be retrieved via its super type (repeatedly)
+		td.setAdapter(new TypeToken<ParameterizedType<ParameterType1>>() {
+		}, adapter1);
+		assertEquals(adapter1, td.getAdapter(ParameterizedSuperType.class));
+		assertEquals(adapter1, td.getAdapter(ParameterizedSuperType.class));
+		assertEquals(adapter1, td.getAdapter(Object.class));
+
+		// ambiguous after registering a second adapter under a different role
+		td.setAdapter(new TypeToken<ParameterizedType<ParameterType2>>() {
+		}, adapter2, "r2");
+		assertEquals(adapter1, td.getAdapter(ParameterizedSuperType.class));
+		assertNull(td.getAdapter(AdapterKey
+				.get(new TypeToken<ParameterizedType<ParameterType1>>() {
+				}, "r2")));
+		assertEquals(adapter2, td.getAdapter(AdapterKey
+				.get(new TypeToken<ParameterizedType<ParameterType2>>() {
+				}, "r2")));
+
+		// same adapter instance registered under different roles is not
+		// ambiguous
+		td.unsetAdapter(adapter1);
+		assertEquals(adapter2, td.getAdapter(ParameterizedSuperType.class));
+		td.setAdapter(new TypeToken<ParameterizedType<ParameterType2>>() {
+		}, adapter2, "r3");
+		assertEquals(adapter2, td.getAdapter(ParameterizedSuperType.class));
+
+		// nothing can be retrieved after unregistering
+		td.unsetAdapter(adapter2);
+		assertNull(td.getAdapter(ParameterizedSuperType.class));
+		assertNull(td.getAdapter(Object.class));
+		assertEquals(0, td.getAdapters(Object.class).size());
+	}
+
 	@SuppressWarnings({ "serial", "rawtypes" })
 	@Test
 	public void retrievalOfMultipleAdapters() {
@@ -346,6 +346,50 @@ public class AdapterInjectorTests {
 				"The given key (raw) type org.eclipse.gef.common.tests.AdapterInjectorTests$RawType does not match the actual (raw) type of adapter org.eclipse.gef.common.tests.AdapterInjectorTests$ParameterizedSubType"));
 	}
 
+	/**
+	 * Tests that the injection plan that is computed for an adaptable class is
+	 * re-used for subsequent instances of that class, so that binding issues
+	 * are only reported once, while adapters are still injected into all
+	 * instances.
+	 */
+	@Test
+	public void injectAdaptersUsingInjectionPlan() throws Exception {
+		Module module = new AbstractModule() {
+			@Override
+			protected void configure() {
+				install(new AdapterInjectionSupport());
+
+				MapBinder<AdapterKey<?>, Object> adapterMapBinder = AdapterMaps
+						.getAdapterMapBinder(binder(), AdapterStore.class);
+				adapterMapBinder.addBinding(AdapterKey.get(RawType.class))
+						.to(RawType.class);
+			}
+		};
+		Injector injector = Guice.createInjector(module);
+		AdapterInjector adapterInjector = new AdapterInjector(
+				AdapterStore.class.getMethod("setAdapter", TypeToken.class,
+						Object.class, String.class),
+				LoggingMode.DEVELOPMENT);
+		adapterInjector.setInjector(injector);
+		Method injectAdaptersMethod = AdapterInjector.class.getDeclaredMethod(
+				"performAdapterInjection", IAdaptable.class, List.class);
+		injectAdaptersMethod.setAccessible(true);
+
+		AdapterStore first = new AdapterStore();
+		List<String> issues = new ArrayList<>();
+		injectAdaptersMethod.invoke(adapterInjector, first, issues);
+		assertEquals(1, issues.size());
+		assertNotNull(first.getAdapter(RawType.class));
+
+		AdapterStore second = new AdapterStore();
+		issues.clear();
+		injectAdaptersMethod.invoke(adapterInjector, second, issues);
+		assertEquals(0, issues.size());
+		assertNotNull(second.getAdapter(RawType.class));
+		assertTrue(first.getAdapter(RawType.class) != second
+				.getAdapter(RawType.class));
+	}
+
 	@SuppressWarnings("serial")
 	@Test
 	public void injectAdapters() {
@@ -12,10 +12,15 @@
 package org.eclipse.gef.common.adapt;
 
 import java.beans.PropertyChangeSupport;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.eclipse.gef.common.beans.property.ReadOnlyMapWrapperEx;
@@ -44,6 +49,9 @@ import javafx.collections.ObservableMap;
  */
 public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 
+	// XXX: Used to cache 'null' lookup results
+	private static final Object NO_ADAPTER = new Object();
+
 	// XXX: We keep a sorted map of adapters to have a deterministic order
 	private ObservableMap<AdapterKey<?>, Object> adapters = FXCollections
 			.observableMap(new TreeMap<AdapterKey<?>, Object>());
@@ -51,6 +59,14 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 	private ReadOnlyMapWrapperEx<AdapterKey<?>, Object> adaptersUnmodifiableProperty;
 	private A source;
 
+	// XXX: Index of the registered adapter keys by the raw types (including all
+	// super classes and interfaces) of their type keys, so that assignability
+	// only has to be checked for 'matching' candidates.
+	private Map<Class<?>, Set<AdapterKey<?>>> keysByRawType = new HashMap<>();
+	// XXX: Cache of resolved lookups, keyed by Class, TypeToken, or
+	// AdapterKey; cleared whenever an adapter is registered or unregistered.
+	private Map<Object, Object> resolvedAdapters = new HashMap<>();
+
 	/**
 	 * Creates a new {@link AdaptableSupport} for the given source
 	 * {@link IAdaptable} and a related {@link PropertyChangeSupport}.
@@ -94,6 +110,7 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 		Map<AdapterKey<?>, Object> oldAdapters = new HashMap<>(adapters);
 		for (AdapterKey<?> key : oldAdapters.keySet()) {
 			Object adapter = adapters.remove(key);
+			unindex(key);
 			if (adapter != null) {
 				// unbind adapter (if its bound)
 				if (adapter instanceof IAdaptable.Bound) {
@@ -108,6 +125,8 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 		}
 
 		adapters.clear();
+		keysByRawType.clear();
+		resolvedAdapters.clear();
 		source = null;
 	}
 
@@ -126,22 +145,20 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 	 *
 	 * @see IAdaptable#getAdapter(AdapterKey)
 	 */
+	@SuppressWarnings("unchecked")
 	public <T> T getAdapter(AdapterKey<T> key) {
 		if (adapters.isEmpty()) {
 			return null;
 		}
 
-		// see if we can unambiguously retrieve a matching adapter
-		Map<AdapterKey<? extends T>, T> adaptersForTypeKey = getAdapters(
-				key.getKey(), key.getRole());
-
-		// an adapter instance may be registered under different keys
-		int adapterCount = new HashSet<>(adaptersForTypeKey.values()).size();
-		if (adapterCount == 1) {
-			return adaptersForTypeKey.values().iterator().next();
+		Object resolved = resolvedAdapters.get(key);
+		if (resolved == null) {
+			// see if we can unambiguously retrieve a matching adapter
+			resolved = getUniqueAdapter(
+					getAdapters(key.getKey(), key.getRole()).values());
+			resolvedAdapters.put(key, resolved == null ? NO_ADAPTER : resolved);
 		}
-
-		return null;
+		return resolved == NO_ADAPTER ? null : (T) resolved;
 	}
 
 	/**
@@ -160,8 +177,20 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 	 *
 	 * @see IAdaptable#getAdapter(Class)
 	 */
+	@SuppressWarnings("unchecked")
 	public <T> T getAdapter(Class<T> key) {
-		return this.<T> getAdapter(TypeToken.of(key));
+		if (adapters.isEmpty()) {
+			return null;
+		}
+
+		// XXX: Cache by class as well, so we do not have to create a
+		// TypeToken for a cached lookup.
+		Object resolved = resolvedAdapters.get(key);
+		if (resolved == null) {
+			resolved = this.<T> getAdapter(TypeToken.of(key));
+			resolvedAdapters.put(key, resolved == null ? NO_ADAPTER : resolved);
+		}
+		return resolved == NO_ADAPTER ? null : (T) resolved;
 	}
 
 	/**
@@ -182,26 +211,28 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 	 *
 	 * @see IAdaptable#getAdapter(TypeToken)
 	 */
+	@SuppressWarnings("unchecked")
 	public <T> T getAdapter(TypeToken<T> key) {
-		// if we have only one adapter (instance) for the given type key
-		// (disregarding the
-		// role), return this one
-		Map<AdapterKey<? extends T>, T> adaptersForTypeKey = getAdapters(key,
-				null);
-
-		// an adapter instance may be registered under different keys
-		int adapterCount = new HashSet<>(adaptersForTypeKey.values()).size();
-		if (adapterCount == 1) {
-			return adaptersForTypeKey.values().iterator().next();
+		if (adapters.isEmpty()) {
+			return null;
 		}
 
-		if (adapterCount > 1) {
-			// if we have more than one adapter instance, try to retrieve one
-			// unambiguously by using the default role
-			return getAdapter(AdapterKey.get(key, AdapterKey.DEFAULT_ROLE));
+		Object resolved = resolvedAdapters.get(key);
+		if (resolved == null) {
+			// if we have only one adapter (instance) for the given type key
+			// (disregarding the role), return this one
+			Collection<T> adaptersForTypeKey = this
+					.<T> getAdapters(key, null).values();
+			resolved = getUniqueAdapter(adaptersForTypeKey);
+			if (resolved == null && !adaptersForTypeKey.isEmpty()) {
+				// if we have more than one adapter instance, try to retrieve
+				// one unambiguously by using the default role
+				resolved = getAdapter(
+						AdapterKey.get(key, AdapterKey.DEFAULT_ROLE));
+			}
+			resolvedAdapters.put(key, resolved == null ? NO_ADAPTER : resolved);
 		}
-
-		return null;
+		return resolved == NO_ADAPTER ? null : (T) resolved;
 	}
 
 	/**
@@ -287,7 +318,7 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 			return Collections.emptyMap();
 		}
 		Map<AdapterKey<? extends T>, T> typeSafeAdapters = new TreeMap<>();
-		for (AdapterKey<?> k : adapters.keySet()) {
+		for (AdapterKey<?> k : getCandidateKeys(key)) {
 			if (Types.isAssignable(key, k.getKey())) {
 				// check type compliance...
 				typeSafeAdapters.put((AdapterKey<? extends T>) k,
@@ -308,7 +339,7 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 		}
 
 		Map<AdapterKey<? extends T>, T> typeSafeAdapters = new TreeMap<>();
-		for (AdapterKey<?> k : adapters.keySet()) {
+		for (AdapterKey<?> k : getCandidateKeys(typeKey)) {
 			if (role == null || k.getRole().equals(role)) {
 				// return all adapters assignable to the given type
 				// key
@@ -322,6 +353,109 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 		return typeSafeAdapters;
 	}
 
+	/**
+	 * Returns the keys of all registered adapters that may be 'matching' the
+	 * given {@link TypeToken} key, i.e. whose raw type is the same or a
+	 * sub-type of the raw type of the given {@link TypeToken} key.
+	 *
+	 * @param typeKey
+	 *            The {@link TypeToken} key for which to retrieve candidates.
+	 * @return The {@link AdapterKey}s of all candidate adapters.
+	 */
+	private Collection<AdapterKey<?>> getCandidateKeys(
+			TypeToken<?> typeKey) {
+		Class<?> rawType = typeKey.getRawType();
+		if (rawType.isArray()) {
+			// XXX: Array types are not covered by the index (as String[] is
+			// assignable to Object[] without Object[] being a super class);
+			// as these are rarely used as adapter keys, fall back to checking
+			// all registered adapters.
+			return adapters.keySet();
+		}
+		Set<AdapterKey<?>> candidates = keysByRawType.get(rawType);
+		return candidates == null ? Collections.<AdapterKey<?>> emptySet()
+				: candidates;
+	}
+
+	/**
+	 * Returns the single adapter instance contained in the given collection,
+	 * or <code>null</code> if the collection is empty or contains adapters
+	 * that are not equal (an adapter instance may be registered under
+	 * different keys).
+	 *
+	 * @param adapters
+	 *            The adapters to inspect.
+	 * @return The single adapter instance or <code>null</code>.
+	 */
+	private <T> T getUniqueAdapter(Collection<T> adapters) {
+		Iterator<T> iterator = adapters.iterator();
+		if (!iterator.hasNext()) {
+			return null;
+		}
+		T adapter = iterator.next();
+		while (iterator.hasNext()) {
+			// XXX: compare via equals() to preserve the semantics of the
+			// former HashSet-based deduplication
+			if (!adapter.equals(iterator.next())) {
+				return null;
+			}
+		}
+		return adapter;
+	}
+
+	/**
+	 * Returns the given raw type together with all of its super classes and
+	 * (transitively) implemented interfaces.
+	 *
+	 * @param rawType
+	 *            The raw type for which to compute the super types.
+	 * @return A {@link List} containing the given raw type and all its super
+	 *         types.
+	 */
+	private List<Class<?>> getRawSuperTypes(Class<?> rawType) {
+		List<Class<?>> superTypes = new ArrayList<>();
+		Set<Class<?>> visited = new HashSet<>();
+		List<Class<?>> queue = new ArrayList<>();
+		queue.add(rawType);
+		while (!queue.isEmpty()) {
+			Class<?> type = queue.remove(queue.size() - 1);
+			if (type == null || !visited.add(type)) {
+				continue;
+			}
+			superTypes.add(type);
+			queue.add(type.getSuperclass());
+			for (Class<?> i : type.getInterfaces()) {
+				queue.add(i);
+			}
+		}
+		// interfaces do not have Object as super class, but are assignable
+		// to it
+		if (visited.add(Object.class)) {
+			superTypes.add(Object.class);
+		}
+		return superTypes;
+	}
+
+	/**
+	 * Adds the given {@link AdapterKey} to the raw type index and invalidates
+	 * all resolved lookups.
+	 *
+	 * @param key
+	 *            The {@link AdapterKey} of a newly registered adapter.
+	 */
+	private void index(AdapterKey<?> key) {
+		for (Class<?> superType : getRawSuperTypes(
+				key.getKey().getRawType())) {
+			Set<AdapterKey<?>> keys = keysByRawType.get(superType);
+			if (keys == null) {
+				keys = new HashSet<>();
+				keysByRawType.put(superType, keys);
+			}
+			keys.add(key);
+		}
+		resolvedAdapters.clear();
+	}
+
 	/**
 	 * Registers the given adapter under the default role (see
 	 * {@link AdapterKey#DEFAULT_ROLE}.
@@ -427,6 +561,7 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 		}
 
 		adapters.put(key, adapter);
+		index(key);
 
 		if (adapter instanceof IAdaptable.Bound) {
 			((IAdaptable.Bound<A>) adapter).setAdaptable(source);
@@ -457,8 +592,30 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 		for (AdapterKey<?> key : new HashMap<>(adapters).keySet()) {
 			if (adapters.get(key) == adapter) {
 				adapters.remove(key);
+				unindex(key);
+			}
+		}
+	}
+
+	/**
+	 * Removes the given {@link AdapterKey} from the raw type index and
+	 * invalidates all resolved lookups.
+	 *
+	 * @param key
+	 *            The {@link AdapterKey} of an unregistered adapter.
+	 */
+	private void unindex(AdapterKey<?> key) {
+		for (Class<?> superType : getRawSuperTypes(
+				key.getKey().getRawType())) {
+			Set<AdapterKey<?>> keys = keysByRawType.get(superType);
+			if (keys != null) {
+				keys.remove(key);
+				if (keys.isEmpty()) {
+					keysByRawType.remove(superType);
+				}
 			}
 		}
+		resolvedAdapters.clear();
 	}
 
 }
@@ -16,8 +16,11 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.gef.common.adapt.AdapterKey;
 import org.eclipse.gef.common.adapt.IAdaptable;
@@ -31,6 +34,7 @@ import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.MembersInjector;
+import com.google.inject.Provider;
 import com.google.inject.multibindings.MapBinderBinding;
 import com.google.inject.multibindings.MultibinderBinding;
 import com.google.inject.multibindings.MultibindingsTargetVisitor;
@@ -72,6 +76,13 @@ import javafx.beans.value.ObservableValue;
  * infer the actual adapter type from respective bindings, or fall back to the
  * type inferred from the adapter instance (which will not be adequate for
  * generic types because of type erasure) in such a case.
+ * <p>
+ * To keep the injection effort independent of the number of bindings, the
+ * applicable adapter map bindings (including their resolved {@link AdapterKey}
+ * s, inferred adapter types, and providers) are computed only once per
+ * adaptable class and cached as an injection plan. Only the context of context
+ * specific bindings (see {@link AdapterMap#adaptableContext()}) has to be
+ * evaluated per instance.
  *
  * @see AdapterMap
  * @see AdaptableTypeListener
@@ -79,6 +90,43 @@ import javafx.beans.value.ObservableValue;
  */
 public class AdapterInjector implements MembersInjector<IAdaptable> {
 
+	/**
+	 * An adapter map binding that is applicable to a certain adaptable class,
+	 * together with its (pre-resolved) entries.
+	 */
+	private static class InjectionPlanBinding {
+
+		private final BoundAdapter[] context;
+		private final List<InjectionPlanEntry> entries = new ArrayList<>();
+
+		private InjectionPlanBinding(BoundAdapter[] context) {
+			this.context = context;
+		}
+	}
+
+	/**
+	 * An entry of an adapter map binding, with its {@link AdapterKey}, the
+	 * adapter type that could be inferred from the binding, and the provider
+	 * to obtain the adapter from.
+	 */
+	private static class InjectionPlanEntry {
+
+		private final AdapterKey<?> adapterKey;
+		private final Binding<?> binding;
+		private final Provider<?> provider;
+		private final TypeToken<?> bindingInferredType;
+		// binding issues only need to be reported once
+		private volatile boolean validated = false;
+
+		private InjectionPlanEntry(AdapterKey<?> adapterKey, Binding<?> binding,
+				TypeToken<?> bindingInferredType) {
+			this.adapterKey = adapterKey;
+			this.binding = binding;
+			this.provider = binding.getProvider();
+			this.bindingInferredType = bindingInferredType;
+		}
+	}
+
 	private BindingTargetVisitor<Object, TypeToken<?>> ADAPTER_TYPE_INFERRER = new BindingTargetVisitor<Object, TypeToken<?>>() {
 
 		@Override
@@ -208,6 +256,8 @@ public class AdapterInjector implements MembersInjector<IAdaptable> {
 
 	private final List<IAdaptable> deferredInstances = new ArrayList<>();
 
+	private final Map<Class<?>, List<InjectionPlanBinding>> injectionPlans = new ConcurrentHashMap<>();
+
 	private Injector injector;
 
 	private final Method method;
@@ -233,6 +283,60 @@ public class AdapterInjector implements MembersInjector<IAdaptable> {
 		this.loggingMode = loggingMode;
 	}
 
+	/**
+	 * Computes the injection plan for the given adaptable class, i.e. the
+	 * adapter map bindings that are applicable to instances of the given class
+	 * (where context specific bindings still need to be checked per
+	 * instance).
+	 *
+	 * @param adaptableClass
+	 *            The adaptable class for which to compute the plan.
+	 * @return The list of applicable {@link InjectionPlanBinding}s.
+	 */
+	private List<InjectionPlanBinding> computeInjectionPlan(
+			Class<?> adaptableClass) {
+		List<InjectionPlanBinding> plan = new ArrayList<>();
+		for (final Entry<Key<?>, Binding<?>> entry : injector.getAllBindings()
+				.entrySet()) {
+			// only consider bindings that are qualified by an AdapterMap
+			// binding annotation.
+			Key<?> key = entry.getKey();
+			if ((key.getAnnotationType() == null)
+					|| !AdapterMap.class.equals(key.getAnnotationType())) {
+				continue;
+			}
+			// XXX: All adapter (map) bindings that are bound to the
+			// adaptable type, or to a super type or super interface
+			// will be considered.
+			final AdapterMap keyAnnotation = (AdapterMap) key.getAnnotation();
+			if (!keyAnnotation.adaptableType()
+					.isAssignableFrom(adaptableClass)) {
+				continue;
+			}
+			// XXX: The MapBinderBindings of relevance are wrapped into
+			// ProviderInstanceBindings, so they an instance check is not
+			// sufficient to retrieve them, but a MultibindingsTargetVisitor is
+			// to be used.
+			MapBinderBinding<?> adapterMapBinding = entry.getValue()
+					.acceptTargetVisitor(ADAPTER_MAP_BINDING_FILTER);
+			if (adapterMapBinding == null) {
+				continue;
+			}
+			InjectionPlanBinding planBinding = new InjectionPlanBinding(
+					keyAnnotation.adaptableContext());
+			for (final Entry<?, Binding<?>> adapterBinding : adapterMapBinding
+					.getEntries()) {
+				planBinding.entries.add(new InjectionPlanEntry(
+						(AdapterKey<?>) adapterBinding.getKey(),
+						adapterBinding.getValue(),
+						adapterBinding.getValue()
+								.acceptTargetVisitor(ADAPTER_TYPE_INFERRER)));
+			}
+			plan.add(planBinding);
+		}
+		return Collections.unmodifiableList(plan);
+	}
+
 	private void deferAdapterInjection(IAdaptable adaptable,
 			Runnable runnable) {
 		if (adaptable instanceof IAdaptable.Bound) {
@@ -263,14 +367,29 @@ public class AdapterInjector implements MembersInjector<IAdaptable> {
 		}
 	}
 
+	/**
+	 * Returns the (cached) injection plan for the given adaptable class.
+	 *
+	 * @param adaptableClass
+	 *            The adaptable class for which to return the plan.
+	 * @return The list of applicable {@link InjectionPlanBinding}s.
+	 */
+	private List<InjectionPlanBinding> getInjectionPlan(
+			Class<?> adaptableClass) {
+		List<InjectionPlanBinding> plan = injectionPlans.get(adaptableClass);
+		if (plan == null) {
+			plan = computeInjectionPlan(adaptableClass);
+			injectionPlans.put(adaptableClass, plan);
+		}
+		return plan;
+	}
+
 	/**
 	 * Infers the type of the given adapter, evaluating either the related
 	 * bindings or the runtime type of the adapter.
 	 *
-	 * @param adapterKey
-	 *            The key of the map binding, which is an {@link AdapterKey}.
-	 * @param binding
-	 *            The binding related to the {@link AdapterKey}.
+	 * @param planEntry
+	 *            The {@link InjectionPlanEntry} related to the adapter.
 	 * @param adapter
 	 *            The adapter instance.
 	 * @param issues
@@ -280,22 +399,22 @@ public class AdapterInjector implements MembersInjector<IAdaptable> {
 	 * @return A {@link TypeToken} representing the type of the given adapter
 	 *         instance.
 	 */
-	private TypeToken<?> inferAdapterType(AdapterKey<?> adapterKey,
-			Binding<?> binding, Object adapter, List<String> issues) {
-		// try to infer the actual type of the adapter from the binding
-		TypeToken<?> bindingInferredType = binding
-				.acceptTargetVisitor(ADAPTER_TYPE_INFERRER);
-
+	private TypeToken<?> inferAdapterType(InjectionPlanEntry planEntry,
+			Object adapter, List<String> issues) {
 		// perform some sanity checks
-		validateAdapterBinding(adapterKey, binding, adapter,
-				bindingInferredType, issues);
+		if (!planEntry.validated) {
+			validateAdapterBinding(planEntry.adapterKey, planEntry.binding,
+					adapter, planEntry.bindingInferredType, issues);
+			planEntry.validated = true;
+		}
 
 		// The key type always takes precedence. Otherwise, if we could
 		// infer a type from the binding, we use that before falling back to
 		// inferring the type from the adapter instance itself.
-		TypeToken<?> bindingKeyType = adapterKey.getKey();
+		TypeToken<?> bindingKeyType = planEntry.adapterKey.getKey();
 		return bindingKeyType != null ? bindingKeyType
-				: (bindingInferredType != null ? bindingInferredType
+				: (planEntry.bindingInferredType != null
+						? planEntry.bindingInferredType
 						: TypeToken.of(adapter.getClass()));
 	}
 
@@ -387,90 +506,37 @@ public class AdapterInjector implements MembersInjector<IAdaptable> {
 		// System.out.println("Entering scope of " + adaptable);
 		AdaptableScopes.enter(adaptable);
 
-		// check which bindings are applicable
-		for (final Entry<Key<?>, Binding<?>> entry : injector.getAllBindings()
-				.entrySet()) {
-			// keep track of the applicable adapter map binding (so it can be
-			// used for injection later)
-			MapBinderBinding<?> adapterMapBinding = null;
-
-			// only consider bindings that are qualified by an AdapterMap
-			// binding annotation.
-			Key<?> key = entry.getKey();
-			Binding<?> binding = entry.getValue();
-
-			if ((key.getAnnotationType() != null)
-					&& AdapterMap.class.equals(key.getAnnotationType())) {
-				final AdapterMap keyAnnotation = (AdapterMap) key
-						.getAnnotation();
-				if (keyAnnotation.adaptableType()
-						.isAssignableFrom(adaptable.getClass())) {
-					if (keyAnnotation.adaptableContext().length != 0) {
-						// the adapter map binding is targeting a specific
-						// context
-						// if the adaptable is itself Adaptable.Bound and uses a
-						// role for its registration, consider that role here
-						if (isContextApplicable(adaptable,
-								keyAnnotation.adaptableContext())) {
-							// XXX: The MapBinderBindings of relevance are
-							// wrapped into
-							// ProviderInstanceBindings, so they an instance
-							// check is not
-							// sufficient
-							// to retrieve them, but a
-							// MultibindingsTargetVisitor is to be used.
-							adapterMapBinding = binding.acceptTargetVisitor(
-									ADAPTER_MAP_BINDING_FILTER);
-						}
-					} else {
-						// XXX: All adapter (map) bindings that are bound to the
-						// adaptable type, or to a super type or super interface
-						// will be considered.
-
-						// System.out.println("Applying binding for " +
-						// keyAnnotation.value() + " to " + type +
-						// " as subtype of " + methodAnnotation.value());
-
-						// XXX: The MapBinderBindings of relevance are wrapped
-						// into
-						// ProviderInstanceBindings, so they an instance check
-						// is not
-						// sufficient
-						// to retrieve them, but a MultibindingsTargetVisitor is
-						// to be used.
-						adapterMapBinding = binding.acceptTargetVisitor(
-								ADAPTER_MAP_BINDING_FILTER);
-					}
-				}
+		// evaluate the (cached) plan of applicable bindings
+		for (InjectionPlanBinding planBinding : getInjectionPlan(
+				adaptable.getClass())) {
+			// the adapter map binding may be targeting a specific context;
+			// if the adaptable is itself Adaptable.Bound and uses a role for
+			// its registration, consider that role here
+			if (planBinding.context.length != 0
+					&& !isContextApplicable(adaptable, planBinding.context)) {
+				continue;
 			}
-
-			if (adapterMapBinding != null) {
-				for (final Entry<?, Binding<?>> adapterBinding : adapterMapBinding
-						.getEntries()) {
-					AdapterKey<?> adapterKey = (AdapterKey<?>) adapterBinding
-							.getKey();
-					Object adapter = adapterBinding.getValue().getProvider()
-							.get();
-
-					// determine adapter type
-					TypeToken<?> adapterType = inferAdapterType(adapterKey,
-							adapterBinding.getValue(), adapter, issues);
-
-					// inject the adapter
-					try {
-						// System.out.println("Inject adapter " + adapter
-						// + " with type " + adapterType + " for key "
-						// + key + " to adaptable " + adaptable);
-						method.setAccessible(true);
-						method.invoke(adaptable, new Object[] { adapterType,
-								adapter, adapterKey.getRole() });
-					} catch (final IllegalAccessException e) {
-						throw new IllegalStateException(e);
-					} catch (final InvocationTargetException e) {
-						issues.add("*** ERROR: Cannot inject binding "
-								+ adapterBinding.getValue().getSource() + ": "
-								+ e.getCause().getMessage());
-					}
+			for (InjectionPlanEntry planEntry : planBinding.entries) {
+				Object adapter = planEntry.provider.get();
+
+				// determine adapter type
+				TypeToken<?> adapterType = inferAdapterType(planEntry, adapter,
+						issues);
+
+				// inject the adapter
+				try {
+					// System.out.println("Inject adapter " + adapter
+					// + " with type " + adapterType + " for key "
+					// + key + " to adaptable " + adaptable);
+					method.setAccessible(true);
+					method.invoke(adaptable, new Object[] { adapterType,
+							adapter, planEntry.adapterKey.getRole() });
+				} catch (final IllegalAccessException e) {
+					throw new IllegalStateException(e);
+				} catch (final InvocationTargetException e) {
+					issues.add("*** ERROR: Cannot inject binding "
+							+ planEntry.binding.getSource() + ": "
+							+ e.getCause().getMessage());
 				}
 			}
 		}
@@ -491,6 +557,7 @@ public class AdapterInjector implements MembersInjector<IAdaptable> {
 	@Inject
 	public void setInjector(final Injector injector) {
 		this.injector = injector;
+		injectionPlans.clear();
 		// perform injections for those instances that had to be exercised
 		// before the injector was available (if there have been any)
 		for (final IAdaptable instance : deferredInstances) {
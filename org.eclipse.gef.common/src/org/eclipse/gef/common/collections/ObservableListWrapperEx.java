@@ -151,6 +151,57 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 		}
 	}
 
+	/**
+	 * Computes the elementary removal changes that result from removing all
+	 * elements contained (or not contained) in the given collection from the
+	 * given previous contents. Continuous ranges of removed elements are
+	 * combined into a single elementary change.
+	 *
+	 * @param previousContents
+	 *            The contents before the removal.
+	 * @param collection
+	 *            The collection whose elements were removed (or retained).
+	 * @param removeContained
+	 *            <code>true</code> if the elements contained in the given
+	 *            collection were removed, <code>false</code> if they were
+	 *            retained.
+	 * @return The elementary removal changes.
+	 */
+	private List<ElementarySubChange<E>> computeRemovals(
+			List<E> previousContents, Collection<?> collection,
+			boolean removeContained) {
+		// XXX: Keep track of the indexes while iterating, so that the changes
+		// can be computed in linear time (assuming a constant time contains()
+		// check of the given collection).
+		List<ElementarySubChange<E>> elementaryChanges = new ArrayList<>();
+		List<E> removed = null;
+		int from = -1;
+		int removeCount = 0;
+		for (int i = 0; i < previousContents.size(); i++) {
+			E e = previousContents.get(i);
+			if (collection.contains(e) == removeContained) {
+				if (removed == null) {
+					// start a new elementary change (ensure that the count of
+					// elements that have already been deleted by preceding
+					// elementary changes is subtracted from the index)
+					removed = new ArrayList<>();
+					from = i - removeCount;
+				}
+				removed.add(e);
+			} else if (removed != null) {
+				elementaryChanges
+						.add(ElementarySubChange.removed(removed, from, from));
+				removeCount += removed.size();
+				removed = null;
+			}
+		}
+		if (removed != null) {
+			elementaryChanges
+					.add(ElementarySubChange.removed(removed, from, from));
+		}
+		return elementaryChanges;
+	}
+
 	@Override
 	protected List<E> delegate() {
 		return backingList;
@@ -212,46 +263,10 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 	public boolean removeAll(Collection<?> collection) {
 		List<E> previousContents = delegateCopy();
 		if (super.removeAll(collection)) {
-			// check which have been removed
-			List<ElementarySubChange<E>> elementaryChanges = new ArrayList<>();
-			ElementarySubChange<E> currentElementaryChange = null;
-			int removeCount = 0;
-			for (E e : previousContents) {
-				if (collection.contains(e)) {
-					// create a new elementary change, if elements are not
-					// 'continuous' (ensure that the count of elements that have
-					// already been deleted by preceding elementary changes is
-					// subtracted from the index)
-					if (currentElementaryChange == null
-							|| previousContents.indexOf(e)
-									- currentElementaryChange.getFrom() > 1) {
-						if (currentElementaryChange != null) {
-							removeCount += currentElementaryChange.getRemoved()
-									.size();
-						}
-						int index = previousContents.indexOf(e) - removeCount;
-						currentElementaryChange = ElementarySubChange.removed(
-								Collections.singletonList(e), index, index);
-						elementaryChanges.add(currentElementaryChange);
-					} else {
-						// replace current elementary change (i.e. append the
-						// removed element)
-						List<E> removed = new ArrayList<>(
-								currentElementaryChange.getRemoved());
-						removed.add(e);
-						int index = currentElementaryChange.getFrom();
-						elementaryChanges.remove(currentElementaryChange);
-						currentElementaryChange = ElementarySubChange
-								.removed(removed, index, index);
-						elementaryChanges.add(currentElementaryChange);
-					}
-				}
-			}
-			// determine lowest index that was removed (will be used as from and
-			// to index)
 			helper.fireValueChangedEvent(
 					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents, elementaryChanges));
+							previousContents, computeRemovals(previousContents,
+									collection, true)));
 			return true;
 		}
 		return false;
@@ -277,46 +292,10 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 	public boolean retainAll(Collection<?> collection) {
 		List<E> previousContents = delegateCopy();
 		if (super.retainAll(collection)) {
-			// check which have been removed
-			List<ElementarySubChange<E>> elementaryChanges = new ArrayList<>();
-			ElementarySubChange<E> currentElementaryChange = null;
-			int removeCount = 0;
-			for (E e : previousContents) {
-				if (!collection.contains(e)) {
-					// create a new elementary change, if elements are not
-					// 'continuous' (ensure that the count of elements that have
-					// already been deleted by preceding elementary changes is
-					// subtracted from the index)
-					if (currentElementaryChange == null
-							|| previousContents.indexOf(e)
-									- currentElementaryChange.getFrom() > 1) {
-						if (currentElementaryChange != null) {
-							removeCount += currentElementaryChange.getRemoved()
-									.size();
-						}
-						int index = previousContents.indexOf(e) - removeCount;
-						currentElementaryChange = ElementarySubChange.removed(
-								Collections.singletonList(e), index, index);
-						elementaryChanges.add(currentElementaryChange);
-					} else {
-						// replace current elementary change (i.e. append the
-						// removed element)
-						List<E> removed = new ArrayList<>(
-								currentElementaryChange.getRemoved());
-						removed.add(e);
-						int index = currentElementaryChange.getFrom();
-						elementaryChanges.remove(currentElementaryChange);
-						currentElementaryChange = ElementarySubChange
-								.removed(removed, index, index);
-						elementaryChanges.add(currentElementaryChange);
-					}
-				}
-			}
-			// determine lowest index that was removed (will be used as from and
-			// to index)
 			helper.fireValueChangedEvent(
 					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents, elementaryChanges));
+							previousContents, computeRemovals(previousContents,
+									collection, false)));
 			return true;
 		}
 		return false;
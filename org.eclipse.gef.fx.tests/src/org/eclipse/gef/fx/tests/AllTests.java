@@ -18,7 +18,8 @@ import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
 @SuiteClasses({ ConnectionTests.class, GeometryNodeTests.class, GeometryConversionTests.class,
-		OrthogonalProjectionStrategyTests.class, NodeUtilsTests.class, FXCanvasExTests.class})
+		OrthogonalProjectionStrategyTests.class, NodeUtilsTests.class, PickingIndexTests.class, SceneTransformObserverTests.class,
+		PolylineLayerTests.class, FXCanvasExTests.class })
 public class AllTests {
 
 }
@@ -15,6 +15,10 @@ package org.eclipse.gef.fx.tests;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.gef.fx.nodes.GeometryNode;
 import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
@@ -28,6 +32,8 @@ import org.junit.Test;
 
 import javafx.geometry.Bounds;
 import javafx.scene.paint.Color;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.PathElement;
 import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.shape.StrokeType;
 
@@ -201,6 +207,45 @@ public class GeometryNodeTests {
 		assertEquals(50.0, n.getHeight(), 0);
 	}
 
+	@Test
+	public void updatePathElementsInPlace() {
+		GeometryNode<Polyline> n = new GeometryNode<>();
+		n.setGeometry(new Polyline(0, 0, 50, 50, 100, 0));
+		List<PathElement> elements = new ArrayList<>(n.getPath().getElements());
+		assertEquals(3, elements.size());
+
+		// same structure: path elements are updated in place
+		n.setGeometry(new Polyline(0, 0, 50, 80, 100, 0));
+		assertEquals(elements, n.getPath().getElements());
+		assertSame(elements.get(1), n.getPath().getElements().get(1));
+		assertEquals(80 - n.getLayoutY(), ((LineTo) n.getPath().getElements().get(1)).getY(), 0);
+
+		// resizing keeps the structure, too
+		n.resize(200, 100);
+		assertSame(elements.get(2), n.getPath().getElements().get(2));
+
+		// the clickable area is created within the next layout pass
+		n.setClickableAreaWidth(10);
+		n.setGeometry(new Polyline(0, 0, 50, 50, 100, 0));
+		assertEquals(1, n.getChildrenUnmodifiable().size());
+		n.layout();
+		javafx.scene.shape.Path clickableArea = (javafx.scene.shape.Path) n.getChildrenUnmodifiable().get(1);
+		assertEquals(n.getPath().getElements().toString(), clickableArea.getElements().toString());
+
+		// different structure: path elements are exchanged, the clickable area
+		// is updated within the next layout pass
+		n.setGeometry(new Polyline(0, 0, 50, 50, 100, 0, 150, 50));
+		assertEquals(4, n.getPath().getElements().size());
+		assertEquals(3, clickableArea.getElements().size());
+		n.layout();
+		assertEquals(n.getPath().getElements().toString(), clickableArea.getElements().toString());
+
+		// the clickable area is removed if it does not exceed the stroke
+		n.setClickableAreaWidth(0);
+		n.layout();
+		assertEquals(1, n.getChildrenUnmodifiable().size());
+	}
+
 	private Rectangle convertBoundsInLocalToGeometryBounds(GeometryNode<? extends IGeometry> geom,
 			Bounds boundsInLocal) {
 		Rectangle boundsLocal = FX2Geometry.toRectangle(boundsInLocal);
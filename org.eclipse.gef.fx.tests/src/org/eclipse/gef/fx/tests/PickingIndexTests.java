@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.eclipse.gef.fx.utils.NodeUtils;
+import org.eclipse.gef.fx.utils.PickingIndex;
+import org.junit.Test;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Scale;
+
+public class PickingIndexTests {
+
+	@Test
+	public void getNodesAt() {
+		Pane root = new Pane();
+		Rectangle r1 = new Rectangle(0, 0, 100, 100);
+		Rectangle r2 = new Rectangle(50, 50, 100, 100);
+		Group g = new Group();
+		Rectangle r3 = new Rectangle(60, 60, 10, 10);
+		g.getChildren().add(r3);
+		root.getChildren().addAll(r1, r2, g);
+
+		PickingIndex index = new PickingIndex(32);
+		for (Node n : Arrays.asList(root, r1, r2, g, r3)) {
+			index.register(n);
+		}
+
+		// same order as NodeUtils#getNodesAt(), i.e. reverse pre-order
+		assertEquals(Arrays.asList(r3, g, r2, r1, root),
+				index.getNodesAt(root, 65, 65));
+		assertEquals(NodeUtils.getNodesAt(root, 65, 65),
+				index.getNodesAt(root, 65, 65));
+		assertEquals(NodeUtils.getNodesAt(root, 10, 10),
+				index.getNodesAt(root, 10, 10));
+		assertEquals(Arrays.asList(r2, root), index.getNodesAt(root, 140, 140));
+
+		// only nodes below the given root are returned
+		assertEquals(Arrays.asList(r3, g), index.getNodesAt(g, 65, 65));
+
+		// unregistered nodes are not returned
+		index.unregister(g);
+		assertEquals(Arrays.asList(r3, r2, r1, root),
+				index.getNodesAt(root, 65, 65));
+		index.clear();
+		assertTrue(index.getNodesAt(root, 65, 65).isEmpty());
+	}
+
+	@Test
+	public void getNodesIntersecting() {
+		Pane root = new Pane();
+		Rectangle r1 = new Rectangle(0, 0, 10, 10);
+		Rectangle r2 = new Rectangle(100, 100, 10, 10);
+		Rectangle r3 = new Rectangle(1000, 1000, 10, 10);
+		root.getChildren().addAll(r1, r2, r3);
+
+		PickingIndex index = new PickingIndex(32);
+		for (Node n : Arrays.asList(r1, r2, r3)) {
+			index.register(n);
+		}
+
+		assertEquals(new HashSet<>(Arrays.asList(r1, r2)), new HashSet<>(
+				index.getNodesIntersecting(5, 5, 105, 105)));
+		assertEquals(Collections.singletonList(r2),
+				index.getNodesIntersecting(50, 50, 500, 500));
+		assertTrue(index.getNodesIntersecting(20, 20, 90, 90).isEmpty());
+		// rectangles spanning more cells than occupied
+		assertEquals(3, index.getNodesIntersecting(-5000, -5000, 5000, 5000)
+				.size());
+
+		// updated on transform change
+		r3.setTranslateX(-900);
+		r3.setTranslateY(-900);
+		assertEquals(new HashSet<>(Arrays.asList(r2, r3)), new HashSet<>(
+				index.getNodesIntersecting(50, 50, 500, 500)));
+	}
+
+	@Test
+	public void indexInReferenceCoordinates() {
+		// viewport transformations are applied above the reference node
+		Pane root = new Pane();
+		Group viewport = new Group();
+		Group reference = new Group();
+		Group layer = new Group();
+		Rectangle r1 = new Rectangle(0, 0, 10, 10);
+		Rectangle r2 = new Rectangle(100, 0, 10, 10);
+		Rectangle outside = new Rectangle(0, 0, 10, 10);
+		layer.getChildren().addAll(r1, r2);
+		reference.getChildren().add(layer);
+		viewport.getChildren().add(reference);
+		root.getChildren().addAll(viewport, outside);
+
+		PickingIndex index = new PickingIndex(reference, 32);
+		assertEquals(reference, index.getReference());
+		for (Node n : Arrays.asList(r1, r2, outside)) {
+			index.register(n);
+		}
+		assertEquals(Arrays.asList(outside, r1), index.getNodesAt(root, 5, 5));
+
+		// scroll and zoom
+		viewport.setTranslateX(200);
+		viewport.getTransforms().add(new Scale(2, 2));
+		assertEquals(Collections.singletonList(outside),
+				index.getNodesAt(root, 5, 5));
+		assertEquals(Collections.singletonList(r1),
+				index.getNodesAt(root, 210, 10));
+		assertEquals(Collections.singletonList(r2),
+				index.getNodesAt(root, 410, 10));
+		assertEquals(new HashSet<>(Arrays.asList(r2, outside)),
+				new HashSet<>(index.getNodesIntersecting(400, 0, 420, 20)));
+
+		// transformations below the reference are still observed
+		layer.setTranslateY(100);
+		assertTrue(index.getNodesAt(root, 210, 10).isEmpty());
+		assertEquals(Collections.singletonList(r1),
+				index.getNodesAt(root, 210, 210));
+	}
+
+	@Test
+	public void updateOnReparent() {
+		Pane root = new Pane();
+		Group g1 = new Group();
+		Group g2 = new Group();
+		g2.setTranslateX(500);
+		Rectangle r = new Rectangle(0, 0, 10, 10);
+		g1.getChildren().add(r);
+		root.getChildren().addAll(g1, g2);
+
+		PickingIndex index = new PickingIndex(root, 32);
+		index.register(r);
+		assertEquals(Collections.singletonList(r), index.getNodesAt(root, 5, 5));
+
+		// reparent the node
+		g2.getChildren().add(r);
+		assertTrue(index.getNodesAt(root, 5, 5).isEmpty());
+		assertEquals(Collections.singletonList(r),
+				index.getNodesAt(root, 505, 5));
+
+		// the listeners of the new ancestor are hooked, the old ones are not
+		g2.setTranslateX(1000);
+		assertEquals(Collections.singletonList(r),
+				index.getNodesAt(root, 1005, 5));
+		g1.setTranslateX(1000);
+		assertEquals(Collections.singletonList(r),
+				index.getNodesAt(root, 1005, 5));
+
+		// reparent an ancestor
+		Group g3 = new Group();
+		g3.setTranslateY(300);
+		root.getChildren().add(g3);
+		g3.getChildren().add(g2);
+		assertEquals(Collections.singletonList(r),
+				index.getNodesAt(root, 1005, 305));
+	}
+
+	@Test
+	public void updateOnTransformAndBoundsChange() {
+		Pane root = new Pane();
+		Group g = new Group();
+		Rectangle r = new Rectangle(0, 0, 10, 10);
+		g.getChildren().add(r);
+		root.getChildren().add(g);
+
+		PickingIndex index = new PickingIndex(32);
+		index.register(r);
+		assertEquals(Collections.singletonList(r), index.getNodesAt(root, 5, 5));
+
+		// ancestor transform change
+		g.setTranslateX(500);
+		assertTrue(index.getNodesAt(root, 5, 5).isEmpty());
+		assertEquals(Collections.singletonList(r),
+				index.getNodesAt(root, 505, 5));
+
+		// bounds change
+		r.setWidth(100);
+		assertEquals(Collections.singletonList(r),
+				index.getNodesAt(root, 590, 5));
+
+		// mouse transparent ancestors prevent picking
+		g.setMouseTransparent(true);
+		assertTrue(index.getNodesAt(root, 590, 5).isEmpty());
+	}
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.gef.fx.nodes.PolylineLayer;
+import org.eclipse.gef.geometry.planar.Point;
+import org.junit.Test;
+
+import javafx.scene.paint.Color;
+
+public class PolylineLayerTests {
+
+	@Test
+	public void pickTolerance() {
+		PolylineLayer layer = new PolylineLayer(100);
+		layer.put("a", Arrays.asList(new Point(20, 90), new Point(80, 90)), Color.BLACK, 2);
+		assertEquals(1, layer.getTileCount());
+		assertNull(layer.getKeyAt(50, 100));
+
+		// the tiles are re-assigned when the pick tolerance is changed
+		layer.setPickTolerance(10);
+		assertEquals(2, layer.getTileCount());
+		assertEquals("a", layer.getKeyAt(50, 100));
+		layer.setPickTolerance(0);
+		assertEquals(1, layer.getTileCount());
+		assertNull(layer.getKeyAt(50, 92));
+	}
+
+	@Test
+	public void segmentTilesAndMaxTileCount() {
+		PolylineLayer layer = new PolylineLayer(100);
+		// the bounds span 3x3 tiles, but the segments only cross 5 of them
+		layer.put("a", Arrays.asList(new Point(10, 10), new Point(250, 10), new Point(250, 250)), Color.BLACK, 1);
+		assertEquals(5, layer.getTileCount());
+		assertEquals(0, layer.getRenderedTileCount());
+		assertNull(layer.getKeyAt(150, 150));
+
+		// tiles are rendered within the next layout pass
+		layer.layout();
+		assertEquals(5, layer.getRenderedTileCount());
+		assertEquals(5, layer.getChildren().size());
+
+		// the number of rendered tiles is bounded
+		layer.setMaxTileCount(2);
+		layer.layout();
+		assertEquals(2, layer.getRenderedTileCount());
+		assertEquals(2, layer.getChildren().size());
+		assertEquals(5, layer.getTileCount());
+	}
+
+	@Test
+	public void tilesAndPicking() {
+		PolylineLayer layer = new PolylineLayer(100);
+		layer.put("a", Arrays.asList(new Point(10, 10), new Point(90, 10)),
+				Color.BLACK, 2);
+		assertEquals(1, layer.getTileCount());
+		assertEquals("a", layer.getKeyAt(50, 11));
+		assertEquals("a", layer.getKeyAt(50, 14));
+		assertNull(layer.getKeyAt(50, 20));
+
+		// later polylines are on top
+		layer.put("b", Arrays.asList(new Point(50, 10), new Point(50, 250)),
+				Color.RED, 1);
+		assertEquals(3, layer.getTileCount());
+		assertEquals("b", layer.getKeyAt(50, 10));
+		assertEquals("b", layer.getKeyAt(50, 220));
+
+		// the tile only contains positions at which a polyline is hit
+		layer.layout();
+		assertTrue(layer.getChildren().get(0).contains(50, 10));
+		assertFalse(layer.getChildren().get(0).contains(70, 50));
+
+		// updates only reassign affected tiles
+		layer.put("b", Arrays.asList(new Point(50, 10), new Point(50, 50)),
+				Color.RED, 1);
+		assertEquals(1, layer.getTileCount());
+		assertNull(layer.getKeyAt(50, 220));
+
+		// tiles are disposed when no longer needed
+		layer.remove("a");
+		layer.remove("b");
+		assertEquals(0, layer.getTileCount());
+		assertTrue(layer.getChildren().isEmpty());
+		assertFalse(layer.isContained("a"));
+	}
+}
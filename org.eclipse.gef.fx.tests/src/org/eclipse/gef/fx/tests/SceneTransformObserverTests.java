@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.gef.fx.anchors.AnchorKey;
+import org.eclipse.gef.fx.anchors.StaticAnchor;
+import org.eclipse.gef.fx.listeners.SceneTransformObserver;
+import org.eclipse.gef.fx.listeners.SceneTransformObserver.Subscription;
+import org.eclipse.gef.geometry.planar.Point;
+import org.junit.Test;
+
+import javafx.scene.Group;
+import javafx.scene.shape.Rectangle;
+
+public class SceneTransformObserverTests {
+
+	@Test
+	public void anchorUsesBatchingAndVersions() {
+		Group root = new Group();
+		Rectangle anchorage = new Rectangle(10, 10);
+		Rectangle anchored = new Rectangle(10, 10);
+		root.getChildren().addAll(anchorage, anchored);
+
+		final int[] computations = new int[1];
+		StaticAnchor anchor = new StaticAnchor(anchorage, new Point(5, 5)) {
+			@Override
+			protected Point computePosition(AnchorKey key) {
+				computations[0]++;
+				return super.computePosition(key);
+			}
+		};
+		AnchorKey key = new AnchorKey(anchored, "test");
+		anchor.attach(key);
+		assertEquals(new Point(5, 5), anchor.getPosition(key));
+
+		// transform and bounds changes within a batch result in a single
+		// computation, as the (batched) transform change is already
+		// reflected by the computation for the bounds change
+		computations[0] = 0;
+		SceneTransformObserver.getInstance(anchorage).runBatched(() -> {
+			anchorage.setTranslateX(10);
+			anchored.setTranslateX(5);
+			anchorage.setWidth(20);
+		});
+		assertEquals(1, computations[0]);
+		assertEquals(new Point(10, 5), anchor.getPosition(key));
+
+		// transform changes outside of a batch are dispatched immediately
+		computations[0] = 0;
+		anchorage.setTranslateY(10);
+		assertEquals(1, computations[0]);
+		assertEquals(new Point(10, 15), anchor.getPosition(key));
+		anchor.detach(key);
+	}
+
+	@Test
+	public void instancePerHierarchy() {
+		Group root = new Group();
+		Rectangle r1 = new Rectangle(10, 10);
+		Rectangle r2 = new Rectangle(10, 10);
+		root.getChildren().addAll(r1, r2);
+		Rectangle other = new Rectangle(10, 10);
+
+		// shared within a hierarchy that is not part of a scene (as no JavaFX
+		// toolkit is available, scenes cannot be created here)
+		SceneTransformObserver rootInstance = SceneTransformObserver
+				.getInstance(r1);
+		assertSame(rootInstance, SceneTransformObserver.getInstance(r2));
+		assertNotSame(rootInstance, SceneTransformObserver.getInstance(other));
+	}
+
+	@Test
+	public void rehookOnReparent() {
+		SceneTransformObserver observer = new SceneTransformObserver();
+		Group root = new Group();
+		Group g1 = new Group();
+		Group g2 = new Group();
+		Rectangle anchorage = new Rectangle(10, 10);
+		g1.getChildren().add(anchorage);
+		root.getChildren().addAll(g1, g2);
+
+		final int[] notifications = new int[1];
+		Subscription s = observer.subscribe(anchorage, root,
+				(subscription) -> notifications[0]++);
+		assertEquals(2, observer.getObservedNodeCount());
+
+		// reparenting is reported as a (single) change
+		observer.runBatched(() -> g2.getChildren().add(anchorage));
+		assertEquals(1, notifications[0]);
+		assertEquals(2, observer.getObservedNodeCount());
+
+		// the new ancestor is observed, the old one is not
+		g2.setTranslateX(10);
+		assertEquals(2, notifications[0]);
+		g1.setTranslateX(10);
+		assertEquals(2, notifications[0]);
+
+		s.unsubscribe();
+		assertEquals(0, observer.getObservedNodeCount());
+	}
+
+	@Test
+	public void sharedListenersAndBatchedDispatch() {
+		SceneTransformObserver observer = new SceneTransformObserver();
+		Group root = new Group();
+		Group layer = new Group();
+		Rectangle anchorage = new Rectangle(10, 10);
+		Rectangle anchored1 = new Rectangle(10, 10);
+		Rectangle anchored2 = new Rectangle(10, 10);
+		layer.getChildren().addAll(anchorage, anchored1, anchored2);
+		root.getChildren().add(layer);
+
+		final int[] notifications = new int[2];
+		Subscription s1 = observer.subscribe(anchorage, anchored1,
+				(s) -> notifications[0]++);
+		Subscription s2 = observer.subscribe(anchorage, root,
+				(s) -> notifications[1]++);
+
+		// anchorage (s1), anchorage and layer (s2), where anchorage is shared;
+		// the observer hierarchy is not observed
+		assertEquals(2, observer.getObservedNodeCount());
+
+		anchorage.setTranslateX(5);
+		assertEquals(1, notifications[0]);
+		assertEquals(1, notifications[1]);
+		assertEquals(1, s1.getVersion());
+
+		// batched changes result in a single notification
+		observer.runBatched(() -> {
+			anchorage.setTranslateX(10);
+			anchored1.setTranslateX(10);
+		});
+		assertEquals(2, notifications[0]);
+		assertEquals(2, s1.getVersion());
+		assertEquals(2, notifications[1]);
+
+		// changes outside the observed hierarchy are not dispatched
+		anchored1.setTranslateX(20);
+		anchored2.setTranslateX(10);
+		assertEquals(2, notifications[0]);
+		assertEquals(2, notifications[1]);
+
+		// shared listeners are removed when no longer needed
+		s1.unsubscribe();
+		assertFalse(s1.isActive());
+		assertEquals(2, observer.getObservedNodeCount());
+		s2.unsubscribe();
+		assertEquals(0, observer.getObservedNodeCount());
+		anchorage.setTranslateX(20);
+		assertEquals(2, notifications[0]);
+		assertEquals(2, notifications[1]);
+	}
+}
@@ -19,6 +19,8 @@ import java.util.Set;
 
 import org.eclipse.gef.common.adapt.IAdaptable;
 import org.eclipse.gef.common.beans.property.ReadOnlyMapWrapperEx;
+import org.eclipse.gef.fx.listeners.SceneTransformObserver;
+import org.eclipse.gef.fx.listeners.SceneTransformObserver.Subscription;
 import org.eclipse.gef.fx.listeners.VisualChangeListener;
 import org.eclipse.gef.fx.utils.NodeUtils;
 import org.eclipse.gef.geometry.planar.Point;
@@ -73,7 +75,31 @@ public abstract class AbstractAnchor implements IAnchor {
 	private ReadOnlyMapWrapper<AnchorKey, Point> positionsUnmodifiableProperty;
 
 	// TODO: push this down to dynamic anchor (as its only needed there)
-	private Map<Node, VisualChangeListener> vcls = new HashMap<>();
+	// XXX: Transform changes within the hierarchies of anchorage and anchored
+	// nodes are observed using (shared) subscriptions, so that ancestor nodes
+	// do not collect a transform listener per anchored node. Bounds changes
+	// of the anchorage are observed by a single visual change listener (which
+	// is registered for the anchorage only, i.e. without transform listeners).
+	// The subscription version for which the positions of an anchored node
+	// were last computed is recorded, so that the positions are not computed
+	// again when a (batched) transform change is dispatched after the
+	// positions were already updated (e.g. because the anchorage bounds
+	// changed as well).
+	private Map<Node, Subscription> subscriptions = new HashMap<>();
+	private Map<Node, Long> computedVersions = new HashMap<>();
+	private VisualChangeListener anchorageVCL = new VisualChangeListener() {
+		@Override
+		protected void boundsInLocalChanged(Bounds oldBounds,
+				Bounds newBounds) {
+			updatePositions();
+		}
+
+		@Override
+		protected void localToParentTransformChanged(Node observed,
+				Transform oldTransform, Transform newTransform) {
+			// not registered
+		}
+	};
 
 	private ChangeListener<Scene> anchoredSceneChangeListener = new ChangeListener<Scene>() {
 		@Override
@@ -178,12 +204,7 @@ public abstract class AbstractAnchor implements IAnchor {
 		}
 		keysByNode.put(anchored, key);
 
-		if (!vcls.containsKey(anchored)) {
-			VisualChangeListener vcl = createVCL(anchored);
-			vcls.put(anchored, vcl);
-			// System.out.println(
-			// "Try to register VCL, because anchored " + key.getAnchored()
-			// + " was attached to anchorage " + getAnchorage());
+		if (!subscriptions.containsKey(anchored)) {
 			registerVCL(anchored);
 		}
 
@@ -210,35 +231,6 @@ public abstract class AbstractAnchor implements IAnchor {
 	 */
 	protected abstract Point computePosition(AnchorKey key);
 
-	private VisualChangeListener createVCL(final Node anchored) {
-		return new VisualChangeListener() {
-			@Override
-			protected void boundsInLocalChanged(Bounds oldBounds,
-					Bounds newBounds) {
-				updatePositions(anchored);
-			}
-
-			@Override
-			protected void localToParentTransformChanged(Node observed,
-					Transform oldTransform, Transform newTransform) {
-				updatePositions(anchored);
-			}
-
-			@Override
-			public void register(Node observed, Node observer) {
-				super.register(observed, observer);
-				/*
-				 * The visual change listener is registered when the anchorage
-				 * is attached to a scene. Therefore, the anchorages
-				 * bounds/transformation could have "changed" until
-				 * registration, so we have to recompute anchored's positions
-				 * now.
-				 */
-				updatePositions(anchored);
-			}
-		};
-	}
-
 	@Override
 	public void detach(AnchorKey key) {
 		Node anchored = key.getAnchored();
@@ -263,7 +255,6 @@ public abstract class AbstractAnchor implements IAnchor {
 			// + anchored + " has been detached from anchorage "
 			// + getAnchorage());
 			unregisterVCL(anchored);
-			vcls.remove(anchored);
 		}
 	}
 
@@ -330,34 +321,45 @@ public abstract class AbstractAnchor implements IAnchor {
 	}
 
 	/**
-	 * Registers a {@link VisualChangeListener} for the given anchored
-	 * {@link Node}.
+	 * Registers the listeners that are needed to update the positions of the
+	 * given anchored {@link Node}, i.e. a {@link Subscription} at the shared
+	 * {@link SceneTransformObserver} for the hierarchies of anchorage and
+	 * anchored, as well as a {@link VisualChangeListener} for the bounds of the
+	 * anchorage (if not already registered).
 	 *
 	 * @param anchored
-	 *            The anchored {@link Node} to register a
-	 *            {@link VisualChangeListener} at.
+	 *            The anchored {@link Node} to register listeners for.
 	 */
 	protected void registerVCL(Node anchored) {
-		if (canRegister(anchored)) {
-			// System.out.println("Register VCL between anchorage "
-			// + getAnchorage() + " and anchored " + anchored);
-			VisualChangeListener vcl = vcls.get(anchored);
-			if (!vcl.isRegistered()) {
-				vcl.register(getAnchorage(), anchored);
-				updatePositions(anchored);
+		if (canRegister(anchored) && !subscriptions.containsKey(anchored)) {
+			subscriptions.put(anchored, SceneTransformObserver
+					.getInstance(getAnchorage())
+					.subscribe(getAnchorage(), anchored, (subscription) -> {
+						Long computedVersion = computedVersions.get(anchored);
+						if (computedVersion == null || computedVersion
+								.longValue() != subscription.getVersion()) {
+							updatePositions(anchored);
+						}
+					}));
+			if (!anchorageVCL.isRegistered()) {
+				anchorageVCL.register(getAnchorage(), getAnchorage());
 			}
-			// else {
-			// System.out.println("VCL is already registered, thus skipping.");
-			// }
+			/*
+			 * The listeners are registered when the anchorage is attached to a
+			 * scene. Therefore, the anchorages bounds/transformation could have
+			 * "changed" until registration, so we have to recompute anchored's
+			 * positions now.
+			 */
+			updatePositions(anchored);
 		}
 	}
 
 	/**
-	 * Registers {@link VisualChangeListener}s for all anchored {@link Node}s,
-	 * or schedules their registration if the VCL cannot be registered yet.
+	 * Registers listeners for all anchored {@link Node}s (see
+	 * {@link #registerVCL(Node)}).
 	 */
 	protected void registerVCLs() {
-		for (Node anchored : vcls.keySet().toArray(new Node[] {})) {
+		for (Node anchored : keysByNode.keySet().toArray(new Node[] {})) {
 			registerVCL(anchored);
 		}
 	}
@@ -373,32 +375,31 @@ public abstract class AbstractAnchor implements IAnchor {
 	}
 
 	/**
-	 * Unregisters the {@link VisualChangeListener}s for the given anchored
-	 * {@link Node}.
+	 * Unregisters the listeners that were registered for the given anchored
+	 * {@link Node} (see {@link #registerVCL(Node)}). The
+	 * {@link VisualChangeListener} for the bounds of the anchorage is
+	 * unregistered when no anchored {@link Node} is registered any more.
 	 *
 	 * @param anchored
-	 *            The anchored Node to unregister a {@link VisualChangeListener}
-	 *            from.
+	 *            The anchored {@link Node} to unregister listeners for.
 	 */
 	protected void unregisterVCL(Node anchored) {
-		// System.out.println("Unregister VCL between anchorage " +
-		// getAnchorage()
-		// + " and anchored " + anchored);
-		VisualChangeListener vcl = vcls.get(anchored);
-		if (vcl.isRegistered()) {
-			vcl.unregister();
+		Subscription subscription = subscriptions.remove(anchored);
+		if (subscription != null) {
+			subscription.unsubscribe();
+		}
+		computedVersions.remove(anchored);
+		if (subscriptions.isEmpty() && anchorageVCL.isRegistered()) {
+			anchorageVCL.unregister();
 		}
-		// else {
-		// System.out.println("VCL is not registered, thus skipping.");
-		// }
 	}
 
 	/**
-	 * Unregisters the {@link VisualChangeListener}s for all anchored
-	 * {@link Node}s.
+	 * Unregisters the listeners for all anchored {@link Node}s (see
+	 * {@link #unregisterVCL(Node)}).
 	 */
 	protected void unregisterVCLs() {
-		for (Node anchored : vcls.keySet().toArray(new Node[] {})) {
+		for (Node anchored : subscriptions.keySet().toArray(new Node[] {})) {
 			unregisterVCL(anchored);
 		}
 	}
@@ -445,17 +446,35 @@ public abstract class AbstractAnchor implements IAnchor {
 	}
 
 	/**
-	 * Updates the positions for all attached {@link AnchorKey}s.
+	 * Updates the positions for all attached {@link AnchorKey}s. The updates
+	 * are performed within a batch of the {@link SceneTransformObserver} of
+	 * the anchorage, so that transform changes that result from the position
+	 * changes (e.g. of connections that are anchored themselves) are only
+	 * dispatched once all positions are updated.
 	 */
 	protected void updatePositions() {
-		for (AnchorKey key : getKeys()) {
-			updatePosition(key);
+		if (getAnchorage() == null || subscriptions.isEmpty()) {
+			for (Node anchored : keysByNode.keySet().toArray(new Node[] {})) {
+				updatePositions(anchored);
+			}
+			return;
 		}
+		SceneTransformObserver.getInstance(getAnchorage()).runBatched(() -> {
+			for (Node anchored : keysByNode.keySet().toArray(new Node[] {})) {
+				updatePositions(anchored);
+			}
+		});
 	}
 
 	private void updatePositions(Node anchored) {
 		SetMultimap<Node, AnchorKey> keys = getKeysByNode();
 		if (keys.containsKey(anchored)) {
+			// XXX: Record the version before computing the positions, so that
+			// transform changes during the computation are not skipped.
+			Subscription subscription = subscriptions.get(anchored);
+			if (subscription != null) {
+				computedVersions.put(anchored, subscription.getVersion());
+			}
 			Set<AnchorKey> keysCopy = new HashSet<>(keys.get(anchored));
 			for (AnchorKey key : keysCopy) {
 				updatePosition(key);
@@ -0,0 +1,413 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.listeners;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.gef.fx.utils.NodeUtils;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableMap;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.transform.Transform;
+
+/**
+ * The {@link SceneTransformObserver} is a shared alternative to the transform
+ * listeners of a {@link VisualChangeListener}. Instead of registering
+ * individual local-to-parent-transform listeners at all ancestors of an
+ * observed node (up to its common ancestor with an observer node), it
+ * registers a single listener per node, which is shared by all
+ * {@link Subscription subscriptions} that involve this node. In contrast to a
+ * {@link VisualChangeListener}, the ancestors of the observer node are not
+ * observed.
+ * <p>
+ * Local-to-parent-transform changes are dispatched to the
+ * {@link ISceneTransformListener listeners} of all affected subscriptions in a
+ * batch, so that each listener is notified only once, even if several nodes
+ * within its hierarchy changed. Transform changes that occur within
+ * {@link #runBatched(Runnable)} are collected and dispatched when the
+ * outermost batch is finished.
+ * <p>
+ * Each {@link Subscription} maintains a version that is incremented whenever a
+ * transform within its hierarchy changed, so that subscribers can cheaply
+ * check whether anything changed since they last queried it.
+ * <p>
+ * The hierarchy of a {@link Subscription} is updated when one of its nodes is
+ * reparented, which is reported as a transform change as well. The observed
+ * nodes are only weakly referenced by the {@link SceneTransformObserver}
+ * itself, so that nodes which are not explicitly unsubscribed can still be
+ * garbage collected.
+ * <p>
+ * As JavaFX nodes may only be manipulated on the JavaFX application thread,
+ * the {@link SceneTransformObserver} is not thread-safe. A shared instance is
+ * maintained per {@link Scene} and may be obtained via
+ * {@link #getInstance(Node)}.
+ *
+ * @author agent
+ * @since 5.1
+ *
+ */
+public class SceneTransformObserver {
+
+	/**
+	 * An {@link ISceneTransformListener} is notified about changes of the
+	 * local-to-parent-transform of any node within the hierarchy of a
+	 * {@link Subscription}.
+	 */
+	public interface ISceneTransformListener {
+
+		/**
+		 * Called when the local-to-parent-transform of at least one node in the
+		 * hierarchy of the given {@link Subscription} changed.
+		 *
+		 * @param subscription
+		 *            The {@link Subscription} that is affected by the change.
+		 */
+		public void sceneTransformChanged(Subscription subscription);
+	}
+
+	private final class NodeEntry implements ChangeListener<Transform> {
+
+		// XXX: The subscriptions are referenced weakly, so that the (strongly
+		// referenced) listeners do not keep the nodes of abandoned
+		// subscriptions alive.
+		private final Set<Subscription> subscriptions = Collections
+				.newSetFromMap(new WeakHashMap<Subscription, Boolean>());
+
+		private final ChangeListener<Parent> parentListener = new ChangeListener<Parent>() {
+			@Override
+			public void changed(ObservableValue<? extends Parent> observable,
+					Parent oldValue, Parent newValue) {
+				// the hierarchy of the subscriptions changed, so they have to
+				// be re-hooked
+				for (Subscription s : new ArrayList<>(subscriptions)) {
+					s.hook();
+				}
+				invalidate();
+			}
+		};
+
+		@Override
+		public void changed(ObservableValue<? extends Transform> observable,
+				Transform oldValue, Transform newValue) {
+			// only dispatch changes if the new transform is valid and differs
+			// from the old one (a new but equal transform is for instance
+			// computed when a node is reparented)
+			if (!isValidTransform(newValue)
+					|| oldValue != null && isEqual(oldValue, newValue)) {
+				return;
+			}
+			invalidate();
+		}
+
+		private void invalidate() {
+			version++;
+			for (Subscription s : subscriptions) {
+				s.version++;
+				pending.add(s);
+			}
+			if (batchDepth == 0) {
+				dispatch();
+			}
+		}
+	}
+
+	/**
+	 * A {@link Subscription} represents the registration of an
+	 * {@link ISceneTransformListener} for the ancestors of an observed node,
+	 * up to its common ancestor with an observer node.
+	 */
+	public final class Subscription {
+
+		private final Node observed;
+		private final Node observer;
+		private final ISceneTransformListener listener;
+		private List<Node> nodes = Collections.emptyList();
+		private long version = 0;
+		private boolean active = true;
+
+		private Subscription(Node observed, Node observer,
+				ISceneTransformListener listener) {
+			this.observed = observed;
+			this.observer = observer;
+			this.listener = listener;
+		}
+
+		/**
+		 * Returns the version of this {@link Subscription}, which is
+		 * incremented whenever the local-to-parent-transform of a node within
+		 * its hierarchy changes.
+		 *
+		 * @return The version of this {@link Subscription}.
+		 */
+		public long getVersion() {
+			return version;
+		}
+
+		private void hook() {
+			List<Node> oldNodes = nodes;
+			nodes = getHierarchy(observed, observer);
+			for (Node n : nodes) {
+				NodeEntry entry = entries.get(n);
+				if (entry == null) {
+					entry = new NodeEntry();
+					entries.put(n, entry);
+					n.localToParentTransformProperty().addListener(entry);
+					n.parentProperty().addListener(entry.parentListener);
+				}
+				entry.subscriptions.add(this);
+			}
+			for (Node n : oldNodes) {
+				if (!nodes.contains(n)) {
+					unhook(n);
+				}
+			}
+		}
+
+		/**
+		 * Returns <code>true</code> if this {@link Subscription} was not
+		 * {@link #unsubscribe() unsubscribed} yet, otherwise
+		 * <code>false</code>.
+		 *
+		 * @return <code>true</code> if this {@link Subscription} is active,
+		 *         otherwise <code>false</code>.
+		 */
+		public boolean isActive() {
+			return active;
+		}
+
+		private void unhook(Node n) {
+			NodeEntry entry = entries.get(n);
+			if (entry == null) {
+				return;
+			}
+			entry.subscriptions.remove(this);
+			if (entry.subscriptions.isEmpty()) {
+				entries.remove(n);
+				n.localToParentTransformProperty().removeListener(entry);
+				n.parentProperty().removeListener(entry.parentListener);
+			}
+		}
+
+		/**
+		 * Removes this {@link Subscription}, so that its listener will not be
+		 * notified about any subsequent changes. The shared transform
+		 * listeners are removed from all nodes that are not referenced by
+		 * other subscriptions.
+		 */
+		public void unsubscribe() {
+			if (!active) {
+				return;
+			}
+			active = false;
+			pending.remove(this);
+			for (Node n : nodes) {
+				unhook(n);
+			}
+			nodes = Collections.emptyList();
+		}
+	}
+
+	// the key under which the shared instance is stored in the properties of
+	// a scene (or the root of a hierarchy that is not part of a scene)
+	private static final String INSTANCE_KEY = SceneTransformObserver.class
+			.getName();
+
+	/**
+	 * Returns the given observed node and its ancestors up to (but excluding)
+	 * its nearest common ancestor with the given observer node. If they do not
+	 * share a common ancestor, all ancestors of the observed node are
+	 * returned, so that a later re-parenting is recognized.
+	 */
+	private static List<Node> getHierarchy(Node observed, Node observer) {
+		Node commonAncestor = NodeUtils.getNearestCommonAncestor(observed,
+				observer);
+		List<Node> nodes = new ArrayList<>();
+		Node tmp = observed;
+		while (tmp != null && tmp != commonAncestor) {
+			nodes.add(tmp);
+			tmp = tmp.getParent();
+		}
+		return nodes;
+	}
+
+	/**
+	 * Returns the {@link SceneTransformObserver} that is shared by all nodes
+	 * within the {@link Scene} of the given {@link Node}. If the given
+	 * {@link Node} is not part of a {@link Scene}, the instance that is shared
+	 * by all nodes within the hierarchy of its root is returned.
+	 *
+	 * @param node
+	 *            The {@link Node} for which to return the shared
+	 *            {@link SceneTransformObserver}.
+	 * @return The shared {@link SceneTransformObserver} for the given
+	 *         {@link Node}.
+	 */
+	public static SceneTransformObserver getInstance(Node node) {
+		if (node == null) {
+			throw new IllegalArgumentException("Node may not be null.");
+		}
+		ObservableMap<Object, Object> properties;
+		Scene scene = node.getScene();
+		if (scene != null) {
+			properties = scene.getProperties();
+		} else {
+			Node root = node;
+			while (root.getParent() != null) {
+				root = root.getParent();
+			}
+			properties = root.getProperties();
+		}
+		SceneTransformObserver instance = (SceneTransformObserver) properties
+				.get(INSTANCE_KEY);
+		if (instance == null) {
+			instance = new SceneTransformObserver();
+			properties.put(INSTANCE_KEY, instance);
+		}
+		return instance;
+	}
+
+	private static boolean isEqual(Transform t1, Transform t2) {
+		return t1.getMxx() == t2.getMxx() && t1.getMxy() == t2.getMxy()
+				&& t1.getMxz() == t2.getMxz() && t1.getMyx() == t2.getMyx()
+				&& t1.getMyy() == t2.getMyy() && t1.getMyz() == t2.getMyz()
+				&& t1.getMzx() == t2.getMzx() && t1.getMzy() == t2.getMzy()
+				&& t1.getMzz() == t2.getMzz() && t1.getTx() == t2.getTx()
+				&& t1.getTy() == t2.getTy() && t1.getTz() == t2.getTz();
+	}
+
+	private static boolean isFinite(double v) {
+		return !Double.isNaN(v) && !Double.isInfinite(v);
+	}
+
+	private static boolean isValidTransform(Transform t) {
+		return isFinite(t.getMxx()) && isFinite(t.getMxy())
+				&& isFinite(t.getMxz()) && isFinite(t.getMyx())
+				&& isFinite(t.getMyy()) && isFinite(t.getMyz())
+				&& isFinite(t.getMzx()) && isFinite(t.getMzy())
+				&& isFinite(t.getMzz()) && isFinite(t.getTx())
+				&& isFinite(t.getTy()) && isFinite(t.getTz());
+	}
+
+	private final Map<Node, NodeEntry> entries = new WeakHashMap<>();
+	private final Set<Subscription> pending = new LinkedHashSet<>();
+	private int batchDepth = 0;
+	private long version = 0;
+
+	private void dispatch() {
+		// XXX: Changes that occur while dispatching are collected and
+		// dispatched within the same batch.
+		batchDepth++;
+		try {
+			while (!pending.isEmpty()) {
+				List<Subscription> toNotify = new ArrayList<>(pending);
+				pending.clear();
+				for (Subscription s : toNotify) {
+					if (s.active) {
+						s.listener.sceneTransformChanged(s);
+					}
+				}
+			}
+		} finally {
+			batchDepth--;
+		}
+	}
+
+	/**
+	 * Returns the number of nodes at which a (shared) transform listener is
+	 * currently registered.
+	 *
+	 * @return The number of observed nodes.
+	 */
+	public int getObservedNodeCount() {
+		return entries.size();
+	}
+
+	/**
+	 * Returns the global version of this {@link SceneTransformObserver}, which
+	 * is incremented whenever the local-to-parent-transform of any observed
+	 * node changes.
+	 *
+	 * @return The global version of this {@link SceneTransformObserver}.
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * Executes the given {@link Runnable}, deferring the dispatching of all
+	 * transform changes until the outermost batch is finished. Each
+	 * {@link ISceneTransformListener} is thereby notified at most once.
+	 *
+	 * @param runnable
+	 *            The {@link Runnable} to execute.
+	 */
+	public void runBatched(Runnable runnable) {
+		batchDepth++;
+		try {
+			runnable.run();
+		} finally {
+			batchDepth--;
+		}
+		if (batchDepth == 0) {
+			dispatch();
+		}
+	}
+
+	/**
+	 * Subscribes the given {@link ISceneTransformListener} to
+	 * local-to-parent-transform changes of the given observed node and its
+	 * ancestors, up to (but excluding) its nearest common ancestor with the
+	 * given observer node. Transform changes of the observer node and its
+	 * ancestors are not reported.
+	 *
+	 * @param observed
+	 *            The observed {@link Node}.
+	 * @param observer
+	 *            A {@link Node} in the same hierarchy as the observed node,
+	 *            relative to which transform changes will be reported.
+	 * @param listener
+	 *            The {@link ISceneTransformListener} to notify.
+	 * @return The {@link Subscription} that can be used to
+	 *         {@link Subscription#unsubscribe() unsubscribe}.
+	 */
+	public Subscription subscribe(Node observed, Node observer,
+			ISceneTransformListener listener) {
+		if (observed == null) {
+			throw new IllegalArgumentException("Observed may not be null.");
+		}
+		if (observer == null) {
+			throw new IllegalArgumentException("Observer may not be null.");
+		}
+		if (listener == null) {
+			throw new IllegalArgumentException("Listener may not be null.");
+		}
+		if (NodeUtils.getNearestCommonAncestor(observed, observer) == null) {
+			throw new IllegalArgumentException(
+					"Observed and observer do not share a common ancestor.");
+		}
+		Subscription subscription = new Subscription(observed, observer,
+				listener);
+		subscription.hook();
+		return subscription;
+	}
+}
@@ -13,6 +13,8 @@
  * This package provides a
  * {@link org.eclipse.gef.fx.listeners.VisualChangeListener}, which can be used
  * to recognize visual changes of one observed {@link javafx.scene.Node} visual
- * relative to an observer visual.
+ * relative to an observer visual, as well as a
+ * {@link org.eclipse.gef.fx.listeners.SceneTransformObserver}, which shares
+ * transform listeners between several observed/observer pairs.
  */
 package org.eclipse.gef.fx.listeners;
\ No newline at end of file
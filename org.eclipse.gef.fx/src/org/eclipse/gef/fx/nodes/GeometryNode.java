@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.gef.fx.nodes;
 
+import java.util.List;
+
 import org.eclipse.gef.fx.utils.Geometry2Shape;
 import org.eclipse.gef.geometry.planar.AffineTransform;
 import org.eclipse.gef.geometry.planar.Arc;
@@ -21,6 +23,7 @@ import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.IScalable;
 import org.eclipse.gef.geometry.planar.IShape;
 import org.eclipse.gef.geometry.planar.ITranslatable;
+import org.eclipse.gef.geometry.planar.Path.Segment;
 import org.eclipse.gef.geometry.planar.Pie;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
@@ -41,9 +44,14 @@ import javafx.scene.Node;
 import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.CubicCurveTo;
 import javafx.scene.shape.FillRule;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.Path;
 import javafx.scene.shape.PathElement;
+import javafx.scene.shape.QuadCurveTo;
 import javafx.scene.shape.Shape;
 import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.shape.StrokeLineJoin;
@@ -61,7 +69,9 @@ import javafx.scene.shape.StrokeType;
  * {@link IGeometry}, and to which all visual properties are delegated. The
  * 'clickable' area is realized by a transparent, non-mouse transparent overlay
  * that uses the same {@link IGeometry}, extended by the
- * {@link #clickableAreaWidthProperty() clickable area width}.
+ * {@link #clickableAreaWidthProperty() clickable area width}. The overlay is
+ * created lazily and updated within the next layout pass after a change of
+ * the geometry or the clickable area width.
  * <p>
  * Please note that because {@link IGeometry} does not support change
  * notifications itself, changes to the underlying {@link IGeometry} will not be
@@ -82,6 +92,7 @@ public class GeometryNode<T extends IGeometry> extends Region {
 
 	private Path geometricShape = new Path();
 	private Path clickableAreaShape = null;
+	private boolean clickableAreaShapeValid = true;
 	private DoubleProperty clickableAreaWidth = new SimpleDoubleProperty();
 	private ObjectProperty<T> geometryProperty = new SimpleObjectProperty<>();
 
@@ -191,6 +202,7 @@ public class GeometryNode<T extends IGeometry> extends Region {
 			@Override
 			public void changed(ObservableValue<? extends Number> observable,
 					Number oldValue, Number newValue) {
+				invalidateClickableAreaShape();
 				T geometry = geometryProperty.get();
 				if (geometry == null) {
 					return;
@@ -417,11 +429,11 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		return geometricShape;
 	}
 
-	private PathElement[] getPathElements() {
-		return Geometry2Shape.toPathElements(geometryProperty.get()
+	private org.eclipse.gef.geometry.planar.Path getTranslatedPath() {
+		return geometryProperty.get()
 				.getTransformed(new AffineTransform()
 						.setToTranslation(-getLayoutX(), -getLayoutY()))
-				.toPath());
+				.toPath();
 	}
 
 	/**
@@ -522,6 +534,16 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		return geometricShape.getStrokeWidth();
 	}
 
+	private void invalidateClickableAreaShape() {
+		// XXX: The clickable area shape is only (re-)built within the next
+		// layout pass, so that it is rebuilt at most once per pulse instead of
+		// for each intermediate geometry during an interaction.
+		if (clickableAreaShapeValid) {
+			clickableAreaShapeValid = false;
+			requestLayout();
+		}
+	}
+
 	@Override
 	public boolean isResizable() {
 		return true;
@@ -537,6 +559,14 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		return geometricShape.isSmooth();
 	}
 
+	@Override
+	protected void layoutChildren() {
+		super.layoutChildren();
+		if (!clickableAreaShapeValid) {
+			updateClickableAreaShape();
+		}
+	}
+
 	@Override
 	public void relocate(double x, double y) {
 		// prevent unnecessary updates
@@ -800,28 +830,7 @@ public class GeometryNode<T extends IGeometry> extends Region {
 			@Override
 			public void changed(ObservableValue<? extends Number> observable,
 					Number oldValue, Number newValue) {
-				if (newValue != null
-						&& newValue.doubleValue() > geometricShape
-								.getStrokeWidth()
-						&& clickableAreaShape == null
-						&& geometryProperty.getValue() != null) {
-					// create and configure clickable area shape
-					clickableAreaShape = new Path(getPathElements());
-					clickableAreaShape
-							.setId("clickable area of GeometryNode " + this);
-					clickableAreaShape.setStroke(Color.TRANSPARENT);
-					clickableAreaShape.setMouseTransparent(false);
-					clickableAreaShape.strokeWidthProperty()
-							.bind(clickableAreaWidthProperty());
-					// add clickable area and binding only if its really used
-					getChildren().add(clickableAreaShape);
-				} else if ((newValue == null || newValue
-						.doubleValue() <= geometricShape.getStrokeWidth())
-						&& clickableAreaShape != null) {
-					getChildren().remove(clickableAreaShape);
-					clickableAreaShape.strokeWidthProperty().unbind();
-					clickableAreaShape = null;
-				}
+				invalidateClickableAreaShape();
 			}
 		});
 	}
@@ -1031,6 +1040,128 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		return geometricShape.strokeWidthProperty();
 	}
 
+	/**
+	 * Updates the coordinates of the given {@link PathElement}s in place, if
+	 * their types match the types of the given {@link Segment}s.
+	 *
+	 * @param segments
+	 *            The {@link Segment}s providing the new coordinates.
+	 * @param elements
+	 *            The {@link PathElement}s to update.
+	 * @return <code>true</code> if the structure matched and the elements were
+	 *         updated, otherwise <code>false</code>.
+	 */
+	private boolean updatePathElements(Segment[] segments,
+			List<PathElement> elements) {
+		if (segments.length != elements.size()) {
+			return false;
+		}
+		// check structure first, so that we do not perform partial updates
+		for (int i = 0; i < segments.length; i++) {
+			PathElement e = elements.get(i);
+			if (!e.isAbsolute()) {
+				return false;
+			}
+			switch (segments[i].getType()) {
+			case Segment.MOVE_TO:
+				if (!(e instanceof MoveTo)) {
+					return false;
+				}
+				break;
+			case Segment.LINE_TO:
+				if (!(e instanceof LineTo)) {
+					return false;
+				}
+				break;
+			case Segment.QUAD_TO:
+				if (!(e instanceof QuadCurveTo)) {
+					return false;
+				}
+				break;
+			case Segment.CUBIC_TO:
+				if (!(e instanceof CubicCurveTo)) {
+					return false;
+				}
+				break;
+			case Segment.CLOSE:
+				if (!(e instanceof ClosePath)) {
+					return false;
+				}
+				break;
+			default:
+				return false;
+			}
+		}
+		// update coordinates
+		for (int i = 0; i < segments.length; i++) {
+			Point[] points = segments[i].getPoints();
+			PathElement e = elements.get(i);
+			switch (segments[i].getType()) {
+			case Segment.MOVE_TO:
+				((MoveTo) e).setX(points[0].x);
+				((MoveTo) e).setY(points[0].y);
+				break;
+			case Segment.LINE_TO:
+				((LineTo) e).setX(points[0].x);
+				((LineTo) e).setY(points[0].y);
+				break;
+			case Segment.QUAD_TO:
+				QuadCurveTo quad = (QuadCurveTo) e;
+				quad.setControlX(points[0].x);
+				quad.setControlY(points[0].y);
+				quad.setX(points[1].x);
+				quad.setY(points[1].y);
+				break;
+			case Segment.CUBIC_TO:
+				CubicCurveTo cubic = (CubicCurveTo) e;
+				cubic.setControlX1(points[0].x);
+				cubic.setControlY1(points[0].y);
+				cubic.setControlX2(points[1].x);
+				cubic.setControlY2(points[1].y);
+				cubic.setX(points[2].x);
+				cubic.setY(points[2].y);
+				break;
+			default:
+				// close path does not have coordinates
+				break;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Updates the clickable area shape, which is created when the
+	 * {@link #clickableAreaWidthProperty() clickable area width} exceeds the
+	 * stroke width, and removed otherwise.
+	 */
+	private void updateClickableAreaShape() {
+		clickableAreaShapeValid = true;
+		if (getClickableAreaWidth() > getStrokeWidth()
+				&& geometryProperty.getValue() != null) {
+			if (clickableAreaShape == null) {
+				clickableAreaShape = new Path();
+				clickableAreaShape
+						.setId("clickable area of GeometryNode " + this);
+				clickableAreaShape.setStroke(Color.TRANSPARENT);
+				clickableAreaShape.setMouseTransparent(false);
+				clickableAreaShape.strokeWidthProperty()
+						.bind(clickableAreaWidthProperty());
+				// add clickable area and binding only if its really used
+				getChildren().add(clickableAreaShape);
+			}
+			org.eclipse.gef.geometry.planar.Path path = getTranslatedPath();
+			if (!updatePathElements(path.getSegments(),
+					clickableAreaShape.getElements())) {
+				clickableAreaShape.getElements()
+						.setAll(Geometry2Shape.toPathElements(path));
+			}
+		} else if (clickableAreaShape != null) {
+			getChildren().remove(clickableAreaShape);
+			clickableAreaShape.strokeWidthProperty().unbind();
+			clickableAreaShape = null;
+		}
+	}
+
 	/**
 	 * Updates the visual representation (Path) of this GeometryNode. This is
 	 * done automatically when setting the geometry. But in case you change
@@ -1038,17 +1169,14 @@ public class GeometryNode<T extends IGeometry> extends Region {
 	 * its visual counter part.
 	 */
 	private void updateShapes() {
-		if (clickableAreaShape != null) {
-			updateShapes(geometricShape, clickableAreaShape);
-		} else {
-			updateShapes(geometricShape);
-		}
-	}
-
-	private void updateShapes(Path... paths) {
-		PathElement[] pathElements = getPathElements();
-		for (Path p : paths) {
-			p.getElements().setAll(pathElements);
+		org.eclipse.gef.geometry.planar.Path path = getTranslatedPath();
+		// XXX: If the structure of the path did not change (e.g. when resizing
+		// or bending), we can update the existing path elements in place.
+		if (!updatePathElements(path.getSegments(),
+				geometricShape.getElements())) {
+			geometricShape.getElements()
+					.setAll(Geometry2Shape.toPathElements(path));
 		}
+		invalidateClickableAreaShape();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,722 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.nodes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.gef.geometry.planar.Point;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.shape.StrokeLineJoin;
+import javafx.scene.transform.Scale;
+import javafx.scene.transform.Transform;
+
+/**
+ * A {@link Group} that renders a (potentially huge) number of polylines into a
+ * set of tiled {@link Canvas} nodes, rather than representing each polyline by
+ * an individual {@link javafx.scene.shape.Shape}. Polylines are identified by
+ * an arbitrary key object, and can be {@link #put(Object, List, Paint, double)
+ * added or updated} and {@link #remove(Object) removed} individually.
+ * <p>
+ * Each segment of a polyline is only assigned to those tiles that it crosses
+ * (including its stroke and the {@link #getPickTolerance() pick tolerance}).
+ * The {@link Canvas} of a tile is only created (and rendered) while the tile
+ * intersects the visible part of the {@link Scene}, and at most
+ * {@link #getMaxTileCount()} canvases are rendered at once. When zoomed out,
+ * the tiles are rendered at a reduced resolution, so that the memory that is
+ * consumed by the canvases is bounded by the size of the {@link Scene}.
+ * <p>
+ * Only those tiles that are affected by a change are marked dirty and redrawn
+ * within the next layout pass (or when calling {@link #layout()} explicitly).
+ * <p>
+ * A tile only considers itself to contain a position if a polyline (including
+ * its stroke and the {@link #getPickTolerance() pick tolerance}) passes it,
+ * so that mouse events are only targeted at the {@link PolylineLayer} when a
+ * polyline is hit. The key of the respective polyline can be determined via
+ * {@link #getKeyAt(double, double)}.
+ *
+ * @author agent
+ * @since 5.1
+ *
+ */
+public class PolylineLayer extends Group {
+
+	private final class Entry {
+
+		private final Object key;
+		private double[] xs;
+		private double[] ys;
+		private Paint stroke;
+		private double strokeWidth;
+		private Set<Tile> tiles = new LinkedHashSet<>();
+
+		private Entry(Object key) {
+			this.key = key;
+		}
+
+		private boolean isHit(double x, double y) {
+			double threshold = strokeWidth / 2 + pickTolerance;
+			for (int i = 0; i < xs.length - 1; i++) {
+				if (getDistance(x, y, xs[i], ys[i], xs[i + 1],
+						ys[i + 1]) <= threshold) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private final class Tile {
+
+		private final Long key;
+		private final long x;
+		private final long y;
+		private final Set<Entry> entries = new LinkedHashSet<>();
+		private TileCanvas canvas;
+
+		private Tile(Long key, long x, long y) {
+			this.key = key;
+			this.x = x;
+			this.y = y;
+		}
+
+		private double getDistanceSquared(double px, double py) {
+			double dx = (x + 0.5) * tileSize - px;
+			double dy = (y + 0.5) * tileSize - py;
+			return dx * dx + dy * dy;
+		}
+	}
+
+	private final class TileCanvas extends Canvas {
+
+		private final Tile tile;
+		private final double resolution;
+
+		private TileCanvas(Tile tile, double resolution) {
+			super(tileSize * resolution, tileSize * resolution);
+			this.tile = tile;
+			this.resolution = resolution;
+			setLayoutX(tile.x * tileSize);
+			setLayoutY(tile.y * tileSize);
+			if (resolution != 1) {
+				getTransforms().add(new Scale(1 / resolution, 1 / resolution));
+			}
+		}
+
+		@Override
+		public boolean contains(double localX, double localY) {
+			return getEntryAt(tile, getLayoutX() + localX / resolution,
+					getLayoutY() + localY / resolution) != null;
+		}
+
+		private void redraw() {
+			GraphicsContext gc = getGraphicsContext2D();
+			gc.clearRect(0, 0, getWidth(), getHeight());
+			gc.save();
+			gc.scale(resolution, resolution);
+			gc.translate(-getLayoutX(), -getLayoutY());
+			gc.setLineCap(StrokeLineCap.BUTT);
+			gc.setLineJoin(StrokeLineJoin.MITER);
+			for (Entry entry : tile.entries) {
+				gc.setStroke(entry.stroke);
+				gc.setLineWidth(entry.strokeWidth);
+				gc.strokePolyline(entry.xs, entry.ys, entry.xs.length);
+			}
+			gc.restore();
+		}
+	}
+
+	/**
+	 * The default size (width and height) of a tile.
+	 */
+	public static final double DEFAULT_TILE_SIZE = 512;
+
+	/**
+	 * The default tolerance (in addition to half the stroke width) that is
+	 * used when testing if a polyline is hit.
+	 */
+	public static final double DEFAULT_PICK_TOLERANCE = 3;
+
+	/**
+	 * The default maximum number of tiles that are rendered at once.
+	 */
+	public static final int DEFAULT_MAX_TILE_COUNT = 256;
+
+	// the minimum resolution at which tiles are rendered when zoomed out
+	private static final double MIN_RESOLUTION = 1d / 64;
+
+	private static double getDistance(double x, double y, double x1,
+			double y1, double x2, double y2) {
+		double dx = x2 - x1;
+		double dy = y2 - y1;
+		double lengthSquared = dx * dx + dy * dy;
+		double t = 0;
+		if (lengthSquared > 0) {
+			t = Math.max(0, Math.min(1,
+					((x - x1) * dx + (y - y1) * dy) / lengthSquared));
+		}
+		double px = x1 + t * dx - x;
+		double py = y1 + t * dy - y;
+		return Math.sqrt(px * px + py * py);
+	}
+
+	private static Long toKey(long tileX, long tileY) {
+		return (tileX << 32) ^ (tileY & 0xffffffffL);
+	}
+
+	private final double tileSize;
+	private double pickTolerance = DEFAULT_PICK_TOLERANCE;
+	private int maxTileCount = DEFAULT_MAX_TILE_COUNT;
+	private final Map<Object, Entry> entries = new LinkedHashMap<>();
+	private final Map<Long, Tile> tiles = new LinkedHashMap<>();
+	private final Set<Tile> dirty = new LinkedHashSet<>();
+	private final Set<Tile> rendered = new LinkedHashSet<>();
+	private boolean renderedTilesValid = true;
+
+	private final InvalidationListener viewportListener = new InvalidationListener() {
+		@Override
+		public void invalidated(Observable observable) {
+			invalidateRenderedTiles();
+		}
+	};
+
+	private final ChangeListener<Transform> sceneTransformListener = new ChangeListener<Transform>() {
+		@Override
+		public void changed(ObservableValue<? extends Transform> observable,
+				Transform oldValue, Transform newValue) {
+			invalidateRenderedTiles();
+		}
+	};
+
+	private final ChangeListener<Scene> sceneListener = new ChangeListener<Scene>() {
+		@Override
+		public void changed(ObservableValue<? extends Scene> observable,
+				Scene oldValue, Scene newValue) {
+			if (oldValue != null) {
+				oldValue.widthProperty().removeListener(viewportListener);
+				oldValue.heightProperty().removeListener(viewportListener);
+			}
+			if (newValue != null) {
+				newValue.widthProperty().addListener(viewportListener);
+				newValue.heightProperty().addListener(viewportListener);
+			}
+			invalidateRenderedTiles();
+		}
+	};
+
+	/**
+	 * Constructs a new {@link PolylineLayer} that uses the
+	 * {@link #DEFAULT_TILE_SIZE}.
+	 */
+	public PolylineLayer() {
+		this(DEFAULT_TILE_SIZE);
+	}
+
+	/**
+	 * Constructs a new {@link PolylineLayer} that uses the given tile size.
+	 *
+	 * @param tileSize
+	 *            The size (width and height) of a tile in local coordinates.
+	 */
+	public PolylineLayer(double tileSize) {
+		if (!(tileSize > 0)) {
+			throw new IllegalArgumentException(
+					"Tile size needs to be positive.");
+		}
+		this.tileSize = tileSize;
+		setAutoSizeChildren(false);
+		// the visible tiles need to be determined again whenever the part of
+		// the scene that is visible changes
+		sceneProperty().addListener(sceneListener);
+		localToSceneTransformProperty().addListener(sceneTransformListener);
+	}
+
+	private void addToTile(Entry entry, long tileX, long tileY) {
+		Long key = toKey(tileX, tileY);
+		Tile tile = tiles.get(key);
+		if (tile == null) {
+			tile = new Tile(key, tileX, tileY);
+			tiles.put(key, tile);
+			invalidateRenderedTiles();
+		}
+		if (entry.tiles.add(tile)) {
+			tile.entries.add(entry);
+			markDirty(tile);
+		}
+	}
+
+	private void addToTiles(Entry entry) {
+		// XXX: Expand the segments by the stroke and pick tolerance, so that
+		// all tiles that are (visually or for picking) affected are assigned.
+		double expansion = entry.strokeWidth / 2 + pickTolerance + 1;
+		for (int i = 0; i < entry.xs.length - 1; i++) {
+			addToTiles(entry, entry.xs[i], entry.ys[i], entry.xs[i + 1],
+					entry.ys[i + 1], expansion);
+		}
+	}
+
+	private void addToTiles(Entry entry, double x1, double y1, double x2,
+			double y2, double expansion) {
+		// assign the segment column by column, considering only the y-range
+		// that the segment covers within the respective column
+		double minX = Math.min(x1, x2);
+		double maxX = Math.max(x1, x2);
+		long maxTileX = toTile(maxX + expansion);
+		for (long x = toTile(minX - expansion); x <= maxTileX; x++) {
+			double fromX = Math.max(minX, x * tileSize - expansion);
+			double toX = Math.min(maxX, (x + 1) * tileSize + expansion);
+			double fromY = y1;
+			double toY = y2;
+			if (x1 != x2) {
+				fromY = y1 + (fromX - x1) * (y2 - y1) / (x2 - x1);
+				toY = y1 + (toX - x1) * (y2 - y1) / (x2 - x1);
+			}
+			long minTileY = toTile(Math.min(fromY, toY) - expansion);
+			long maxTileY = toTile(Math.max(fromY, toY) + expansion);
+			for (long y = minTileY; y <= maxTileY; y++) {
+				addToTile(entry, x, y);
+			}
+		}
+	}
+
+	/**
+	 * Removes all polylines from this {@link PolylineLayer}.
+	 */
+	public void clear() {
+		entries.clear();
+		tiles.clear();
+		dirty.clear();
+		rendered.clear();
+		getChildren().clear();
+	}
+
+	private Entry getEntryAt(Tile tile, double x, double y) {
+		Entry hit = null;
+		for (Entry entry : tile.entries) {
+			// XXX: Later entries are drawn on top of earlier ones.
+			if (entry.isHit(x, y)) {
+				hit = entry;
+			}
+		}
+		return hit;
+	}
+
+	/**
+	 * Returns the key of the top-most polyline that is hit at the given
+	 * position, or <code>null</code> if no polyline is hit. A polyline is hit
+	 * if its distance to the given position is not larger than half its stroke
+	 * width plus the {@link #getPickTolerance() pick tolerance}.
+	 *
+	 * @param localX
+	 *            The x-coordinate of the position, interpreted in the local
+	 *            coordinate system of this {@link PolylineLayer}.
+	 * @param localY
+	 *            The y-coordinate of the position, interpreted in the local
+	 *            coordinate system of this {@link PolylineLayer}.
+	 * @return The key of the polyline at the given position, or
+	 *         <code>null</code>.
+	 */
+	public Object getKeyAt(double localX, double localY) {
+		Tile tile = tiles.get(toKey(toTile(localX), toTile(localY)));
+		if (tile == null) {
+			return null;
+		}
+		Entry entry = getEntryAt(tile, localX, localY);
+		return entry == null ? null : entry.key;
+	}
+
+	/**
+	 * Returns the keys of all polylines that are currently contained in this
+	 * {@link PolylineLayer}.
+	 *
+	 * @return The keys of all polylines.
+	 */
+	public Set<Object> getKeys() {
+		return Collections.unmodifiableSet(entries.keySet());
+	}
+
+	/**
+	 * Returns the maximum number of tiles that are rendered at once. In case
+	 * more tiles are visible, only those closest to the center of the visible
+	 * area are rendered.
+	 *
+	 * @return The maximum number of rendered tiles.
+	 */
+	public int getMaxTileCount() {
+		return maxTileCount;
+	}
+
+	/**
+	 * Returns the tolerance (in addition to half the stroke width) that is
+	 * used when testing if a polyline is hit.
+	 *
+	 * @return The pick tolerance.
+	 */
+	public double getPickTolerance() {
+		return pickTolerance;
+	}
+
+	/**
+	 * Returns the number of tiles that are currently rendered, i.e. for which
+	 * a {@link Canvas} is contained in this {@link PolylineLayer}.
+	 *
+	 * @return The number of rendered tiles.
+	 */
+	public int getRenderedTileCount() {
+		return rendered.size();
+	}
+
+	// the (power of two) resolution at which the tiles are to be rendered
+	private double getResolution() {
+		if (getScene() == null) {
+			return 1;
+		}
+		Transform t = getLocalToSceneTransform();
+		double scale = Math.sqrt(
+				Math.abs(t.getMxx() * t.getMyy() - t.getMxy() * t.getMyx()));
+		double resolution = 1;
+		while (resolution / 2 >= scale && resolution > MIN_RESOLUTION) {
+			resolution /= 2;
+		}
+		return resolution;
+	}
+
+	/**
+	 * Returns the {@link Paint} that is used to stroke the polyline for the
+	 * given key, or <code>null</code> if no polyline is contained for it.
+	 *
+	 * @param key
+	 *            The key that identifies the polyline.
+	 * @return The stroke of the polyline, or <code>null</code>.
+	 */
+	public Paint getStroke(Object key) {
+		Entry entry = entries.get(key);
+		return entry == null ? null : entry.stroke;
+	}
+
+	/**
+	 * Returns the stroke width of the polyline for the given key, or
+	 * <code>0</code> if no polyline is contained for it.
+	 *
+	 * @param key
+	 *            The key that identifies the polyline.
+	 * @return The stroke width of the polyline, or <code>0</code>.
+	 */
+	public double getStrokeWidth(Object key) {
+		Entry entry = entries.get(key);
+		return entry == null ? 0 : entry.strokeWidth;
+	}
+
+	/**
+	 * Returns the number of tiles that are passed by at least one polyline,
+	 * independent of whether they are currently rendered or not.
+	 *
+	 * @return The number of tiles.
+	 */
+	public int getTileCount() {
+		return tiles.size();
+	}
+
+	// the visible area in local coordinates, or null if all tiles are visible
+	private Bounds getViewport() {
+		Scene scene = getScene();
+		if (scene == null) {
+			return null;
+		}
+		return sceneToLocal(
+				new BoundingBox(0, 0, scene.getWidth(), scene.getHeight()));
+	}
+
+	private List<Tile> getVisibleTiles(Bounds viewport) {
+		if (viewport == null) {
+			return new ArrayList<>(tiles.values());
+		}
+		List<Tile> visible = new ArrayList<>();
+		long minTileX = toTile(viewport.getMinX());
+		long minTileY = toTile(viewport.getMinY());
+		long maxTileX = toTile(viewport.getMaxX());
+		long maxTileY = toTile(viewport.getMaxY());
+		// XXX: Either look up the tiles within the viewport, or test all
+		// tiles, depending on which is cheaper.
+		if ((maxTileX - minTileX + 1) * (maxTileY - minTileY + 1) > tiles
+				.size()) {
+			for (Tile tile : tiles.values()) {
+				if (tile.x >= minTileX && tile.x <= maxTileX
+						&& tile.y >= minTileY && tile.y <= maxTileY) {
+					visible.add(tile);
+				}
+			}
+		} else {
+			for (long x = minTileX; x <= maxTileX; x++) {
+				for (long y = minTileY; y <= maxTileY; y++) {
+					Tile tile = tiles.get(toKey(x, y));
+					if (tile != null) {
+						visible.add(tile);
+					}
+				}
+			}
+		}
+		if (visible.size() > maxTileCount) {
+			// prefer the tiles closest to the center of the viewport
+			final double cx = viewport.getMinX() + viewport.getWidth() / 2;
+			final double cy = viewport.getMinY() + viewport.getHeight() / 2;
+			Collections.sort(visible, new Comparator<Tile>() {
+				@Override
+				public int compare(Tile t1, Tile t2) {
+					return Double.compare(t1.getDistanceSquared(cx, cy),
+							t2.getDistanceSquared(cx, cy));
+				}
+			});
+		}
+		return visible;
+	}
+
+	private void invalidateRenderedTiles() {
+		if (renderedTilesValid) {
+			renderedTilesValid = false;
+			requestLayout();
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if a polyline for the given key is contained
+	 * in this {@link PolylineLayer}, otherwise <code>false</code>.
+	 *
+	 * @param key
+	 *            The key to test.
+	 * @return <code>true</code> if a polyline is contained for the given key,
+	 *         otherwise <code>false</code>.
+	 */
+	public boolean isContained(Object key) {
+		return entries.containsKey(key);
+	}
+
+	@Override
+	protected void layoutChildren() {
+		super.layoutChildren();
+		if (!renderedTilesValid) {
+			renderedTilesValid = true;
+			updateRenderedTiles();
+		}
+		// redraw all rendered tiles that were invalidated since the last
+		// layout pass
+		if (!dirty.isEmpty()) {
+			List<Tile> invalid = new ArrayList<>(dirty);
+			dirty.clear();
+			for (Tile tile : invalid) {
+				if (tile.canvas != null) {
+					tile.canvas.redraw();
+				}
+			}
+		}
+	}
+
+	private void markDirty(Tile tile) {
+		if (dirty.add(tile) && dirty.size() == 1) {
+			requestLayout();
+		}
+	}
+
+	/**
+	 * Adds a polyline for the given key to this {@link PolylineLayer}, or
+	 * updates the polyline that is already contained for the given key. Only
+	 * those tiles that are affected by the change are redrawn. In case the
+	 * given values equal the current values, no tiles are redrawn at all.
+	 *
+	 * @param key
+	 *            The key that identifies the polyline.
+	 * @param points
+	 *            The {@link Point}s of the polyline, interpreted in the local
+	 *            coordinate system of this {@link PolylineLayer}.
+	 * @param stroke
+	 *            The {@link Paint} to use for stroking the polyline. If
+	 *            <code>null</code>, {@link Color#BLACK} is used.
+	 * @param strokeWidth
+	 *            The stroke width to use.
+	 */
+	public void put(Object key, List<Point> points, Paint stroke,
+			double strokeWidth) {
+		if (key == null) {
+			throw new IllegalArgumentException("Key may not be null.");
+		}
+		if (points == null || points.size() < 2) {
+			throw new IllegalArgumentException(
+					"At least two points need to be provided.");
+		}
+		double[] xs = new double[points.size()];
+		double[] ys = new double[points.size()];
+		for (int i = 0; i < xs.length; i++) {
+			xs[i] = points.get(i).x;
+			ys[i] = points.get(i).y;
+		}
+		Paint paint = stroke == null ? Color.BLACK : stroke;
+
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			entry = new Entry(key);
+			entries.put(key, entry);
+		} else if (Arrays.equals(entry.xs, xs) && Arrays.equals(entry.ys, ys)
+				&& entry.stroke.equals(paint)
+				&& entry.strokeWidth == strokeWidth) {
+			// nothing changed, so nothing needs to be redrawn
+			return;
+		} else {
+			removeFromTiles(entry);
+		}
+		entry.xs = xs;
+		entry.ys = ys;
+		entry.stroke = paint;
+		entry.strokeWidth = strokeWidth;
+		addToTiles(entry);
+	}
+
+	/**
+	 * Removes the polyline for the given key from this {@link PolylineLayer}.
+	 *
+	 * @param key
+	 *            The key that identifies the polyline to remove.
+	 */
+	public void remove(Object key) {
+		Entry entry = entries.remove(key);
+		if (entry != null) {
+			removeFromTiles(entry);
+		}
+	}
+
+	private void removeFromTiles(Entry entry) {
+		List<Node> disposed = new ArrayList<>();
+		for (Tile tile : entry.tiles) {
+			tile.entries.remove(entry);
+			if (tile.entries.isEmpty()) {
+				// dispose tiles that are no longer needed
+				tiles.remove(tile.key);
+				dirty.remove(tile);
+				if (tile.canvas != null) {
+					rendered.remove(tile);
+					disposed.add(tile.canvas);
+					tile.canvas = null;
+				}
+				invalidateRenderedTiles();
+			} else {
+				markDirty(tile);
+			}
+		}
+		if (!disposed.isEmpty()) {
+			getChildren().removeAll(new HashSet<>(disposed));
+		}
+		entry.tiles = new LinkedHashSet<>();
+	}
+
+	/**
+	 * Sets the maximum number of tiles that are rendered at once (see
+	 * {@link #getMaxTileCount()}).
+	 *
+	 * @param maxTileCount
+	 *            The new maximum number of rendered tiles.
+	 */
+	public void setMaxTileCount(int maxTileCount) {
+		if (maxTileCount < 1) {
+			throw new IllegalArgumentException(
+					"Max tile count needs to be positive.");
+		}
+		this.maxTileCount = maxTileCount;
+		invalidateRenderedTiles();
+	}
+
+	/**
+	 * Sets the tolerance (in addition to half the stroke width) that is used
+	 * when testing if a polyline is hit. As the tolerance affects the tiles
+	 * that a polyline is assigned to, all polylines are re-assigned.
+	 *
+	 * @param pickTolerance
+	 *            The new pick tolerance.
+	 */
+	public void setPickTolerance(double pickTolerance) {
+		if (pickTolerance < 0) {
+			throw new IllegalArgumentException(
+					"Pick tolerance may not be negative.");
+		}
+		if (this.pickTolerance == pickTolerance) {
+			return;
+		}
+		this.pickTolerance = pickTolerance;
+		for (Entry entry : entries.values()) {
+			removeFromTiles(entry);
+			addToTiles(entry);
+		}
+	}
+
+	private long toTile(double coordinate) {
+		return (long) Math.floor(coordinate / tileSize);
+	}
+
+	private void updateRenderedTiles() {
+		Bounds viewport = getViewport();
+		double resolution = getResolution();
+		List<Tile> visible = getVisibleTiles(viewport);
+		Set<Tile> toRender = new HashSet<>(
+				visible.subList(0, Math.min(maxTileCount, visible.size())));
+
+		// dispose the canvases of tiles that are no longer rendered (or that
+		// were rendered at a different resolution)
+		Set<Node> disposed = new HashSet<>();
+		for (Tile tile : new ArrayList<>(rendered)) {
+			if (!toRender.contains(tile)
+					|| tile.canvas.resolution != resolution) {
+				rendered.remove(tile);
+				disposed.add(tile.canvas);
+				tile.canvas = null;
+			}
+		}
+		if (!disposed.isEmpty()) {
+			getChildren().removeAll(disposed);
+		}
+
+		// create the canvases of the tiles that become visible
+		List<Node> created = new ArrayList<>();
+		for (Tile tile : toRender) {
+			if (tile.canvas == null) {
+				tile.canvas = new TileCanvas(tile, resolution);
+				tile.canvas.redraw();
+				dirty.remove(tile);
+				rendered.add(tile);
+				created.add(tile.canvas);
+			}
+		}
+		if (!created.isEmpty()) {
+			getChildren().addAll(created);
+		}
+	}
+}
@@ -20,6 +20,8 @@
  * {@link org.eclipse.gef.fx.nodes.Connection}</li>
  * <li>a visual to display an image which is overlayed by another image on mouse
  * hover: {@link org.eclipse.gef.fx.nodes.HoverOverlayImageView}</li>
+ * <li>a visual that renders a huge number of polylines into tiled canvases:
+ * {@link org.eclipse.gef.fx.nodes.PolylineLayer}</li>
  * <li>a visual providing a scrollable infinite canvas with a background grid:
  * {@link org.eclipse.gef.fx.nodes.InfiniteCanvas}</li>
  * </ul>
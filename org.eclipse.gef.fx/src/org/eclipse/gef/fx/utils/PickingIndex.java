@@ -0,0 +1,584 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+/**
+ * The {@link PickingIndex} is an accelerated alternative to
+ * {@link NodeUtils#getNodesAt(Node, double, double)} for a set of registered
+ * {@link Node}s. It maintains a uniform grid of the bounds of the registered
+ * nodes, which is updated lazily via bounds-in-local,
+ * local-to-parent-transform, and parent listeners. Picking will only perform
+ * precise containment tests for those nodes whose (cached) bounds contain the
+ * pick position.
+ * <p>
+ * The bounds are indexed in the coordinate system of a reference {@link Node}
+ * (see {@link #PickingIndex(Node, double)}), so that only transformations
+ * below the reference node invalidate the cached bounds. For example, when
+ * using the content group of an
+ * {@link org.eclipse.gef.fx.nodes.InfiniteCanvas} (or a node nested inside it)
+ * as the reference node, scrolling and zooming do not invalidate any entries.
+ * Registered nodes that are not nested below the reference node are always
+ * considered as candidates (and tested precisely when picking). If no reference node is given, the bounds are indexed in
+ * the coordinate system of the scene.
+ * <p>
+ * The {@link Node}s returned by {@link #getNodesAt(Node, double, double)} are
+ * ordered in the same way as by
+ * {@link NodeUtils#getNodesAt(Node, double, double)}, i.e. the last node
+ * within the (depth-first, pre-order) traversal of the scene graph is
+ * returned first. However, only registered nodes are returned.
+ *
+ * @author agent
+ * @since 5.1
+ *
+ */
+public class PickingIndex {
+
+	/**
+	 * An ancestor of (one or more) registered nodes below the reference node,
+	 * whose transformation and parent are observed on behalf of the dependent
+	 * entries. Each ancestor is only observed once, independent of the number
+	 * of dependent entries.
+	 */
+	private final class Ancestor implements InvalidationListener {
+
+		private final Node node;
+		private final Set<Entry> dependents = Collections
+				.newSetFromMap(new IdentityHashMap<Entry, Boolean>());
+
+		private Ancestor(Node node) {
+			this.node = node;
+			node.localToParentTransformProperty().addListener(this);
+			node.parentProperty().addListener(this);
+		}
+
+		private void dispose() {
+			node.localToParentTransformProperty().removeListener(this);
+			node.parentProperty().removeListener(this);
+		}
+
+		@Override
+		public void invalidated(Observable observable) {
+			dirty.addAll(dependents);
+		}
+	}
+
+	private final class Entry implements InvalidationListener {
+
+		private final Node node;
+		private double minX;
+		private double minY;
+		private double maxX;
+		private double maxY;
+		private List<Long> cells = Collections.emptyList();
+		private boolean oversized = false;
+		private List<Ancestor> ancestors = Collections.emptyList();
+
+		private Entry(Node node) {
+			this.node = node;
+		}
+
+		private boolean contains(double x, double y) {
+			return x >= minX && x <= maxX && y >= minY && y <= maxY;
+		}
+
+		private boolean intersects(double otherMinX, double otherMinY,
+				double otherMaxX, double otherMaxY) {
+			return otherMinX <= maxX && otherMaxX >= minX && otherMinY <= maxY
+					&& otherMaxY >= minY;
+		}
+
+		@Override
+		public void invalidated(Observable observable) {
+			dirty.add(this);
+		}
+
+		private void update() {
+			// XXX: The (ancestor) properties are queried while walking up the
+			// hierarchy, so that they are re-validated and we will get
+			// notified about subsequent invalidations. Walking the hierarchy
+			// again also re-hooks the ancestor listeners in case the node or
+			// one of its ancestors was reparented.
+			List<Ancestor> oldAncestors = ancestors;
+			ancestors = new ArrayList<>();
+			Bounds bounds = node.getLocalToParentTransform()
+					.transform(node.getBoundsInLocal());
+			Parent parent = node.getParent();
+			while (parent != null && parent != reference) {
+				ancestors.add(acquireAncestor(parent, this));
+				bounds = parent.getLocalToParentTransform().transform(bounds);
+				parent = parent.getParent();
+			}
+			for (Ancestor ancestor : oldAncestors) {
+				if (!ancestors.contains(ancestor)) {
+					releaseAncestor(ancestor, this);
+				}
+			}
+			if (reference != null && parent == null) {
+				// not nested below the reference node, thus always tested
+				minX = minY = Double.NEGATIVE_INFINITY;
+				maxX = maxY = Double.POSITIVE_INFINITY;
+			} else {
+				minX = bounds.getMinX();
+				minY = bounds.getMinY();
+				maxX = bounds.getMaxX();
+				maxY = bounds.getMaxY();
+			}
+		}
+	}
+
+	/**
+	 * The default size (width and height) of a grid cell.
+	 */
+	public static final double DEFAULT_CELL_SIZE = 128;
+
+	/**
+	 * The maximum number of grid cells a single node may occupy. Nodes
+	 * exceeding this number (e.g. layers or other huge nodes) are not put into
+	 * the grid, but are always tested.
+	 */
+	private static final int MAX_CELLS_PER_ENTRY = 64;
+
+	private final Node reference;
+	private final double cellSize;
+	private final Map<Node, Entry> entries = new IdentityHashMap<>();
+	private final Map<Node, Ancestor> observedAncestors = new IdentityHashMap<>();
+	private final Map<Long, List<Entry>> grid = new HashMap<>();
+	private final List<Entry> oversized = new ArrayList<>();
+	private final Set<Entry> dirty = new LinkedHashSet<>();
+
+	/**
+	 * Constructs a new {@link PickingIndex} that indexes the bounds in scene
+	 * coordinates and uses the {@link #DEFAULT_CELL_SIZE}.
+	 */
+	public PickingIndex() {
+		this(null, DEFAULT_CELL_SIZE);
+	}
+
+	/**
+	 * Constructs a new {@link PickingIndex} that indexes the bounds in scene
+	 * coordinates and uses the given cell size.
+	 *
+	 * @param cellSize
+	 *            The size (width and height) of a grid cell in scene
+	 *            coordinates.
+	 */
+	public PickingIndex(double cellSize) {
+		this(null, cellSize);
+	}
+
+	/**
+	 * Constructs a new {@link PickingIndex} that indexes the bounds in the
+	 * local coordinates of the given reference {@link Node} and uses the
+	 * {@link #DEFAULT_CELL_SIZE}.
+	 *
+	 * @param reference
+	 *            The {@link Node} in whose local coordinate system the bounds
+	 *            are indexed, or <code>null</code> to index them in scene
+	 *            coordinates.
+	 */
+	public PickingIndex(Node reference) {
+		this(reference, DEFAULT_CELL_SIZE);
+	}
+
+	/**
+	 * Constructs a new {@link PickingIndex} that indexes the bounds in the
+	 * local coordinates of the given reference {@link Node} and uses the
+	 * given cell size.
+	 *
+	 * @param reference
+	 *            The {@link Node} in whose local coordinate system the bounds
+	 *            are indexed, or <code>null</code> to index them in scene
+	 *            coordinates.
+	 * @param cellSize
+	 *            The size (width and height) of a grid cell in the local
+	 *            coordinates of the reference {@link Node}.
+	 */
+	public PickingIndex(Node reference, double cellSize) {
+		if (!(cellSize > 0)) {
+			throw new IllegalArgumentException(
+					"Cell size needs to be positive.");
+		}
+		this.reference = reference;
+		this.cellSize = cellSize;
+	}
+
+	private Ancestor acquireAncestor(Node node, Entry dependent) {
+		Ancestor ancestor = observedAncestors.get(node);
+		if (ancestor == null) {
+			ancestor = new Ancestor(node);
+			observedAncestors.put(node, ancestor);
+		}
+		ancestor.dependents.add(dependent);
+		return ancestor;
+	}
+
+	private void addToGrid(Entry entry) {
+		long minCellX = toCell(entry.minX);
+		long minCellY = toCell(entry.minY);
+		long maxCellX = toCell(entry.maxX);
+		long maxCellY = toCell(entry.maxY);
+		// XXX: Compute the number of cells using double arithmetic, so that
+		// huge (or invalid) bounds cannot overflow.
+		double cellCount = ((double) maxCellX - minCellX + 1)
+				* ((double) maxCellY - minCellY + 1);
+		if (!(cellCount > 0) || cellCount > MAX_CELLS_PER_ENTRY) {
+			entry.oversized = true;
+			oversized.add(entry);
+			return;
+		}
+		List<Long> cells = new ArrayList<>();
+		for (long x = minCellX; x <= maxCellX; x++) {
+			for (long y = minCellY; y <= maxCellY; y++) {
+				Long key = toKey(x, y);
+				List<Entry> cell = grid.get(key);
+				if (cell == null) {
+					cell = new ArrayList<>(4);
+					grid.put(key, cell);
+				}
+				cell.add(entry);
+				cells.add(key);
+			}
+		}
+		entry.cells = cells;
+	}
+
+	/**
+	 * Removes all registered {@link Node}s from this {@link PickingIndex}.
+	 */
+	public void clear() {
+		for (Node node : new ArrayList<>(entries.keySet())) {
+			unregister(node);
+		}
+	}
+
+	/**
+	 * Returns the path of child indices from the given root to the given node,
+	 * or <code>null</code> if the node is not nested below the root.
+	 *
+	 * @param root
+	 *            The root {@link Node}.
+	 * @param node
+	 *            The {@link Node} to compute the path for.
+	 * @return The path of child indices.
+	 */
+	private int[] getPath(Node root, Node node) {
+		List<Integer> indices = new ArrayList<>();
+		Node current = node;
+		while (current != root) {
+			Parent parent = current.getParent();
+			if (parent == null) {
+				return null;
+			}
+			indices.add(parent.getChildrenUnmodifiable().indexOf(current));
+			current = parent;
+		}
+		int[] path = new int[indices.size()];
+		for (int i = 0; i < path.length; i++) {
+			path[i] = indices.get(path.length - 1 - i);
+		}
+		return path;
+	}
+
+	/**
+	 * Performs picking for the registered {@link Node}s that are nested below
+	 * the given root node (including the root node itself). A registered node
+	 * is picked if it, as well as all its ancestors up to the root, are not
+	 * mouse transparent and contain the given position within their
+	 * bounds-in-local, and if the node precisely contains the given position.
+	 *
+	 * @param root
+	 *            The root {@link Node} below which to pick.
+	 * @param sceneX
+	 *            The x-coordinate of the position to pick nodes at, interpreted
+	 *            in scene coordinate space.
+	 * @param sceneY
+	 *            The y-coordinate of the position to pick nodes at, interpreted
+	 *            in scene coordinate space.
+	 * @return A list of the registered {@link Node}s which contain the given
+	 *         coordinate, ordered in the same way as by
+	 *         {@link NodeUtils#getNodesAt(Node, double, double)}.
+	 */
+	public List<Node> getNodesAt(Node root, double sceneX, double sceneY) {
+		validate();
+
+		// collect candidates
+		Point2D position = reference == null ? new Point2D(sceneX, sceneY)
+				: reference.sceneToLocal(sceneX, sceneY);
+		List<Entry> candidates = new ArrayList<>(oversized);
+		List<Entry> cell = grid
+				.get(toKey(toCell(position.getX()), toCell(position.getY())));
+		if (cell != null) {
+			candidates.addAll(cell);
+		}
+
+		// perform precise tests
+		final Map<Node, int[]> picked = new IdentityHashMap<>();
+		for (Entry candidate : candidates) {
+			if (candidate.contains(position.getX(), position.getY())
+					&& isPicked(root, candidate.node, sceneX, sceneY)) {
+				int[] path = getPath(root, candidate.node);
+				if (path != null) {
+					picked.put(candidate.node, path);
+				}
+			}
+		}
+
+		// sort in reverse pre-order
+		List<Node> nodes = new ArrayList<>(picked.keySet());
+		Collections.sort(nodes, new Comparator<Node>() {
+			@Override
+			public int compare(Node n1, Node n2) {
+				int[] p1 = picked.get(n1);
+				int[] p2 = picked.get(n2);
+				for (int i = 0; i < p1.length && i < p2.length; i++) {
+					if (p1[i] != p2[i]) {
+						return p2[i] - p1[i];
+					}
+				}
+				// descendants are visited after their ancestors
+				return p2.length - p1.length;
+			}
+		});
+		return nodes;
+	}
+
+	/**
+	 * Returns all registered {@link Node}s whose (cached) bounds intersect the
+	 * given rectangle (interpreted in scene coordinate space). In contrast to
+	 * {@link #getNodesAt(Node, double, double)}, no precise tests are
+	 * performed and the returned {@link Node}s are not ordered. If the
+	 * reference {@link Node} is rotated or sheared relative to the scene, the
+	 * bounds of the transformed rectangle are used.
+	 *
+	 * @param sceneMinX
+	 *            The minimum x-coordinate of the rectangle in scene coordinate
+	 *            space.
+	 * @param sceneMinY
+	 *            The minimum y-coordinate of the rectangle in scene coordinate
+	 *            space.
+	 * @param sceneMaxX
+	 *            The maximum x-coordinate of the rectangle in scene coordinate
+	 *            space.
+	 * @param sceneMaxY
+	 *            The maximum y-coordinate of the rectangle in scene coordinate
+	 *            space.
+	 * @return A list of the registered {@link Node}s whose bounds intersect
+	 *         the given rectangle.
+	 */
+	public List<Node> getNodesIntersecting(double sceneMinX, double sceneMinY,
+			double sceneMaxX, double sceneMaxY) {
+		validate();
+
+		// transform the rectangle into the reference coordinate system
+		Bounds bounds = new BoundingBox(sceneMinX, sceneMinY,
+				sceneMaxX - sceneMinX, sceneMaxY - sceneMinY);
+		if (reference != null) {
+			bounds = reference.sceneToLocal(bounds);
+		}
+
+		// collect candidates
+		Set<Entry> candidates = Collections
+				.newSetFromMap(new IdentityHashMap<Entry, Boolean>());
+		candidates.addAll(oversized);
+		long minCellX = toCell(bounds.getMinX());
+		long minCellY = toCell(bounds.getMinY());
+		long maxCellX = toCell(bounds.getMaxX());
+		long maxCellY = toCell(bounds.getMaxY());
+		double cellCount = ((double) maxCellX - minCellX + 1)
+				* ((double) maxCellY - minCellY + 1);
+		if (!(cellCount > 0) || cellCount > grid.size()) {
+			// XXX: If the rectangle spans more cells than are occupied, it is
+			// cheaper to test all entries.
+			candidates.addAll(entries.values());
+		} else {
+			for (long x = minCellX; x <= maxCellX; x++) {
+				for (long y = minCellY; y <= maxCellY; y++) {
+					List<Entry> cell = grid.get(toKey(x, y));
+					if (cell != null) {
+						candidates.addAll(cell);
+					}
+				}
+			}
+		}
+
+		// test bounds
+		List<Node> nodes = new ArrayList<>();
+		for (Entry candidate : candidates) {
+			if (candidate.intersects(bounds.getMinX(), bounds.getMinY(),
+					bounds.getMaxX(), bounds.getMaxY())) {
+				nodes.add(candidate.node);
+			}
+		}
+		return nodes;
+	}
+
+	private boolean isPicked(Node root, Node node, double sceneX,
+			double sceneY) {
+		Point2D pLocal = node.sceneToLocal(sceneX, sceneY);
+		if (node.isMouseTransparent()
+				|| !node.getBoundsInLocal().contains(pLocal)
+				|| !node.contains(pLocal)) {
+			return false;
+		}
+		// ancestors up to root have to be hit, too
+		Node current = node;
+		while (current != root) {
+			current = current.getParent();
+			if (current == null) {
+				return false;
+			}
+			if (current.isMouseTransparent() || !current.getBoundsInLocal()
+					.contains(current.sceneToLocal(sceneX, sceneY))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the reference {@link Node}, in whose local coordinate system the
+	 * bounds are indexed, or <code>null</code> if the bounds are indexed in
+	 * scene coordinates.
+	 *
+	 * @return The reference {@link Node}.
+	 */
+	public Node getReference() {
+		return reference;
+	}
+
+	/**
+	 * Returns <code>true</code> if the given {@link Node} is registered at this
+	 * {@link PickingIndex}, otherwise <code>false</code>.
+	 *
+	 * @param node
+	 *            The {@link Node} to test.
+	 * @return <code>true</code> if the given {@link Node} is registered,
+	 *         otherwise <code>false</code>.
+	 */
+	public boolean isRegistered(Node node) {
+		return entries.containsKey(node);
+	}
+
+	/**
+	 * Registers the given {@link Node} at this {@link PickingIndex}, so that
+	 * it can be returned by {@link #getNodesAt(Node, double, double)}.
+	 *
+	 * @param node
+	 *            The {@link Node} to register.
+	 */
+	public void register(Node node) {
+		if (node == null) {
+			throw new IllegalArgumentException("Node may not be null.");
+		}
+		if (entries.containsKey(node)) {
+			return;
+		}
+		Entry entry = new Entry(node);
+		entries.put(node, entry);
+		node.boundsInLocalProperty().addListener(entry);
+		node.localToParentTransformProperty().addListener(entry);
+		node.parentProperty().addListener(entry);
+		dirty.add(entry);
+	}
+
+	private void releaseAncestor(Ancestor ancestor, Entry dependent) {
+		ancestor.dependents.remove(dependent);
+		if (ancestor.dependents.isEmpty()) {
+			observedAncestors.remove(ancestor.node);
+			ancestor.dispose();
+		}
+	}
+
+	private void removeFromGrid(Entry entry) {
+		if (entry.oversized) {
+			oversized.remove(entry);
+			entry.oversized = false;
+			return;
+		}
+		for (Long key : entry.cells) {
+			List<Entry> cell = grid.get(key);
+			if (cell != null) {
+				cell.remove(entry);
+				if (cell.isEmpty()) {
+					grid.remove(key);
+				}
+			}
+		}
+		entry.cells = Collections.emptyList();
+	}
+
+	private long toCell(double coordinate) {
+		return (long) Math.floor(coordinate / cellSize);
+	}
+
+	private Long toKey(long cellX, long cellY) {
+		return (cellX << 32) ^ (cellY & 0xffffffffL);
+	}
+
+	/**
+	 * Unregisters the given {@link Node} from this {@link PickingIndex}.
+	 *
+	 * @param node
+	 *            The {@link Node} to unregister.
+	 */
+	public void unregister(Node node) {
+		Entry entry = entries.remove(node);
+		if (entry == null) {
+			return;
+		}
+		node.boundsInLocalProperty().removeListener(entry);
+		node.localToParentTransformProperty().removeListener(entry);
+		node.parentProperty().removeListener(entry);
+		for (Ancestor ancestor : entry.ancestors) {
+			releaseAncestor(ancestor, entry);
+		}
+		entry.ancestors = Collections.emptyList();
+		dirty.remove(entry);
+		removeFromGrid(entry);
+	}
+
+	/**
+	 * Re-computes the bounds of all entries that were invalidated since the
+	 * last validation.
+	 */
+	private void validate() {
+		if (dirty.isEmpty()) {
+			return;
+		}
+		List<Entry> invalid = new ArrayList<>(dirty);
+		dirty.clear();
+		for (Entry entry : invalid) {
+			removeFromGrid(entry);
+			entry.update();
+			addToGrid(entry);
+		}
+	}
+}
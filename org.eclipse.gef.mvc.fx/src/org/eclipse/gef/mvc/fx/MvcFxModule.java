@@ -21,6 +21,7 @@ import org.eclipse.gef.common.adapt.inject.AdaptableScopes;
 import org.eclipse.gef.common.adapt.inject.AdaptableTypeListener;
 import org.eclipse.gef.common.adapt.inject.AdapterInjectionSupport;
 import org.eclipse.gef.common.adapt.inject.AdapterMaps;
+import org.eclipse.gef.mvc.fx.behaviors.AnchoredPartPool;
 import org.eclipse.gef.mvc.fx.behaviors.ContentBehavior;
 import org.eclipse.gef.mvc.fx.behaviors.ContentPartPool;
 import org.eclipse.gef.mvc.fx.behaviors.FocusBehavior;
@@ -71,6 +72,7 @@ import org.eclipse.gef.mvc.fx.parts.IHandlePartFactory;
 import org.eclipse.gef.mvc.fx.parts.IRootPart;
 import org.eclipse.gef.mvc.fx.parts.ITransformableContentPart;
 import org.eclipse.gef.mvc.fx.parts.LayeredRootPart;
+import org.eclipse.gef.mvc.fx.parts.RefreshScheduler;
 import org.eclipse.gef.mvc.fx.policies.ContentPolicy;
 import org.eclipse.gef.mvc.fx.policies.CreationPolicy;
 import org.eclipse.gef.mvc.fx.policies.DeletionPolicy;
@@ -191,6 +193,25 @@ public class MvcFxModule extends AbstractModule {
 		// nothing to bind by default
 	}
 
+	/**
+	 * Adds a binding for {@link AnchoredPartPool} to the adapter map binder
+	 * for {@link IViewer}.
+	 *
+	 * @param adapterMapBinder
+	 *            The {@link MapBinder} to be used for the binding registration.
+	 *            In this case, will be obtained from
+	 *            {@link AdapterMaps#getAdapterMapBinder(Binder, Class)} using
+	 *            {@link IViewer} as a key.
+	 * @since 5.1
+	 *
+	 * @see AdapterMaps#getAdapterMapBinder(Binder, Class)
+	 */
+	protected void bindAnchoredPartPoolAsContentViewerAdapter(
+			MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+		adapterMapBinder.addBinding(AdapterKey.defaultRole())
+				.to(AnchoredPartPool.class);
+	}
+
 	/**
 	 * Adds a binding for {@link ViewportPolicy} to the adapter map binder for
 	 * {@link IRootPart}.
@@ -769,6 +790,8 @@ public class MvcFxModule extends AbstractModule {
 			MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
 		bindIContentPartFactoryAsContentViewerAdapter(adapterMapBinder);
 		bindContentPartPoolAsContentViewerAdapter(adapterMapBinder);
+		bindAnchoredPartPoolAsContentViewerAdapter(adapterMapBinder);
+		bindRefreshSchedulerAsContentViewerAdapter(adapterMapBinder);
 
 		bindGridModelAsContentViewerAdapter(adapterMapBinder);
 		bindFocusModelAsContentViewerAdapter(adapterMapBinder);
@@ -894,6 +917,25 @@ public class MvcFxModule extends AbstractModule {
 				.to(PinchSpreadGesture.class);
 	}
 
+	/**
+	 * Adds a binding for {@link RefreshScheduler} to the adapter map binder
+	 * for {@link IViewer}.
+	 *
+	 * @param adapterMapBinder
+	 *            The {@link MapBinder} to be used for the binding registration.
+	 *            In this case, will be obtained from
+	 *            {@link AdapterMaps#getAdapterMapBinder(Binder, Class)} using
+	 *            {@link IViewer} as a key.
+	 *
+	 * @see AdapterMaps#getAdapterMapBinder(Binder, Class)
+	 * @since 5.1
+	 */
+	protected void bindRefreshSchedulerAsContentViewerAdapter(
+			MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+		adapterMapBinder.addBinding(AdapterKey.defaultRole())
+				.to(RefreshScheduler.class);
+	}
+
 	/**
 	 * Adds a binding for {@link RevealPrimarySelectionBehavior}, parameterized
 	 * by {@link Node}, to the adapter map binder for {@link IRootPart}.
@@ -45,6 +45,11 @@ import javafx.scene.Node;
  * of its adapters, and provides methods for the addition and removal of
  * feedback and handles, as well as a method that can be used to update the
  * handles for a given target part.
+ * <p>
+ * Feedback and handle parts that are removed are not disposed but handed over
+ * to the {@link AnchoredPartPool} of the viewer (if one is registered), so
+ * that they can be re-used by the {@link IFeedbackPartFactory} and
+ * {@link IHandlePartFactory}.
  *
  * @author anyssen
  *
@@ -280,6 +285,25 @@ public abstract class AbstractBehavior implements IBehavior {
 		acs.deactivate(this::doDeactivate, null);
 	}
 
+	/**
+	 * Disposes the given anchored (feedback or handle) parts, which have
+	 * already been removed from the viewer, or hands them over to the given
+	 * {@link AnchoredPartPool} (if not <code>null</code>), so that they can be
+	 * re-used.
+	 */
+	private void disposeAnchoreds(AnchoredPartPool pool,
+			List<? extends IVisualPart<? extends Node>> anchoreds) {
+		for (IVisualPart<? extends Node> anchored : anchoreds) {
+			// XXX: Parts that are still anchored elsewhere may not be re-used.
+			if (pool != null && anchored.getParent() == null
+					&& anchored.getAnchoragesUnmodifiable().isEmpty()) {
+				pool.add(anchored);
+			} else {
+				anchored.dispose();
+			}
+		}
+	}
+
 	/**
 	 * Post {@link #activate()} hook that may be overwritten to e.g. register
 	 * listeners.
@@ -301,6 +325,23 @@ public abstract class AbstractBehavior implements IBehavior {
 		return getHost();
 	}
 
+	/**
+	 * Returns the {@link AnchoredPartPool} of the viewer the given anchored
+	 * parts are contained in, or <code>null</code> if none is registered. Has
+	 * to be called before the anchoreds are removed from the viewer.
+	 */
+	private AnchoredPartPool getAnchoredPartPool(
+			List<? extends IVisualPart<? extends Node>> anchoreds) {
+		if (anchoreds.isEmpty()) {
+			return null;
+		}
+		IRootPart<? extends Node> root = anchoreds.get(0).getRoot();
+		if (root == null || root.getViewer() == null) {
+			return null;
+		}
+		return root.getViewer().getAdapter(AnchoredPartPool.class);
+	}
+
 	/**
 	 * Returns a list that contains all {@link IHandlePart}s that were generated
 	 * for the given target parts by this {@link IBehavior}. If no handle parts
@@ -632,12 +673,11 @@ public abstract class AbstractBehavior implements IBehavior {
 				.remove(targetSet);
 
 		// remove feedback from the viewer
+		AnchoredPartPool pool = getAnchoredPartPool(feedbackParts);
 		if (!feedbackParts.isEmpty()) {
 			removeAnchoreds(targetSet, feedbackParts);
 		}
-		for (IFeedbackPart<? extends Node> fp : feedbackParts) {
-			fp.dispose();
-		}
+		disposeAnchoreds(pool, feedbackParts);
 	}
 
 	/**
@@ -701,12 +741,11 @@ public abstract class AbstractBehavior implements IBehavior {
 				.remove(targetSet);
 
 		// remove handles from the viewer
+		AnchoredPartPool pool = getAnchoredPartPool(handleParts);
 		if (!handleParts.isEmpty()) {
 			removeAnchoreds(targetSet, handleParts);
 		}
-		for (IHandlePart<? extends Node> hp : handleParts) {
-			hp.dispose();
-		}
+		disposeAnchoreds(pool, handleParts);
 	}
 
 	@Override
@@ -795,6 +834,7 @@ public abstract class AbstractBehavior implements IBehavior {
 		// determine new handles
 		List<IHandlePart<? extends Node>> newHandles = handlePartFactory
 				.createHandleParts(targets, Collections.emptyMap());
+		AnchoredPartPool pool = viewer.getAdapter(AnchoredPartPool.class);
 
 		// compare to current handles => remove/add as needed
 		IHandlePart<? extends Node> replacementHandle = null;
@@ -864,9 +904,7 @@ public abstract class AbstractBehavior implements IBehavior {
 				// remove handles that no longer exist
 				removeAnchoreds(targets, toBeRemoved);
 				getHandlesPerTargetSet().get(targetSet).removeAll(toBeRemoved);
-				for (IHandlePart<? extends Node> hp : toBeRemoved) {
-					hp.dispose();
-				}
+				disposeAnchoreds(pool, toBeRemoved);
 			} else {
 				oldHandles = new ArrayList<>();
 			}
@@ -906,9 +944,13 @@ public abstract class AbstractBehavior implements IBehavior {
 
 			// remove already existing handles
 			removeAnchoreds(targets, toBeDisposed);
-			for (IHandlePart<? extends Node> hp : toBeDisposed) {
-				hp.dispose();
+			if (replacementHandle != null) {
+				// XXX: The replacement handle is returned to the caller, so
+				// it may not be re-used.
+				toBeDisposed.remove(replacementHandle);
+				replacementHandle.dispose();
 			}
+			disposeAnchoreds(pool, toBeDisposed);
 
 			// add new handles that did not exist yet
 			if (!getHandlesPerTargetSet().containsKey(targetSet)) {
@@ -0,0 +1,280 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.fx.behaviors;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import org.eclipse.gef.common.dispose.IDisposable;
+import org.eclipse.gef.mvc.fx.parts.AbstractSegmentHandlePart;
+import org.eclipse.gef.mvc.fx.parts.FocusFeedbackPart;
+import org.eclipse.gef.mvc.fx.parts.HoverFeedbackPart;
+import org.eclipse.gef.mvc.fx.parts.IFeedbackPart;
+import org.eclipse.gef.mvc.fx.parts.IFeedbackPartFactory;
+import org.eclipse.gef.mvc.fx.parts.IHandlePart;
+import org.eclipse.gef.mvc.fx.parts.IHandlePartFactory;
+import org.eclipse.gef.mvc.fx.parts.IVisualPart;
+import org.eclipse.gef.mvc.fx.parts.SelectionFeedbackPart;
+
+import com.google.inject.Injector;
+
+import javafx.scene.Node;
+
+/**
+ * A per-viewer store for anchored parts, i.e. {@link IFeedbackPart}s and
+ * {@link IHandlePart}s, that is used by {@link AbstractBehavior}s. Instead of
+ * disposing feedback and handle parts when they are removed from the viewer,
+ * they are added to this pool, so that {@link IFeedbackPartFactory}s and
+ * {@link IHandlePartFactory}s can re-use them (together with their visuals
+ * and adapters) for other targets, instead of creating (and injecting) new
+ * parts (see {@link #getOrCreate(IVisualPart, Class, Injector)}). When a part
+ * is pooled, its geometry or segments provider is released, so that it does
+ * not retain its former target; the factories are responsible for re-binding
+ * the re-used parts (e.g. by setting a new geometry provider).
+ * <p>
+ * Pooled parts are indexed by their type. The number of pooled parts is
+ * bounded by a {@link #getCapacity() capacity}. If the capacity is exceeded,
+ * the least recently pooled parts are evicted from the pool and disposed. The
+ * number of hits and misses is recorded, so that the effectiveness of the pool
+ * can be evaluated.
+ *
+ * @author agent
+ * @since 5.1
+ *
+ */
+public class AnchoredPartPool implements IDisposable {
+
+	/**
+	 * The default capacity of an {@link AnchoredPartPool}.
+	 */
+	public static final int DEFAULT_CAPACITY = 256;
+
+	// pooled parts (in the order they were added)
+	private LinkedHashSet<IVisualPart<? extends Node>> pool = new LinkedHashSet<>();
+	private Map<Class<?>, Deque<IVisualPart<? extends Node>>> partsByType = new HashMap<>();
+
+	/**
+	 * Retrieves a pooled part of the given type from the
+	 * {@link AnchoredPartPool} of the viewer of the given target part, or
+	 * creates a new one using the given {@link Injector} in case none can be
+	 * retrieved (or no pool is registered at the viewer).
+	 *
+	 * @param <T>
+	 *            The type of part.
+	 * @param target
+	 *            The target part for which to create the anchored part.
+	 * @param type
+	 *            The (exact) type of part to retrieve or create.
+	 * @param injector
+	 *            The {@link Injector} that is used to create a new part if
+	 *            none can be re-used.
+	 * @return A pooled or newly created part of the given type.
+	 */
+	public static <T extends IVisualPart<? extends Node>> T getOrCreate(
+			IVisualPart<? extends Node> target, Class<T> type,
+			Injector injector) {
+		AnchoredPartPool pool = target.getRoot().getViewer()
+				.getAdapter(AnchoredPartPool.class);
+		return pool != null ? pool.getOrCreate(type, injector)
+				: injector.getInstance(type);
+	}
+
+	private int capacity = DEFAULT_CAPACITY;
+	private long hitCount = 0;
+	private long missCount = 0;
+
+	/**
+	 * Adds the given anchored part to this pool. The part has to be removed
+	 * from the viewer (i.e. it may neither have a parent nor anchorages). In
+	 * case the {@link #getCapacity() capacity} of this pool is exceeded, the
+	 * least recently pooled part is evicted.
+	 *
+	 * @param part
+	 *            The anchored part to add to the pool.
+	 */
+	public void add(IVisualPart<? extends Node> part) {
+		if (part.getParent() != null
+				|| !part.getAnchoragesUnmodifiable().isEmpty()) {
+			throw new IllegalArgumentException(
+					"Only parts that are removed from the viewer may be pooled.");
+		}
+		if (!pool.add(part)) {
+			return;
+		}
+		release(part);
+		Deque<IVisualPart<? extends Node>> partsOfType = partsByType
+				.get(part.getClass());
+		if (partsOfType == null) {
+			partsOfType = new ArrayDeque<>();
+			partsByType.put(part.getClass(), partsOfType);
+		}
+		partsOfType.push(part);
+		trimToCapacity();
+	}
+
+	/**
+	 * Clears the pool, that is removes all parts (without disposing them).
+	 */
+	public void clear() {
+		pool.clear();
+		partsByType.clear();
+	}
+
+	@Override
+	public void dispose() {
+		for (IVisualPart<? extends Node> part : new ArrayList<>(pool)) {
+			part.dispose();
+		}
+		clear();
+	}
+
+	/**
+	 * Returns the maximum number of parts that are retained by this pool.
+	 *
+	 * @return The capacity of this pool.
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Returns the number of successful retrievals, i.e. the number of parts
+	 * that were re-used.
+	 *
+	 * @return The number of hits.
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Returns the number of unsuccessful retrievals, i.e. the number of times
+	 * a part had to be created.
+	 *
+	 * @return The number of misses.
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * Retrieves a pooled part of the given type (removing it from the pool),
+	 * or creates a new one using the given {@link Injector} if no such part is
+	 * pooled.
+	 *
+	 * @param <T>
+	 *            The type of part.
+	 * @param type
+	 *            The (exact) type of part to retrieve.
+	 * @param injector
+	 *            The {@link Injector} that is used to create a new part if
+	 *            none can be re-used.
+	 * @return A pooled or newly created part of the given type.
+	 */
+	public <T extends IVisualPart<? extends Node>> T getOrCreate(
+			Class<T> type, Injector injector) {
+		T part = remove(type);
+		return part != null ? part : injector.getInstance(type);
+	}
+
+	/**
+	 * Returns the parts that are contained in this pool.
+	 *
+	 * @return The parts that are currently contained in this pool.
+	 */
+	public Collection<IVisualPart<? extends Node>> getPooled() {
+		return Collections.unmodifiableCollection(pool);
+	}
+
+	/**
+	 * Releases the provider of the given pooled part, which refers to the
+	 * geometry of its former target.
+	 */
+	private void release(IVisualPart<? extends Node> part) {
+		if (part instanceof AbstractSegmentHandlePart) {
+			((AbstractSegmentHandlePart<?>) part).setSegmentsProvider(null);
+		} else if (part instanceof SelectionFeedbackPart) {
+			((SelectionFeedbackPart) part).setGeometryProvider(null);
+		} else if (part instanceof HoverFeedbackPart) {
+			((HoverFeedbackPart) part).setGeometryProvider(null);
+		} else if (part instanceof FocusFeedbackPart) {
+			((FocusFeedbackPart) part).setGeometryProvider(null);
+		}
+	}
+
+	/**
+	 * Retrieves a pooled part of the given type and removes it from the pool.
+	 * The most recently pooled part of the given type is retrieved, as its
+	 * visual is most likely still cached.
+	 *
+	 * @param <T>
+	 *            The type of part.
+	 * @param type
+	 *            The (exact) type of part to retrieve.
+	 * @return A pooled part of the given type, or <code>null</code> if no such
+	 *         part is pooled.
+	 */
+	public <T extends IVisualPart<? extends Node>> T remove(Class<T> type) {
+		Deque<IVisualPart<? extends Node>> partsOfType = partsByType.get(type);
+		if (partsOfType == null) {
+			missCount++;
+			return null;
+		}
+		IVisualPart<? extends Node> part = partsOfType.pop();
+		if (partsOfType.isEmpty()) {
+			partsByType.remove(type);
+		}
+		pool.remove(part);
+		hitCount++;
+		return type.cast(part);
+	}
+
+	/**
+	 * Sets the maximum number of parts that are retained by this pool. If the
+	 * given capacity is exceeded, the least recently pooled parts are evicted
+	 * (and disposed).
+	 *
+	 * @param capacity
+	 *            The new capacity.
+	 */
+	public void setCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException(
+					"Capacity may not be negative.");
+		}
+		this.capacity = capacity;
+		trimToCapacity();
+	}
+
+	private void trimToCapacity() {
+		while (pool.size() > capacity) {
+			// evict the least recently pooled part
+			IVisualPart<? extends Node> part = pool.iterator().next();
+			pool.remove(part);
+			Deque<IVisualPart<? extends Node>> partsOfType = partsByType
+					.get(part.getClass());
+			// the least recently pooled part is the last one of its type
+			partsOfType.removeLast();
+			if (partsOfType.isEmpty()) {
+				partsByType.remove(part.getClass());
+			}
+			part.dispose();
+		}
+	}
+}
@@ -16,6 +16,8 @@ package org.eclipse.gef.mvc.fx.behaviors;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -92,20 +94,18 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 			// been applied.
 			IContentPart<? extends Node> parent = (IContentPart<? extends Node>) ((ReadOnlyProperty<?>) change
 					.getList()).getBean();
-			// while (change.next()) {
-			// if (change.wasRemoved()) {
-			// removeContentPartChildren(parent,
-			// ImmutableList.copyOf(change.getRemoved()));
-			// } else if (change.wasAdded()) {
-			// addContentPartChildren(parent,
-			// ImmutableList.copyOf(change.getAddedSubList()),
-			// change.getFrom());
-			// } else if (change.wasPermutated()) {
-			// throw new UnsupportedOperationException(
-			// "Reorder not yet implemented");
-			// }
-			// }
-			synchronizeContentPartChildren(parent, change.getList());
+			// XXX: In case content children are solely added or removed (and
+			// all of them are realized), the content part children are
+			// synchronized incrementally, so that the unchanged content
+			// children do not need to be processed.
+			List<? extends Object> contentChildren = change.getList();
+			List<? extends Object> realizedContentChildren = getRealizedContentChildren(
+					parent, contentChildren);
+			if (realizedContentChildren != contentChildren
+					|| !synchronizeContentPartChildren(parent, change)) {
+				synchronizeRealizedContentPartChildren(parent,
+						realizedContentChildren);
+			}
 		}
 	};
 
@@ -158,38 +158,38 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 		List<IContentPart<? extends Node>> childContentParts = PartUtils
 				.filterParts(parent.getChildrenUnmodifiable(),
 						IContentPart.class);
-		// store the existing content parts in a map using the contents as keys
-		Map<Object, IContentPart<? extends Node>> contentPartMap = new HashMap<>();
-		// find all content parts for which no content element exists in
-		// contentChildren, and therefore have to be removed
-		for (IContentPart<? extends Node> contentPart : childContentParts) {
-			// store content part in map
-			contentPartMap.put(contentPart.getContent(), contentPart);
+		// store the positions of the existing content parts in a map using
+		// the contents as keys
+		Map<Object, Integer> oldPositions = new HashMap<>();
+		for (int i = 0; i < childContentParts.size(); i++) {
+			oldPositions.put(childContentParts.get(i).getContent(), i);
 		}
+
+		// determine the content parts in their designated order, creating
+		// (or reviving) content parts for those contents that are not
+		// controlled by a child content part yet
 		int contentChildrenSize = contentChildren.size();
-		int childContentPartsSize = childContentParts.size();
+		List<IContentPart<? extends Node>> contentParts = new ArrayList<>(
+				contentChildrenSize);
+		int[] positions = new int[contentChildrenSize];
+		Set<Object> processedContents = new HashSet<>();
 		for (int i = 0; i < contentChildrenSize; i++) {
 			Object content = contentChildren.get(i);
-			// Do a quick check to see if the existing content part is at
-			// the correct location in the children list.
-			if (i < childContentPartsSize
-					&& childContentParts.get(i).getContent() == content) {
-				continue;
-			}
-			// Look to see if the ContentPart is already around but in the
-			// wrong location.
-			IContentPart<? extends Node> contentPart = findOrCreatePartFor(
-					content);
-			if (contentPartMap.containsKey(content)) {
-				// Re-order the existing content part to its designated
-				// location in the children list.
-				// TODO: this is wrong, it has to take into consideration
-				// the visual parts in between
-				parent.reorderChild(contentPart, i);
+			Integer oldPosition = oldPositions.get(content);
+			if (oldPosition != null && processedContents.add(content)) {
+				contentParts.add(childContentParts.get(oldPosition));
+				positions[i] = oldPosition;
 			} else {
 				// A ContentPart for this model does not exist yet. Create
-				// and insert one.
-				if (contentPart.getParent() != null) {
+				// one.
+				IContentPart<? extends Node> contentPart = findOrCreatePartFor(
+						content);
+				// XXX: As the content parts are only added after all of them
+				// have been determined, a content that is contained multiple
+				// times is not yet registered when it is processed again, so
+				// that it has to be detected explicitly.
+				if (contentPart.getParent() != null
+						|| !processedContents.add(content)) {
 					// TODO: Up to now a model element may only be
 					// controlled by a single content part; unless we
 					// differentiate content elements by context (which is not
@@ -200,11 +200,66 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 					throw new IllegalStateException(
 							"Located a ContentPart which controls the same (or an equal) content element but is already bound to a parent. A content element may only be controlled by a single ContentPart.");
 				}
-				parent.addChild(contentPart, i);
-				added.add(contentPart);
-				addAll(contentPart,
-						contentPart.getContentChildrenUnmodifiable(), added);
+				contentParts.add(contentPart);
+				positions[i] = -1;
+			}
+		}
+
+		// The existing content parts that form a longest increasing
+		// subsequence (w.r.t. their current positions) can stay where they
+		// are; only the remaining ones have to be reordered.
+		boolean[] stable = getLongestIncreasingSubsequence(positions);
+
+		// XXX: The cursor denotes the index (within all children of the
+		// parent, including those that are no content parts) directly behind
+		// the last content part that was put into place.
+		// The content parts that are skipped by the cursor (while advancing
+		// to the next stable content part) are stored in an identity set, so
+		// that it can be determined in constant time whether a content part
+		// that is to be re-ordered is located in front of the cursor.
+		List<? extends IVisualPart<? extends Node>> children = parent
+				.getChildrenUnmodifiable();
+		Set<IVisualPart<? extends Node>> skipped = Collections
+				.newSetFromMap(new IdentityHashMap<>());
+		int cursor = 0;
+		int i = 0;
+		while (i < contentChildrenSize) {
+			IContentPart<? extends Node> contentPart = contentParts.get(i);
+			if (positions[i] < 0) {
+				// insert all consecutive new content parts at once
+				int runEnd = i + 1;
+				while (runEnd < contentChildrenSize && positions[runEnd] < 0) {
+					runEnd++;
+				}
+				List<IContentPart<? extends Node>> run = contentParts
+						.subList(i, runEnd);
+				parent.addChildren(run, cursor);
+				cursor += run.size();
+				for (IContentPart<? extends Node> cp : run) {
+					added.add(cp);
+					addAll(cp, getRealizedContentChildren(cp,
+							cp.getContentChildrenUnmodifiable()), added);
+				}
+				i = runEnd;
+				continue;
+			} else if (stable[i]) {
+				// stable content parts are located behind the cursor
+				while (children.get(cursor) != contentPart) {
+					skipped.add(children.get(cursor));
+					cursor++;
+				}
+				cursor++;
+			} else {
+				// Re-order the existing content part to its designated
+				// location in the children list.
+				if (skipped.remove(contentPart)) {
+					parent.reorderChild(contentPart, cursor - 1);
+				} else {
+					parent.reorderChild(contentPart, cursor);
+					cursor++;
+				}
 			}
+			i++;
 		}
 	}
 
@@ -223,12 +278,8 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 						IContentPart.class)) {
 			// mark for removal
 			if (!contentChildren.contains(contentPart.getContent())) {
-				detachAll(contentPart, Collections.emptySet(), toRemove,
-						removalsPerParent);
+				detach(contentPart, toRemove, removalsPerParent);
 				childrenToRemove.add(contentPart);
-				toRemove.add(contentPart);
-				synchronizeContentPartAnchorages(contentPart,
-						HashMultimap.create());
 			}
 		}
 		if (!childrenToRemove.isEmpty()) {
@@ -236,6 +287,15 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 		}
 	}
 
+	private void detach(IContentPart<? extends Node> contentPart,
+			List<IContentPart<? extends Node>> toRemove,
+			Map<IVisualPart<? extends Node>, List<IContentPart<? extends Node>>> removalsPerParent) {
+		detachAll(contentPart, Collections.emptySet(), toRemove,
+				removalsPerParent);
+		toRemove.add(contentPart);
+		synchronizeContentPartAnchorages(contentPart, HashMultimap.create());
+	}
+
 	@Override
 	public void dispose() {
 		// the content part pool is shared by all content behaviors of a viewer,
@@ -291,7 +351,9 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 	 * content {@link Object} can be found in the viewer's content-part-map,
 	 * then this part is returned. If an {@link IContentPart} for the given
 	 * content {@link Object} is stored in the {@link ContentPartPool}, then
-	 * this part is returned. Otherwise, the injected
+	 * this part is returned. If a pooled {@link IContentPart} of the type
+	 * reported by {@link IContentPartFactory#getRecyclablePartType(Object, Map)}
+	 * is available, it is recycled. Otherwise, the injected
 	 * {@link IContentPartFactory} is used to create a new {@link IContentPart}
 	 * for the given content {@link Object}.
 	 *
@@ -308,14 +370,16 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 			// System.out.println("FOUND " + content);
 			return contentPartMap.get(content);
 		} else {
-			// 'Revive' a content part, if it was removed before
+			// 'Revive' a content part, if it was removed before, or recycle
+			// a pooled content part of a recyclable type
+			IContentPartFactory contentPartFactory = getContentPartFactory();
 			IContentPart<? extends Node> contentPart = getContentPartPool()
-					.remove(content);
+					.remove(content, contentPartFactory.getRecyclablePartType(
+							content, Collections.emptyMap()));
 			// If the part could not be revived, a new one is created
 			if (contentPart == null) {
 				// create part using the factory
 				// System.out.println("CREATE " + content);
-				IContentPartFactory contentPartFactory = getContentPartFactory();
 				contentPart = contentPartFactory.createContentPart(content,
 						Collections.emptyMap());
 				if (contentPart == null) {
@@ -354,6 +418,70 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 				.getAdapter(ContentPartPool.class);
 	}
 
+	/**
+	 * Computes a longest strictly increasing subsequence of the given
+	 * positions, ignoring negative positions, in O(n log n).
+	 *
+	 * @param positions
+	 *            The positions for which to compute the subsequence.
+	 * @return An array that marks the members of the subsequence.
+	 */
+	private boolean[] getLongestIncreasingSubsequence(int[] positions) {
+		int n = positions.length;
+		// tails[k] is the index of the smallest tail of all increasing
+		// subsequences of length k + 1
+		int[] tails = new int[n];
+		int[] predecessors = new int[n];
+		int length = 0;
+		for (int i = 0; i < n; i++) {
+			if (positions[i] < 0) {
+				continue;
+			}
+			int lo = 0;
+			int hi = length;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (positions[tails[mid]] < positions[i]) {
+					lo = mid + 1;
+				} else {
+					hi = mid;
+				}
+			}
+			predecessors[i] = lo > 0 ? tails[lo - 1] : -1;
+			tails[lo] = i;
+			if (lo == length) {
+				length++;
+			}
+		}
+		boolean[] members = new boolean[n];
+		for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = predecessors[i]) {
+			members[i] = true;
+		}
+		return members;
+	}
+
+	/**
+	 * Returns the content children of the given parent {@link IVisualPart} for
+	 * which {@link IContentPart}s are to be realized, i.e. created (or revived)
+	 * and added as children of the parent. Content parts for all other content
+	 * children are removed (and pooled). By default, all content children are
+	 * realized.
+	 *
+	 * @param parent
+	 *            The parent {@link IVisualPart} whose content part children
+	 *            are synchronized.
+	 * @param contentChildren
+	 *            The content children of the given parent.
+	 * @return The content children (in their designated order) for which
+	 *         {@link IContentPart}s are to be realized.
+	 * @since 5.1
+	 */
+	protected List<? extends Object> getRealizedContentChildren(
+			IVisualPart<? extends Node> parent,
+			List<? extends Object> contentChildren) {
+		return contentChildren;
+	}
+
 	/**
 	 * Updates the host {@link IVisualPart}'s {@link IContentPart} anchorages
 	 * (see {@link IVisualPart#getAnchoragesUnmodifiable()}) so that it is in
@@ -450,9 +578,147 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 					"contentChildren may not be null");
 		}
 
+		synchronizeRealizedContentPartChildren(parent,
+				getRealizedContentChildren(parent, contentChildren));
+	}
+
+	/**
+	 * Incrementally synchronizes the {@link IContentPart} children of the given
+	 * parent with the given change of its content children, in case the change
+	 * solely consists of additions and removals.
+	 *
+	 * @param parent
+	 *            The parent {@link IVisualPart} whose content part children to
+	 *            synchronize.
+	 * @param change
+	 *            The change of the content children of the parent.
+	 * @return <code>true</code> if the content part children could be
+	 *         synchronized incrementally, otherwise <code>false</code>, in
+	 *         which case a complete synchronization is required.
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean synchronizeContentPartChildren(
+			IVisualPart<? extends Node> parent,
+			ListChangeListener.Change<? extends Object> change) {
+		List<? extends Object> contentChildren = change.getList();
+		Map<Object, IContentPart<? extends Node>> contentPartMap = getHost()
+				.getRoot().getViewer().getContentPartMap();
+
+		// XXX: All sub-changes are validated before the content part children
+		// are modified, so that a complete synchronization is never performed
+		// on top of a partially applied incremental one.
+		Set<Object> removedContents = new HashSet<>();
+		Set<Object> addedContents = new HashSet<>();
+		while (change.next()) {
+			if (change.wasPermutated() || change.wasUpdated()
+					|| change.wasReplaced()) {
+				change.reset();
+				return false;
+			}
+			if (change.wasRemoved()) {
+				for (Object content : change.getRemoved()) {
+					IContentPart<? extends Node> contentPart = contentPartMap
+							.get(content);
+					if (contentPart == null || contentPart.getParent() != parent
+							|| addedContents.contains(content)) {
+						change.reset();
+						return false;
+					}
+					removedContents.add(content);
+				}
+			} else if (change.wasAdded()) {
+				for (Object content : change.getAddedSubList()) {
+					IContentPart<? extends Node> contentPart = contentPartMap
+							.get(content);
+					if (contentPart != null && contentPart.getParent() != null
+							|| removedContents.contains(content)
+							|| !addedContents.add(content)) {
+						change.reset();
+						return false;
+					}
+				}
+				// the preceding content child has to be controlled by a child
+				// content part (or be added by a preceding sub-change)
+				int from = change.getFrom();
+				if (from > 0) {
+					Object predecessor = contentChildren.get(from - 1);
+					IContentPart<? extends Node> contentPart = contentPartMap
+							.get(predecessor);
+					if (!addedContents.contains(predecessor)
+							&& (contentPart == null
+									|| contentPart.getParent() != parent)) {
+						change.reset();
+						return false;
+					}
+				}
+			}
+		}
+		change.reset();
+
+		List<? extends IVisualPart<? extends Node>> children = parent
+				.getChildrenUnmodifiable();
+		while (change.next()) {
+			if (change.wasRemoved()) {
+				List<IContentPart<? extends Node>> toRemove = new ArrayList<>();
+				Map<IVisualPart<? extends Node>, List<IContentPart<? extends Node>>> removalsPerParent = new LinkedHashMap<>();
+				List<IContentPart<? extends Node>> childrenToRemove = new ArrayList<>();
+				for (Object content : new HashSet<>(change.getRemoved())) {
+					IContentPart<? extends Node> contentPart = contentPartMap
+							.get(content);
+					detach(contentPart, toRemove, removalsPerParent);
+					childrenToRemove.add(contentPart);
+				}
+				removalsPerParent.put(parent, childrenToRemove);
+				removalsPerParent.forEach((removeFrom, removeUs) -> {
+					removeFrom.removeChildren(removeUs);
+				});
+				for (IContentPart<? extends Node> contentPart : toRemove) {
+					disposeIfObsolete(contentPart);
+				}
+			} else if (change.wasAdded()) {
+				// determine the index behind the content part of the preceding
+				// content child
+				int index = 0;
+				int from = change.getFrom();
+				if (from > 0) {
+					IContentPart<? extends Node> predecessor = contentPartMap
+							.get(contentChildren.get(from - 1));
+					index = from <= children.size()
+							&& children.get(from - 1) == predecessor ? from
+									: children.indexOf(predecessor) + 1;
+				}
+				List<IContentPart<? extends Node>> contentParts = new ArrayList<>();
+				for (Object content : change.getAddedSubList()) {
+					IContentPart<? extends Node> contentPart = findOrCreatePartFor(
+							content);
+					if (contentPart.getParent() != null) {
+						throw new IllegalStateException(
+								"Located a ContentPart which controls the same (or an equal) content element but is already bound to a parent. A content element may only be controlled by a single ContentPart.");
+					}
+					contentParts.add(contentPart);
+				}
+				parent.addChildren(contentParts, index);
+				List<IContentPart<? extends Node>> added = new ArrayList<>();
+				for (IContentPart<? extends Node> cp : contentParts) {
+					added.add(cp);
+					addAll(cp, getRealizedContentChildren(cp,
+							cp.getContentChildrenUnmodifiable()), added);
+				}
+				for (IContentPart<? extends Node> cp : added) {
+					synchronizeContentPartAnchorages(cp,
+							cp.getContentAnchoragesUnmodifiable());
+				}
+			}
+		}
+		return true;
+	}
+
+	private void synchronizeRealizedContentPartChildren(
+			IVisualPart<? extends Node> parent,
+			List<? extends Object> realizedContentChildren) {
 		List<IContentPart<? extends Node>> toRemove = new ArrayList<>();
 		Map<IVisualPart<? extends Node>, List<IContentPart<? extends Node>>> removalsPerParent = new LinkedHashMap<>();
-		detachAll(parent, Sets.newHashSet(contentChildren), toRemove,
+		detachAll(parent, Sets.newHashSet(realizedContentChildren), toRemove,
 				removalsPerParent);
 		removalsPerParent.forEach((removeFrom, removeUs) -> {
 			removeFrom.removeChildren(removeUs);
@@ -462,7 +728,7 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 		}
 
 		List<IContentPart<? extends Node>> added = new ArrayList<>();
-		addAll(parent, contentChildren, added);
+		addAll(parent, realizedContentChildren, added);
 		for (IContentPart<? extends Node> cp : added) {
 			synchronizeContentPartAnchorages(cp,
 					cp.getContentAnchoragesUnmodifiable());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2016 itemis AG and others.
+ * Copyright (c) 2015, 2017 itemis AG and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,13 +11,18 @@
  *******************************************************************************/
 package org.eclipse.gef.mvc.fx.behaviors;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.gef.common.dispose.IDisposable;
 import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
 
 import javafx.scene.Node;
 
@@ -31,6 +36,18 @@ import javafx.scene.Node;
  * motivation behind recycling {@link IContentPart}s is that after an undo the
  * viewer is in the exact same state as before the execution of an operation
  * (which may be important for feedback or handles).
+ * <p>
+ * In addition, pooled {@link IContentPart}s may be recycled for different
+ * content elements, in case the {@link IContentPartFactory} indicates that
+ * parts of the respective type are recyclable (see
+ * {@link IContentPartFactory#getRecyclablePartType(Object, Map)}). Therefore,
+ * pooled parts are indexed by their content element as well as by their type.
+ * <p>
+ * The number of pooled {@link IContentPart}s is bounded by a
+ * {@link #getCapacity() capacity}. If the capacity is exceeded, the least
+ * recently pooled {@link IContentPart}s are evicted from the pool and
+ * disposed. The number of hits, misses, and evictions is recorded, so that
+ * the effectiveness of the pool can be evaluated.
  *
  * @author mwienand
  * @author anyssen
@@ -38,23 +55,55 @@ import javafx.scene.Node;
  */
 public class ContentPartPool implements IDisposable {
 
-	private Map<Object, IContentPart<? extends Node>> pool = new HashMap<>();
+	/**
+	 * The default capacity of a {@link ContentPartPool}.
+	 *
+	 * @since 5.1
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	// pooled parts (in the order they were added) and their content elements
+	private LinkedHashMap<IContentPart<? extends Node>, Object> pool = new LinkedHashMap<>();
+	private Map<Object, IContentPart<? extends Node>> partsByContent = new HashMap<>();
+	private Map<Class<?>, Set<IContentPart<? extends Node>>> partsByType = new HashMap<>();
+
+	private int capacity = DEFAULT_CAPACITY;
+	private long hitCount = 0;
+	private long missCount = 0;
+	private long evictionCount = 0;
 
 	/**
 	 * Adds an {@link IContentPart} to this pool. The {@link IContentPart} will
 	 * be stored under its content element ({@link IContentPart#getContent()})
 	 * and may later be retrieved back via this content element (see
-	 * {@link #remove(Object)}.
+	 * {@link #remove(Object)}. In case another {@link IContentPart} is already
+	 * pooled for the same content element, it is evicted. In case the
+	 * {@link #getCapacity() capacity} of this pool is exceeded, the least
+	 * recently pooled {@link IContentPart} is evicted.
 	 *
 	 * @param part
 	 *            The {@link IContentPart} to add to the pool.
 	 */
 	public void add(IContentPart<? extends Node> part) {
-		// TODO: We need to handle the case that a content part was already
-		// registered for the same content element in case we will enable this
-		// in the viewer (e.g. by adding context information to the content part
-		// map).
-		pool.put(part.getContent(), part);
+		if (pool.containsKey(part)) {
+			return;
+		}
+		Object content = part.getContent();
+		IContentPart<? extends Node> previous = partsByContent.get(content);
+		if (previous != null) {
+			// XXX: Only a single part can be revived per content element.
+			evict(previous);
+		}
+		pool.put(part, content);
+		partsByContent.put(content, part);
+		Set<IContentPart<? extends Node>> partsOfType = partsByType
+				.get(part.getClass());
+		if (partsOfType == null) {
+			partsOfType = new LinkedHashSet<>();
+			partsByType.put(part.getClass(), partsOfType);
+		}
+		partsOfType.add(part);
+		trimToCapacity();
 	}
 
 	/**
@@ -62,16 +111,71 @@ public class ContentPartPool implements IDisposable {
 	 */
 	public void clear() {
 		pool.clear();
+		partsByContent.clear();
+		partsByType.clear();
 	}
 
 	@Override
 	public void dispose() {
-		for (IContentPart<? extends Node> cp : getPooled()) {
+		for (IContentPart<? extends Node> cp : new ArrayList<>(
+				pool.keySet())) {
 			cp.dispose();
 		}
 		clear();
 	}
 
+	private void evict(IContentPart<? extends Node> part) {
+		take(part);
+		evictionCount++;
+		part.dispose();
+	}
+
+	/**
+	 * Returns the maximum number of {@link IContentPart}s that are retained by
+	 * this pool.
+	 *
+	 * @return The capacity of this pool.
+	 * @since 5.1
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Returns the number of {@link IContentPart}s that were evicted (and
+	 * disposed) because the {@link #getCapacity() capacity} was exceeded or
+	 * because another {@link IContentPart} was pooled for the same content
+	 * element.
+	 *
+	 * @return The number of evictions.
+	 * @since 5.1
+	 */
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * Returns the number of successful retrievals, i.e. the number of
+	 * {@link IContentPart}s that were revived or recycled.
+	 *
+	 * @return The number of hits.
+	 * @since 5.1
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Returns the number of unsuccessful retrievals, i.e. the number of times
+	 * an {@link IContentPart} had to be created.
+	 *
+	 * @return The number of misses.
+	 * @since 5.1
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
 	/**
 	 * Returns the {@link IContentPart}'s that are contained in this pool.
 	 *
@@ -79,7 +183,7 @@ public class ContentPartPool implements IDisposable {
 	 *         pool.
 	 */
 	public Collection<IContentPart<? extends Node>> getPooled() {
-		return Collections.unmodifiableCollection(pool.values());
+		return Collections.unmodifiableCollection(pool.keySet());
 	}
 
 	/**
@@ -94,7 +198,84 @@ public class ContentPartPool implements IDisposable {
 	 *         <code>null</code> if none could be found.
 	 */
 	public IContentPart<? extends Node> remove(Object content) {
-		return pool.remove(content);
+		return remove(content, null);
+	}
+
+	/**
+	 * Retrieves an {@link IContentPart} for the given content element and
+	 * removes it from the pool. If no {@link IContentPart} was pooled for the
+	 * given content element, the least recently pooled {@link IContentPart} of
+	 * the given type is retrieved instead (if a type is given), so that it can
+	 * be recycled for the content element.
+	 *
+	 * @param content
+	 *            The content element for which to retrieve an
+	 *            {@link IContentPart}.
+	 * @param recyclablePartType
+	 *            The type of {@link IContentPart} that may be recycled for the
+	 *            given content element, or <code>null</code> if only an
+	 *            {@link IContentPart} that was pooled for the given content
+	 *            element may be retrieved.
+	 * @return The part that was retrieved for the given content element, or
+	 *         <code>null</code> if none could be found.
+	 * @since 5.1
+	 */
+	public IContentPart<? extends Node> remove(Object content,
+			Class<?> recyclablePartType) {
+		IContentPart<? extends Node> part = partsByContent.get(content);
+		if (part == null && recyclablePartType != null) {
+			Set<IContentPart<? extends Node>> partsOfType = partsByType
+					.get(recyclablePartType);
+			if (partsOfType != null) {
+				// XXX: Recycle the least recently pooled part, so that recently
+				// removed parts can still be revived (e.g. upon undo).
+				part = partsOfType.iterator().next();
+			}
+		}
+		if (part == null) {
+			missCount++;
+			return null;
+		}
+		take(part);
+		hitCount++;
+		return part;
+	}
+
+	/**
+	 * Sets the maximum number of {@link IContentPart}s that are retained by
+	 * this pool. If the given capacity is exceeded, the least recently pooled
+	 * {@link IContentPart}s are evicted (and disposed).
+	 *
+	 * @param capacity
+	 *            The new capacity.
+	 * @since 5.1
+	 */
+	public void setCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException(
+					"Capacity may not be negative.");
+		}
+		this.capacity = capacity;
+		trimToCapacity();
 	}
 
-}
\ No newline at end of file
+	private void take(IContentPart<? extends Node> part) {
+		Object content = pool.remove(part);
+		if (partsByContent.get(content) == part) {
+			partsByContent.remove(content);
+		}
+		Set<IContentPart<? extends Node>> partsOfType = partsByType
+				.get(part.getClass());
+		partsOfType.remove(part);
+		if (partsOfType.isEmpty()) {
+			partsByType.remove(part.getClass());
+		}
+	}
+
+	private void trimToCapacity() {
+		while (pool.size() > capacity) {
+			// evict the least recently pooled part
+			evict(pool.keySet().iterator().next());
+		}
+	}
+}
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.fx.behaviors;
+
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+
+import javafx.geometry.Bounds;
+
+/**
+ * An {@link IContentBoundsProvider} provides lightweight bounds for content
+ * elements, without the need to create an {@link IContentPart} (and its
+ * visual) for them. It is used by the {@link VirtualizingContentBehavior} to
+ * decide for which content elements {@link IContentPart}s are to be realized.
+ * It is expected to be registered as an adapter at the {@link IViewer}.
+ *
+ * @author agent
+ * @since 5.1
+ *
+ */
+public interface IContentBoundsProvider {
+
+	/**
+	 * Returns the bounds of the given content element within the coordinate
+	 * system of the visual of the {@link IViewer#getRootPart() root part}, or
+	 * <code>null</code> if the bounds are unknown. {@link IContentPart}s for
+	 * content elements with unknown bounds are always realized.
+	 * <p>
+	 * As this method is called for all content elements whenever the
+	 * viewport is changed, it should be cheap to evaluate.
+	 *
+	 * @param content
+	 *            The content element for which to return the bounds.
+	 * @return The bounds of the given content element, or <code>null</code>.
+	 */
+	public Bounds getContentBounds(Object content);
+
+}
@@ -13,11 +13,15 @@
 package org.eclipse.gef.mvc.fx.behaviors;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.gef.common.collections.CollectionUtils;
 import org.eclipse.gef.mvc.fx.models.SelectionModel;
 import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IFeedbackPart;
 import org.eclipse.gef.mvc.fx.parts.IFeedbackPartFactory;
 import org.eclipse.gef.mvc.fx.parts.IHandlePartFactory;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
@@ -28,6 +32,11 @@ import javafx.scene.Node;
 /**
  * The default selection behavior is responsible for creating and removing
  * selection feedback and handles.
+ * <p>
+ * When the selection changes, feedback is only removed for the deselected
+ * parts and only added for the newly selected parts, while the feedback of the
+ * primary selection is refreshed in case the primary selection changed.
+ * Handles are re-created, as they may depend on the whole selection.
  *
  * @author anyssen
  * @author mwienand
@@ -51,14 +60,11 @@ public class SelectionBehavior extends AbstractBehavior {
 		@Override
 		public void onChanged(
 				ListChangeListener.Change<? extends IContentPart<? extends Node>> c) {
-			// order of selection should not be relevant for feedback and
-			// handles, as such we ignore permutations
 			List<IContentPart<? extends Node>> newSelection = new ArrayList<>(
 					c.getList());
 			List<? extends IContentPart<? extends Node>> oldSelection = CollectionUtils
 					.getPreviousContents(c);
-			removeFeedbackAndHandles(oldSelection);
-			addFeedbackAndHandles(newSelection);
+			updateFeedbackAndHandles(oldSelection, newSelection);
 		}
 	};
 
@@ -157,4 +163,95 @@ public class SelectionBehavior extends AbstractBehavior {
 			}
 		}
 	}
+
+	/**
+	 * Updates feedback and handles when the selection changes from the given
+	 * old selection to the given new selection. Feedback is removed for the
+	 * deselected parts, added for the newly selected parts, and refreshed for
+	 * the previous and the new primary selection (if they remain selected).
+	 * Handles are re-created in case the selection changed other than by a
+	 * permutation of its non-primary elements.
+	 *
+	 * @param oldSelection
+	 *            The previous selection.
+	 * @param newSelection
+	 *            The new selection.
+	 * @since 5.1
+	 */
+	protected void updateFeedbackAndHandles(
+			List<? extends IContentPart<? extends Node>> oldSelection,
+			List<? extends IContentPart<? extends Node>> newSelection) {
+		Set<IContentPart<? extends Node>> oldSet = Collections
+				.newSetFromMap(new IdentityHashMap<>());
+		oldSet.addAll(oldSelection);
+		Set<IContentPart<? extends Node>> newSet = Collections
+				.newSetFromMap(new IdentityHashMap<>());
+		newSet.addAll(newSelection);
+
+		IContentPart<? extends Node> oldPrimary = oldSelection.isEmpty() ? null
+				: oldSelection.get(0);
+		IContentPart<? extends Node> newPrimary = newSelection.isEmpty() ? null
+				: newSelection.get(0);
+		boolean membershipChanged = !oldSet.equals(newSet);
+		if (!membershipChanged && oldPrimary == newPrimary) {
+			// order of non-primary selection is not relevant for feedback and
+			// handles, as such we ignore such permutations
+			return;
+		}
+
+		// remove handles (created for the old selection as a whole)
+		removeSelectionHandles(oldSelection);
+
+		// remove feedback for the deselected parts only
+		for (IContentPart<? extends Node> part : oldSelection) {
+			if (!newSet.contains(part)) {
+				removeFeedback(part);
+			}
+		}
+		// add feedback for the newly selected parts only
+		for (IContentPart<? extends Node> part : newSelection) {
+			if (!oldSet.contains(part)) {
+				addFeedback(part);
+			}
+		}
+		// refresh feedback of retained parts whose primary state changed
+		if (oldPrimary != newPrimary) {
+			refreshFeedback(oldPrimary, oldSet, newSet);
+			refreshFeedback(newPrimary, oldSet, newSet);
+		}
+
+		// add handles for the new selection
+		addSelectionHandles(newSelection);
+	}
+
+	private void refreshFeedback(IContentPart<? extends Node> part,
+			Set<IContentPart<? extends Node>> oldSet,
+			Set<IContentPart<? extends Node>> newSet) {
+		if (part != null && oldSet.contains(part) && newSet.contains(part)) {
+			for (IFeedbackPart<? extends Node> fp : getFeedback(part)) {
+				fp.refreshVisual();
+			}
+		}
+	}
+
+	private void addSelectionHandles(
+			List<? extends IContentPart<? extends Node>> selected) {
+		// XXX: For a multi selection, handles are generated for the whole
+		// selection and not for each part individually. For a single
+		// selection, handles are generated for the only selected part.
+		if (selected.size() == 1) {
+			addHandles(selected.get(0));
+		} else if (!selected.isEmpty()) {
+			addHandles(selected);
+		}
+	}
+
+	private void removeSelectionHandles(
+			List<? extends IContentPart<? extends Node>> selected) {
+		if (selected.size() == 1) {
+			removeHandles(selected.get(0));
+		} else if (!selected.isEmpty()) {
+			removeHandles(selected);
+		}
+	}
 }
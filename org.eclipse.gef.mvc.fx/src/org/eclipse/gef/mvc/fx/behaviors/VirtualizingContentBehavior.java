@@ -0,0 +1,349 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.fx.behaviors;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.gef.fx.nodes.InfiniteCanvas;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IVisualPart;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.fx.viewer.InfiniteCanvasViewer;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+
+/**
+ * The {@link VirtualizingContentBehavior} is a {@link ContentBehavior} that
+ * only realizes {@link IContentPart}s for those content elements whose bounds
+ * (as provided by the {@link IContentBoundsProvider} that is registered at the
+ * {@link InfiniteCanvasViewer}) intersect the viewport of the
+ * {@link InfiniteCanvas}, expanded by a {@link #getMargin() margin}. Content
+ * parts that leave the expanded viewport are removed and released to the
+ * {@link ContentPartPool}, so that they can be revived or recycled later on.
+ * <p>
+ * Content elements that serve as content anchorages of realized
+ * {@link IContentPart}s are realized as well (even if they are located outside
+ * of the viewport), so that anchored visuals (e.g. connections) can be
+ * properly attached to them.
+ * <p>
+ * To keep the effort for scrolling low, content parts are only
+ * re-synchronized when the viewport leaves the expanded region that was used
+ * for the last synchronization. If no {@link IContentBoundsProvider} is
+ * registered, or the viewer is no {@link InfiniteCanvasViewer}, all content
+ * parts are realized (as done by the {@link ContentBehavior}).
+ *
+ * @author agent
+ * @since 5.1
+ *
+ */
+public class VirtualizingContentBehavior extends ContentBehavior {
+
+	/**
+	 * The default margin (in the coordinate system of the visual of the root
+	 * part) by which the viewport is expanded when determining the content
+	 * parts to realize.
+	 */
+	public static final double DEFAULT_MARGIN = 256;
+
+	private double margin = DEFAULT_MARGIN;
+	private Bounds realizedBounds = null;
+	// content elements that are realized because they are content anchorages
+	// of realized content parts
+	private final Set<Object> pinned = new HashSet<>();
+	// content elements that are not realized, per parent
+	private final Map<IVisualPart<? extends Node>, Set<Object>> unrealized = new LinkedHashMap<>();
+
+	private InvalidationListener viewportObserver = new InvalidationListener() {
+		@Override
+		public void invalidated(Observable observable) {
+			Bounds viewportBounds = getViewportBounds();
+			if (viewportBounds != null && (realizedBounds == null
+					|| !contains(realizedBounds, viewportBounds))) {
+				refreshRealization();
+			}
+		}
+	};
+
+	private static boolean contains(Bounds outer, Bounds inner) {
+		return outer.getMinX() <= inner.getMinX()
+				&& outer.getMinY() <= inner.getMinY()
+				&& outer.getMaxX() >= inner.getMaxX()
+				&& outer.getMaxY() >= inner.getMaxY();
+	}
+
+	private Bounds computeRealizedBounds() {
+		Bounds viewportBounds = getViewportBounds();
+		if (viewportBounds == null) {
+			return null;
+		}
+		return new BoundingBox(viewportBounds.getMinX() - margin,
+				viewportBounds.getMinY() - margin,
+				viewportBounds.getWidth() + 2 * margin,
+				viewportBounds.getHeight() + 2 * margin);
+	}
+
+	@Override
+	protected void doActivate() {
+		realizedBounds = computeRealizedBounds();
+		super.doActivate();
+		InfiniteCanvas canvas = getCanvas();
+		if (canvas != null) {
+			canvas.layoutBoundsProperty().addListener(viewportObserver);
+			canvas.horizontalScrollOffsetProperty()
+					.addListener(viewportObserver);
+			canvas.verticalScrollOffsetProperty().addListener(viewportObserver);
+			canvas.getContentGroup().localToParentTransformProperty()
+					.addListener(viewportObserver);
+		}
+	}
+
+	@Override
+	protected void doDeactivate() {
+		InfiniteCanvas canvas = getCanvas();
+		if (canvas != null) {
+			canvas.layoutBoundsProperty().removeListener(viewportObserver);
+			canvas.horizontalScrollOffsetProperty()
+					.removeListener(viewportObserver);
+			canvas.verticalScrollOffsetProperty()
+					.removeListener(viewportObserver);
+			canvas.getContentGroup().localToParentTransformProperty()
+					.removeListener(viewportObserver);
+		}
+		super.doDeactivate();
+		unrealized.clear();
+		pinned.clear();
+		realizedBounds = null;
+	}
+
+	@Override
+	protected IContentPart<? extends Node> findOrCreatePartFor(
+			Object content) {
+		Map<Object, IContentPart<? extends Node>> contentPartMap = getHost()
+				.getRoot().getViewer().getContentPartMap();
+		if (!contentPartMap.containsKey(content)) {
+			// XXX: If an unrealized content element is requested (as a
+			// content anchorage), realize it within its parent, so that
+			// anchors can be properly resolved. Only the requested element is
+			// inserted, so that the other content part children of the
+			// parent are not affected.
+			for (Entry<IVisualPart<? extends Node>, Set<Object>> e : unrealized
+					.entrySet()) {
+				if (e.getValue().contains(content)) {
+					IVisualPart<? extends Node> parent = e.getKey();
+					if (isAttached(parent)) {
+						e.getValue().remove(content);
+						pinned.add(content);
+						return realize(parent, content);
+					}
+					break;
+				}
+			}
+		}
+		return super.findOrCreatePartFor(content);
+	}
+
+	private InfiniteCanvas getCanvas() {
+		IViewer viewer = getHost().getRoot().getViewer();
+		if (viewer instanceof InfiniteCanvasViewer) {
+			return ((InfiniteCanvasViewer) viewer).getCanvas();
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the {@link IContentBoundsProvider} that is registered at the
+	 * {@link IViewer}, or <code>null</code> if no provider is registered.
+	 *
+	 * @return The {@link IContentBoundsProvider} of the {@link IViewer}, or
+	 *         <code>null</code>.
+	 */
+	protected IContentBoundsProvider getContentBoundsProvider() {
+		return getHost().getRoot().getViewer()
+				.getAdapter(IContentBoundsProvider.class);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<? extends Object> getContentChildren(
+			IVisualPart<? extends Node> parent) {
+		if (parent == getHost()) {
+			return getHost().getRoot().getViewer().getContents();
+		}
+		return ((IContentPart<? extends Node>) parent)
+				.getContentChildrenUnmodifiable();
+	}
+
+	/**
+	 * Returns the margin by which the viewport is expanded when determining
+	 * the content parts to realize.
+	 *
+	 * @return The margin by which the viewport is expanded.
+	 */
+	public double getMargin() {
+		return margin;
+	}
+
+	@Override
+	protected List<? extends Object> getRealizedContentChildren(
+			IVisualPart<? extends Node> parent,
+			List<? extends Object> contentChildren) {
+		IContentBoundsProvider contentBoundsProvider = getContentBoundsProvider();
+		if (contentBoundsProvider == null || realizedBounds == null
+				|| contentChildren.isEmpty()) {
+			unrealized.remove(parent);
+			return contentChildren;
+		}
+		List<Object> realizedContentChildren = new ArrayList<>();
+		Set<Object> unrealizedContentChildren = new HashSet<>();
+		for (Object content : contentChildren) {
+			if (pinned.contains(content)
+					|| isVisible(contentBoundsProvider, content)) {
+				realizedContentChildren.add(content);
+			} else {
+				unrealizedContentChildren.add(content);
+			}
+		}
+		unrealized.put(parent, unrealizedContentChildren);
+		return realizedContentChildren;
+	}
+
+	/**
+	 * Returns the bounds of the viewport of the {@link InfiniteCanvas} within
+	 * the coordinate system of the visual of the root part, or
+	 * <code>null</code> if the viewer is no {@link InfiniteCanvasViewer}.
+	 *
+	 * @return The bounds of the viewport, or <code>null</code>.
+	 */
+	protected Bounds getViewportBounds() {
+		InfiniteCanvas canvas = getCanvas();
+		if (canvas == null) {
+			return null;
+		}
+		return getHost().getVisual()
+				.sceneToLocal(canvas.localToScene(canvas.getLayoutBounds()));
+	}
+
+	/**
+	 * Returns <code>true</code> if an {@link IContentPart} is currently
+	 * realized for the given content element. Otherwise returns
+	 * <code>false</code>.
+	 *
+	 * @param content
+	 *            The content element to test.
+	 * @return <code>true</code> if an {@link IContentPart} is realized for the
+	 *         given content element, otherwise <code>false</code>.
+	 */
+	public boolean isRealized(Object content) {
+		return getHost().getRoot().getViewer().getContentPartMap()
+				.containsKey(content);
+	}
+
+	private boolean isAttached(IVisualPart<? extends Node> parent) {
+		return parent == getHost() || parent.getRoot() == getHost();
+	}
+
+	private boolean isVisible(IContentBoundsProvider contentBoundsProvider,
+			Object content) {
+		Bounds bounds = contentBoundsProvider.getContentBounds(content);
+		return bounds == null || bounds.intersects(realizedBounds);
+	}
+
+	private IContentPart<? extends Node> realize(
+			IVisualPart<? extends Node> parent, Object content) {
+		// insert behind the content part of the nearest preceding content
+		// child that is realized
+		Map<Object, IContentPart<? extends Node>> contentPartMap = getHost()
+				.getRoot().getViewer().getContentPartMap();
+		List<? extends Object> contentChildren = getContentChildren(parent);
+		int index = 0;
+		for (int i = contentChildren.indexOf(content) - 1; i >= 0; i--) {
+			IContentPart<? extends Node> predecessor = contentPartMap
+					.get(contentChildren.get(i));
+			if (predecessor != null && predecessor.getParent() == parent) {
+				index = parent.getChildrenUnmodifiable().indexOf(predecessor)
+						+ 1;
+				break;
+			}
+		}
+		IContentPart<? extends Node> contentPart = super.findOrCreatePartFor(
+				content);
+		parent.addChild(contentPart, index);
+		synchronizeContentPartChildren(contentPart,
+				contentPart.getContentChildrenUnmodifiable());
+		synchronizeContentPartAnchorages(contentPart,
+				contentPart.getContentAnchoragesUnmodifiable());
+		return contentPart;
+	}
+
+	/**
+	 * Re-computes the region (i.e. the viewport expanded by the margin) for
+	 * which content parts are realized and synchronizes the content part
+	 * children of all affected parents accordingly.
+	 */
+	public void refreshRealization() {
+		realizedBounds = computeRealizedBounds();
+		IContentBoundsProvider contentBoundsProvider = getContentBoundsProvider();
+		if (realizedBounds == null || contentBoundsProvider == null) {
+			return;
+		}
+
+		// keep content anchorages of content parts that remain realized
+		pinned.clear();
+		for (IContentPart<? extends Node> contentPart : new ArrayList<>(
+				getHost().getRoot().getViewer().getContentPartMap().values())) {
+			if (isVisible(contentBoundsProvider, contentPart.getContent())) {
+				pinned.addAll(contentPart.getContentAnchoragesUnmodifiable()
+						.keySet());
+			}
+		}
+
+		// synchronize all parents with virtualized content children (parents
+		// are processed before their children)
+		for (IVisualPart<? extends Node> parent : new ArrayList<>(
+				unrealized.keySet())) {
+			if (isAttached(parent)) {
+				synchronizeContentPartChildren(parent,
+						getContentChildren(parent));
+			} else {
+				unrealized.remove(parent);
+			}
+		}
+	}
+
+	/**
+	 * Sets the margin by which the viewport is expanded when determining the
+	 * content parts to realize, and refreshes the realization (if active).
+	 *
+	 * @param margin
+	 *            The new margin.
+	 */
+	public void setMargin(double margin) {
+		if (margin < 0) {
+			throw new IllegalArgumentException(
+					"Margin may not be negative: " + margin);
+		}
+		this.margin = margin;
+		if (isActive()) {
+			refreshRealization();
+		}
+	}
+}
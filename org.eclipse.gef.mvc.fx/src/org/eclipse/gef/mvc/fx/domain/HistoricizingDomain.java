@@ -35,6 +35,7 @@ import org.eclipse.gef.common.adapt.inject.InjectAdapters;
 import org.eclipse.gef.mvc.fx.gestures.IGesture;
 import org.eclipse.gef.mvc.fx.operations.AbstractCompositeOperation;
 import org.eclipse.gef.mvc.fx.operations.ForwardUndoCompositeOperation;
+import org.eclipse.gef.mvc.fx.operations.IMergeableOperation;
 import org.eclipse.gef.mvc.fx.operations.ITransactionalOperation;
 import org.eclipse.gef.mvc.fx.operations.ReverseUndoCompositeOperation;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
@@ -50,12 +51,24 @@ import javafx.collections.ObservableMap;
  * The {@link HistoricizingDomain} is an {@link IDomain} that uses an
  * {@link IOperationHistory} for executing {@link ITransactionalOperation
  * ITransactionalOperations}.
+ * <p>
+ * Within an execution transaction, an operation is merged into its
+ * predecessor in case the predecessor is an {@link IMergeableOperation} that
+ * can absorb it (e.g. successive transformations of the same part), so that
+ * transactions do not accumulate redundant intermediate operations.
+ * <p>
+ * The undo history is bounded by an {@link #getUndoLimit() undo limit} (number
+ * of undoable history entries) as well as an {@link #getOperationBudget()
+ * operation budget} (number of primitive operations within all undoable
+ * history entries). If either one is exceeded, the oldest entries are
+ * discarded.
  *
  * @author anyssen
  */
 public class HistoricizingDomain implements IDomain {
 
 	private static final int DEFAULT_UNDO_LIMIT = 128;
+	private static final int DEFAULT_OPERATION_BUDGET = 4096;
 	private static final UncaughtExceptionHandler UNCAUGHT_EXCEPTION_HANDLER = new UncaughtExceptionHandler() {
 		@Override
 		public void uncaughtException(Thread t, Throwable e) {
@@ -74,6 +87,8 @@ public class HistoricizingDomain implements IDomain {
 
 	private IOperationHistory operationHistory;
 	private IUndoContext undoContext;
+	private int undoLimit = DEFAULT_UNDO_LIMIT;
+	private int operationBudget = DEFAULT_OPERATION_BUDGET;
 
 	private AbstractCompositeOperation transaction;
 	private Set<IGesture> transactionContext = new HashSet<>();
@@ -153,6 +168,27 @@ public class HistoricizingDomain implements IDomain {
 		// }
 	}
 
+	/**
+	 * Returns <code>true</code> if the given successor
+	 * {@link ITransactionalOperation} should be merged into the given
+	 * predecessor {@link IMergeableOperation} within an execution transaction.
+	 * Otherwise returns <code>false</code>. May be overwritten by clients to
+	 * prevent operations from being merged.
+	 *
+	 * @param predecessor
+	 *            The last {@link IMergeableOperation} of the current execution
+	 *            transaction.
+	 * @param successor
+	 *            The {@link ITransactionalOperation} that was just executed.
+	 * @return <code>true</code> if the successor should be merged into the
+	 *         predecessor, otherwise <code>false</code>.
+	 * @since 5.1
+	 */
+	protected boolean canMerge(IMergeableOperation predecessor,
+			ITransactionalOperation successor) {
+		return predecessor.canMerge(successor);
+	}
+
 	@Override
 	public void closeExecutionTransaction(IGesture tool) {
 		// if (!transactionContext.contains(tool)) {
@@ -192,12 +228,30 @@ public class HistoricizingDomain implements IDomain {
 				// only add undo context if we have a content related change
 				applyUndoContext(transaction);
 				getOperationHistory().add(transaction);
+				enforceOperationBudget();
 			}
 			transaction = null;
 		}
 		transactionContext.remove(tool);
 	}
 
+	/**
+	 * Returns the number of primitive operations that are combined in the
+	 * given {@link IUndoableOperation}, i.e. <code>1</code> for a
+	 * non-composite operation.
+	 */
+	private static int countOperations(IUndoableOperation operation) {
+		if (operation instanceof AbstractCompositeOperation) {
+			int count = 0;
+			for (IUndoableOperation op : ((AbstractCompositeOperation) operation)
+					.getOperations()) {
+				count += countOperations(op);
+			}
+			return count;
+		}
+		return 1;
+	}
+
 	/**
 	 * Creates a {@link ForwardUndoCompositeOperation} which is used to store
 	 * the operations within an execution transaction. The operation is opened
@@ -265,6 +319,44 @@ public class HistoricizingDomain implements IDomain {
 		deactivateAdapters();
 	}
 
+	/**
+	 * Discards the oldest entries of the undo history of the
+	 * {@link #getUndoContext() undo context} in case the number of primitive
+	 * operations they combine exceeds the {@link #getOperationBudget()
+	 * operation budget}. The most recent entry is always retained, and the
+	 * redo history is not affected.
+	 */
+	private void enforceOperationBudget() {
+		IOperationHistory history = getOperationHistory();
+		IUndoContext context = getUndoContext();
+		if (history == null || context == null) {
+			return;
+		}
+		// undo history is ordered from oldest to most recent entry
+		IUndoableOperation[] undoHistory = history.getUndoHistory(context);
+		int count = 0;
+		int retained = 0;
+		for (int i = undoHistory.length - 1; i >= 0; i--) {
+			count += countOperations(undoHistory[i]);
+			if (count > operationBudget && retained > 0) {
+				break;
+			}
+			retained++;
+		}
+		// XXX: The oldest entries are discarded one by one, as lowering the
+		// limit of the operation history would trim the redo history as well.
+		for (int i = 0; i < undoHistory.length - retained; i++) {
+			IUndoableOperation operation = undoHistory[i];
+			if (operation.getContexts().length > 1) {
+				// operation is still needed within other contexts
+				operation.removeContext(context);
+			} else {
+				history.replaceOperation(operation, new IUndoableOperation[0]);
+				operation.dispose();
+			}
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -275,7 +367,9 @@ public class HistoricizingDomain implements IDomain {
 	 * that no specific {@link IUndoContext} is set on the passed in
 	 * {@link IUndoableOperation}). If no transaction is currently open, the
 	 * {@link IUndoContext} of this {@link IDomain} will be set on the passed in
-	 * {@link IUndoableOperation}.
+	 * {@link IUndoableOperation}. Within a transaction, the passed in operation
+	 * may be merged into its predecessor (see
+	 * {@link #canMerge(IMergeableOperation, ITransactionalOperation)}).
 	 */
 	@Override
 	public void execute(ITransactionalOperation operation,
@@ -295,11 +389,26 @@ public class HistoricizingDomain implements IDomain {
 		if (transaction != null) {
 			// execute operation locally and add it to the current transaction
 			operation.execute(monitor, null);
-			transaction.add(operation);
+			List<ITransactionalOperation> operations = transaction
+					.getOperations();
+			ITransactionalOperation predecessor = operations.isEmpty() ? null
+					: operations.get(operations.size() - 1);
+			if (predecessor instanceof IMergeableOperation && canMerge(
+					(IMergeableOperation) predecessor, operation)) {
+				// coalesce with the predecessor (the operation has already
+				// been executed, so the combined effect is already applied)
+				((IMergeableOperation) predecessor).merge(operation);
+				if (predecessor.isNoOp()) {
+					operations.remove(operations.size() - 1);
+				}
+			} else {
+				transaction.add(operation);
+			}
 		} else {
 			// execute operation directly on operation history
 			applyUndoContext(operation);
 			getOperationHistory().execute(operation, monitor, null);
+			enforceOperationBudget();
 		}
 	}
 
@@ -340,6 +449,17 @@ public class HistoricizingDomain implements IDomain {
 		return ads.getAdapters(key);
 	}
 
+	/**
+	 * Returns the maximum number of primitive operations that are retained
+	 * within the undo history of the {@link #getUndoContext() undo context}.
+	 *
+	 * @return The operation budget of the undo history.
+	 * @since 5.1
+	 */
+	public int getOperationBudget() {
+		return operationBudget;
+	}
+
 	/**
 	 * Returns the {@link IOperationHistory} used by this
 	 * {@link HistoricizingDomain} to execute transactions.
@@ -365,6 +485,17 @@ public class HistoricizingDomain implements IDomain {
 		return undoContext;
 	}
 
+	/**
+	 * Returns the maximum number of entries that are retained within the undo
+	 * history of the {@link #getUndoContext() undo context}.
+	 *
+	 * @return The undo limit.
+	 * @since 5.1
+	 */
+	public int getUndoLimit() {
+		return undoLimit;
+	}
+
 	@Override
 	public Map<AdapterKey<? extends IViewer>, IViewer> getViewers() {
 		return ads.getAdapters(IViewer.class);
@@ -435,6 +566,24 @@ public class HistoricizingDomain implements IDomain {
 		ads.setAdapter(adapterType, adapter, role);
 	}
 
+	/**
+	 * Sets the maximum number of primitive operations that are retained within
+	 * the undo history of the {@link #getUndoContext() undo context}. The
+	 * oldest history entries are discarded if the budget is exceeded.
+	 *
+	 * @param operationBudget
+	 *            The new operation budget, which has to be positive.
+	 * @since 5.1
+	 */
+	public void setOperationBudget(int operationBudget) {
+		if (operationBudget <= 0) {
+			throw new IllegalArgumentException(
+					"The operation budget has to be positive.");
+		}
+		this.operationBudget = operationBudget;
+		enforceOperationBudget();
+	}
+
 	/**
 	 * Sets the {@link IOperationHistory} that is used by this
 	 * {@link HistoricizingDomain} to the given value. Operation history
@@ -456,8 +605,7 @@ public class HistoricizingDomain implements IDomain {
 				this.operationHistory
 						.addOperationHistoryListener(transactionListener);
 				if (undoContext != null) {
-					this.operationHistory.setLimit(undoContext,
-							DEFAULT_UNDO_LIMIT);
+					this.operationHistory.setLimit(undoContext, undoLimit);
 				}
 			}
 		}
@@ -474,7 +622,26 @@ public class HistoricizingDomain implements IDomain {
 	public void setUndoContext(IUndoContext undoContext) {
 		this.undoContext = undoContext;
 		if (operationHistory != null && undoContext != null) {
-			operationHistory.setLimit(undoContext, DEFAULT_UNDO_LIMIT);
+			operationHistory.setLimit(undoContext, undoLimit);
+		}
+	}
+
+	/**
+	 * Sets the maximum number of entries that are retained within the undo
+	 * history of the {@link #getUndoContext() undo context}.
+	 *
+	 * @param undoLimit
+	 *            The new undo limit, which may not be negative.
+	 * @since 5.1
+	 */
+	public void setUndoLimit(int undoLimit) {
+		if (undoLimit < 0) {
+			throw new IllegalArgumentException(
+					"The undo limit may not be negative.");
+		}
+		this.undoLimit = undoLimit;
+		if (operationHistory != null && undoContext != null) {
+			operationHistory.setLimit(undoContext, undoLimit);
 		}
 	}
 
@@ -12,18 +12,25 @@
 package org.eclipse.gef.mvc.fx.handlers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.gef.common.adapt.AdapterKey;
 import org.eclipse.gef.mvc.fx.models.SnappingModel.SnappingLocation;
 import org.eclipse.gef.mvc.fx.parts.IContentPart;
 import org.eclipse.gef.mvc.fx.parts.IVisualPart;
-import org.eclipse.gef.mvc.fx.parts.PartUtils;
 import org.eclipse.gef.mvc.fx.providers.ISnappingLocationProvider;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
 
+import javafx.geometry.Orientation;
 import javafx.scene.Node;
 
 /**
@@ -31,9 +38,77 @@ import javafx.scene.Node;
  * {@link ISnapToStrategy} implementation, i.e. storage for the
  * {@link SnappingLocation}s and the currently snapped part, and filtering of
  * {@link IContentPart}s to determine the snapping-relevant parts.
+ * <p>
+ * The target {@link SnappingLocation}s are additionally kept in sorted
+ * primitive arrays (per orientation), so that the closest target location for
+ * a given position can be determined by binary search (see
+ * {@link #getClosestTargetLocation(Orientation, double)}).
  */
 public abstract class AbstractSnapTo implements ISnapToStrategy {
 
+	/**
+	 * The target {@link SnappingLocation}s of one orientation, sorted by their
+	 * positions.
+	 */
+	private static class SortedLocations {
+
+		private static final Comparator<SnappingLocation> POSITION_COMPARATOR = new Comparator<SnappingLocation>() {
+			@Override
+			public int compare(SnappingLocation sl1, SnappingLocation sl2) {
+				return Double.compare(sl1.getPositionInScene(),
+						sl2.getPositionInScene());
+			}
+		};
+
+		private final SnappingLocation[] locations;
+		private final double[] positions;
+
+		private SortedLocations(List<SnappingLocation> unsorted) {
+			locations = unsorted.toArray(new SnappingLocation[unsorted.size()]);
+			// XXX: Arrays#sort(Object[], Comparator) is stable, so that the
+			// first of several locations at the same position is preferred (as
+			// by a linear scan).
+			Arrays.sort(locations, POSITION_COMPARATOR);
+			positions = new double[locations.length];
+			for (int i = 0; i < locations.length; i++) {
+				positions[i] = locations[i].getPositionInScene();
+			}
+		}
+
+		private SnappingLocation getClosest(double position) {
+			if (positions.length == 0) {
+				return null;
+			}
+			int index = Arrays.binarySearch(positions, position);
+			if (index >= 0) {
+				// binary search may hit any of several equal positions
+				while (index > 0 && positions[index - 1] == position) {
+					index--;
+				}
+				return locations[index];
+			}
+			int insertionIndex = -index - 1;
+			if (insertionIndex == 0) {
+				return locations[0];
+			}
+			if (insertionIndex == positions.length) {
+				return locations[positions.length - 1];
+			}
+			int lower = insertionIndex - 1;
+			while (lower > 0 && positions[lower - 1] == positions[lower]) {
+				lower--;
+			}
+			return position - positions[lower] <= positions[insertionIndex]
+					- position ? locations[lower] : locations[insertionIndex];
+		}
+
+		private void translate(double delta) {
+			for (int i = 0; i < positions.length; i++) {
+				positions[i] += delta;
+			}
+		}
+	}
+
 	/**
 	 * The default value for the {@link #getMaximumSnappingDistance()} property.
 	 */
@@ -42,6 +117,25 @@ public abstract class AbstractSnapTo implements ISnapToStrategy {
 	private IContentPart<? extends Node> snappedPart;
 	private List<SnappingLocation> xLocations = new ArrayList<>();
 	private List<SnappingLocation> yLocations = new ArrayList<>();
+	private Map<IContentPart<? extends Node>, Collection<? extends SnappingLocation>> xLocationsPerPart = new LinkedHashMap<>();
+	private Map<IContentPart<? extends Node>, Collection<? extends SnappingLocation>> yLocationsPerPart = new LinkedHashMap<>();
+	private SortedLocations xSorted;
+	private SortedLocations ySorted;
+
+	/**
+	 * Determines the {@link IContentPart}s that are candidates for snapping,
+	 * i.e. which are tested for {@link #isRelevant(IContentPart) relevance}.
+	 * By default, all {@link IContentPart}s within the {@link IViewer} of the
+	 * currently {@link #getSnappedPart() snapped} part are returned. Subclasses
+	 * may override this method to restrict the candidates (e.g. by a spatial
+	 * query), so that not all parts need to be tested.
+	 *
+	 * @return The {@link IContentPart}s that are candidates for snapping.
+	 * @since 5.1
+	 */
+	protected Collection<? extends IContentPart<? extends Node>> determineCandidateParts() {
+		return getSnappedPart().getViewer().getContentPartMap().values();
+	}
 
 	/**
 	 * Determines the horizontal {@link SnappingLocation}s for the given
@@ -89,6 +183,42 @@ public abstract class AbstractSnapTo implements ISnapToStrategy {
 		return snappingLocationProvider.getVerticalSnappingLocations(rp);
 	}
 
+	/**
+	 * Returns the target {@link SnappingLocation} of the given
+	 * {@link Orientation} that is closest to the given position, or
+	 * <code>null</code> if there are no target {@link SnappingLocation}s for
+	 * the given {@link Orientation}. The closest location is determined by
+	 * binary search within the target locations, which are sorted lazily.
+	 *
+	 * @param orientation
+	 *            The {@link Orientation} of the target
+	 *            {@link SnappingLocation}s to consider.
+	 * @param positionInScene
+	 *            The position (in scene coordinates) for which to determine
+	 *            the closest target location.
+	 * @return The closest target {@link SnappingLocation} or
+	 *         <code>null</code>.
+	 * @since 5.1
+	 */
+	protected SnappingLocation getClosestTargetLocation(
+			Orientation orientation, double positionInScene) {
+		if (orientation == Orientation.HORIZONTAL) {
+			// XXX: Also re-sort if the (public) list of locations was altered
+			// from the outside.
+			if (xSorted == null
+					|| xSorted.positions.length != xLocations.size()) {
+				xSorted = new SortedLocations(xLocations);
+			}
+			return xSorted.getClosest(positionInScene);
+		} else {
+			if (ySorted == null
+					|| ySorted.positions.length != yLocations.size()) {
+				ySorted = new SortedLocations(yLocations);
+			}
+			return ySorted.getClosest(positionInScene);
+		}
+	}
+
 	@Override
 	public List<SnappingLocation> getHorizontalTargetLocations() {
 		return xLocations;
@@ -156,20 +286,107 @@ public abstract class AbstractSnapTo implements ISnapToStrategy {
 	@Override
 	public void setSnappedPart(IContentPart<? extends Node> snappedPart) {
 		this.snappedPart = snappedPart;
+		xLocationsPerPart.clear();
+		yLocationsPerPart.clear();
 		xLocations.clear();
 		yLocations.clear();
+		xSorted = null;
+		ySorted = null;
 		if (snappedPart != null) {
-			List<IContentPart<? extends Node>> relevantParts = PartUtils
-					.filterParts(
-							snappedPart.getViewer().getContentPartMap()
-									.values(),
-							(p) -> p != snappedPart && p instanceof IContentPart
-									&& isRelevant(
-											(IContentPart<? extends Node>) p));
-			for (IContentPart<? extends Node> rp : relevantParts) {
-				xLocations.addAll(determineHorizontalTargetLocations(rp));
-				yLocations.addAll(determineVerticalTargetLocations(rp));
+			updateTargetLocations();
+		}
+	}
+
+	/**
+	 * Translates all target {@link SnappingLocation}s by the given offsets
+	 * (interpreted in scene coordinates), e.g. because the viewport was
+	 * scrolled. As all locations are translated uniformly, their order is
+	 * preserved, so they do not have to be sorted again.
+	 *
+	 * @param dx
+	 *            The horizontal offset by which to translate the horizontal
+	 *            target {@link SnappingLocation}s.
+	 * @param dy
+	 *            The vertical offset by which to translate the vertical target
+	 *            {@link SnappingLocation}s.
+	 * @since 5.1
+	 */
+	protected void translateTargetLocations(double dx, double dy) {
+		if (dx != 0) {
+			for (SnappingLocation sl : xLocations) {
+				sl.setPositionInScene(sl.getPositionInScene() + dx);
+			}
+			if (xSorted != null) {
+				xSorted.translate(dx);
+			}
+		}
+		if (dy != 0) {
+			for (SnappingLocation sl : yLocations) {
+				sl.setPositionInScene(sl.getPositionInScene() + dy);
+			}
+			if (ySorted != null) {
+				ySorted.translate(dy);
+			}
+		}
+	}
+
+	/**
+	 * Incrementally updates the target {@link SnappingLocation}s for the
+	 * currently {@link #getSnappedPart() snapped} part. The target locations of
+	 * those parts that are no longer {@link #isRelevant(IContentPart) relevant}
+	 * (or no longer a {@link #determineCandidateParts() candidate}) are
+	 * removed, while target locations are only determined for those parts
+	 * that became relevant.
+	 *
+	 * @since 5.1
+	 */
+	protected void updateTargetLocations() {
+		if (snappedPart == null) {
+			return;
+		}
+
+		Set<IContentPart<? extends Node>> relevantParts = new LinkedHashSet<>();
+		for (IContentPart<? extends Node> p : determineCandidateParts()) {
+			if (p != snappedPart && isRelevant(p)) {
+				relevantParts.add(p);
+			}
+		}
+
+		// remove locations of parts that are no longer relevant
+		boolean changed = false;
+		Iterator<IContentPart<? extends Node>> iterator = xLocationsPerPart
+				.keySet().iterator();
+		while (iterator.hasNext()) {
+			IContentPart<? extends Node> p = iterator.next();
+			if (!relevantParts.contains(p)) {
+				iterator.remove();
+				yLocationsPerPart.remove(p);
+				changed = true;
+			}
+		}
+
+		// determine locations of newly relevant parts
+		for (IContentPart<? extends Node> rp : relevantParts) {
+			if (!xLocationsPerPart.containsKey(rp)) {
+				xLocationsPerPart.put(rp, determineHorizontalTargetLocations(rp));
+				yLocationsPerPart.put(rp, determineVerticalTargetLocations(rp));
+				changed = true;
+			}
+		}
+
+		if (changed) {
+			xLocations.clear();
+			for (Collection<? extends SnappingLocation> locations : xLocationsPerPart
+					.values()) {
+				xLocations.addAll(locations);
+			}
+			yLocations.clear();
+			for (Collection<? extends SnappingLocation> locations : yLocationsPerPart
+					.values()) {
+				yLocations.addAll(locations);
 			}
+			xSorted = null;
+			ySorted = null;
 		}
 	}
 }
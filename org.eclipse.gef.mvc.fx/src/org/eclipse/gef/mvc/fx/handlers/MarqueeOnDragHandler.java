@@ -13,14 +13,19 @@
 package org.eclipse.gef.mvc.fx.handlers;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 
 import org.eclipse.core.commands.ExecutionException;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.fx.utils.PickingIndex;
 import org.eclipse.gef.geometry.planar.Dimension;
 import org.eclipse.gef.mvc.fx.operations.SelectOperation;
 import org.eclipse.gef.mvc.fx.parts.AbstractFeedbackPart;
@@ -31,6 +36,7 @@ import org.eclipse.gef.mvc.fx.parts.IRootPart;
 import org.eclipse.gef.mvc.fx.parts.IVisualPart;
 import org.eclipse.gef.mvc.fx.parts.PartUtils;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.fx.viewer.InfiniteCanvasViewer;
 
 import com.google.common.reflect.TypeToken;
 import com.google.inject.Provider;
@@ -42,6 +48,11 @@ import javafx.scene.Parent;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.paint.Color;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.StrokeType;
 
@@ -49,6 +60,12 @@ import javafx.scene.shape.StrokeType;
  * The {@link MarqueeOnDragHandler} is an {@link IOnDragHandler} that performs
  * marquee selection when the mouse is dragged. The start and end position of
  * the mouse span a marquee area. Everything within that area will be selected.
+ * <p>
+ * Within an {@link InfiniteCanvasViewer}, the contained {@link IContentPart}s
+ * are determined by a range query on the viewer's {@link PickingIndex}, so
+ * that only the visuals of those parts intersecting the marquee area have to be
+ * inspected. This also allows to preview the parts that will be selected
+ * during the drag.
  *
  * @author anyssen
  * @author mwienand
@@ -130,6 +147,43 @@ public class MarqueeOnDragHandler extends AbstractHandler
 		return containedNodes;
 	}
 
+	/**
+	 * Returns the path of child indices from the scene root to the given node.
+	 * The child indices are looked up in the given {@link Map}, which is
+	 * filled with the indices of all children of a parent when the parent is
+	 * encountered for the first time, so that the children of each parent
+	 * are only indexed once for all paths that are computed.
+	 *
+	 * @param node
+	 *            The {@link Node} for which to compute the path.
+	 * @param childIndices
+	 *            The {@link Map} that caches the child index of each node
+	 *            whose parent has already been encountered.
+	 * @return The path of child indices.
+	 */
+	private static int[] getPath(Node node, Map<Node, Integer> childIndices) {
+		List<Integer> indices = new ArrayList<>();
+		Node current = node;
+		while (current.getParent() != null) {
+			Parent parent = current.getParent();
+			Integer index = childIndices.get(current);
+			if (index == null) {
+				List<Node> children = parent.getChildrenUnmodifiable();
+				for (int i = 0; i < children.size(); i++) {
+					childIndices.put(children.get(i), i);
+				}
+				index = childIndices.get(current);
+			}
+			indices.add(index);
+			current = parent;
+		}
+		int[] path = new int[indices.size()];
+		for (int i = 0; i < path.length; i++) {
+			path[i] = indices.get(path.length - 1 - i);
+		}
+		return path;
+	}
+
 	// stores upon press() if the press-drag-release gesture is invalid
 	private boolean invalidGesture = false;
 
@@ -139,6 +193,9 @@ public class MarqueeOnDragHandler extends AbstractHandler
 
 	// feedback
 	private IFeedbackPart<? extends Node> feedback;
+	private IFeedbackPart<? extends Node> previewFeedback;
+	private List<IContentPart<? extends Node>> previewParts = Collections
+			.emptyList();
 
 	@Override
 	public void abortDrag() {
@@ -149,7 +206,9 @@ public class MarqueeOnDragHandler extends AbstractHandler
 
 	/**
 	 * Adds a feedback rectangle to the root part of the {@link #getHost() host}
-	 * . The rectangle will show the marquee area.
+	 * . The rectangle will show the marquee area. If the {@link IViewer}
+	 * provides a {@link PickingIndex}, an additional feedback part is added,
+	 * which previews the parts that will be selected.
 	 */
 	protected void addFeedback() {
 		if (feedback != null) {
@@ -191,6 +250,52 @@ public class MarqueeOnDragHandler extends AbstractHandler
 			}
 		};
 		getHost().getRoot().addChild(feedback);
+
+		// XXX: Only preview the parts that will be selected if they can be
+		// determined via the picking index, as traversing the scene graph on
+		// each drag event would be too expensive.
+		if (getPickingIndex() != null) {
+			previewFeedback = new AbstractFeedbackPart<Path>() {
+				@Override
+				protected void doActivate() {
+					super.doActivate();
+					setRefreshVisual(true);
+				}
+
+				@Override
+				protected Path doCreateVisual() {
+					Path visual = new Path();
+					visual.setFill(Color.TRANSPARENT);
+					visual.setStroke(getSecondarySelectionColor());
+					visual.setStrokeWidth(1);
+					visual.setStrokeType(StrokeType.CENTERED);
+					visual.getStrokeDashArray().setAll(2d, 2d);
+					visual.setMouseTransparent(true);
+					return visual;
+				}
+
+				@Override
+				protected void doRefreshVisual(Path visual) {
+					List<PathElement> elements = new ArrayList<>();
+					for (IContentPart<? extends Node> part : previewParts) {
+						Node partVisual = part.getVisual();
+						Bounds bounds = visual.sceneToLocal(partVisual
+								.localToScene(partVisual.getLayoutBounds()));
+						elements.add(new MoveTo(bounds.getMinX(),
+								bounds.getMinY()));
+						elements.add(new LineTo(bounds.getMaxX(),
+								bounds.getMinY()));
+						elements.add(new LineTo(bounds.getMaxX(),
+								bounds.getMaxY()));
+						elements.add(new LineTo(bounds.getMinX(),
+								bounds.getMaxY()));
+						elements.add(new ClosePath());
+					}
+					visual.getElements().setAll(elements);
+				}
+			};
+			getHost().getRoot().addChild(previewFeedback);
+		}
 	}
 
 	@Override
@@ -210,28 +315,10 @@ public class MarqueeOnDragHandler extends AbstractHandler
 			return;
 		}
 
-		// compute bounding box in scene coordinates
 		IRootPart<? extends Node> root = getHost().getRoot();
-		Node rootVisual = root.getVisual();
-		endPosInRoot = rootVisual.sceneToLocal(e.getSceneX(), e.getSceneY());
-		Point2D start = rootVisual.localToScene(startPosInRoot);
-		Point2D end = rootVisual.localToScene(endPosInRoot);
-		double[] bbox = bbox(start, end);
-
-		// find nodes contained in bbox
-		List<Node> nodes = findContainedNodes(rootVisual.getScene().getRoot(),
-				bbox[0], bbox[1], bbox[2], bbox[3]);
-
-		// find content parts for contained nodes
-		List<IContentPart<? extends Node>> parts = getParts(nodes);
-
-		// filter out all parts that are not selectable
-		Iterator<IContentPart<? extends Node>> it = parts.iterator();
-		while (it.hasNext()) {
-			if (!it.next().isSelectable()) {
-				it.remove();
-			}
-		}
+		endPosInRoot = root.getVisual().sceneToLocal(e.getSceneX(),
+				e.getSceneY());
+		List<IContentPart<? extends Node>> parts = getSelectableContainedParts();
 
 		// select the selectable parts contained within the marquee area
 		try {
@@ -244,6 +331,78 @@ public class MarqueeOnDragHandler extends AbstractHandler
 		removeFeedback();
 	}
 
+	/**
+	 * Returns a {@link List} of all {@link IContentPart}s that are contained
+	 * within the bounds specified by <code>[x0, y0, x1, y1]</code> (in scene
+	 * coordinates), i.e. whose visual (or a node nested within it) is fully
+	 * contained within the bounds. The parts are ordered in the same way as by
+	 * {@link #getParts(List)} for the nodes returned by
+	 * {@link #findContainedNodes(Node, double, double, double, double)}.
+	 * <p>
+	 * In case the {@link IViewer} of the {@link #getHost() host} provides a
+	 * {@link PickingIndex}, only the visuals of those parts that intersect the
+	 * bounds are inspected. Otherwise, the complete scene graph is traversed.
+	 *
+	 * @param x0
+	 *            The minimum x-coordinate.
+	 * @param y0
+	 *            The minimum y-coordinate.
+	 * @param x1
+	 *            The maximum x-coordinate.
+	 * @param y1
+	 *            The maximum y-coordinate.
+	 * @return A {@link List} containing all {@link IContentPart}s that are
+	 *         contained within the specified bounds.
+	 * @since 5.1
+	 */
+	protected List<IContentPart<? extends Node>> findContainedParts(double x0,
+			double y0, double x1, double y1) {
+		IViewer viewer = getHost().getRoot().getViewer();
+		PickingIndex pickingIndex = getPickingIndex();
+		if (pickingIndex == null) {
+			return getParts(findContainedNodes(
+					getHost().getRoot().getVisual().getScene().getRoot(), x0,
+					y0, x1, y1));
+		}
+
+		// range query for intersecting content part visuals
+		final Map<IContentPart<? extends Node>, int[]> containedParts = new IdentityHashMap<>();
+		Map<Node, Integer> childIndices = new IdentityHashMap<>();
+		for (Node visual : pickingIndex.getNodesIntersecting(x0, y0, x1,
+				y1)) {
+			IVisualPart<? extends Node> part = viewer.getVisualPartMap()
+					.get(visual);
+			if (part instanceof IContentPart && visual.getScene() != null
+					&& isContained(viewer, visual, x0, y0, x1, y1)) {
+				containedParts.put((IContentPart<? extends Node>) part,
+						getPath(visual, childIndices));
+			}
+		}
+
+		// XXX: Order the parts in the same way as findContainedNodes(), which
+		// performs a breadth-first traversal.
+		List<IContentPart<? extends Node>> parts = new ArrayList<>(
+				containedParts.keySet());
+		Collections.sort(parts, new Comparator<IContentPart<? extends Node>>() {
+			@Override
+			public int compare(IContentPart<? extends Node> p1,
+					IContentPart<? extends Node> p2) {
+				int[] path1 = containedParts.get(p1);
+				int[] path2 = containedParts.get(p2);
+				if (path1.length != path2.length) {
+					return path1.length - path2.length;
+				}
+				for (int i = 0; i < path1.length; i++) {
+					if (path1[i] != path2[i]) {
+						return path1[i] - path2[i];
+					}
+				}
+				return 0;
+			}
+		});
+		return parts;
+	}
+
 	/**
 	 * Returns a {@link List} containing all {@link IContentPart}s that are
 	 * corresponding to the given {@link List} of {@link Node}s.
@@ -268,6 +427,27 @@ public class MarqueeOnDragHandler extends AbstractHandler
 		return parts;
 	}
 
+	private PickingIndex getPickingIndex() {
+		IViewer viewer = getHost().getRoot().getViewer();
+		return viewer instanceof InfiniteCanvasViewer
+				? ((InfiniteCanvasViewer) viewer).getPickingIndex()
+				: null;
+	}
+
+	/**
+	 * Returns the {@link IContentPart}s that are currently previewed as being
+	 * selected when the marquee drag is finished. The preview is only
+	 * computed if the {@link IViewer} of the {@link #getHost() host} provides a
+	 * {@link PickingIndex}.
+	 *
+	 * @return An unmodifiable {@link List} of the previewed
+	 *         {@link IContentPart}s.
+	 * @since 5.1
+	 */
+	public List<IContentPart<? extends Node>> getPreviewParts() {
+		return Collections.unmodifiableList(previewParts);
+	}
+
 	/**
 	 * Returns the primary selection {@link Color}.
 	 *
@@ -283,10 +463,88 @@ public class MarqueeOnDragHandler extends AbstractHandler
 				: connectedColorProvider.get();
 	}
 
+	/**
+	 * Returns the selectable {@link IContentPart}s contained within the
+	 * current marquee area.
+	 *
+	 * @return The selectable {@link IContentPart}s within the marquee area.
+	 */
+	private List<IContentPart<? extends Node>> getSelectableContainedParts() {
+		// compute bounding box in scene coordinates
+		Node rootVisual = getHost().getRoot().getVisual();
+		Point2D start = rootVisual.localToScene(startPosInRoot);
+		Point2D end = rootVisual.localToScene(endPosInRoot);
+		double[] bbox = bbox(start, end);
+
+		// find content parts contained in bbox
+		List<IContentPart<? extends Node>> parts = findContainedParts(bbox[0],
+				bbox[1], bbox[2], bbox[3]);
+
+		// filter out all parts that are not selectable
+		Iterator<IContentPart<? extends Node>> it = parts.iterator();
+		while (it.hasNext()) {
+			if (!it.next().isSelectable()) {
+				it.remove();
+			}
+		}
+		return parts;
+	}
+
+	/**
+	 * Returns the secondary selection {@link Color}, which is used to preview
+	 * the parts that will be selected.
+	 *
+	 * @return The secondary selection {@link Color}.
+	 * @since 5.1
+	 */
+	protected Color getSecondarySelectionColor() {
+		@SuppressWarnings("serial")
+		Provider<Color> connectedColorProvider = getHost().getRoot().getViewer()
+				.getAdapter(AdapterKey.get(new TypeToken<Provider<Color>>() {
+				}, DefaultSelectionFeedbackPartFactory.SECONDARY_SELECTION_FEEDBACK_COLOR_PROVIDER));
+		return connectedColorProvider == null
+				? DefaultSelectionFeedbackPartFactory.DEFAULT_SECONDARY_SELECTION_FEEDBACK_COLOR
+				: connectedColorProvider.get();
+	}
+
 	@Override
 	public void hideIndicationCursor() {
 	}
 
+	/**
+	 * Tests if the given part visual, or a node nested within it that does not
+	 * belong to another visual part, is fully contained within the specified
+	 * bounds.
+	 */
+	private boolean isContained(IViewer viewer, Node visual, double x0,
+			double y0, double x1, double y1) {
+		Queue<Node> nodes = new LinkedList<>();
+		nodes.add(visual);
+		while (!nodes.isEmpty()) {
+			Node current = nodes.remove();
+			Bounds bounds = current.localToScene(current.getBoundsInLocal());
+			if (bounds.getMaxX() < x0 || bounds.getMinX() > x1
+					|| bounds.getMaxY() < y0 || bounds.getMinY() > y1) {
+				// current node is outside of marquee bounds
+				continue;
+			}
+			if (bounds.getMinX() >= x0 && bounds.getMaxX() <= x1
+					&& bounds.getMinY() >= y0 && bounds.getMaxY() <= y1) {
+				return true;
+			}
+			if (current instanceof Parent) {
+				for (Node child : ((Parent) current)
+						.getChildrenUnmodifiable()) {
+					// visuals of other parts are tested on their own
+					if (!viewer.getVisualPartMap().containsKey(child)) {
+						nodes.add(child);
+					}
+				}
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Returns <code>true</code> if the given {@link MouseEvent} should trigger
 	 * marquee selection. Otherwise returns <code>false</code>. Per default
@@ -309,6 +567,11 @@ public class MarqueeOnDragHandler extends AbstractHandler
 			getHost().getRoot().removeChild(feedback);
 			feedback = null;
 		}
+		if (previewFeedback != null) {
+			getHost().getRoot().removeChild(previewFeedback);
+			previewFeedback = null;
+		}
+		previewParts = Collections.emptyList();
 	}
 
 	@Override
@@ -336,11 +599,27 @@ public class MarqueeOnDragHandler extends AbstractHandler
 	}
 
 	/**
-	 * Updates the feedback rectangle.
+	 * Updates the feedback rectangle, as well as the preview of the parts that
+	 * will be selected (see {@link #getPreviewParts()}).
 	 */
 	protected void updateFeedback() {
 		if (feedback != null) {
 			feedback.refreshVisual();
 		}
+		updatePreview();
+	}
+
+	/**
+	 * Re-computes the {@link #getPreviewParts() preview parts} and highlights
+	 * them by means of a single feedback part (that outlines their bounds), so
+	 * that the preview does not add a feedback part per previewed part.
+	 */
+	private void updatePreview() {
+		// the preview feedback is only created if a picking index is provided
+		if (previewFeedback == null) {
+			return;
+		}
+		previewParts = getSelectableContainedParts();
+		previewFeedback.refreshVisual();
 	}
 }
@@ -11,6 +11,8 @@
  *******************************************************************************/
 package org.eclipse.gef.mvc.fx.handlers;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -19,9 +21,17 @@ import org.eclipse.gef.geometry.planar.Dimension;
 import org.eclipse.gef.mvc.fx.models.SnappingModel.SnappingLocation;
 import org.eclipse.gef.mvc.fx.parts.IContentPart;
 import org.eclipse.gef.mvc.fx.parts.IVisualPart;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.fx.viewer.InfiniteCanvasViewer;
 
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
 import javafx.geometry.Orientation;
+import javafx.geometry.Point2D;
 import javafx.scene.Node;
 
 /**
@@ -29,6 +39,11 @@ import javafx.scene.Node;
  * queries {@link SnappingLocation}s for all {@link #isRelevant(IContentPart)
  * relevant} {@link IContentPart}s within the viewer of the currently
  * {@link #getSnappedPart() snapped} part.
+ * <p>
+ * Within an {@link InfiniteCanvasViewer}, the candidate parts are determined
+ * by querying the viewer's picking index for the visuals intersecting the
+ * viewport. While snapping, the target locations are updated incrementally
+ * when the viewport is scrolled or resized.
  */
 public class SnapToGeometry extends AbstractSnapTo implements ISnapToStrategy {
 
@@ -64,6 +79,40 @@ public class SnapToGeometry extends AbstractSnapTo implements ISnapToStrategy {
 		return true;
 	};
 
+	private InfiniteCanvas canvas;
+
+	private ChangeListener<Number> horizontalScrollObserver = new ChangeListener<Number>() {
+		@Override
+		public void changed(ObservableValue<? extends Number> observable,
+				Number oldValue, Number newValue) {
+			onScroll(newValue.doubleValue() - oldValue.doubleValue(), 0);
+		}
+	};
+
+	private ChangeListener<Number> verticalScrollObserver = new ChangeListener<Number>() {
+		@Override
+		public void changed(ObservableValue<? extends Number> observable,
+				Number oldValue, Number newValue) {
+			onScroll(0, newValue.doubleValue() - oldValue.doubleValue());
+		}
+	};
+
+	private InvalidationListener viewportSizeObserver = new InvalidationListener() {
+		@Override
+		public void invalidated(Observable observable) {
+			updateTargetLocations();
+		}
+	};
+
+	private InvalidationListener contentTransformObserver = new InvalidationListener() {
+		@Override
+		public void invalidated(Observable observable) {
+			// XXX: Zooming changes the positions of the target locations in a
+			// non-uniform way, so they have to be determined anew.
+			SnapToGeometry.super.setSnappedPart(getSnappedPart());
+		}
+	};
+
 	/**
 	 * The IS_LEAF {@link Predicate} tests if the given {@link IVisualPart} has
 	 * no children.
@@ -72,6 +121,32 @@ public class SnapToGeometry extends AbstractSnapTo implements ISnapToStrategy {
 		return p.getChildrenUnmodifiable().isEmpty();
 	};
 
+	@Override
+	protected Collection<? extends IContentPart<? extends Node>> determineCandidateParts() {
+		IViewer viewer = getSnappedPart().getViewer();
+		if (!(viewer instanceof InfiniteCanvasViewer)
+				|| ((InfiniteCanvasViewer) viewer).getPickingIndex() == null) {
+			return super.determineCandidateParts();
+		}
+		// query the visuals (of content parts) that intersect the viewport
+		InfiniteCanvasViewer icv = (InfiniteCanvasViewer) viewer;
+		InfiniteCanvas viewport = icv.getCanvas();
+		Bounds viewportInScene = viewport.localToScene(new BoundingBox(0, 0,
+				viewport.getWidth(), viewport.getHeight()));
+		List<Node> visuals = icv.getPickingIndex().getNodesIntersecting(
+				viewportInScene.getMinX(), viewportInScene.getMinY(),
+				viewportInScene.getMaxX(), viewportInScene.getMaxY());
+		List<IContentPart<? extends Node>> candidates = new ArrayList<>();
+		for (Node visual : visuals) {
+			IVisualPart<? extends Node> part = viewer.getVisualPartMap()
+					.get(visual);
+			if (part instanceof IContentPart) {
+				candidates.add((IContentPart<? extends Node>) part);
+			}
+		}
+		return candidates;
+	}
+
 	@Override
 	protected String getTargetLocationProviderRole() {
 		return TARGET_SNAPPING_LOCATION_PROVIDER;
@@ -87,32 +162,70 @@ public class SnapToGeometry extends AbstractSnapTo implements ISnapToStrategy {
 		return IS_VISIBLE.test(part) && IS_LEAF.test(part);
 	}
 
+	/**
+	 * Called when the viewport is scrolled by the given offsets (within the
+	 * local coordinate system of the {@link InfiniteCanvas}) while snapping.
+	 * Translates all target locations accordingly and incrementally updates
+	 * them for the parts that entered or left the viewport.
+	 *
+	 * @param dx
+	 *            The horizontal scroll offset delta.
+	 * @param dy
+	 *            The vertical scroll offset delta.
+	 */
+	private void onScroll(double dx, double dy) {
+		Point2D origin = canvas.localToScene(0, 0);
+		Point2D translated = canvas.localToScene(dx, dy);
+		translateTargetLocations(translated.getX() - origin.getX(),
+				translated.getY() - origin.getY());
+		updateTargetLocations();
+	}
+
+	@Override
+	public void setSnappedPart(IContentPart<? extends Node> snappedPart) {
+		IViewer viewer = snappedPart == null ? null : snappedPart.getViewer();
+		InfiniteCanvas newCanvas = viewer instanceof InfiniteCanvasViewer
+				? ((InfiniteCanvasViewer) viewer).getCanvas()
+				: null;
+		if (canvas != newCanvas) {
+			if (canvas != null) {
+				canvas.horizontalScrollOffsetProperty()
+						.removeListener(horizontalScrollObserver);
+				canvas.verticalScrollOffsetProperty()
+						.removeListener(verticalScrollObserver);
+				canvas.widthProperty().removeListener(viewportSizeObserver);
+				canvas.heightProperty().removeListener(viewportSizeObserver);
+				canvas.getContentGroup().localToParentTransformProperty()
+						.removeListener(contentTransformObserver);
+			}
+			canvas = newCanvas;
+			if (canvas != null) {
+				canvas.horizontalScrollOffsetProperty()
+						.addListener(horizontalScrollObserver);
+				canvas.verticalScrollOffsetProperty()
+						.addListener(verticalScrollObserver);
+				canvas.widthProperty().addListener(viewportSizeObserver);
+				canvas.heightProperty().addListener(viewportSizeObserver);
+				canvas.getContentGroup().localToParentTransformProperty()
+						.addListener(contentTransformObserver);
+			}
+		}
+		super.setSnappedPart(snappedPart);
+	}
+
 	@Override
 	public Dimension snap(Orientation orientation, double positionInScene) {
-		double minDistance = 0d;
-		SnappingLocation snappingLocation = null;
 		if (orientation != Orientation.HORIZONTAL
 				&& orientation != Orientation.VERTICAL) {
 			throw new IllegalArgumentException("Wrong Orientation");
 		}
-		boolean horizontal = orientation == Orientation.HORIZONTAL;
-		List<SnappingLocation> testLocations = horizontal
-				? getHorizontalTargetLocations()
-				: getVerticalTargetLocations();
-		// TODO: binary search
-		for (SnappingLocation sl : testLocations) {
-			double location = sl.getPositionInScene();
-			double distance = positionInScene - location;
-			if (snappingLocation == null
-					|| Math.abs(distance) < Math.abs(minDistance)) {
-				minDistance = distance;
-				snappingLocation = sl;
-			}
-		}
+		SnappingLocation snappingLocation = getClosestTargetLocation(
+				orientation, positionInScene);
 		if (snappingLocation == null) {
 			return null;
 		}
 		double d = snappingLocation.getPositionInScene() - positionInScene;
-		return horizontal ? new Dimension(d, 0) : new Dimension(0, d);
+		return orientation == Orientation.HORIZONTAL ? new Dimension(d, 0)
+				: new Dimension(0, d);
 	}
 }
\ No newline at end of file
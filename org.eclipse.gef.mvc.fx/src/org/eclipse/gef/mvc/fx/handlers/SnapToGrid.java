@@ -11,6 +11,9 @@
  *******************************************************************************/
 package org.eclipse.gef.mvc.fx.handlers;
 
+import java.util.Collection;
+import java.util.Collections;
+
 import org.eclipse.gef.fx.nodes.InfiniteCanvas;
 import org.eclipse.gef.geometry.planar.Dimension;
 import org.eclipse.gef.geometry.planar.Point;
@@ -89,9 +92,14 @@ public class SnapToGrid extends AbstractSnapTo implements ISnapToStrategy {
 		return SOURCE_SNAPPING_LOCATION_PROVIDER;
 	}
 
+	@Override
+	protected Collection<? extends IContentPart<? extends Node>> determineCandidateParts() {
+		// no target locations are provided by content parts
+		return Collections.emptyList();
+	}
+
 	@Override
 	protected boolean isRelevant(IContentPart<? extends Node> part) {
-		// TODO: prevent part iteration
 		return false;
 	}
 
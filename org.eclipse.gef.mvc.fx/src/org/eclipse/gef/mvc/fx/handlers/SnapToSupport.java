@@ -386,6 +386,10 @@ public class SnapToSupport extends IAdaptable.Bound.Impl<IViewer> {
 			}
 			snappedPart = null;
 		}
+		// release the snapped part (and related state) of the strategies
+		for (ISnapToStrategy strategy : applicableSnapToStrategies) {
+			strategy.setSnappedPart(null);
+		}
 		supportedSnapToStrategies.clear();
 		applicableSnapToStrategies.clear();
 		hSourceLocations.clear();
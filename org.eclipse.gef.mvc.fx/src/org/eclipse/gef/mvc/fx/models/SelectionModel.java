@@ -17,7 +17,10 @@ package org.eclipse.gef.mvc.fx.models;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.gef.common.beans.property.ReadOnlyListWrapperEx;
 import org.eclipse.gef.common.collections.CollectionUtils;
@@ -29,6 +32,7 @@ import org.eclipse.gef.mvc.fx.viewer.IViewer;
 import javafx.beans.property.ReadOnlyListProperty;
 import javafx.beans.property.ReadOnlyListWrapper;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
@@ -38,6 +42,12 @@ import javafx.scene.Node;
  * It represents the selection as an ordered list of {@link IContentPart}s.
  * Thereby, it supports a multi-selection and allows to identify a primary
  * selection (the head element of the list) that may be treated specially.
+ * <p>
+ * The selected {@link IContentPart}s are additionally kept in a set, so that
+ * {@link #isSelected(IContentPart)} can be answered in constant time. Changes
+ * are performed by a single (fine-grained) addition or removal where possible
+ * (e.g. when appending parts that are not yet selected), so that listeners can
+ * react to the changed parts only.
  *
  * @author anyssen
  * @author mwienand
@@ -45,7 +55,8 @@ import javafx.scene.Node;
  */
 // TODO: We could expose the selection as modifiable collection and modifiable
 // read-only property if we could use an ordered set. As we use a list, we have
-// to ensure it does not contain duplicates.
+// to ensure it does not contain duplicates (the internal set is only used for
+// membership tests).
 public class SelectionModel
 		extends org.eclipse.gef.common.adapt.IAdaptable.Bound.Impl<IViewer>
 		implements IDisposable {
@@ -58,10 +69,32 @@ public class SelectionModel
 	private ObservableList<IContentPart<? extends Node>> selection = CollectionUtils
 			.observableArrayList();
 
-	private ObservableList<IContentPart<? extends Node>> selectionUnmodifiable = FXCollections
-			.unmodifiableObservableList(selection);
-	private ReadOnlyListWrapper<IContentPart<? extends Node>> selectionUnmodifiableProperty = new ReadOnlyListWrapperEx<>(
-			this, SELECTION_PROPERTY, selectionUnmodifiable);
+	// XXX: The unmodifiable list and the property register forwarding
+	// listeners at the selection list, so they are created within the
+	// constructor (after the selection set updater has been registered).
+	private ObservableList<IContentPart<? extends Node>> selectionUnmodifiable;
+	private ReadOnlyListWrapper<IContentPart<? extends Node>> selectionUnmodifiableProperty;
+
+	// XXX: The selected parts are kept in a set as well to allow for constant
+	// time membership tests. The set is updated by a listener that is
+	// registered before any other listener (including the one that forwards
+	// changes to the unmodifiable list), so it is in sync when others are
+	// notified.
+	private Set<IContentPart<? extends Node>> selectionSet = new HashSet<>();
+	private ListChangeListener<IContentPart<? extends Node>> selectionSetUpdater = new ListChangeListener<IContentPart<? extends Node>>() {
+		@Override
+		public void onChanged(
+				ListChangeListener.Change<? extends IContentPart<? extends Node>> c) {
+			while (c.next()) {
+				if (c.wasRemoved()) {
+					selectionSet.removeAll(c.getRemoved());
+				}
+				if (c.wasAdded()) {
+					selectionSet.addAll(c.getAddedSubList());
+				}
+			}
+		}
+	};
 
 	private MapChangeListener<Node, IVisualPart<? extends Node>> visualPartMapListener = new MapChangeListener<Node, IVisualPart<? extends Node>>() {
 		@Override
@@ -71,13 +104,26 @@ public class SelectionModel
 			if (change.wasRemoved()) {
 				IVisualPart<? extends Node> valueRemoved = change
 						.getValueRemoved();
-				if (selection.contains(valueRemoved)) {
+				if (selectionSet.contains(valueRemoved)) {
 					selection.remove(valueRemoved);
 				}
 			}
 		}
 	};
 
+	/**
+	 * Creates a new {@link SelectionModel}.
+	 *
+	 * @since 5.1
+	 */
+	public SelectionModel() {
+		selection.addListener(selectionSetUpdater);
+		selectionUnmodifiable = FXCollections
+				.unmodifiableObservableList(selection);
+		selectionUnmodifiableProperty = new ReadOnlyListWrapperEx<>(this,
+				SELECTION_PROPERTY, selectionUnmodifiable);
+	}
+
 	/**
 	 * Updates the current selection by adding the given {@link IContentPart} to
 	 * it, preserving already selected elements.
@@ -114,18 +160,24 @@ public class SelectionModel
 	 */
 	public void appendToSelection(
 			List<? extends IContentPart<? extends Node>> toBeAppended) {
-		List<IContentPart<? extends Node>> newSelection = getSelectionCopy();
-		newSelection.removeAll(toBeAppended);
-		for (IContentPart<? extends Node> p : toBeAppended) {
-			if (newSelection.contains(p)) {
-				throw new IllegalArgumentException("The content part " + p
-						+ " is provided more than once in the given list.");
-			}
-			newSelection.add(p);
+		Set<IContentPart<? extends Node>> toBeAppendedSet = toSet(
+				toBeAppended);
+		if (endsWith(selection, toBeAppended)) {
+			// nothing to do
+			return;
 		}
-		// XXX: ObservableList.setAll() is not properly guarded against not
-		// having an effect (and will always notify attached listeners)
-		if (!selection.equals(newSelection)) {
+		if (!containsAny(toBeAppendedSet)) {
+			// fine-grained addition
+			selection.addAll(toBeAppended);
+		} else {
+			List<IContentPart<? extends Node>> newSelection = new ArrayList<>(
+					selection.size() + toBeAppended.size());
+			for (IContentPart<? extends Node> p : selection) {
+				if (!toBeAppendedSet.contains(p)) {
+					newSelection.add(p);
+				}
+			}
+			newSelection.addAll(toBeAppended);
 			selection.setAll(newSelection);
 		}
 	}
@@ -137,6 +189,20 @@ public class SelectionModel
 		selection.clear();
 	}
 
+	/**
+	 * Tests whether any of the given {@link IContentPart}s is currently
+	 * selected.
+	 */
+	private boolean containsAny(
+			Collection<? extends IContentPart<? extends Node>> contentParts) {
+		for (IContentPart<? extends Node> p : contentParts) {
+			if (selectionSet.contains(p)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * @since 1.1
 	 */
@@ -145,15 +211,17 @@ public class SelectionModel
 		// setAdaptable() already clears the selection
 	}
 
-	/**
-	 * Returns a modifiable list of the currently selected {@link IContentPart}
-	 * s.
-	 *
-	 * @return A modifiable list of the currently selected {@link IContentPart}
-	 *         s.
-	 */
-	private List<IContentPart<? extends Node>> getSelectionCopy() {
-		return new ArrayList<>(selection);
+	private static boolean endsWith(List<?> list, List<?> suffix) {
+		int offset = list.size() - suffix.size();
+		if (offset < 0) {
+			return false;
+		}
+		for (int i = 0; i < suffix.size(); i++) {
+			if (list.get(offset + i) != suffix.get(i)) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -177,7 +245,7 @@ public class SelectionModel
 	 *         current selection.
 	 */
 	public boolean isSelected(IContentPart<? extends Node> contentPart) {
-		return selection.contains(contentPart);
+		return selectionSet.contains(contentPart);
 	}
 
 	/**
@@ -216,17 +284,24 @@ public class SelectionModel
 	 */
 	public void prependToSelection(
 			List<? extends IContentPart<? extends Node>> toBePrepended) {
-		List<IContentPart<? extends Node>> newSelection = getSelectionCopy();
-		newSelection.removeAll(toBePrepended);
-		int i = 0;
-		for (IContentPart<? extends Node> p : toBePrepended) {
-			if (newSelection.contains(p)) {
-				throw new IllegalArgumentException("The content part " + p
-						+ " is provided more than once in the given list.");
-			}
-			newSelection.add(i++, p);
+		Set<IContentPart<? extends Node>> toBePrependedSet = toSet(
+				toBePrepended);
+		if (startsWith(selection, toBePrepended)) {
+			// nothing to do
+			return;
 		}
-		if (!selection.equals(newSelection)) {
+		if (!containsAny(toBePrependedSet)) {
+			// fine-grained addition
+			selection.addAll(0, toBePrepended);
+		} else {
+			List<IContentPart<? extends Node>> newSelection = new ArrayList<>(
+					selection.size() + toBePrepended.size());
+			newSelection.addAll(toBePrepended);
+			for (IContentPart<? extends Node> p : selection) {
+				if (!toBePrependedSet.contains(p)) {
+					newSelection.add(p);
+				}
+			}
 			selection.setAll(newSelection);
 		}
 	}
@@ -242,7 +317,12 @@ public class SelectionModel
 	 */
 	public void removeFromSelection(
 			Collection<? extends IContentPart<? extends Node>> contentParts) {
-		selection.removeAll(contentParts);
+		if (!containsAny(contentParts)) {
+			return;
+		}
+		// XXX: Use a set to ensure removal is performed in linear time.
+		selection.removeAll(contentParts instanceof Set ? contentParts
+				: new HashSet<>(contentParts));
 	}
 
 	/**
@@ -254,7 +334,9 @@ public class SelectionModel
 	 *            selection.
 	 */
 	public void removeFromSelection(IContentPart<? extends Node> contentPart) {
-		selection.remove(contentPart);
+		if (selectionSet.contains(contentPart)) {
+			selection.remove(contentPart);
+		}
 	}
 
 	/**
@@ -305,17 +387,72 @@ public class SelectionModel
 	 */
 	public void setSelection(
 			List<? extends IContentPart<? extends Node>> selection) {
-		List<IContentPart<? extends Node>> newSelection = new ArrayList<>();
-		int i = 0;
-		for (IContentPart<? extends Node> p : selection) {
-			if (newSelection.contains(p)) {
+		Set<IContentPart<? extends Node>> newSelectionSet = toSet(selection);
+		if (this.selection.size() == selection.size()
+				&& startsWith(this.selection, selection)) {
+			// nothing to do
+			return;
+		}
+		if (startsWith(selection, this.selection)) {
+			// fine-grained addition of the new parts
+			this.selection.addAll(new ArrayList<>(selection
+					.subList(this.selection.size(), selection.size())));
+		} else if (newSelectionSet.size() < this.selection.size()
+				&& isSubsequence(selection, this.selection)) {
+			// fine-grained removal of the deselected parts
+			List<IContentPart<? extends Node>> toBeRemoved = new ArrayList<>();
+			for (IContentPart<? extends Node> p : this.selection) {
+				if (!newSelectionSet.contains(p)) {
+					toBeRemoved.add(p);
+				}
+			}
+			this.selection.removeAll(new HashSet<>(toBeRemoved));
+		} else {
+			this.selection.setAll(selection);
+		}
+	}
+
+	private static boolean startsWith(List<?> list, List<?> prefix) {
+		if (prefix.size() > list.size()) {
+			return false;
+		}
+		for (int i = 0; i < prefix.size(); i++) {
+			if (list.get(i) != prefix.get(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Tests whether the given sub-sequence can be obtained from the given
+	 * sequence by removing elements (preserving the order).
+	 */
+	private static boolean isSubsequence(List<?> subsequence,
+			List<?> sequence) {
+		int j = 0;
+		for (int i = 0; i < sequence.size()
+				&& j < subsequence.size(); i++) {
+			if (sequence.get(i) == subsequence.get(j)) {
+				j++;
+			}
+		}
+		return j == subsequence.size();
+	}
+
+	/**
+	 * Converts the given list of {@link IContentPart}s into an (ordered) set,
+	 * ensuring it does not contain any duplicates.
+	 */
+	private static Set<IContentPart<? extends Node>> toSet(
+			List<? extends IContentPart<? extends Node>> contentParts) {
+		Set<IContentPart<? extends Node>> set = new LinkedHashSet<>();
+		for (IContentPart<? extends Node> p : contentParts) {
+			if (!set.add(p)) {
 				throw new IllegalArgumentException("The content part " + p
 						+ " is provided more than once in the given list.");
 			}
-			newSelection.add(i++, p);
-		}
-		if (!this.selection.equals(newSelection)) {
-			this.selection.setAll(newSelection);
 		}
+		return set;
 	}
 }
@@ -30,13 +30,17 @@ import org.eclipse.gef.mvc.fx.MvcFxBundle;
  * The {@link AbstractCompositeOperation} is an abstract implementation of the
  * {@link ICompositeOperation} interface. The individual operations are stored
  * in a {@link List}. They are executed/redone/undone in forward order.
+ * <p>
+ * A successor composite operation of the same type can be merged into an
+ * {@link AbstractCompositeOperation} in case both combine the same number of
+ * operations, which can be merged pairwise (see {@link IMergeableOperation}).
  *
  * @author anyssen
  * @author mwienand
  *
  */
 public abstract class AbstractCompositeOperation extends AbstractOperation
-		implements ICompositeOperation, ITransactionalOperation {
+		implements ICompositeOperation, IMergeableOperation {
 
 	/**
 	 * The list containing the {@link ITransactionalOperation}s which are
@@ -96,6 +100,33 @@ public abstract class AbstractCompositeOperation extends AbstractOperation
 		return true;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @since 5.1
+	 */
+	@Override
+	public boolean canMerge(ITransactionalOperation successor) {
+		if (successor == null || successor.getClass() != getClass()) {
+			return false;
+		}
+		List<ITransactionalOperation> successorOperations = ((AbstractCompositeOperation) successor)
+				.getOperations();
+		if (operations.isEmpty()
+				|| operations.size() != successorOperations.size()) {
+			return false;
+		}
+		for (int i = 0; i < operations.size(); i++) {
+			ITransactionalOperation op = operations.get(i);
+			if (!(op instanceof IMergeableOperation)
+					|| !((IMergeableOperation) op)
+							.canMerge(successorOperations.get(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public boolean canRedo() {
 		for (ITransactionalOperation operation : operations) {
@@ -186,6 +217,21 @@ public abstract class AbstractCompositeOperation extends AbstractOperation
 		return true;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @since 5.1
+	 */
+	@Override
+	public void merge(ITransactionalOperation successor) {
+		List<ITransactionalOperation> successorOperations = ((AbstractCompositeOperation) successor)
+				.getOperations();
+		for (int i = 0; i < operations.size(); i++) {
+			((IMergeableOperation) operations.get(i))
+					.merge(successorOperations.get(i));
+		}
+	}
+
 	@Override
 	public IStatus redo(IProgressMonitor monitor, IAdaptable info)
 			throws ExecutionException {
@@ -32,7 +32,7 @@ import javafx.scene.Node;
  *
  */
 public class BendContentOperation extends AbstractOperation
-		implements ITransactionalOperation {
+		implements IMergeableOperation {
 
 	private final IBendableContentPart<? extends Node> bendableContentPart;
 	private List<BendPoint> initialBendPoints;
@@ -59,6 +59,12 @@ public class BendContentOperation extends AbstractOperation
 		this.finalBendPoints = finalBendPoints;
 	}
 
+	@Override
+	public boolean canMerge(ITransactionalOperation successor) {
+		return successor instanceof BendContentOperation
+				&& ((BendContentOperation) successor).bendableContentPart == bendableContentPart;
+	}
+
 	@Override
 	public IStatus execute(IProgressMonitor monitor, IAdaptable info)
 			throws ExecutionException {
@@ -81,6 +87,11 @@ public class BendContentOperation extends AbstractOperation
 				: initialBendPoints.equals(finalBendPoints);
 	}
 
+	@Override
+	public void merge(ITransactionalOperation successor) {
+		finalBendPoints = ((BendContentOperation) successor).finalBendPoints;
+	}
+
 	@Override
 	public IStatus redo(IProgressMonitor monitor, IAdaptable info)
 			throws ExecutionException {
@@ -30,7 +30,7 @@ import javafx.scene.Node;
  * {@link IBendableContentPart}.
  */
 public class BendVisualOperation extends AbstractOperation
-		implements ITransactionalOperation {
+		implements IMergeableOperation {
 
 	private IBendableContentPart<? extends Node> part;
 	private List<BendPoint> initialBendPoints = new ArrayList<>();
@@ -48,6 +48,12 @@ public class BendVisualOperation extends AbstractOperation
 		finalBendPoints.addAll(part.getVisualBendPoints());
 	}
 
+	@Override
+	public boolean canMerge(ITransactionalOperation successor) {
+		return successor instanceof BendVisualOperation
+				&& ((BendVisualOperation) successor).part == part;
+	}
+
 	@Override
 	public IStatus execute(IProgressMonitor monitor,
 			org.eclipse.core.runtime.IAdaptable info)
@@ -87,6 +93,12 @@ public class BendVisualOperation extends AbstractOperation
 		return initialBendPoints.equals(finalBendPoints);
 	}
 
+	@Override
+	public void merge(ITransactionalOperation successor) {
+		setFinalBendPoints(
+				((BendVisualOperation) successor).getFinalBendPoints());
+	}
+
 	@Override
 	public IStatus redo(IProgressMonitor monitor,
 			org.eclipse.core.runtime.IAdaptable info)
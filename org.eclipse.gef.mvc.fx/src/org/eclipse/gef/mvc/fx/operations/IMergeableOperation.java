@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.fx.operations;
+
+import org.eclipse.gef.mvc.fx.domain.HistoricizingDomain;
+
+/**
+ * An {@link IMergeableOperation} is an {@link ITransactionalOperation} that
+ * can absorb a successor operation, so that the combined effect of both
+ * operations is represented by a single operation. It is used by the
+ * {@link HistoricizingDomain} to coalesce consecutive operations (e.g.
+ * successive transformations of the same part) within an execution
+ * transaction.
+ * <p>
+ * Merging is only valid for a successor that was executed directly after this
+ * operation, i.e. whose initial state is the final state of this operation.
+ * After merging, this operation retains its initial state and adopts the final
+ * state of the successor.
+ *
+ * @author agent
+ * @since 5.1
+ *
+ */
+public interface IMergeableOperation extends ITransactionalOperation {
+
+	/**
+	 * Returns <code>true</code> if the given successor
+	 * {@link ITransactionalOperation} can be merged into this operation.
+	 * Otherwise returns <code>false</code>.
+	 *
+	 * @param successor
+	 *            The {@link ITransactionalOperation} that was executed
+	 *            directly after this operation.
+	 * @return <code>true</code> if the given successor can be merged into this
+	 *         operation, otherwise <code>false</code>.
+	 */
+	public boolean canMerge(ITransactionalOperation successor);
+
+	/**
+	 * Merges the given successor {@link ITransactionalOperation} into this
+	 * operation, so that this operation leads from its own initial state to the
+	 * final state of the successor. May only be called if
+	 * {@link #canMerge(ITransactionalOperation)} returns <code>true</code> for
+	 * the given successor.
+	 *
+	 * @param successor
+	 *            The {@link ITransactionalOperation} to merge into this
+	 *            operation.
+	 */
+	public void merge(ITransactionalOperation successor);
+
+}
@@ -35,7 +35,7 @@ import javafx.scene.Node;
  *            javafx.scene.Node in case of JavaFX.
  */
 public class ResizeContentOperation<VR> extends AbstractOperation
-		implements ITransactionalOperation {
+		implements IMergeableOperation {
 
 	private final IResizableContentPart<? extends Node> resizableContentPart;
 	private Dimension initialSize;
@@ -61,6 +61,12 @@ public class ResizeContentOperation<VR> extends AbstractOperation
 		this.finalSize = finalSize;
 	}
 
+	@Override
+	public boolean canMerge(ITransactionalOperation successor) {
+		return successor instanceof ResizeContentOperation
+				&& ((ResizeContentOperation<?>) successor).resizableContentPart == resizableContentPart;
+	}
+
 	@Override
 	public IStatus execute(IProgressMonitor monitor, IAdaptable info)
 			throws ExecutionException {
@@ -80,6 +86,11 @@ public class ResizeContentOperation<VR> extends AbstractOperation
 		return initialSize.equals(finalSize);
 	}
 
+	@Override
+	public void merge(ITransactionalOperation successor) {
+		finalSize = ((ResizeContentOperation<?>) successor).finalSize;
+	}
+
 	@Override
 	public IStatus redo(IProgressMonitor monitor, IAdaptable info)
 			throws ExecutionException {
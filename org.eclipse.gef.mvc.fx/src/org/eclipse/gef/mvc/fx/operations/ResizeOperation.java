@@ -32,7 +32,7 @@ import javafx.scene.Node;
  *
  */
 public class ResizeOperation extends AbstractOperation
-		implements ITransactionalOperation {
+		implements IMergeableOperation {
 
 	private final IResizableContentPart<? extends Node> resizablePart;
 	private final Dimension initialSize;
@@ -102,6 +102,12 @@ public class ResizeOperation extends AbstractOperation
 		this.dh = dh;
 	}
 
+	@Override
+	public boolean canMerge(ITransactionalOperation successor) {
+		return successor instanceof ResizeOperation
+				&& ((ResizeOperation) successor).resizablePart == resizablePart;
+	}
+
 	@Override
 	public IStatus execute(IProgressMonitor monitor, IAdaptable info)
 			throws ExecutionException {
@@ -161,6 +167,16 @@ public class ResizeOperation extends AbstractOperation
 		return dw == 0 && dh == 0;
 	}
 
+	@Override
+	public void merge(ITransactionalOperation successor) {
+		ResizeOperation resizeOperation = (ResizeOperation) successor;
+		// adopt the final size of the successor
+		dw = resizeOperation.initialSize.getWidth() + resizeOperation.dw
+				- initialSize.getWidth();
+		dh = resizeOperation.initialSize.getHeight() + resizeOperation.dh
+				- initialSize.getHeight();
+	}
+
 	@Override
 	public IStatus redo(IProgressMonitor monitor, IAdaptable info)
 			throws ExecutionException {
@@ -32,7 +32,7 @@ import javafx.scene.Node;
  *
  */
 public class TransformContentOperation extends AbstractOperation
-		implements ITransactionalOperation {
+		implements IMergeableOperation {
 
 	private final ITransformableContentPart<? extends Node> transformableContentPart;
 	// TODO: Use JavaFX Affine
@@ -67,6 +67,12 @@ public class TransformContentOperation extends AbstractOperation
 		}
 	}
 
+	@Override
+	public boolean canMerge(ITransactionalOperation successor) {
+		return successor instanceof TransformContentOperation
+				&& ((TransformContentOperation) successor).transformableContentPart == transformableContentPart;
+	}
+
 	@Override
 	public IStatus execute(IProgressMonitor monitor, IAdaptable info)
 			throws ExecutionException {
@@ -84,6 +90,11 @@ public class TransformContentOperation extends AbstractOperation
 		return initialTransform.equals(finalTransform);
 	}
 
+	@Override
+	public void merge(ITransactionalOperation successor) {
+		finalTransform = ((TransformContentOperation) successor).finalTransform;
+	}
+
 	@Override
 	public IStatus redo(IProgressMonitor monitor, IAdaptable info)
 			throws ExecutionException {
@@ -32,7 +32,7 @@ import javafx.scene.transform.Affine;
  *
  */
 public class TransformVisualOperation extends AbstractOperation
-		implements ITransactionalOperation {
+		implements IMergeableOperation {
 
 	private ITransformableContentPart<? extends Node> transformablePart;
 	private Affine initialTransform;
@@ -88,6 +88,12 @@ public class TransformVisualOperation extends AbstractOperation
 		}
 	}
 
+	@Override
+	public boolean canMerge(ITransactionalOperation successor) {
+		return successor instanceof TransformVisualOperation
+				&& ((TransformVisualOperation) successor).transformablePart == transformablePart;
+	}
+
 	@Override
 	public IStatus execute(IProgressMonitor monitor, IAdaptable info)
 			throws ExecutionException {
@@ -127,6 +133,12 @@ public class TransformVisualOperation extends AbstractOperation
 		return NodeUtils.equals(initialTransform, finalTransform);
 	}
 
+	@Override
+	public void merge(ITransactionalOperation successor) {
+		setFinalTransform(
+				((TransformVisualOperation) successor).getNewTransform());
+	}
+
 	@Override
 	public IStatus redo(IProgressMonitor monitor, IAdaptable info)
 			throws ExecutionException {
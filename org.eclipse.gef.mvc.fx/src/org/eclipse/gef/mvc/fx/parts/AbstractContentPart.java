@@ -12,6 +12,7 @@
 package org.eclipse.gef.mvc.fx.parts;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -185,6 +186,45 @@ public abstract class AbstractContentPart<V extends Node>
 		return contentAnchoragesUnmodifiableProperty.getReadOnlyProperty();
 	}
 
+	/**
+	 * Notifies this {@link AbstractContentPart} that the given content
+	 * children were added at the given index. Can be used by subclasses that
+	 * maintain their content children incrementally as an alternative to
+	 * {@link #refreshContentChildren()}, so that only the delta has to be
+	 * processed (instead of re-computing all content children via
+	 * {@link #doGetContentChildren()}).
+	 *
+	 * @param index
+	 *            The index at which the content children were added.
+	 * @param added
+	 *            The content children that were added.
+	 * @since 5.1
+	 */
+	protected void contentChildrenAdded(int index,
+			List<? extends Object> added) {
+		if (!added.isEmpty()) {
+			contentChildren.addAll(index, added);
+		}
+	}
+
+	/**
+	 * Notifies this {@link AbstractContentPart} that the given content
+	 * children were removed. Can be used by subclasses that maintain their
+	 * content children incrementally as an alternative to
+	 * {@link #refreshContentChildren()}, so that only the delta has to be
+	 * processed (instead of re-computing all content children via
+	 * {@link #doGetContentChildren()}).
+	 *
+	 * @param removed
+	 *            The content children that were removed.
+	 * @since 5.1
+	 */
+	protected void contentChildrenRemoved(Collection<? extends Object> removed) {
+		if (!removed.isEmpty()) {
+			contentChildren.removeAll(removed);
+		}
+	}
+
 	@Override
 	public ReadOnlyListProperty<Object> contentChildrenUnmodifiableProperty() {
 		if (contentChildrenUnmodifiableProperty == null) {
@@ -16,8 +16,10 @@ package org.eclipse.gef.mvc.fx.parts;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.eclipse.gef.common.activate.ActivatableSupport;
@@ -94,6 +96,7 @@ public abstract class AbstractVisualPart<V extends Node>
 
 	private BooleanProperty refreshVisualProperty = new SimpleBooleanProperty(
 			this, REFRESH_VISUAL_PROPERTY, true);
+	private RefreshScheduler refreshScheduler;
 	private V visual;
 
 	private ReadOnlyObjectWrapper<IViewer> viewerProperty = new ReadOnlyObjectWrapper<>();
@@ -196,8 +199,27 @@ public abstract class AbstractVisualPart<V extends Node>
 							+ " because the following are already children: "
 							+ alreadyContainedChildren + ".");
 		}
-		for (int i = 0; i < children.size(); i++) {
-			addChild(children.get(i), index + i);
+		if (children.isEmpty()) {
+			return;
+		}
+
+		// XXX: Add all children at once, so that only a single change
+		// notification is fired.
+		this.children.addAll(index, children);
+		for (IVisualPart<? extends Node> child : children) {
+			child.setParent(this);
+		}
+
+		refreshVisual();
+		doAddChildVisuals(children, index);
+		for (IVisualPart<? extends Node> child : children) {
+			child.refreshVisual();
+		}
+
+		if (isActive()) {
+			for (IVisualPart<? extends Node> child : children) {
+				child.activate();
+			}
 		}
 	}
 
@@ -300,7 +322,7 @@ public abstract class AbstractVisualPart<V extends Node>
 	 */
 	@Override
 	public final void deactivate() {
-		acs.deactivate(this::doDeactivate, null);
+		acs.deactivate(this::doDeactivate, this::unscheduleRefreshVisual);
 	}
 
 	/**
@@ -432,6 +454,28 @@ public abstract class AbstractVisualPart<V extends Node>
 						+ this.getClass());
 	}
 
+	/**
+	 * Performs the addition of the visuals of the given children to this
+	 * {@link IVisualPart}'s visual. The children have already been added to
+	 * the {@link #getChildrenUnmodifiable() children} (starting at the given
+	 * index). The default implementation delegates to
+	 * {@link #doAddChildVisual(IVisualPart, int)} for each child. Subclasses
+	 * may override to add all visuals at once.
+	 *
+	 * @param children
+	 *            The {@link IVisualPart}s being added.
+	 * @param index
+	 *            The position of the first child.
+	 * @see #addChildren(List, int)
+	 * @since 5.1
+	 */
+	protected void doAddChildVisuals(
+			List<? extends IVisualPart<? extends Node>> children, int index) {
+		for (int i = 0; i < children.size(); i++) {
+			doAddChildVisual(children.get(i), index + i);
+		}
+	}
+
 	/**
 	 * Attaches this part's visual to the visual of the given anchorage.
 	 *
@@ -501,6 +545,35 @@ public abstract class AbstractVisualPart<V extends Node>
 						+ this.getClass());
 	}
 
+	/**
+	 * Removes the visuals of the given children from the visual of this
+	 * {@link IVisualPart}. The children are still contained in the
+	 * {@link #getChildrenUnmodifiable() children} and are passed in descending
+	 * index order. The default implementation delegates to
+	 * {@link #doRemoveChildVisual(IVisualPart, int)} for each child.
+	 * Subclasses may override to remove all visuals at once.
+	 *
+	 * @param children
+	 *            The child {@link IVisualPart}s whose visuals are to be
+	 *            removed.
+	 * @see #removeChildren(List)
+	 * @since 5.1
+	 */
+	protected void doRemoveChildVisuals(
+			List<? extends IVisualPart<? extends Node>> children) {
+		// XXX: Determine the indices within a single (descending) pass, so
+		// that the indices of the remaining children stay valid.
+		Set<IVisualPart<? extends Node>> toRemove = Collections
+				.newSetFromMap(new IdentityHashMap<>());
+		toRemove.addAll(children);
+		for (int i = this.children.size() - 1; i >= 0; i--) {
+			IVisualPart<? extends Node> child = this.children.get(i);
+			if (toRemove.contains(child)) {
+				doRemoveChildVisual(child, i);
+			}
+		}
+	}
+
 	@Override
 	public IViewer getAdaptable() {
 		return viewerProperty.get();
@@ -640,6 +713,7 @@ public abstract class AbstractVisualPart<V extends Node>
 	 */
 	@Override
 	public final void refreshVisual() {
+		unscheduleRefreshVisual();
 		if (visual != null && isRefreshVisual()) {
 			// System.out.println("Refresh visual of " + this);
 			doRefreshVisual(visual);
@@ -707,19 +781,49 @@ public abstract class AbstractVisualPart<V extends Node>
 	@Override
 	public void removeChildren(
 			List<? extends IVisualPart<? extends Node>> children) {
-		if (!this.children.containsAll(children)) {
+		if (children.isEmpty()) {
+			return;
+		}
+
+		// XXX: Determine the children to remove within a single (descending)
+		// pass over the children list, using an identity set for the
+		// containment checks, so that their visuals can be removed in
+		// descending index order (which keeps the indices of the remaining
+		// children valid).
+		final Set<IVisualPart<? extends Node>> toRemove = Collections
+				.newSetFromMap(new IdentityHashMap<>());
+		toRemove.addAll(children);
+		List<IVisualPart<? extends Node>> removed = new ArrayList<>(
+				toRemove.size());
+		for (int i = this.children.size() - 1; i >= 0; i--) {
+			IVisualPart<? extends Node> child = this.children.get(i);
+			if (toRemove.contains(child)) {
+				removed.add(child);
+			}
+		}
+		if (removed.size() != toRemove.size()) {
 			List<? extends IVisualPart<? extends Node>> notContainedChildren = new ArrayList<>(
-					children);
-			notContainedChildren.removeAll(this.children);
+					toRemove);
+			notContainedChildren.removeAll(removed);
 			throw new IllegalArgumentException(
 					"Cannot remove " + children + " as children of " + this
 							+ " because the following are no children: "
 							+ notContainedChildren + ".");
 		}
-		// TODO: use children.removeAll and perform the de-registration here
-		for (IVisualPart<? extends Node> child : children) {
-			removeChild(child);
+
+		if (isActive()) {
+			for (IVisualPart<? extends Node> child : removed) {
+				child.deactivate();
+			}
 		}
+		doRemoveChildVisuals(removed);
+
+		// XXX: Remove all children at once, so that only a single change
+		// notification is fired.
+		for (IVisualPart<? extends Node> child : removed) {
+			child.setParent(null);
+		}
+		this.children.removeAll(toRemove);
 	}
 
 	@Override
@@ -729,10 +833,16 @@ public abstract class AbstractVisualPart<V extends Node>
 			throw new IllegalArgumentException("Cannot reorder child " + child
 					+ " because it is no child.");
 		}
-		// TODO: this could be made more performant (reordering the children and
-		// visuals)
-		removeChild(child);
-		addChild(child, index);
+		if (oldIndex == index) {
+			return;
+		}
+		// XXX: The child is neither deactivated nor unregistered while being
+		// reordered; only its position within the children and the visual of
+		// this part is changed.
+		doRemoveChildVisual(child, oldIndex);
+		children.remove(oldIndex);
+		children.add(index, child);
+		doAddChildVisual(child, index);
 	}
 
 	@Override
@@ -801,6 +911,32 @@ public abstract class AbstractVisualPart<V extends Node>
 		}
 	}
 
+	/**
+	 * Schedules a refresh of this {@link IVisualPart}'s <i>visuals</i> at the
+	 * {@link RefreshScheduler} of the {@link IViewer}, so that multiple
+	 * subsequent refresh requests are coalesced into a single
+	 * {@link #refreshVisual()} per pulse. If this {@link IVisualPart} is not
+	 * active, or the {@link IViewer} does not provide a
+	 * {@link RefreshScheduler}, the visuals are refreshed immediately.
+	 *
+	 * @since 5.1
+	 */
+	protected void scheduleRefreshVisual() {
+		if (refreshScheduler != null) {
+			// already scheduled
+			return;
+		}
+		IViewer viewer = isActive() ? getViewer() : null;
+		RefreshScheduler scheduler = viewer == null ? null
+				: viewer.getAdapter(RefreshScheduler.class);
+		if (scheduler == null) {
+			refreshVisual();
+		} else {
+			refreshScheduler = scheduler;
+			scheduler.schedule(this);
+		}
+	}
+
 	@Override
 	public void setRefreshVisual(boolean isRefreshVisual) {
 		refreshVisualProperty.set(isRefreshVisual);
@@ -843,6 +979,13 @@ public abstract class AbstractVisualPart<V extends Node>
 		registry.remove(visual);
 	}
 
+	private void unscheduleRefreshVisual() {
+		if (refreshScheduler != null) {
+			refreshScheduler.unschedule(this);
+			refreshScheduler = null;
+		}
+	}
+
 	@Override
 	public <T> void unsetAdapter(T adapter) {
 		ads.unsetAdapter(adapter);
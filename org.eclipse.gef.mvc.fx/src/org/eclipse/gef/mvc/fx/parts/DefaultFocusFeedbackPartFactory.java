@@ -18,6 +18,7 @@ import java.util.Map;
 import org.eclipse.gef.common.adapt.AdapterKey;
 import org.eclipse.gef.fx.utils.NodeUtils;
 import org.eclipse.gef.geometry.planar.IGeometry;
+import org.eclipse.gef.mvc.fx.behaviors.AnchoredPartPool;
 
 import com.google.common.reflect.TypeToken;
 import com.google.inject.Inject;
@@ -86,8 +87,8 @@ public class DefaultFocusFeedbackPartFactory implements IFeedbackPartFactory {
 							focusFeedbackGeometryProvider.get());
 				}
 			};
-			FocusFeedbackPart part = injector
-					.getInstance(FocusFeedbackPart.class);
+			FocusFeedbackPart part = AnchoredPartPool.getOrCreate(
+					target, FocusFeedbackPart.class, injector);
 			part.setGeometryProvider(geometryInSceneProvider);
 			feedbackParts.add(part);
 		}
@@ -18,6 +18,7 @@ import java.util.Map;
 import org.eclipse.gef.common.adapt.AdapterKey;
 import org.eclipse.gef.fx.utils.NodeUtils;
 import org.eclipse.gef.geometry.planar.IGeometry;
+import org.eclipse.gef.mvc.fx.behaviors.AnchoredPartPool;
 
 import com.google.common.reflect.TypeToken;
 import com.google.inject.Inject;
@@ -85,8 +86,8 @@ public class DefaultHoverFeedbackPartFactory implements IFeedbackPartFactory {
 							hoverFeedbackGeometryProvider.get());
 				}
 			};
-			HoverFeedbackPart part = injector
-					.getInstance(HoverFeedbackPart.class);
+			HoverFeedbackPart part = AnchoredPartPool.getOrCreate(
+					target, HoverFeedbackPart.class, injector);
 			part.setGeometryProvider(geometryInSceneProvider);
 			feedbackParts.add(part);
 		}
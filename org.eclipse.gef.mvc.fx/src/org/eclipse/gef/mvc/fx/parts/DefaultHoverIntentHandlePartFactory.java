@@ -24,6 +24,7 @@ import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.IShape;
 import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.mvc.fx.behaviors.AnchoredPartPool;
 import org.eclipse.gef.mvc.fx.behaviors.IBehavior;
 
 import com.google.common.reflect.TypeToken;
@@ -191,8 +192,8 @@ public class DefaultHoverIntentHandlePartFactory implements IHandlePartFactory {
 		List<IHandlePart<? extends Node>> handleParts = new ArrayList<>();
 		BezierCurve[] segments = segmentsProvider.get();
 		for (int i = 0; i < segments.length; i++) {
-			CircleSegmentHandlePart part = injector
-					.getInstance(CircleSegmentHandlePart.class);
+			CircleSegmentHandlePart part = AnchoredPartPool.getOrCreate(
+					target, CircleSegmentHandlePart.class, injector);
 			part.setSegmentsProvider(segmentsProvider);
 			part.setSegmentIndex(i);
 			part.setSegmentParameter(0);
@@ -228,4 +229,5 @@ public class DefaultHoverIntentHandlePartFactory implements IHandlePartFactory {
 			Provider<BezierCurve[]> segmentsProvider) {
 		return Collections.emptyList();
 	}
+
 }
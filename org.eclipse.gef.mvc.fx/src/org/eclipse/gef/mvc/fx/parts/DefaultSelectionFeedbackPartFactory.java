@@ -28,6 +28,7 @@ import org.eclipse.gef.fx.utils.NodeUtils;
 import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.Line;
 import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.mvc.fx.behaviors.AnchoredPartPool;
 
 import com.google.common.reflect.TypeToken;
 import com.google.inject.Inject;
@@ -110,8 +111,8 @@ public class DefaultSelectionFeedbackPartFactory
 							selectionFeedbackGeometryProvider.get());
 				}
 			};
-			SelectionFeedbackPart selectionFeedbackPart = injector
-					.getInstance(SelectionFeedbackPart.class);
+			SelectionFeedbackPart selectionFeedbackPart = AnchoredPartPool.getOrCreate(
+					target, SelectionFeedbackPart.class, injector);
 			selectionFeedbackPart.setGeometryProvider(geometryInSceneProvider);
 			feedbackParts.add(selectionFeedbackPart);
 		}
@@ -221,11 +222,12 @@ public class DefaultSelectionFeedbackPartFactory
 					return new Line(sourcePointInScene, targetPointInScene);
 				}
 			};
-			SelectionLinkFeedbackPart part = injector
-					.getInstance(SelectionLinkFeedbackPart.class);
+			SelectionLinkFeedbackPart part = AnchoredPartPool.getOrCreate(
+					anchored, SelectionLinkFeedbackPart.class, injector);
 			part.setGeometryProvider(linkFeedbackGeometryProvider);
 			return part;
 		}
 		return null;
 	}
+
 }
@@ -29,6 +29,7 @@ import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.IShape;
 import org.eclipse.gef.geometry.planar.Polyline;
 import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.mvc.fx.behaviors.AnchoredPartPool;
 import org.eclipse.gef.mvc.fx.behaviors.IBehavior;
 import org.eclipse.gef.mvc.fx.providers.ResizableTransformableBoundsProvider;
 
@@ -227,8 +228,8 @@ public class DefaultSelectionHandlePartFactory implements IHandlePartFactory {
 		// create a handle for each start point of the segments
 		List<IHandlePart<? extends Node>> handleParts = new ArrayList<>();
 		for (int i = 0; i < segments; i++) {
-			SquareSegmentHandlePart part = injector
-					.getInstance(SquareSegmentHandlePart.class);
+			SquareSegmentHandlePart part = AnchoredPartPool.getOrCreate(
+					targets.get(0), SquareSegmentHandlePart.class, injector);
 			part.setSegmentsProvider(segmentsProvider);
 			part.setSegmentIndex(i);
 			part.setSegmentParameter(0);
@@ -340,8 +341,8 @@ public class DefaultSelectionHandlePartFactory implements IHandlePartFactory {
 			for (int i = 0; i < segments.length; i++) {
 				// create handle for the start point of the curve
 				if (i == 0) {
-					CircleSegmentHandlePart part = injector
-							.getInstance(CircleSegmentHandlePart.class);
+					CircleSegmentHandlePart part = AnchoredPartPool.getOrCreate(
+							target, CircleSegmentHandlePart.class, injector);
 					part.setSegmentsProvider(segmentsProvider);
 					part.setSegmentIndex(i);
 					part.setSegmentParameter(0.0);
@@ -352,8 +353,8 @@ public class DefaultSelectionHandlePartFactory implements IHandlePartFactory {
 				double segmentLength = new Polyline(segments[i].getPoints())
 						.getLength();
 				if (segmentLength > SEGMENT_CREATE_HANDLE_MINIMUM_SEGMENT_LENGTH) {
-					RectangleSegmentHandlePart part = injector
-							.getInstance(RectangleSegmentHandlePart.class);
+					RectangleSegmentHandlePart part = AnchoredPartPool.getOrCreate(
+							target, RectangleSegmentHandlePart.class, injector);
 					part.setSegmentsProvider(segmentsProvider);
 					part.setSegmentIndex(i);
 					part.setSegmentParameter(0.25);
@@ -362,8 +363,8 @@ public class DefaultSelectionHandlePartFactory implements IHandlePartFactory {
 
 				// mid handle for segment drag
 				if (segmentLength > SEGMENT_MOVE_HANDLE_MINIMUM_SEGMENT_LENGTH) {
-					RectangleSegmentHandlePart midPart = injector
-							.getInstance(RectangleSegmentHandlePart.class);
+					RectangleSegmentHandlePart midPart = AnchoredPartPool.getOrCreate(
+							target, RectangleSegmentHandlePart.class, injector);
 					midPart.setSegmentsProvider(segmentsProvider);
 					midPart.setSegmentIndex(i);
 					midPart.setSegmentParameter(0.5);
@@ -372,8 +373,8 @@ public class DefaultSelectionHandlePartFactory implements IHandlePartFactory {
 
 				// create quarter handle for the creation of a new segment
 				if (segmentLength > SEGMENT_CREATE_HANDLE_MINIMUM_SEGMENT_LENGTH) {
-					RectangleSegmentHandlePart part = injector
-							.getInstance(RectangleSegmentHandlePart.class);
+					RectangleSegmentHandlePart part = AnchoredPartPool.getOrCreate(
+							target, RectangleSegmentHandlePart.class, injector);
 					part.setSegmentsProvider(segmentsProvider);
 					part.setSegmentIndex(i);
 					part.setSegmentParameter(0.75);
@@ -382,8 +383,8 @@ public class DefaultSelectionHandlePartFactory implements IHandlePartFactory {
 
 				// create handle for the end point of the curve
 				if (i == segments.length - 1) {
-					CircleSegmentHandlePart part = injector
-							.getInstance(CircleSegmentHandlePart.class);
+					CircleSegmentHandlePart part = AnchoredPartPool.getOrCreate(
+							target, CircleSegmentHandlePart.class, injector);
 					part.setSegmentsProvider(segmentsProvider);
 					part.setSegmentIndex(i);
 					part.setSegmentParameter(1.0);
@@ -394,8 +395,8 @@ public class DefaultSelectionHandlePartFactory implements IHandlePartFactory {
 			// generate vertex based handles
 			for (int i = 0; i < segments.length; i++) {
 				// create handle for the start point of a segment
-				CircleSegmentHandlePart part = injector
-						.getInstance(CircleSegmentHandlePart.class);
+				CircleSegmentHandlePart part = AnchoredPartPool.getOrCreate(
+						target, CircleSegmentHandlePart.class, injector);
 				part.setSegmentsProvider(segmentsProvider);
 				part.setSegmentIndex(i);
 				part.setSegmentParameter(0.0);
@@ -405,7 +406,8 @@ public class DefaultSelectionHandlePartFactory implements IHandlePartFactory {
 						.getLength();
 				if (segmentLength >= BENDPOINT_CREATE_HANDLE_MINIMUM_SEGMENT_LENGTH) {
 					// create handle for the middle of a segment
-					part = injector.getInstance(CircleSegmentHandlePart.class);
+					part = AnchoredPartPool.getOrCreate(
+							target, CircleSegmentHandlePart.class, injector);
 					part.setSegmentsProvider(segmentsProvider);
 					part.setSegmentIndex(i);
 					part.setSegmentParameter(0.5);
@@ -414,7 +416,8 @@ public class DefaultSelectionHandlePartFactory implements IHandlePartFactory {
 
 				// create handle for the end point of the curve
 				if (i == segments.length - 1) {
-					part = injector.getInstance(CircleSegmentHandlePart.class);
+					part = AnchoredPartPool.getOrCreate(
+							target, CircleSegmentHandlePart.class, injector);
 					part.setSegmentsProvider(segmentsProvider);
 					part.setSegmentIndex(i);
 					part.setSegmentParameter(1.0);
@@ -455,8 +458,8 @@ public class DefaultSelectionHandlePartFactory implements IHandlePartFactory {
 		BezierCurve[] segments = segmentsProvider.get();
 		for (int i = 0; i < segments.length; i++) {
 			// create handle for the start point of the segment
-			CircleSegmentHandlePart part = injector
-					.getInstance(CircleSegmentHandlePart.class);
+			CircleSegmentHandlePart part = AnchoredPartPool.getOrCreate(
+					target, CircleSegmentHandlePart.class, injector);
 			part.setSegmentsProvider(segmentsProvider);
 			part.setSegmentIndex(i);
 			part.setSegmentParameter(0);
@@ -493,8 +496,8 @@ public class DefaultSelectionHandlePartFactory implements IHandlePartFactory {
 		List<IHandlePart<? extends Node>> hps = new ArrayList<>();
 		BezierCurve[] segments = segmentsProvider.get();
 		for (int i = 0; i < segments.length; i++) {
-			SquareSegmentHandlePart part = injector
-					.getInstance(SquareSegmentHandlePart.class);
+			SquareSegmentHandlePart part = AnchoredPartPool.getOrCreate(
+					target, SquareSegmentHandlePart.class, injector);
 			part.setSegmentsProvider(segmentsProvider);
 			part.setSegmentIndex(i);
 			part.setSegmentParameter(0);
@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import org.eclipse.gef.mvc.fx.behaviors.AnchoredPartPool;
 import org.eclipse.gef.mvc.fx.behaviors.SnappingBehavior;
 import org.eclipse.gef.mvc.fx.models.SnappingModel;
 import org.eclipse.gef.mvc.fx.models.SnappingModel.SnappingLocation;
@@ -62,11 +63,12 @@ public class DefaultSnappingFeedbackPartFactory implements IFeedbackPartFactory
 		// for each snapping location
 		for (SnappingLocation snappingLocation : snappingLocations) {
 			// create a feedback part
-			SnappingFeedbackPart fb = injector
-					.getInstance(SnappingFeedbackPart.class);
+			SnappingFeedbackPart fb = AnchoredPartPool.getOrCreate(
+					target, SnappingFeedbackPart.class, injector);
 			fb.setSnappingLocation(snappingLocation);
 			feedback.add(fb);
 		}
 		return feedback;
 	}
+
 }
@@ -12,6 +12,7 @@ package org.eclipse.gef.mvc.fx.parts;
 
 import java.util.Map;
 
+import org.eclipse.gef.mvc.fx.behaviors.ContentPartPool;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
 
 import javafx.scene.Node;
@@ -44,4 +45,34 @@ public interface IContentPartFactory {
 	IContentPart<? extends Node> createContentPart(Object content,
 			Map<Object, Object> contextMap);
 
+	/**
+	 * Returns the type of {@link IContentPart} that would be created for the
+	 * given <i>content</i> and <i>contextMap</i> by
+	 * {@link #createContentPart(Object, Map)}, in case {@link IContentPart}s of
+	 * this type may be recycled for different content elements, i.e. in case
+	 * they fully re-initialize themselves when their content is changed (see
+	 * {@link IContentPart#setContent(Object)}). Otherwise, <code>null</code>
+	 * is to be returned.
+	 * <p>
+	 * If a type is returned, a pooled {@link IContentPart} of that type may be
+	 * retrieved from the {@link ContentPartPool} instead of creating a new
+	 * one. Per default, <code>null</code> is returned, so that pooled
+	 * {@link IContentPart}s are only revived for the very same content
+	 * element.
+	 *
+	 * @param content
+	 *            The model {@link Object} for which an {@link IContentPart} is
+	 *            to be created.
+	 * @param contextMap
+	 *            A map in which additional context information for the creation
+	 *            process can be placed.
+	 * @return The type of {@link IContentPart} that may be recycled for the
+	 *         given content and context, or <code>null</code>.
+	 * @since 5.1
+	 */
+	public default Class<? extends IContentPart<? extends Node>> getRecyclablePartType(
+			Object content, Map<Object, Object> contextMap) {
+		return null;
+	}
+
 }
@@ -11,7 +11,10 @@
  *******************************************************************************/
 package org.eclipse.gef.mvc.fx.parts;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
 
@@ -177,6 +180,52 @@ public class LayeredRootPart extends AbstractVisualPart<Group>
 		}
 	}
 
+	@Override
+	protected void doAddChildVisuals(
+			List<? extends IVisualPart<? extends Node>> children, int index) {
+		// XXX: The children are contiguous, so that their visuals are
+		// contiguous within each layer as well, and can be added to each
+		// layer at once.
+		int contentLayerIndex = 0;
+		int feedbackLayerIndex = 0;
+		int handleLayerIndex = 0;
+		List<IVisualPart<? extends Node>> parts = getChildrenUnmodifiable();
+		for (int i = 0; i < index && i < parts.size(); i++) {
+			IVisualPart<? extends Node> child = parts.get(i);
+			if (child instanceof IContentPart) {
+				contentLayerIndex++;
+			} else if (child instanceof IFeedbackPart) {
+				feedbackLayerIndex++;
+			} else if (child instanceof IHandlePart) {
+				handleLayerIndex++;
+			}
+		}
+		List<Node> contentVisuals = new ArrayList<>();
+		List<Node> feedbackVisuals = new ArrayList<>();
+		List<Node> handleVisuals = new ArrayList<>();
+		for (IVisualPart<? extends Node> child : children) {
+			if (child instanceof IContentPart) {
+				contentVisuals.add(child.getVisual());
+			} else if (child instanceof IFeedbackPart) {
+				feedbackVisuals.add(child.getVisual());
+			} else {
+				handleVisuals.add(child.getVisual());
+			}
+		}
+		if (!contentVisuals.isEmpty()) {
+			getContentLayer().getChildren().addAll(contentLayerIndex,
+					contentVisuals);
+		}
+		if (!feedbackVisuals.isEmpty()) {
+			getFeedbackLayer().getChildren().addAll(feedbackLayerIndex,
+					feedbackVisuals);
+		}
+		if (!handleVisuals.isEmpty()) {
+			getHandleLayer().getChildren().addAll(handleLayerIndex,
+					handleVisuals);
+		}
+	}
+
 	@Override
 	protected void doAttachToAnchorageVisual(
 			IVisualPart<? extends Node> anchorage, String role) {
@@ -249,6 +298,32 @@ public class LayeredRootPart extends AbstractVisualPart<Group>
 		}
 	}
 
+	@Override
+	protected void doRemoveChildVisuals(
+			List<? extends IVisualPart<? extends Node>> children) {
+		Set<Node> contentVisuals = new HashSet<>();
+		Set<Node> feedbackVisuals = new HashSet<>();
+		Set<Node> handleVisuals = new HashSet<>();
+		for (IVisualPart<? extends Node> child : children) {
+			if (child instanceof IContentPart) {
+				contentVisuals.add(child.getVisual());
+			} else if (child instanceof IFeedbackPart) {
+				feedbackVisuals.add(child.getVisual());
+			} else {
+				handleVisuals.add(child.getVisual());
+			}
+		}
+		if (!contentVisuals.isEmpty()) {
+			getContentLayer().getChildren().removeAll(contentVisuals);
+		}
+		if (!feedbackVisuals.isEmpty()) {
+			getFeedbackLayer().getChildren().removeAll(feedbackVisuals);
+		}
+		if (!handleVisuals.isEmpty()) {
+			getHandleLayer().getChildren().removeAll(handleVisuals);
+		}
+	}
+
 	/**
 	 * Returns the content layer visual. The content layer visual is created in
 	 * case it was not created before.
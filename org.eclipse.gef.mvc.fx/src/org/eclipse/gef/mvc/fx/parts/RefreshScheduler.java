@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.fx.parts;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.gef.common.dispose.IDisposable;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+
+/**
+ * The {@link RefreshScheduler} is an {@link IViewer} adapter that coalesces
+ * visual refreshes of {@link IVisualPart}s. Instead of refreshing its visual
+ * immediately, an {@link AbstractVisualPart} may
+ * {@link AbstractVisualPart#scheduleRefreshVisual() schedule} a refresh, e.g.
+ * in reaction to a change of its content. All scheduled refreshes are
+ * performed once per pulse (before CSS is applied and layout is performed),
+ * with parents being refreshed before their children, so that multiple
+ * subsequent changes only lead to a single refresh.
+ * <p>
+ * The scheduled refreshes may also be performed synchronously via
+ * {@link #flush()}, e.g. in case an up-to-date visual is needed right away.
+ * An explicit call to {@link IVisualPart#refreshVisual()} removes the
+ * respective part from the schedule.
+ *
+ * @author agent
+ * @since 5.1
+ *
+ */
+public class RefreshScheduler implements IDisposable {
+
+	private Set<IVisualPart<? extends Node>> scheduled = new LinkedHashSet<>();
+	private AnimationTimer pulse;
+	private boolean pulseRequested = false;
+	private boolean flushing = false;
+
+	/**
+	 * Cancels a pending pulse request. Called when all scheduled refreshes
+	 * have been performed.
+	 */
+	protected void cancelPulse() {
+		if (pulse != null) {
+			pulse.stop();
+		}
+	}
+
+	@Override
+	public void dispose() {
+		cancelPulse();
+		pulse = null;
+		scheduled.clear();
+	}
+
+	/**
+	 * Performs all scheduled refreshes, parents before their children.
+	 * Refreshes that are scheduled while flushing are performed as well.
+	 * Parts that are no longer active are skipped.
+	 */
+	public void flush() {
+		if (flushing) {
+			return;
+		}
+		flushing = true;
+		try {
+			while (!scheduled.isEmpty()) {
+				List<IVisualPart<? extends Node>> toRefresh = new ArrayList<>(
+						scheduled);
+				scheduled.clear();
+				final Map<IVisualPart<? extends Node>, Integer> depths = new IdentityHashMap<>();
+				for (IVisualPart<? extends Node> part : toRefresh) {
+					depths.put(part, getDepth(part));
+				}
+				// XXX: sort is stable, so parts at the same depth are
+				// refreshed in the order they were scheduled
+				Collections.sort(toRefresh,
+						new Comparator<IVisualPart<? extends Node>>() {
+							@Override
+							public int compare(IVisualPart<? extends Node> p1,
+									IVisualPart<? extends Node> p2) {
+								return depths.get(p1) - depths.get(p2);
+							}
+						});
+				for (IVisualPart<? extends Node> part : toRefresh) {
+					if (part.isActive()) {
+						part.refreshVisual();
+					}
+				}
+			}
+		} finally {
+			flushing = false;
+			pulseRequested = false;
+			cancelPulse();
+		}
+	}
+
+	private int getDepth(IVisualPart<? extends Node> part) {
+		int depth = 0;
+		IVisualPart<? extends Node> parent = part.getParent();
+		while (parent != null) {
+			depth++;
+			parent = parent.getParent();
+		}
+		return depth;
+	}
+
+	/**
+	 * Returns the number of {@link IVisualPart}s for which a refresh is
+	 * currently scheduled.
+	 *
+	 * @return The number of scheduled refreshes.
+	 */
+	public int getScheduledCount() {
+		return scheduled.size();
+	}
+
+	/**
+	 * Returns <code>true</code> if a refresh is scheduled for the given
+	 * {@link IVisualPart}. Otherwise returns <code>false</code>.
+	 *
+	 * @param part
+	 *            The {@link IVisualPart} to test.
+	 * @return <code>true</code> if a refresh is scheduled for the given
+	 *         {@link IVisualPart}, otherwise <code>false</code>.
+	 */
+	public boolean isScheduled(IVisualPart<? extends Node> part) {
+		return scheduled.contains(part);
+	}
+
+	/**
+	 * Requests that {@link #flush()} is called within the next pulse. By
+	 * default, an {@link AnimationTimer} is used for this purpose.
+	 */
+	protected void requestPulse() {
+		if (pulse == null) {
+			pulse = new AnimationTimer() {
+				@Override
+				public void handle(long now) {
+					flush();
+				}
+			};
+		}
+		pulse.start();
+	}
+
+	/**
+	 * Schedules a refresh of the visual of the given {@link IVisualPart}.
+	 *
+	 * @param part
+	 *            The {@link IVisualPart} whose visual is to be refreshed.
+	 */
+	public void schedule(IVisualPart<? extends Node> part) {
+		if (scheduled.add(part) && !pulseRequested && !flushing) {
+			pulseRequested = true;
+			requestPulse();
+		}
+	}
+
+	/**
+	 * Removes the given {@link IVisualPart} from the schedule, e.g. because
+	 * its visual was refreshed explicitly.
+	 *
+	 * @param part
+	 *            The {@link IVisualPart} to remove from the schedule.
+	 */
+	public void unschedule(IVisualPart<? extends Node> part) {
+		scheduled.remove(part);
+	}
+}
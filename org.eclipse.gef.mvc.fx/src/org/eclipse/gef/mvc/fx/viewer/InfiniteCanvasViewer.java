@@ -26,6 +26,7 @@ import org.eclipse.gef.common.beans.property.ReadOnlyMapWrapperEx;
 import org.eclipse.gef.common.collections.CollectionUtils;
 import org.eclipse.gef.fx.nodes.InfiniteCanvas;
 import org.eclipse.gef.fx.utils.NodeUtils;
+import org.eclipse.gef.fx.utils.PickingIndex;
 import org.eclipse.gef.mvc.fx.domain.IDomain;
 import org.eclipse.gef.mvc.fx.parts.IContentPart;
 import org.eclipse.gef.mvc.fx.parts.IRootPart;
@@ -44,6 +45,7 @@ import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
+import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import javafx.scene.Node;
@@ -150,6 +152,24 @@ public class InfiniteCanvasViewer implements IViewer {
 			.observableMap(new IdentityHashMap<>());
 	private ReadOnlyMapProperty<Node, IVisualPart<? extends Node>> visualPartMapProperty;
 
+	private PickingIndex pickingIndex;
+	private MapChangeListener<Object, IContentPart<? extends Node>> contentPartMapObserver = new MapChangeListener<Object, IContentPart<? extends Node>>() {
+		@Override
+		public void onChanged(
+				MapChangeListener.Change<? extends Object, ? extends IContentPart<? extends Node>> change) {
+			// XXX: The visual of a content part is not exchanged during its
+			// life-cycle, so it is sufficient to (un-)register it here.
+			if (change.wasRemoved()) {
+				getPickingIndex()
+						.unregister(change.getValueRemoved().getVisual());
+			}
+			if (change.wasAdded()) {
+				getPickingIndex()
+						.register(change.getValueAdded().getVisual());
+			}
+		}
+	};
+
 	private ReadOnlyObjectWrapper<IDomain> domainProperty = new ReadOnlyObjectWrapper<>();
 
 	/**
@@ -163,6 +183,9 @@ public class InfiniteCanvasViewer implements IViewer {
 		// - focusOwner
 		// - focusOwner focused
 		viewerFocusedProperty.bind(viewerFocusedPropertyBinding);
+		// keep the visuals of all content parts registered at the picking
+		// index
+		contentPartMap.addListener(contentPartMapObserver);
 	}
 
 	@Override
@@ -254,8 +277,15 @@ public class InfiniteCanvasViewer implements IViewer {
 			throw new IllegalStateException(
 					"Content part map was not properly cleared!");
 		}
+		contentPartMap.removeListener(contentPartMapObserver);
 		contentPartMap = null;
 
+		// clear picking index
+		if (pickingIndex != null) {
+			pickingIndex.clear();
+			pickingIndex = null;
+		}
+
 		// clear visual part map
 		if (!visualPartMap.isEmpty()) {
 			throw new IllegalStateException(
@@ -376,6 +406,25 @@ public class InfiniteCanvasViewer implements IViewer {
 		return domainProperty.get();
 	}
 
+	/**
+	 * Returns the {@link PickingIndex} of this {@link InfiniteCanvasViewer},
+	 * at which the visuals of all {@link IContentPart}s within the
+	 * {@link #getContentPartMap() content part map} are registered. It can be
+	 * used to efficiently determine the content part visuals at a given scene
+	 * position. The bounds are indexed in the coordinate system of the visual
+	 * of the {@link #getRootPart() root part}, so that scrolling and zooming
+	 * do not invalidate the index.
+	 *
+	 * @return The {@link PickingIndex} of this {@link InfiniteCanvasViewer}.
+	 * @since 5.1
+	 */
+	public PickingIndex getPickingIndex() {
+		if (pickingIndex == null) {
+			pickingIndex = new PickingIndex(getRootPart().getVisual());
+		}
+		return pickingIndex;
+	}
+
 	@SuppressWarnings("serial")
 	@Override
 	public IRootPart<? extends Node> getRootPart() {
@@ -13,6 +13,7 @@ package org.eclipse.gef.mvc.tests.fx;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -109,6 +110,28 @@ public class AbstractVisualPartTests {
 		Assert.assertEquals(2, parent.getChildrenUnmodifiable().size());
 	}
 
+	@Test
+	public void testAddChildren() {
+		AbstractVisualPartStub parent = new AbstractVisualPartStub();
+		AbstractVisualPartStub child1 = new AbstractVisualPartStub();
+		AbstractVisualPartStub child2 = new AbstractVisualPartStub();
+		AbstractVisualPartStub child3 = new AbstractVisualPartStub();
+		parent.addChild(child3);
+
+		// check that the children are added at once, so that a single
+		// property change event is fired.
+		ListChangeExpector<IVisualPart<? extends Object>> listChangeListener = new ListChangeExpector<>(
+				parent.getChildrenUnmodifiable());
+		parent.getChildrenUnmodifiable().addListener(listChangeListener);
+		listChangeListener.addExpectation(Collections.<IVisualPart<? extends Object>>emptyList(),
+				Arrays.<IVisualPart<? extends Object>>asList(child1, child2));
+		parent.addChildren(Arrays.asList(child1, child2), 0);
+		listChangeListener.check();
+		Assert.assertEquals(Arrays.asList(child1, child2, child3), parent.getChildrenUnmodifiable());
+		Assert.assertEquals(parent, child1.getParent());
+		Assert.assertEquals(parent, child2.getParent());
+	}
+
 	@Test
 	public void testRemoveChild() {
 		AbstractVisualPartStub parent = new AbstractVisualPartStub();
@@ -138,6 +161,58 @@ public class AbstractVisualPartTests {
 		Assert.assertEquals(0, parent.getChildrenUnmodifiable().size());
 	}
 
+	@Test
+	public void testChildVisualIndices() {
+		final List<String> visualChanges = new LinkedList<>();
+		AbstractVisualPartStub parent = new AbstractVisualPartStub() {
+			@Override
+			protected void doAddChildVisual(IVisualPart<? extends Node> child, int index) {
+				visualChanges.add("add " + index);
+			}
+
+			@Override
+			protected void doRemoveChildVisual(IVisualPart<? extends Node> child, int index) {
+				visualChanges.add("remove " + index);
+			}
+		};
+		AbstractVisualPartStub child1 = new AbstractVisualPartStub();
+		AbstractVisualPartStub child2 = new AbstractVisualPartStub();
+		AbstractVisualPartStub child3 = new AbstractVisualPartStub();
+		parent.addChild(child3);
+		visualChanges.clear();
+
+		// the bulk hooks delegate to the per-child hooks by default, passing
+		// the indices of the children
+		parent.addChildren(Arrays.asList(child1, child2), 0);
+		assertEquals(Arrays.asList("add 0", "add 1"), visualChanges);
+		visualChanges.clear();
+		parent.removeChildren(Arrays.asList(child1, child3));
+		assertEquals(Arrays.asList("remove 2", "remove 0"), visualChanges);
+		assertEquals(Arrays.asList(child2), parent.getChildrenUnmodifiable());
+	}
+
+	@Test
+	public void testRemoveChildren() {
+		AbstractVisualPartStub parent = new AbstractVisualPartStub();
+		AbstractVisualPartStub child1 = new AbstractVisualPartStub();
+		AbstractVisualPartStub child2 = new AbstractVisualPartStub();
+		AbstractVisualPartStub child3 = new AbstractVisualPartStub();
+		parent.addChildren(Arrays.asList(child1, child2, child3));
+
+		// check that the children are removed at once, so that a single
+		// property change event is fired.
+		ListChangeExpector<IVisualPart<? extends Object>> listChangeListener = new ListChangeExpector<>(
+				parent.getChildrenUnmodifiable());
+		parent.getChildrenUnmodifiable().addListener(listChangeListener);
+		listChangeListener.addExpectation(Arrays.<IVisualPart<? extends Object>>asList(child1, child2),
+				Collections.<IVisualPart<? extends Object>>emptyList());
+		parent.removeChildren(Arrays.asList(child2, child1));
+		listChangeListener.check();
+		Assert.assertEquals(Collections.singletonList(child3), parent.getChildrenUnmodifiable());
+		Assert.assertNull(child1.getParent());
+		Assert.assertNull(child2.getParent());
+	}
+
 	@Test
 	public void testReorderChild() {
 		AbstractVisualPartStub parent = new AbstractVisualPartStub();
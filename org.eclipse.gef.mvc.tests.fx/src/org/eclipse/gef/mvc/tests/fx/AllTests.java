@@ -20,7 +20,9 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({ AbstractVisualPartTests.class, BendableTests.class, ContentSynchronizationTests.class,
 		FocusTraversalPolicyTests.class, SelectionModelTests.class, AbstractHandlePartTests.class,
 		BendConnectionPolicyTests.class, ClickDragGestureTests.class, TypeStrokeGestureTests.class, TransformPolicyTests.class,
-		FocusTraversalPolicyTests.class, ResizePolicyTests.class })
+		FocusTraversalPolicyTests.class, ResizePolicyTests.class, ContentPartPoolTests.class,
+		VirtualizingContentBehaviorTests.class, RefreshSchedulerTests.class, SnapToGeometryTests.class,
+		HistoricizingDomainTests.class, AnchoredPartPoolTests.class, MarqueeOnDragHandlerTests.class })
 public class AllTests {
 
 }
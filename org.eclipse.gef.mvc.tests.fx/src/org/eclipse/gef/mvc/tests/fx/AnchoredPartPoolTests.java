@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.geometry.planar.IGeometry;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.mvc.fx.behaviors.AnchoredPartPool;
+import org.eclipse.gef.mvc.fx.parts.AbstractFeedbackPart;
+import org.eclipse.gef.mvc.fx.parts.CircleSegmentHandlePart;
+import org.eclipse.gef.mvc.fx.parts.HoverFeedbackPart;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Provider;
+
+import javafx.scene.Group;
+
+/**
+ * Tests for the {@link AnchoredPartPool}.
+ *
+ * @author agent
+ *
+ */
+public class AnchoredPartPoolTests {
+
+	public static class FeedbackPartA extends AbstractFeedbackPart<Group> {
+		@Override
+		protected Group doCreateVisual() {
+			return new Group();
+		}
+
+		@Override
+		protected void doRefreshVisual(Group visual) {
+		}
+	}
+
+	public static class FeedbackPartB extends FeedbackPartA {
+	}
+
+	public static class RecordingHoverFeedbackPart extends HoverFeedbackPart {
+		Provider<? extends IGeometry> geometryProvider;
+
+		@Override
+		public void setGeometryProvider(Provider<? extends IGeometry> geometryProvider) {
+			super.setGeometryProvider(geometryProvider);
+			this.geometryProvider = geometryProvider;
+		}
+	}
+
+	public static class RecordingSegmentHandlePart extends CircleSegmentHandlePart {
+		Provider<BezierCurve[]> segmentsProvider;
+
+		@Override
+		public void setSegmentsProvider(Provider<BezierCurve[]> segmentsProvider) {
+			super.setSegmentsProvider(segmentsProvider);
+			this.segmentsProvider = segmentsProvider;
+		}
+	}
+
+	@Test
+	public void evictLeastRecentlyPooled() {
+		AnchoredPartPool pool = new AnchoredPartPool();
+		pool.setCapacity(2);
+		FeedbackPartA a1 = new FeedbackPartA();
+		FeedbackPartA a2 = new FeedbackPartA();
+		FeedbackPartB b = new FeedbackPartB();
+		pool.add(a1);
+		pool.add(b);
+		pool.add(a2);
+
+		// least recently pooled part was evicted
+		assertEquals(2, pool.getPooled().size());
+		assertFalse(pool.getPooled().contains(a1));
+		assertSame(a2, pool.remove(FeedbackPartA.class));
+		assertNull(pool.remove(FeedbackPartA.class));
+
+		// reducing the capacity evicts
+		pool.setCapacity(0);
+		assertTrue(pool.getPooled().isEmpty());
+		assertNull(pool.remove(FeedbackPartB.class));
+	}
+
+	@Test
+	public void releaseProvidersWhenPooled() {
+		AnchoredPartPool pool = new AnchoredPartPool();
+		RecordingHoverFeedbackPart feedbackPart = new RecordingHoverFeedbackPart();
+		feedbackPart.setGeometryProvider(() -> new Rectangle(0, 0, 10, 10));
+		RecordingSegmentHandlePart handlePart = new RecordingSegmentHandlePart();
+		handlePart.setSegmentsProvider(() -> new BezierCurve[0]);
+
+		// pooled parts do not retain the providers of their former targets
+		pool.add(feedbackPart);
+		pool.add(handlePart);
+		assertNull(feedbackPart.geometryProvider);
+		assertNull(handlePart.segmentsProvider);
+	}
+
+	@Test
+	public void reuseByType() {
+		AnchoredPartPool pool = new AnchoredPartPool();
+		Injector injector = Guice.createInjector();
+		FeedbackPartA a = new FeedbackPartA();
+		FeedbackPartB b = new FeedbackPartB();
+		pool.add(a);
+		pool.add(b);
+		// adding a part twice has no effect
+		pool.add(a);
+		assertEquals(2, pool.getPooled().size());
+
+		// parts are retrieved by their exact type
+		assertSame(b, pool.getOrCreate(FeedbackPartB.class, injector));
+		assertSame(a, pool.getOrCreate(FeedbackPartA.class, injector));
+		assertEquals(2, pool.getHitCount());
+
+		// a new part is created if none is pooled
+		FeedbackPartA created = pool.getOrCreate(FeedbackPartA.class,
+				injector);
+		assertNotSame(a, created);
+		assertEquals(1, pool.getMissCount());
+		assertTrue(pool.getPooled().isEmpty());
+	}
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2017 itemis AG and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Alexander Nyßen (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.gef.mvc.fx.behaviors.ContentPartPool;
+import org.eclipse.gef.mvc.tests.fx.stubs.Cell;
+import org.eclipse.gef.mvc.tests.fx.stubs.CellContentPart;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ContentPartPool}.
+ *
+ * @author anyssen
+ *
+ */
+public class ContentPartPoolTests {
+
+	private static CellContentPart createPart(Cell content) {
+		CellContentPart part = new CellContentPart();
+		part.setContent(content);
+		return part;
+	}
+
+	@Test
+	public void reviveAndRecycle() {
+		ContentPartPool pool = new ContentPartPool();
+		Cell a = new Cell("A");
+		Cell b = new Cell("B");
+		CellContentPart partA = createPart(a);
+		pool.add(partA);
+		partA.setContent(null);
+
+		// no part pooled for b, and recycling is not allowed
+		assertNull(pool.remove(b));
+		assertEquals(1, pool.getMissCount());
+
+		// part pooled for a is recycled for b
+		assertSame(partA, pool.remove(b, CellContentPart.class));
+		assertEquals(1, pool.getHitCount());
+		assertTrue(pool.getPooled().isEmpty());
+
+		// parts pooled for the same content are revived
+		pool.add(partA);
+		assertSame(partA, pool.remove(a, CellContentPart.class));
+		assertEquals(2, pool.getHitCount());
+	}
+
+	@Test
+	public void evictLeastRecentlyPooled() {
+		ContentPartPool pool = new ContentPartPool();
+		pool.setCapacity(2);
+		Cell a = new Cell("A");
+		Cell b = new Cell("B");
+		Cell c = new Cell("C");
+		CellContentPart partA = createPart(a);
+		CellContentPart partB = createPart(b);
+		CellContentPart partC = createPart(c);
+		pool.add(partA);
+		pool.add(partB);
+		pool.add(partC);
+
+		// part for a was evicted
+		assertEquals(1, pool.getEvictionCount());
+		assertEquals(2, pool.getPooled().size());
+		assertFalse(pool.getPooled().contains(partA));
+		assertNull(pool.remove(a));
+
+		// least recently pooled part is recycled first
+		assertSame(partB, pool.remove(a, CellContentPart.class));
+		assertSame(partC, pool.remove(c));
+
+		// reducing the capacity evicts
+		pool.add(partB);
+		pool.add(partC);
+		pool.setCapacity(0);
+		assertEquals(3, pool.getEvictionCount());
+		assertTrue(pool.getPooled().isEmpty());
+	}
+}
@@ -15,7 +15,9 @@ package org.eclipse.gef.mvc.tests.fx;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +29,8 @@ import org.eclipse.gef.mvc.fx.behaviors.ContentBehavior;
 import org.eclipse.gef.mvc.fx.domain.IDomain;
 import org.eclipse.gef.mvc.fx.parts.IContentPart;
 import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.parts.LayeredRootPart;
+import org.eclipse.gef.mvc.fx.parts.PartUtils;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
 import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
 import org.eclipse.gef.mvc.tests.fx.stubs.Cell;
@@ -109,6 +113,69 @@ public class ContentSynchronizationTests {
 		assertNotNull(contentPartMap.get(secondContents.get(0)));
 	}
 
+	/**
+	 * This scenario tests if the synchronization reorders the existing content
+	 * parts (without re-creating them) when the contents are permuted.
+	 */
+	@Test
+	public void reorderContents() throws Throwable {
+		List<Cell> contents = Arrays.asList(new Cell("0"), new Cell("1"), new Cell("2"), new Cell("3"));
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(contents);
+		});
+		Map<Object, IContentPart<? extends Node>> contentPartMap = viewer.getContentPartMap();
+		List<IContentPart<? extends Node>> parts = new ArrayList<>();
+		for (Cell c : contents) {
+			parts.add(contentPartMap.get(c));
+		}
+
+		List<Cell> permuted = Arrays.asList(contents.get(3), contents.get(1), new Cell("4"), contents.get(0),
+				contents.get(2));
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(permuted);
+		});
+		List<IContentPart<? extends Node>> children = PartUtils
+				.filterParts(viewer.getRootPart().getChildrenUnmodifiable(), IContentPart.class);
+		assertEquals(permuted.size(), children.size());
+		for (int i = 0; i < permuted.size(); i++) {
+			assertEquals(permuted.get(i), children.get(i).getContent());
+		}
+		// existing parts are kept
+		for (int i = 0; i < contents.size(); i++) {
+			assertSame(parts.get(i), contentPartMap.get(contents.get(i)));
+		}
+	}
+
+	/**
+	 * This scenario tests if the synchronization removes non-adjacent content
+	 * parts and moves content parts in front of the stable ones.
+	 */
+	@Test
+	public void removeAndReverseContents() throws Throwable {
+		List<Cell> contents = Arrays.asList(new Cell("0"), new Cell("1"), new Cell("2"), new Cell("3"), new Cell("4"),
+				new Cell("5"));
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(contents);
+		});
+		Map<Object, IContentPart<? extends Node>> contentPartMap = viewer.getContentPartMap();
+
+		List<Cell> remaining = Arrays.asList(contents.get(5), contents.get(3), contents.get(1));
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(remaining);
+		});
+		List<IContentPart<? extends Node>> children = PartUtils
+				.filterParts(viewer.getRootPart().getChildrenUnmodifiable(), IContentPart.class);
+		assertEquals(remaining.size(), children.size());
+		for (int i = 0; i < remaining.size(); i++) {
+			assertEquals(remaining.get(i), children.get(i).getContent());
+			assertSame(children.get(i).getVisual(),
+					((LayeredRootPart) viewer.getRootPart()).getContentLayer().getChildren().get(i));
+		}
+		assertNull(contentPartMap.get(contents.get(0)));
+		assertNull(contentPartMap.get(contents.get(2)));
+		assertNull(contentPartMap.get(contents.get(4)));
+	}
+
 	/**
 	 * This scenario tests if the synchronization correctly identifies contents
 	 * for which parts are already created in other places of the content part
@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.commands.operations.AbstractOperation;
+import org.eclipse.core.commands.operations.DefaultOperationHistory;
+import org.eclipse.core.commands.operations.IOperationHistory;
+import org.eclipse.core.commands.operations.IUndoableOperation;
+import org.eclipse.core.commands.operations.UndoContext;
+import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.gef.mvc.fx.domain.HistoricizingDomain;
+import org.eclipse.gef.mvc.fx.gestures.IGesture;
+import org.eclipse.gef.mvc.fx.gestures.TypeStrokeGesture;
+import org.eclipse.gef.mvc.fx.operations.AbstractCompositeOperation;
+import org.eclipse.gef.mvc.fx.operations.IMergeableOperation;
+import org.eclipse.gef.mvc.fx.operations.ITransactionalOperation;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests operation merging and the bounded undo history of the
+ * {@link HistoricizingDomain}.
+ *
+ * @author agent
+ *
+ */
+public class HistoricizingDomainTests {
+
+	/**
+	 * A mergeable operation that sets the value of a {@link Target}.
+	 */
+	private static class SetValueOperation extends AbstractOperation implements IMergeableOperation {
+
+		private Target target;
+		private int initialValue;
+		private int finalValue;
+
+		public SetValueOperation(Target target, int finalValue) {
+			super("Set Value");
+			this.target = target;
+			this.initialValue = target.value;
+			this.finalValue = finalValue;
+		}
+
+		@Override
+		public boolean canMerge(ITransactionalOperation successor) {
+			return successor instanceof SetValueOperation && ((SetValueOperation) successor).target == target;
+		}
+
+		@Override
+		public IStatus execute(IProgressMonitor monitor, IAdaptable info) throws ExecutionException {
+			target.value = finalValue;
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public boolean isContentRelevant() {
+			return true;
+		}
+
+		@Override
+		public boolean isNoOp() {
+			return initialValue == finalValue;
+		}
+
+		@Override
+		public void merge(ITransactionalOperation successor) {
+			finalValue = ((SetValueOperation) successor).finalValue;
+		}
+
+		@Override
+		public IStatus redo(IProgressMonitor monitor, IAdaptable info) throws ExecutionException {
+			return execute(monitor, info);
+		}
+
+		@Override
+		public IStatus undo(IProgressMonitor monitor, IAdaptable info) throws ExecutionException {
+			target.value = initialValue;
+			return Status.OK_STATUS;
+		}
+	}
+
+	private static class Target {
+		int value;
+	}
+
+	private HistoricizingDomain domain;
+	private IOperationHistory history;
+
+	@Before
+	public void setUp() {
+		domain = new HistoricizingDomain();
+		history = new DefaultOperationHistory();
+		domain.setOperationHistory(history);
+		domain.setUndoContext(new UndoContext());
+	}
+
+	@Test
+	public void mergeConsecutiveOperations() throws ExecutionException {
+		Target t1 = new Target();
+		Target t2 = new Target();
+		IGesture gesture = new TypeStrokeGesture();
+
+		domain.openExecutionTransaction(gesture);
+		domain.execute(new SetValueOperation(t1, 1), null);
+		domain.execute(new SetValueOperation(t1, 2), null);
+		domain.execute(new SetValueOperation(t1, 3), null);
+		domain.execute(new SetValueOperation(t2, 5), null);
+		// an operation that reverts its predecessor is dropped
+		domain.execute(new SetValueOperation(t2, 7), null);
+		domain.execute(new SetValueOperation(t2, 0), null);
+		domain.closeExecutionTransaction(gesture);
+
+		IUndoableOperation[] undoHistory = history.getUndoHistory(domain.getUndoContext());
+		assertEquals(1, undoHistory.length);
+		assertEquals(1, ((AbstractCompositeOperation) undoHistory[0]).getOperations().size());
+		assertEquals(3, t1.value);
+
+		history.undo(domain.getUndoContext(), null, null);
+		assertEquals(0, t1.value);
+		history.redo(domain.getUndoContext(), null, null);
+		assertEquals(3, t1.value);
+	}
+
+	@Test
+	public void operationBudget() throws ExecutionException {
+		Target t = new Target();
+		IGesture gesture = new TypeStrokeGesture();
+		domain.setOperationBudget(4);
+
+		// operations executed outside a transaction
+		domain.execute(new SetValueOperation(t, 1), null);
+		domain.execute(new SetValueOperation(t, 2), null);
+		assertEquals(2, history.getUndoHistory(domain.getUndoContext()).length);
+
+		// transaction with three primitive operations (on distinct targets)
+		domain.openExecutionTransaction(gesture);
+		domain.execute(new SetValueOperation(t, 3), null);
+		domain.execute(new SetValueOperation(new Target(), 1), null);
+		domain.execute(new SetValueOperation(new Target(), 1), null);
+		domain.closeExecutionTransaction(gesture);
+
+		// only 4 primitive operations are retained, so the oldest entry is
+		// discarded
+		IUndoableOperation[] undoHistory = history.getUndoHistory(domain.getUndoContext());
+		assertEquals(2, undoHistory.length);
+		assertEquals(2, ((SetValueOperation) undoHistory[0]).finalValue);
+
+		// the most recent entry is retained even if it exceeds the budget
+		domain.setOperationBudget(1);
+		undoHistory = history.getUndoHistory(domain.getUndoContext());
+		assertEquals(1, undoHistory.length);
+		assertTrue(undoHistory[0] instanceof AbstractCompositeOperation);
+
+		// the undo limit can be configured as well
+		domain.setUndoLimit(1);
+		domain.execute(new SetValueOperation(t, 4), null);
+		assertEquals(1, history.getUndoHistory(domain.getUndoContext()).length);
+		assertEquals(1, domain.getUndoLimit());
+	}
+
+	@Test
+	public void operationBudgetRetainsRedoHistory() throws ExecutionException {
+		Target t = new Target();
+		for (int i = 1; i <= 4; i++) {
+			domain.execute(new SetValueOperation(t, i), null);
+		}
+		history.undo(domain.getUndoContext(), null, null);
+		history.undo(domain.getUndoContext(), null, null);
+		assertEquals(2, t.value);
+
+		// only the undo history is trimmed
+		domain.setOperationBudget(1);
+		assertEquals(1, history.getUndoHistory(domain.getUndoContext()).length);
+		assertEquals(2, history.getRedoHistory(domain.getUndoContext()).length);
+
+		history.redo(domain.getUndoContext(), null, null);
+		history.redo(domain.getUndoContext(), null, null);
+		assertEquals(4, t.value);
+		history.undo(domain.getUndoContext(), null, null);
+		history.undo(domain.getUndoContext(), null, null);
+		history.undo(domain.getUndoContext(), null, null);
+		assertEquals(1, t.value);
+	}
+}
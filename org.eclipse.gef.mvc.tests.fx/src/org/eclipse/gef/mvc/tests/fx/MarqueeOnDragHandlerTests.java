@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.mvc.fx.MvcFxModule;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.handlers.MarqueeOnDragHandler;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.parts.IFeedbackPart;
+import org.eclipse.gef.mvc.fx.parts.IVisualPart;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
+import org.eclipse.gef.mvc.tests.fx.stubs.Cell;
+import org.eclipse.gef.mvc.tests.fx.stubs.CellContentPartFactory;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.PickResult;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Tests for the {@link MarqueeOnDragHandler}.
+ *
+ * @author agent
+ *
+ */
+public class MarqueeOnDragHandlerTests {
+
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
+	private MouseEvent createMouseEvent(IViewer viewer, double x, double y) {
+		Node target = viewer.getRootPart().getVisual();
+		Point2D scene = target.localToScene(x, y);
+		Point2D screen = target.localToScreen(x, y);
+		return new MouseEvent(target, target, MouseEvent.MOUSE_DRAGGED, scene.getX(), scene.getY(), screen.getX(),
+				screen.getY(), MouseButton.PRIMARY, 0, false, false, false, false, true, false, false, false, false,
+				false, new PickResult(target, scene.getX(), scene.getY()));
+	}
+
+	@Test
+	public void previewWhileDragging() throws Throwable {
+		IDomain domain = Guice.createInjector(new MvcFxModule() {
+			@Override
+			protected void configure() {
+				binder().bind(IContentPartFactory.class).to(CellContentPartFactory.class);
+				super.configure();
+			}
+		}).getInstance(IDomain.class);
+		IViewer viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+		ctx.createScene(viewer.getCanvas(), 400, 400);
+		ctx.runAndWait(() -> {
+			domain.activate();
+		});
+
+		// place the cells side by side in a row
+		List<Cell> contents = Arrays.asList(new Cell("C0"), new Cell("C1"), new Cell("C2"));
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(contents);
+			for (int i = 0; i < contents.size(); i++) {
+				Rectangle visual = (Rectangle) viewer.getContentPartMap().get(contents.get(i)).getVisual();
+				visual.setX(100 * i + 10);
+				visual.setY(10);
+				visual.setWidth(50);
+				visual.setHeight(50);
+			}
+		});
+
+		MarqueeOnDragHandler handler = viewer.getRootPart().getAdapter(MarqueeOnDragHandler.class);
+		ctx.runAndWait(() -> {
+			// the preview is created when the drag starts
+			int childCount = viewer.getRootPart().getChildrenUnmodifiable().size();
+			handler.startDrag(createMouseEvent(viewer, 0, 0));
+			assertEquals(childCount + 2, viewer.getRootPart().getChildrenUnmodifiable().size());
+			assertTrue(handler.getPreviewParts().isEmpty());
+
+			// the preview is updated while dragging
+			handler.drag(createMouseEvent(viewer, 170, 70), new Dimension(170, 70));
+			assertEquals(Arrays.asList(viewer.getContentPartMap().get(contents.get(0)),
+					viewer.getContentPartMap().get(contents.get(1))), handler.getPreviewParts());
+			Path preview = null;
+			for (IVisualPart<? extends Node> child : viewer.getRootPart().getChildrenUnmodifiable()) {
+				if (child instanceof IFeedbackPart && child.getVisual() instanceof Path) {
+					preview = (Path) child.getVisual();
+				}
+			}
+			Bounds bounds = preview.localToScene(preview.getLayoutBounds());
+			Bounds expected = viewer.getRootPart().getVisual().localToScene(new BoundingBox(10, 10, 150, 50));
+			assertEquals(expected.getMinX(), bounds.getMinX(), 1);
+			assertEquals(expected.getMaxX(), bounds.getMaxX(), 1);
+
+			handler.drag(createMouseEvent(viewer, 270, 70), new Dimension(270, 70));
+			assertEquals(3, handler.getPreviewParts().size());
+			bounds = preview.localToScene(preview.getLayoutBounds());
+			assertEquals(expected.getMinX() + 250, bounds.getMaxX(), 1);
+
+			// the preview is removed when the drag is aborted
+			handler.abortDrag();
+			assertEquals(childCount, viewer.getRootPart().getChildrenUnmodifiable().size());
+			assertTrue(handler.getPreviewParts().isEmpty());
+		});
+
+		ctx.runAndWait(() -> {
+			viewer.getContents().clear();
+			domain.deactivate();
+		});
+	}
+}
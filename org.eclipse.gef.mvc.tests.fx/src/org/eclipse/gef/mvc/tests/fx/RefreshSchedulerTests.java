@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.gef.mvc.fx.parts.AbstractVisualPart;
+import org.eclipse.gef.mvc.fx.parts.IVisualPart;
+import org.eclipse.gef.mvc.fx.parts.RefreshScheduler;
+import org.junit.Test;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+/**
+ * Tests for the {@link RefreshScheduler}.
+ *
+ * @author agent
+ *
+ */
+public class RefreshSchedulerTests {
+
+	private class RefreshRecordingPart extends AbstractVisualPart<Group> {
+
+		@Override
+		protected void doAddChildVisual(IVisualPart<? extends Node> child, int index) {
+			getVisual().getChildren().add(index, child.getVisual());
+		}
+
+		@Override
+		protected Group doCreateVisual() {
+			return new Group();
+		}
+
+		@Override
+		protected void doRefreshVisual(Group visual) {
+			refreshed.add(this);
+		}
+
+		@Override
+		protected void doRemoveChildVisual(IVisualPart<? extends Node> child, int index) {
+			getVisual().getChildren().remove(child.getVisual());
+		}
+	}
+
+	private class PulseCountingRefreshScheduler extends RefreshScheduler {
+
+		private int pulseRequests = 0;
+
+		@Override
+		protected void requestPulse() {
+			pulseRequests++;
+		}
+	}
+
+	private List<IVisualPart<? extends Node>> refreshed = new ArrayList<>();
+
+	@Test
+	public void coalesceRefreshes() {
+		RefreshRecordingPart parent = new RefreshRecordingPart();
+		RefreshRecordingPart child = new RefreshRecordingPart();
+		RefreshRecordingPart inactive = new RefreshRecordingPart();
+		parent.addChild(child);
+		parent.activate();
+		refreshed.clear();
+
+		PulseCountingRefreshScheduler scheduler = new PulseCountingRefreshScheduler();
+		scheduler.schedule(child);
+		scheduler.schedule(parent);
+		scheduler.schedule(child);
+		scheduler.schedule(inactive);
+		assertEquals(3, scheduler.getScheduledCount());
+		assertTrue(scheduler.isScheduled(child));
+		// a single pulse is requested for all scheduled refreshes
+		assertEquals(1, scheduler.pulseRequests);
+		assertTrue(refreshed.isEmpty());
+
+		// parents are refreshed before their children, each only once, and
+		// inactive parts are skipped
+		scheduler.flush();
+		assertEquals(Arrays.asList(parent, child), refreshed);
+		assertEquals(0, scheduler.getScheduledCount());
+
+		// unscheduled parts are not refreshed
+		refreshed.clear();
+		scheduler.schedule(child);
+		assertEquals(2, scheduler.pulseRequests);
+		scheduler.unschedule(child);
+		assertFalse(scheduler.isScheduled(child));
+		scheduler.flush();
+		assertTrue(refreshed.isEmpty());
+	}
+}
@@ -15,6 +15,7 @@ package org.eclipse.gef.mvc.tests.fx;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -190,6 +191,44 @@ public class SelectionModelTests {
 		listener.check();
 	}
 
+	@Test
+	public void testFineGrainedChangeEvents() {
+		SelectionModel selectionModel = new SelectionModel();
+		IContentPart<Node> c1 = new ContentPartStub();
+		IContentPart<Node> c2 = new ContentPartStub();
+		IContentPart<Node> c3 = new ContentPartStub();
+		IContentPart<Node> c4 = new ContentPartStub();
+		selectionModel.setSelection(Arrays.asList(c1, c2));
+		ListChangeExpector<IContentPart<? extends Node>> listener = new ListChangeExpector<>(
+				selectionModel.getSelectionUnmodifiable());
+		selectionModel.getSelectionUnmodifiable().addListener(listener);
+
+		// appending unselected parts only reports the appended parts
+		listener.addExpectation(Collections.<IContentPart<? extends Node>>emptyList(), Arrays.asList(c3));
+		selectionModel.appendToSelection(c3);
+		listener.check();
+
+		// extending the selection only reports the additional parts
+		listener.addExpectation(Collections.<IContentPart<? extends Node>>emptyList(), Arrays.asList(c4));
+		selectionModel.setSelection(Arrays.asList(c1, c2, c3, c4));
+		listener.check();
+
+		// shrinking the selection only reports the removed parts
+		listener.addExpectation(Arrays.asList(c2), Collections.<IContentPart<? extends Node>>emptyList());
+		selectionModel.setSelection(Arrays.asList(c1, c3, c4));
+		listener.check();
+
+		// removing several parts reports one change per contiguous range
+		listener.addExpectation(Arrays.asList(c1), Collections.<IContentPart<? extends Node>>emptyList());
+		listener.addExpectation(Arrays.asList(c4), Collections.<IContentPart<? extends Node>>emptyList());
+		selectionModel.removeFromSelection(Arrays.asList(c4, c1, c2));
+		listener.check();
+		Assert.assertEquals(Arrays.asList(c3), selectionModel.getSelectionUnmodifiable());
+		Assert.assertTrue(selectionModel.isSelected(c3));
+		Assert.assertFalse(selectionModel.isSelected(c1));
+		Assert.assertFalse(selectionModel.isSelected(c4));
+	}
+
 	@Test
 	public void testDeselect() {
 		SelectionModel selectionModel = new SelectionModel();
@@ -223,6 +262,36 @@ public class SelectionModelTests {
 		Assert.assertEquals(Collections.emptyList(), selectionModel.getSelectionUnmodifiable());
 	}
 
+	@Test
+	public void testIsSelectedWithinListener() {
+		SelectionModel selectionModel = new SelectionModel();
+		IContentPart<Node> c1 = new ContentPartStub();
+		IContentPart<Node> c2 = new ContentPartStub();
+		List<Boolean> selected = new ArrayList<>();
+		ListChangeListener<IContentPart<? extends Node>> listener = new ListChangeListener<IContentPart<? extends Node>>() {
+			@Override
+			public void onChanged(ListChangeListener.Change<? extends IContentPart<? extends Node>> c) {
+				selected.add(selectionModel.isSelected(c1));
+				selected.add(selectionModel.isSelected(c2));
+			}
+		};
+		// the membership tests have to be in sync when listeners (of the
+		// unmodifiable list as well as of the property) are notified
+		selectionModel.getSelectionUnmodifiable().addListener(listener);
+		selectionModel.selectionUnmodifiableProperty().addListener(listener);
+
+		selectionModel.setSelection(Arrays.asList(c1, c2));
+		assertEquals(Arrays.asList(true, true, true, true), selected);
+
+		selected.clear();
+		selectionModel.removeFromSelection(c1);
+		assertEquals(Arrays.asList(false, true, false, true), selected);
+
+		selected.clear();
+		selectionModel.clearSelection();
+		assertEquals(Arrays.asList(false, false, false, false), selected);
+	}
+
 	@Test
 	public void testPrepend() {
 		SelectionModel selectionModel = new SelectionModel();
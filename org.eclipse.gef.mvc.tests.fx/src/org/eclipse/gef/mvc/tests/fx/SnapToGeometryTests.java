@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.mvc.fx.handlers.SnapToGeometry;
+import org.eclipse.gef.mvc.fx.models.SnappingModel.SnappingLocation;
+import org.junit.Test;
+
+import javafx.geometry.Orientation;
+
+/**
+ * Tests for the {@link SnapToGeometry}.
+ *
+ * @author agent
+ *
+ */
+public class SnapToGeometryTests {
+
+	private static SnappingLocation hsl(double position) {
+		return new SnappingLocation(null, Orientation.HORIZONTAL, position);
+	}
+
+	private static SnappingLocation vsl(double position) {
+		return new SnappingLocation(null, Orientation.VERTICAL, position);
+	}
+
+	@Test
+	public void snapToClosestLocation() {
+		SnapToGeometry snapTo = new SnapToGeometry();
+		assertNull(snapTo.snap(Orientation.HORIZONTAL, 10));
+
+		// target locations are not sorted
+		for (double p : new double[] { 50, -20, 10, 30, 10 }) {
+			snapTo.getHorizontalTargetLocations().add(hsl(p));
+		}
+		snapTo.getVerticalTargetLocations().add(vsl(100));
+
+		assertEquals(new Dimension(10, 0),
+				snapTo.snap(Orientation.HORIZONTAL, 0));
+		assertEquals(new Dimension(0, 0),
+				snapTo.snap(Orientation.HORIZONTAL, 10));
+		assertEquals(new Dimension(-1, 0),
+				snapTo.snap(Orientation.HORIZONTAL, 11));
+		assertEquals(new Dimension(1, 0),
+				snapTo.snap(Orientation.HORIZONTAL, 29));
+		assertEquals(new Dimension(-10, 0),
+				snapTo.snap(Orientation.HORIZONTAL, 60));
+		assertEquals(new Dimension(10, 0),
+				snapTo.snap(Orientation.HORIZONTAL, -30));
+		assertEquals(new Dimension(0, 90),
+				snapTo.snap(Orientation.VERTICAL, 10));
+
+		// changes to the target locations are respected
+		snapTo.getHorizontalTargetLocations().add(hsl(58));
+		assertEquals(new Dimension(-2, 0),
+				snapTo.snap(Orientation.HORIZONTAL, 60));
+		snapTo.setSnappedPart(null);
+		assertNull(snapTo.snap(Orientation.HORIZONTAL, 60));
+	}
+}
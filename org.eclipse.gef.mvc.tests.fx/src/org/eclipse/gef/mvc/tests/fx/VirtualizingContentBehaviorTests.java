@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.mvc.fx.MvcFxModule;
+import org.eclipse.gef.mvc.fx.behaviors.IContentBoundsProvider;
+import org.eclipse.gef.mvc.fx.behaviors.VirtualizingContentBehavior;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.fx.viewer.InfiniteCanvasViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
+import org.eclipse.gef.mvc.tests.fx.stubs.Cell;
+import org.eclipse.gef.mvc.tests.fx.stubs.CellContentPartFactory;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.multibindings.MapBinder;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+
+/**
+ * Tests for the {@link VirtualizingContentBehavior}.
+ *
+ * @author agent
+ *
+ */
+public class VirtualizingContentBehaviorTests {
+
+	/**
+	 * Places cells (named by their index) side by side in a row.
+	 */
+	public static class CellBoundsProvider implements IContentBoundsProvider {
+		private double offset = 0;
+
+		@Override
+		public Bounds getContentBounds(Object content) {
+			int index = Integer.parseInt(((Cell) content).name);
+			return new BoundingBox(offset + index * 100, 0, 50, 50);
+		}
+	}
+
+	/**
+	 * Exposes the realization of content anchorages.
+	 */
+	public static class TestVirtualizingContentBehavior extends VirtualizingContentBehavior {
+		public IContentPart<? extends Node> realizeAnchorage(Object content) {
+			return findOrCreatePartFor(content);
+		}
+	}
+
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
+	private IDomain createDomain() {
+		return Guice.createInjector(new MvcFxModule() {
+			@Override
+			protected void bindContentBehaviorAsIRootPartAdapter(MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+				adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(TestVirtualizingContentBehavior.class);
+			}
+
+			@Override
+			protected void bindIViewerAdaptersForContentViewer(MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+				super.bindIViewerAdaptersForContentViewer(adapterMapBinder);
+				adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(CellBoundsProvider.class);
+			}
+
+			@Override
+			protected void configure() {
+				binder().bind(IContentPartFactory.class).to(CellContentPartFactory.class);
+				super.configure();
+			}
+		}).getInstance(IDomain.class);
+	}
+
+	private List<Cell> createRow() {
+		List<Cell> contents = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			contents.add(new Cell(Integer.toString(i)));
+		}
+		return contents;
+	}
+
+	@Test
+	public void realizeAnchorageOnly() throws Throwable {
+		IDomain domain = createDomain();
+		IViewer viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+		ctx.createScene(viewer.getCanvas(), 300, 100);
+		ctx.runAndWait(() -> {
+			domain.activate();
+		});
+
+		List<Cell> contents = createRow();
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(contents);
+		});
+		TestVirtualizingContentBehavior behavior = viewer.getRootPart()
+				.getAdapter(TestVirtualizingContentBehavior.class);
+		assertEquals(6, viewer.getContentPartMap().size());
+
+		// move the cells, so that a re-synchronization would realize other
+		// cells than before
+		viewer.getAdapter(CellBoundsProvider.class).offset = -1000;
+
+		// only the requested anchorage is realized, behind the realized cells
+		// that precede it
+		ctx.runAndWait(() -> {
+			IContentPart<? extends Node> contentPart = behavior.realizeAnchorage(contents.get(50));
+			assertSame(contents.get(50), contentPart.getContent());
+			assertSame(viewer.getRootPart(), contentPart.getParent());
+			assertEquals(6, viewer.getRootPart().getChildrenUnmodifiable().indexOf(contentPart));
+		});
+		assertEquals(7, viewer.getContentPartMap().size());
+		assertTrue(behavior.isRealized(contents.get(0)));
+		assertTrue(behavior.isRealized(contents.get(50)));
+		assertFalse(behavior.isRealized(contents.get(10)));
+
+		// the anchorage remains realized when the content children are
+		// re-synchronized
+		ctx.runAndWait(() -> {
+			behavior.synchronizeContentPartChildren(viewer.getRootPart(), viewer.getContents());
+		});
+		assertTrue(behavior.isRealized(contents.get(50)));
+
+		ctx.runAndWait(() -> {
+			viewer.getContents().clear();
+			domain.deactivate();
+		});
+	}
+
+	@Test
+	public void realizeWithinViewport() throws Throwable {
+		IDomain domain = createDomain();
+		IViewer viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+		ctx.createScene(viewer.getCanvas(), 300, 100);
+		ctx.runAndWait(() -> {
+			domain.activate();
+		});
+
+		List<Cell> contents = createRow();
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(contents);
+		});
+
+		// only the cells within the viewport (expanded by the margin) are
+		// realized
+		VirtualizingContentBehavior behavior = viewer.getRootPart().getAdapter(TestVirtualizingContentBehavior.class);
+		assertEquals(6, viewer.getContentPartMap().size());
+		assertTrue(behavior.isRealized(contents.get(0)));
+		assertTrue(behavior.isRealized(contents.get(5)));
+		assertFalse(behavior.isRealized(contents.get(6)));
+
+		// parts are realized and released when scrolling
+		ctx.runAndWait(() -> {
+			((InfiniteCanvasViewer) viewer).getCanvas().setHorizontalScrollOffset(-2000);
+		});
+		assertEquals(9, viewer.getContentPartMap().size());
+		assertFalse(behavior.isRealized(contents.get(0)));
+		assertTrue(behavior.isRealized(contents.get(17)));
+		assertTrue(behavior.isRealized(contents.get(25)));
+
+		ctx.runAndWait(() -> {
+			viewer.getContents().clear();
+			domain.deactivate();
+		});
+		assertEquals(0, viewer.getContentPartMap().size());
+	}
+}
@@ -171,6 +171,18 @@ public class JFaceCustomNodeExample {
 			}
 			return super.createContentPart(content, contextMap);
 		}
+
+		@Override
+		public Class<? extends IContentPart<? extends Node>> getRecyclablePartType(
+				Object content, Map<Object, Object> contextMap) {
+			if (content instanceof org.eclipse.gef.graph.Node
+					&& ((org.eclipse.gef.graph.Node) content)
+							.attributesProperty().containsKey(ATTR_CUSTOM)) {
+				// custom nodes are not recycled
+				return null;
+			}
+			return super.getRecyclablePartType(content, contextMap);
+		}
 	}
 
 	public static class CustomModule extends ZestFxJFaceModule {
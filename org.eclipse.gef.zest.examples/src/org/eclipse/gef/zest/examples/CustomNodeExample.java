@@ -61,6 +61,20 @@ public class CustomNodeExample extends AbstractZestExample {
 			}
 			return super.createContentPart(content, contextMap);
 		}
+
+		@Override
+		public Class<? extends IContentPart<? extends Node>> getRecyclablePartType(
+				Object content, Map<Object, Object> contextMap) {
+			if (content instanceof org.eclipse.gef.graph.Node) {
+				// custom nodes are not recycled
+				org.eclipse.gef.graph.Node n = (org.eclipse.gef.graph.Node) content;
+				Object isCustom = n.attributesProperty().get(ATTR_CUSTOM);
+				if (isCustom instanceof Boolean && (Boolean) isCustom) {
+					return null;
+				}
+			}
+			return super.getRecyclablePartType(content, contextMap);
+		}
 	}
 
 	public static class CustomModule extends ZestFxModule {
@@ -16,12 +16,19 @@
 package org.eclipse.gef.zest.fx.jface;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
 
 import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.common.attributes.IAttributeStore;
 import org.eclipse.gef.fx.swt.canvas.IFXCanvasFactory;
 import org.eclipse.gef.graph.Edge;
 import org.eclipse.gef.graph.Graph;
@@ -52,7 +59,6 @@ import org.eclipse.swt.widgets.Composite;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.Module;
-import com.google.inject.Provider;
 
 import javafx.collections.ListChangeListener;
 import javafx.embed.swt.FXCanvas;
@@ -82,6 +88,11 @@ public class ZestContentViewer extends ContentViewer {
 	private IViewer viewer;
 	private ILayoutAlgorithm layoutAlgorithm;
 	private Map<Object, Node> contentNodeMap = new IdentityHashMap<>();
+	private Map<Node, Object> nodeContentMap = new IdentityHashMap<>();
+	private Map<Image, javafx.scene.image.Image> iconMap = new IdentityHashMap<>();
+	// the keys of the attributes that were provided for the graphs, nodes, and
+	// edges, so that attributes that are no longer provided can be removed
+	private Map<IAttributeStore, Set<String>> providedAttributes = new IdentityHashMap<>();
 
 	/**
 	 * Constructs a new {@link ZestContentViewer}. The given {@link Module} is saved
@@ -96,6 +107,97 @@ public class ZestContentViewer extends ContentViewer {
 		// injector.injectMembers(this);
 	}
 
+	/**
+	 * Adds a node for the given content element to the root graph. Other than
+	 * a {@link #refresh()}, the existing nodes and edges (and thereby their
+	 * layout) are preserved.
+	 *
+	 * @param element The content element for which a node is to be added.
+	 * @see #add(Object, Object[])
+	 * @since 5.1
+	 */
+	public void add(Object element) {
+		add(getInput(), new Object[] { element });
+	}
+
+	/**
+	 * Adds nodes for the given content elements to the graph that is nested
+	 * inside the node that represents the given <i>parentElement</i>, or to the
+	 * root graph in case the {@link #getInput() input} is passed in. The edges
+	 * from and to the new nodes are determined using the
+	 * {@link IGraphContentProvider}. Other than a {@link #refresh()}, the
+	 * existing nodes and edges (and thereby their layout) are preserved.
+	 * <p>
+	 * As the {@link IGraphContentProvider} only provides the outgoing edges of
+	 * a node, the adjacent nodes of all nodes of the graph are queried in order
+	 * to find the edges to the added nodes, i.e. the cost is linear in the size
+	 * of the graph, regardless of the number of added elements. Therefore,
+	 * several elements should be added within a single call.
+	 *
+	 * @param parentElement The content element that represents the nesting node,
+	 *                      or the {@link #getInput() input} to add to the root
+	 *                      graph.
+	 * @param elements      The content elements for which nodes are to be
+	 *                      added.
+	 * @since 5.1
+	 */
+	public void add(Object parentElement, Object[] elements) {
+		IGraphContentProvider graphContentProvider = getGraphContentProvider();
+		if (graphContentProvider == null || elements == null || elements.length == 0) {
+			return;
+		}
+		Graph graph = getGraph(parentElement);
+		if (graph == null) {
+			// unknown parent or nested graph not yet created
+			if (contentNodeMap.containsKey(parentElement)) {
+				refresh(parentElement);
+			}
+			return;
+		}
+
+		// create nodes (including their nested graphs)
+		ILabelProvider labelProvider = getLabelProvider();
+		List<Node> addedNodes = new ArrayList<>();
+		for (Object element : elements) {
+			if (!contentNodeMap.containsKey(element)) {
+				addedNodes.add(createNode(element, graphContentProvider, labelProvider));
+			}
+		}
+		graph.getNodes().addAll(addedNodes);
+
+		// create the edges from and to the added nodes (the incoming edges can
+		// only be determined from the adjacent nodes of the existing nodes)
+		Set<Node> added = Collections.newSetFromMap(new IdentityHashMap<Node, Boolean>());
+		added.addAll(addedNodes);
+		List<Edge> addedEdges = new ArrayList<>();
+		for (Node sourceNode : graph.getNodes()) {
+			Object contentSourceNode = nodeContentMap.get(sourceNode);
+			Object[] connectedTo = contentSourceNode == null ? null
+					: graphContentProvider.getAdjacentNodes(contentSourceNode);
+			if (connectedTo != null) {
+				for (Object contentTargetNode : connectedTo) {
+					Node targetNode = contentNodeMap.get(contentTargetNode);
+					if (targetNode != null && (added.contains(sourceNode) || added.contains(targetNode))) {
+						addedEdges.add(
+								createEdge(labelProvider, contentSourceNode, sourceNode, contentTargetNode, targetNode));
+					}
+				}
+			}
+		}
+		graph.getEdges().addAll(addedEdges);
+	}
+
+	/**
+	 * Adds nodes for the given content elements to the root graph.
+	 *
+	 * @param elements The content elements for which nodes are to be added.
+	 * @see #add(Object, Object[])
+	 * @since 5.1
+	 */
+	public void add(Object[] elements) {
+		add(getInput(), elements);
+	}
+
 	/**
 	 * Creates an {@link FXCanvas} inside of the given <i>parent</i>
 	 * {@link Composite}. The {@link FXCanvas} serves acs the container for the
@@ -160,11 +262,7 @@ public class ZestContentViewer extends ContentViewer {
 		Edge edge = new Edge(sourceNode, targetNode);
 		if (labelProvider instanceof IGraphAttributesProvider) {
 			IGraphAttributesProvider graphNodeLabelProvider = (IGraphAttributesProvider) labelProvider;
-			Map<String, Object> edgeAttributes = graphNodeLabelProvider.getEdgeAttributes(contentSourceNode,
-					contentTargetNode);
-			if (edgeAttributes != null) {
-				edge.attributesProperty().putAll(edgeAttributes);
-			}
+			putChangedAttributes(edge, graphNodeLabelProvider.getEdgeAttributes(contentSourceNode, contentTargetNode));
 		}
 		return edge;
 	}
@@ -203,11 +301,7 @@ public class ZestContentViewer extends ContentViewer {
 		Graph graph = createEmptyGraph();
 		if (labelProvider instanceof IGraphAttributesProvider) {
 			IGraphAttributesProvider nestedGraphLabelProvider = (IGraphAttributesProvider) labelProvider;
-			Map<String, Object> nestedGraphAttributes = nestedGraphLabelProvider
-					.getNestedGraphAttributes(contentNestingNode);
-			if (nestedGraphAttributes != null) {
-				graph.attributesProperty().putAll(nestedGraphAttributes);
-			}
+			putChangedAttributes(graph, nestedGraphLabelProvider.getNestedGraphAttributes(contentNestingNode));
 		}
 		Object[] contentNodes = graphContentProvider.getNestedGraphNodes(contentNestingNode);
 		if (contentNodes != null) {
@@ -238,88 +332,10 @@ public class ZestContentViewer extends ContentViewer {
 
 		Node node = new Node();
 		contentNodeMap.put(contentNode, node);
+		nodeContentMap.put(node, contentNode);
 
-		// label
-		ZestProperties.setLabel(node, new Provider<String>() {
-			@Override
-			public String get() {
-				return labelProvider.getText(contentNode);
-			}
-		});
-
-		// icon
-		// TODO: use provider
-		Image icon = labelProvider.getImage(contentNode);
-		if (icon != null) {
-			ZestProperties.setIcon(node, SWTFXUtils.toFXImage(icon.getImageData(), null));
-		}
-
-		// tooltip
-		if (labelProvider instanceof IToolTipProvider) {
-			final IToolTipProvider toolTipProvider = (IToolTipProvider) labelProvider;
-			ZestProperties.setTooltip(node, new Provider<String>() {
-
-				@Override
-				public String get() {
-					return toolTipProvider.getToolTipText(contentNode);
-				}
-			});
-		}
-
-		String textCssStyle = "";
-
-		// colors
-		if (labelProvider instanceof IColorProvider) {
-			IColorProvider colorProvider = (IColorProvider) labelProvider;
-			Color foreground = colorProvider.getForeground(contentNode);
-			Color background = colorProvider.getBackground(contentNode);
-			String rectCssStyle = "";
-			if (background != null) {
-				rectCssStyle = rectCssStyle + "-fx-fill: " + toCssRgb(background) + ";";
-			}
-			if (foreground != null) {
-				rectCssStyle = rectCssStyle + "-fx-stroke: " + toCssRgb(foreground) + ";";
-				textCssStyle = "-fx-fill: " + toCssRgb(foreground) + ";";
-			}
-			if (!rectCssStyle.isEmpty()) {
-				ZestProperties.setShapeCssStyle(node, rectCssStyle);
-			}
-		}
-
-		// font
-		if (labelProvider instanceof IFontProvider) {
-			IFontProvider fontProvider = (IFontProvider) labelProvider;
-			Font font = fontProvider.getFont(contentNode);
-			FontData[] fontData = font == null ? null : font.getFontData();
-			if (fontData != null && fontData.length > 0 && fontData[0] != null) {
-				String name = fontData[0].getName();
-				int size = fontData[0].getHeight();
-				int style = fontData[0].getStyle();
-
-				// TODO: support all SWT font styles
-				boolean isBold = (style & SWT.BOLD) != 0;
-				boolean isItalic = (style & SWT.ITALIC) != 0;
-
-				textCssStyle = textCssStyle + "-fx-font-family: \"" + name + "\";" + "-fx-font-size: " + size + "pt;";
-				if (isItalic) {
-					textCssStyle = textCssStyle + "-fx-font-style: italic;";
-				}
-				if (isBold) {
-					textCssStyle = textCssStyle + "-fx-font-weight: bold;";
-				}
-			}
-		}
-
-		ZestProperties.setLabelCssStyle(node, textCssStyle);
-
-		// custom attributes
-		if (labelProvider instanceof IGraphAttributesProvider) {
-			IGraphAttributesProvider graphNodeLabelProvider = (IGraphAttributesProvider) labelProvider;
-			Map<String, Object> nodeAttributes = graphNodeLabelProvider.getNodeAttributes(contentNode);
-			if (nodeAttributes != null) {
-				node.attributesProperty().putAll(nodeAttributes);
-			}
-		}
+		// label, icon, tooltip, styles, and custom attributes
+		updateNode(contentNode, node, labelProvider);
 
 		// create nested graph (optional)
 		if (graphContentProvider.hasNestedGraph(contentNode)) {
@@ -381,10 +397,7 @@ public class ZestContentViewer extends ContentViewer {
 		Graph graph = createEmptyGraph();
 		if (labelProvider instanceof IGraphAttributesProvider) {
 			IGraphAttributesProvider graphNodeLabelProvider = (IGraphAttributesProvider) labelProvider;
-			Map<String, Object> rootGraphAttributes = graphNodeLabelProvider.getGraphAttributes();
-			if (rootGraphAttributes != null) {
-				graph.attributesProperty().putAll(rootGraphAttributes);
-			}
+			putChangedAttributes(graph, graphNodeLabelProvider.getGraphAttributes());
 		}
 		if (contentProvider instanceof IGraphContentProvider) {
 			IGraphContentProvider graphNodeProvider = (IGraphContentProvider) contentProvider;
@@ -419,6 +432,30 @@ public class ZestContentViewer extends ContentViewer {
 		return canvas;
 	}
 
+	/**
+	 * Returns the {@link Graph} into which nodes for the children of the given
+	 * <i>parentElement</i> are inserted, i.e. the root graph for the
+	 * {@link #getInput() input}, and the nested graph for a content element
+	 * that represents a nesting node.
+	 *
+	 * @param parentElement The input or a content element that represents a
+	 *                      nesting node.
+	 * @return The {@link Graph} for the given <i>parentElement</i>, or
+	 *         <code>null</code> if no such graph exists.
+	 */
+	private Graph getGraph(Object parentElement) {
+		if (parentElement == null || parentElement == getInput()) {
+			return viewer.getContents().isEmpty() ? null : (Graph) viewer.getContents().get(0);
+		}
+		Node nestingNode = contentNodeMap.get(parentElement);
+		return nestingNode == null ? null : nestingNode.getNestedGraph();
+	}
+
+	private IGraphContentProvider getGraphContentProvider() {
+		return getContentProvider() instanceof IGraphContentProvider ? (IGraphContentProvider) getContentProvider()
+				: null;
+	}
+
 	@Override
 	public ILabelProvider getLabelProvider() {
 		return (ILabelProvider) super.getLabelProvider();
@@ -467,6 +504,7 @@ public class ZestContentViewer extends ContentViewer {
 
 		domain.deactivate();
 		domain.dispose();
+		iconMap.clear();
 		super.handleDispose(event);
 	}
 
@@ -477,13 +515,227 @@ public class ZestContentViewer extends ContentViewer {
 		}
 	}
 
+	// only changed values are reported, so that the visualization is only
+	// refreshed if needed
+	private boolean isChanged(IAttributeStore store, String key, Object value) {
+		return !Objects.equals(store.getAttributes().get(key), value);
+	}
+
+	// puts the given attributes (where a null value denotes an absent
+	// attribute) into the given store, and removes the attributes that were
+	// provided before but are not provided anymore
+	private void putChangedAttributes(IAttributeStore store, Map<String, Object> attributes) {
+		Set<String> provided = attributes == null ? Collections.<String> emptySet() : attributes.keySet();
+		Set<String> previouslyProvided = provided.isEmpty() ? providedAttributes.remove(store)
+				: providedAttributes.put(store, new HashSet<>(provided));
+		if (previouslyProvided != null) {
+			for (String key : previouslyProvided) {
+				if (!provided.contains(key)) {
+					store.getAttributes().remove(key);
+				}
+			}
+		}
+		for (String key : provided) {
+			Object value = attributes.get(key);
+			if (value == null) {
+				store.getAttributes().remove(key);
+			} else if (isChanged(store, key, value)) {
+				store.getAttributes().put(key, value);
+			}
+		}
+	}
+
 	@Override
 	public void refresh() {
 		contentNodeMap.clear();
+		nodeContentMap.clear();
+		providedAttributes.clear();
+		// release the converted icons of disposed images
+		iconMap.keySet().removeIf(Image::isDisposed);
 		viewer.getContents()
 				.setAll(Collections.singletonList(createRootGraph(getContentProvider(), getLabelProvider())));
 	}
 
+	/**
+	 * Refreshes the node that represents the given content element, i.e. its
+	 * attributes (see {@link #update(Object, String[])}), its outgoing edges,
+	 * and its nested graph (recursively). Other than a {@link #refresh()}, only
+	 * the affected nodes and edges are changed, so that the layout of the
+	 * remaining graph is preserved. In case the {@link #getInput() input} is
+	 * passed in, the whole graph is refreshed (see {@link #refresh()}).
+	 *
+	 * @param element The content element to refresh.
+	 * @since 5.1
+	 */
+	public void refresh(Object element) {
+		if (element == null || element == getInput()) {
+			refresh();
+			return;
+		}
+		Node node = contentNodeMap.get(element);
+		IGraphContentProvider graphContentProvider = getGraphContentProvider();
+		if (node == null || graphContentProvider == null) {
+			return;
+		}
+		ILabelProvider labelProvider = getLabelProvider();
+		updateNode(element, node, labelProvider);
+		refreshOutgoingEdges(element, node, graphContentProvider, labelProvider);
+		refreshNestedGraph(element, node, graphContentProvider, labelProvider);
+	}
+
+	private void refreshNestedGraph(Object element, Node node, IGraphContentProvider graphContentProvider,
+			ILabelProvider labelProvider) {
+		Graph nestedGraph = node.getNestedGraph();
+		if (!graphContentProvider.hasNestedGraph(element)) {
+			if (nestedGraph != null) {
+				unmap(nestedGraph);
+				node.setNestedGraph(null);
+				refreshNodePart(node);
+			}
+			return;
+		}
+		if (nestedGraph == null) {
+			createNestedGraph(element, graphContentProvider, labelProvider).setNestingNode(node);
+			refreshNodePart(node);
+			return;
+		}
+
+		// update nested graph attributes
+		if (labelProvider instanceof IGraphAttributesProvider) {
+			putChangedAttributes(nestedGraph,
+					((IGraphAttributesProvider) labelProvider).getNestedGraphAttributes(element));
+		}
+
+		// remove obsolete, refresh retained, and add new nested nodes
+		Object[] contentNodes = graphContentProvider.getNestedGraphNodes(element);
+		Set<Object> nestedContents = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+		if (contentNodes != null) {
+			nestedContents.addAll(Arrays.asList(contentNodes));
+		}
+		List<Object> removed = new ArrayList<>();
+		List<Object> retained = new ArrayList<>();
+		for (Node nestedNode : nestedGraph.getNodes()) {
+			Object nestedContent = nodeContentMap.get(nestedNode);
+			if (nestedContents.remove(nestedContent)) {
+				retained.add(nestedContent);
+			} else {
+				removed.add(nestedContent);
+			}
+		}
+		remove(removed.toArray());
+		for (Object nestedContent : retained) {
+			refresh(nestedContent);
+		}
+		add(element, nestedContents.toArray());
+	}
+
+	// the nested graph of a node is not observable, so that the part of the
+	// node has to be refreshed when a nested graph is created or removed
+	private void refreshNodePart(Node node) {
+		IContentPart<? extends javafx.scene.Node> nodePart = viewer.getContentPartMap().get(node);
+		if (nodePart != null) {
+			nodePart.refreshContentChildren();
+			nodePart.refreshVisual();
+		}
+	}
+
+	// retains the outgoing edges whose targets are still adjacent (so that
+	// their layout is preserved), removes obsolete ones, and adds new ones
+	private void refreshOutgoingEdges(Object element, Node node, IGraphContentProvider graphContentProvider,
+			ILabelProvider labelProvider) {
+		Graph graph = node.getGraph();
+		List<Edge> obsoleteEdges = new ArrayList<>(node.getOutgoingEdges());
+		List<Edge> addedEdges = new ArrayList<>();
+		Object[] connectedTo = graphContentProvider.getAdjacentNodes(element);
+		if (connectedTo != null) {
+			for (Object contentTargetNode : connectedTo) {
+				Node targetNode = contentNodeMap.get(contentTargetNode);
+				if (targetNode == null) {
+					continue;
+				}
+				Edge edge = null;
+				for (Edge obsoleteEdge : obsoleteEdges) {
+					if (obsoleteEdge.getTarget() == targetNode) {
+						edge = obsoleteEdge;
+						break;
+					}
+				}
+				if (edge != null) {
+					obsoleteEdges.remove(edge);
+					if (labelProvider instanceof IGraphAttributesProvider) {
+						putChangedAttributes(edge,
+								((IGraphAttributesProvider) labelProvider).getEdgeAttributes(element, contentTargetNode));
+					}
+				} else {
+					addedEdges.add(createEdge(labelProvider, element, node, contentTargetNode, targetNode));
+				}
+			}
+		}
+		graph.getEdges().removeAll(obsoleteEdges);
+		graph.getEdges().addAll(addedEdges);
+		for (Edge obsoleteEdge : obsoleteEdges) {
+			providedAttributes.remove(obsoleteEdge);
+		}
+	}
+
+	/**
+	 * Removes the node that represents the given content element (including
+	 * its nested graph) together with its incident edges. Other than a
+	 * {@link #refresh()}, the remaining nodes and edges (and thereby their
+	 * layout) are preserved.
+	 *
+	 * @param element The content element whose node is to be removed.
+	 * @since 5.1
+	 */
+	public void remove(Object element) {
+		remove(new Object[] { element });
+	}
+
+	/**
+	 * Removes the nodes that represent the given content elements (including
+	 * their nested graphs) together with their incident edges. The nodes and
+	 * edges are removed from each affected graph at once.
+	 *
+	 * @param elements The content elements whose nodes are to be removed.
+	 * @see #remove(Object)
+	 * @since 5.1
+	 */
+	public void remove(Object[] elements) {
+		if (elements == null) {
+			return;
+		}
+		// group the nodes by their graphs
+		Map<Graph, Set<Node>> removedNodes = new IdentityHashMap<>();
+		for (Object element : elements) {
+			Node node = contentNodeMap.get(element);
+			if (node != null && node.getGraph() != null) {
+				if (!removedNodes.containsKey(node.getGraph())) {
+					removedNodes.put(node.getGraph(), Collections.newSetFromMap(new IdentityHashMap<Node, Boolean>()));
+				}
+				removedNodes.get(node.getGraph()).add(node);
+			}
+		}
+		for (Entry<Graph, Set<Node>> entry : removedNodes.entrySet()) {
+			Graph graph = entry.getKey();
+			Set<Node> nodes = entry.getValue();
+			// remove the incident edges (scanning the edges only once)
+			List<Edge> removedEdges = new ArrayList<>();
+			for (Edge edge : graph.getEdges()) {
+				if (nodes.contains(edge.getSource()) || nodes.contains(edge.getTarget())) {
+					removedEdges.add(edge);
+				}
+			}
+			graph.getEdges().removeAll(removedEdges);
+			graph.getNodes().removeAll(nodes);
+			for (Edge edge : removedEdges) {
+				providedAttributes.remove(edge);
+			}
+			for (Node node : nodes) {
+				unmap(node);
+			}
+		}
+	}
+
 	/**
 	 * Changes the {@link ILayoutAlgorithm} that is used for laying out the contents
 	 * to the given value.
@@ -535,4 +787,167 @@ public class ZestContentViewer extends ContentViewer {
 		return "rgb(" + color.getRed() + "," + color.getGreen() + "," + color.getBlue() + ")";
 	}
 
+	// XXX: The conversion of the image data is rather expensive, so that it is
+	// only performed once per image (which also ensures that an unchanged icon
+	// is not reported as changed).
+	private javafx.scene.image.Image toFXImage(Image image) {
+		javafx.scene.image.Image fxImage = iconMap.get(image);
+		if (fxImage == null) {
+			fxImage = SWTFXUtils.toFXImage(image.getImageData(), null);
+			iconMap.put(image, fxImage);
+		}
+		return fxImage;
+	}
+
+	// removes the nodes of the given graph (recursively) from the
+	// content-node-map, and forgets the attributes provided for its elements
+	private void unmap(Graph graph) {
+		providedAttributes.remove(graph);
+		for (Edge edge : graph.getEdges()) {
+			providedAttributes.remove(edge);
+		}
+		for (Node node : graph.getNodes()) {
+			unmap(node);
+		}
+	}
+
+	// removes the given node and the nodes of its nested graph (recursively)
+	// from the content-node-map
+	private void unmap(Node node) {
+		contentNodeMap.remove(nodeContentMap.remove(node));
+		providedAttributes.remove(node);
+		if (node.getNestedGraph() != null) {
+			unmap(node.getNestedGraph());
+		}
+	}
+
+	/**
+	 * Updates the attributes (label, icon, tooltip, styles, and custom
+	 * attributes) of the node that represents the given content element, using
+	 * the {@link ILabelProvider}. The structure of the graph is not changed,
+	 * i.e. neither edges nor nested graphs are updated (see
+	 * {@link #refresh(Object)}).
+	 *
+	 * @param element    The content element whose node is to be updated.
+	 * @param properties The properties that changed, or <code>null</code> if
+	 *                   unknown. As the attributes of a node are all derived
+	 *                   from the {@link ILabelProvider}, these are currently
+	 *                   not evaluated.
+	 * @since 5.1
+	 */
+	public void update(Object element, String[] properties) {
+		Node node = contentNodeMap.get(element);
+		if (node != null) {
+			updateNode(element, node, getLabelProvider());
+		}
+	}
+
+	/**
+	 * Updates the attributes of the nodes that represent the given content
+	 * elements.
+	 *
+	 * @param elements   The content elements whose nodes are to be updated.
+	 * @param properties The properties that changed, or <code>null</code> if
+	 *                   unknown.
+	 * @see #update(Object, String[])
+	 * @since 5.1
+	 */
+	public void update(Object[] elements, String[] properties) {
+		if (elements == null) {
+			return;
+		}
+		for (Object element : elements) {
+			update(element, properties);
+		}
+	}
+
+	/**
+	 * Determines the attributes (label, icon, tooltip, styles, and custom
+	 * attributes) of the given {@link Node} using the given
+	 * {@link ILabelProvider}. The values are compared to the current ones and
+	 * only those that changed are reported to the visualization, so that this
+	 * is used for the creation of a node as well as for its
+	 * {@link #update(Object, String[]) update}. Attributes that are no longer
+	 * provided are removed.
+	 *
+	 * @param contentNode   The content {@link Object} that represents the node.
+	 * @param node          The {@link Node} whose attributes are updated.
+	 * @param labelProvider This viewer's {@link ILabelProvider} for
+	 *                      convenience.
+	 * @since 5.1
+	 */
+	protected void updateNode(final Object contentNode, Node node, final ILabelProvider labelProvider) {
+		// XXX: The attributes are determined completely before they are put
+		// into the node, so that attributes that are no longer provided (e.g.
+		// a custom attribute that overrode a default one) can be removed.
+		Map<String, Object> attributes = new HashMap<>();
+
+		// label
+		attributes.put(ZestProperties.LABEL__NE, labelProvider.getText(contentNode));
+
+		// icon
+		Image icon = labelProvider.getImage(contentNode);
+		attributes.put(ZestProperties.ICON__N, icon == null ? null : toFXImage(icon));
+
+		// tooltip
+		if (labelProvider instanceof IToolTipProvider) {
+			attributes.put(ZestProperties.TOOLTIP__N, ((IToolTipProvider) labelProvider).getToolTipText(contentNode));
+		}
+
+		String textCssStyle = "";
+
+		// colors
+		if (labelProvider instanceof IColorProvider) {
+			IColorProvider colorProvider = (IColorProvider) labelProvider;
+			Color foreground = colorProvider.getForeground(contentNode);
+			Color background = colorProvider.getBackground(contentNode);
+			String rectCssStyle = "";
+			if (background != null) {
+				rectCssStyle = rectCssStyle + "-fx-fill: " + toCssRgb(background) + ";";
+			}
+			if (foreground != null) {
+				rectCssStyle = rectCssStyle + "-fx-stroke: " + toCssRgb(foreground) + ";";
+				textCssStyle = "-fx-fill: " + toCssRgb(foreground) + ";";
+			}
+			attributes.put(ZestProperties.SHAPE_CSS_STYLE__N, rectCssStyle.isEmpty() ? null : rectCssStyle);
+		}
+
+		// font
+		if (labelProvider instanceof IFontProvider) {
+			IFontProvider fontProvider = (IFontProvider) labelProvider;
+			Font font = fontProvider.getFont(contentNode);
+			FontData[] fontData = font == null ? null : font.getFontData();
+			if (fontData != null && fontData.length > 0 && fontData[0] != null) {
+				String name = fontData[0].getName();
+				int size = fontData[0].getHeight();
+				int style = fontData[0].getStyle();
+
+				// TODO: support all SWT font styles
+				boolean isBold = (style & SWT.BOLD) != 0;
+				boolean isItalic = (style & SWT.ITALIC) != 0;
+
+				textCssStyle = textCssStyle + "-fx-font-family: \"" + name + "\";" + "-fx-font-size: " + size + "pt;";
+				if (isItalic) {
+					textCssStyle = textCssStyle + "-fx-font-style: italic;";
+				}
+				if (isBold) {
+					textCssStyle = textCssStyle + "-fx-font-weight: bold;";
+				}
+			}
+		}
+
+		attributes.put(ZestProperties.LABEL_CSS_STYLE__NE, textCssStyle);
+
+		// custom attributes
+		if (labelProvider instanceof IGraphAttributesProvider) {
+			IGraphAttributesProvider graphNodeLabelProvider = (IGraphAttributesProvider) labelProvider;
+			Map<String, Object> nodeAttributes = graphNodeLabelProvider.getNodeAttributes(contentNode);
+			if (nodeAttributes != null) {
+				attributes.putAll(nodeAttributes);
+			}
+		}
+
+		putChangedAttributes(node, attributes);
+	}
+
 }
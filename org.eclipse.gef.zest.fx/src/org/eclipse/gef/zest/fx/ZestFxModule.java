@@ -45,8 +45,10 @@ import org.eclipse.gef.mvc.fx.providers.ShapeBoundsProvider;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
 import org.eclipse.gef.zest.fx.behaviors.EdgeHidingBehavior;
 import org.eclipse.gef.zest.fx.behaviors.EdgeLabelHidingBehavior;
+import org.eclipse.gef.zest.fx.behaviors.EdgeLayerBehavior;
 import org.eclipse.gef.zest.fx.behaviors.EdgeLayoutBehavior;
 import org.eclipse.gef.zest.fx.behaviors.GraphLayoutBehavior;
+import org.eclipse.gef.zest.fx.behaviors.LevelOfDetailBehavior;
 import org.eclipse.gef.zest.fx.behaviors.NodeHidingBehavior;
 import org.eclipse.gef.zest.fx.behaviors.NodeLayoutBehavior;
 import org.eclipse.gef.zest.fx.handlers.BendFirstAnchorageAndRelocateLabelsOnSegmentHandleDragHandler;
@@ -250,6 +252,12 @@ public class ZestFxModule extends MvcFxModule {
 	protected void bindGraphPartAdapters(MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
 		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(LayoutContext.class);
 		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(GraphLayoutBehavior.class);
+		// edge layer
+		// XXX: The HoverEdgeLayerOnHoverHandler is installed by the GraphPart
+		// only while it provides an edge layer.
+		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(EdgeLayerBehavior.class);
+		// level of detail
+		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(LevelOfDetailBehavior.class);
 	}
 
 	/**
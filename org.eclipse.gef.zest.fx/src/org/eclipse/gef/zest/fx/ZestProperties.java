@@ -335,6 +335,35 @@ public class ZestProperties {
 	 */
 	public static final String LAYOUT_ALGORITHM__G = "graph-layout-algorithm";
 
+	/**
+	 * This attribute determines if the edges of a graph are rendered into a
+	 * canvas-based edge layer, so that only those edges that are hovered,
+	 * selected, or focused are displayed by an individual connection visual.
+	 *
+	 * @see #getCanvasEdges(Graph)
+	 * @see #setCanvasEdges(Graph, Boolean)
+	 * @since 5.1
+	 */
+	public static final String CANVAS_EDGES__G = "graph-canvas-edges";
+
+	/**
+	 * Returns the value of the {@link #CANVAS_EDGES__G} attribute of the given
+	 * {@link Graph}.
+	 *
+	 * @param graph
+	 *            The {@link Graph} of which the canvas edges flag is
+	 *            determined.
+	 * @return The canvas edges flag of the given {@link Graph}.
+	 * @since 5.1
+	 */
+	public static Boolean getCanvasEdges(Graph graph) {
+		Object value = graph.attributesProperty().get(CANVAS_EDGES__G);
+		if (value instanceof Provider) {
+			return (Boolean) ((Provider<?>) value).get();
+		}
+		return (Boolean) value;
+	}
+
 	/**
 	 * Returns the value of the {@link #CONTROL_POINTS__E} attribute of the
 	 * given {@link Edge}.
@@ -1060,6 +1089,24 @@ public class ZestProperties {
 		return (String) value;
 	}
 
+	/**
+	 * Sets the value of the {@link #CANVAS_EDGES__G} attribute of the given
+	 * {@link Graph} to the given value.
+	 *
+	 * @param graph
+	 *            The {@link Graph} of which the canvas edges flag is changed.
+	 * @param canvasEdges
+	 *            The new canvas edges flag for the given {@link Graph}.
+	 * @since 5.1
+	 */
+	public static void setCanvasEdges(Graph graph, Boolean canvasEdges) {
+		if (canvasEdges == null) {
+			graph.getAttributes().remove(CANVAS_EDGES__G);
+		} else {
+			graph.attributesProperty().put(CANVAS_EDGES__G, canvasEdges);
+		}
+	}
+
 	/**
 	 * Sets the value of the {@link #CONTROL_POINTS__E} attribute of the given
 	 * {@link Edge} to the given value.
@@ -16,8 +16,9 @@ import org.eclipse.gef.mvc.fx.behaviors.AbstractBehavior;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
 import org.eclipse.gef.zest.fx.models.HidingModel;
 
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.collections.SetChangeListener;
-import javafx.collections.SetChangeListener.Change;
 
 /**
  * The {@link AbstractHidingBehavior} registers listeners on the
@@ -34,7 +35,36 @@ import javafx.collections.SetChangeListener.Change;
  */
 public abstract class AbstractHidingBehavior extends AbstractBehavior {
 
-	private SetChangeListener<org.eclipse.gef.graph.Node> hidingModelObserver = new SetChangeListener<org.eclipse.gef.graph.Node>() {
+	// XXX: Subclasses that override the deprecated
+	// onHidingModelChange(SetChangeListener.Change) are notified about each
+	// changed node (as before), so that their overrides are still called. The
+	// result is determined only once per class.
+	private static final ClassValue<Boolean> OVERRIDES_CHANGE_HANDLER = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			for (Class<?> c = type; c != AbstractHidingBehavior.class; c = c.getSuperclass()) {
+				try {
+					c.getDeclaredMethod("onHidingModelChange", SetChangeListener.Change.class);
+					return true;
+				} catch (NoSuchMethodException e) {
+					// not overridden by this class
+				}
+			}
+			return false;
+		}
+	};
+
+	// XXX: An invalidation listener is used, so that nodes that are hidden or
+	// shown at once (see HidingModel#hide(Collection)) are processed within a
+	// single notification.
+	private InvalidationListener hidingModelObserver = new InvalidationListener() {
+		@Override
+		public void invalidated(Observable observable) {
+			onHidingModelChange();
+		}
+	};
+
+	private SetChangeListener<org.eclipse.gef.graph.Node> hidingModelChangeObserver = new SetChangeListener<org.eclipse.gef.graph.Node>() {
 		@Override
 		public void onChanged(SetChangeListener.Change<? extends org.eclipse.gef.graph.Node> change) {
 			onHidingModelChange(change);
@@ -56,13 +86,21 @@ public abstract class AbstractHidingBehavior extends AbstractBehavior {
 	protected void doActivate() {
 		// register for change notifications regarding hidden nodes
 		HidingModel hidingModel = getHidingModel();
-		hidingModel.hiddenProperty().addListener(hidingModelObserver);
+		if (OVERRIDES_CHANGE_HANDLER.get(getClass())) {
+			hidingModel.hiddenProperty().addListener(hidingModelChangeObserver);
+		} else {
+			hidingModel.hiddenProperty().addListener(hidingModelObserver);
+		}
 	}
 
 	@Override
 	protected void doDeactivate() {
 		HidingModel hidingModel = getHidingModel();
-		hidingModel.hiddenProperty().removeListener(hidingModelObserver);
+		if (OVERRIDES_CHANGE_HANDLER.get(getClass())) {
+			hidingModel.hiddenProperty().removeListener(hidingModelChangeObserver);
+		} else {
+			hidingModel.hiddenProperty().removeListener(hidingModelObserver);
+		}
 	}
 
 	/**
@@ -106,10 +144,9 @@ public abstract class AbstractHidingBehavior extends AbstractBehavior {
 	 * hidden and is not hidden anymore, {@link #show()} is called. Otherwise,
 	 * {@link #hide()} is called.
 	 *
-	 * @param change
-	 *            The change event of the {@link HidingModel}.
+	 * @since 5.1
 	 */
-	protected void onHidingModelChange(Change<? extends org.eclipse.gef.graph.Node> change) {
+	protected void onHidingModelChange() {
 		// check if we have to prune/unprune the host
 		boolean wasHidden = isHidden;
 		isHidden = determineHiddenStatus();
@@ -120,6 +157,25 @@ public abstract class AbstractHidingBehavior extends AbstractBehavior {
 		}
 	}
 
+	/**
+	 * Called upon {@link HidingModel} changes, once for each node that was
+	 * hidden or shown, in case it is overridden by a subclass. Otherwise, the
+	 * {@link HidingModel} is observed via an {@link InvalidationListener}, so
+	 * that nodes that are hidden or shown at once are processed within a
+	 * single notification.
+	 *
+	 * @param change
+	 *            The change event of the {@link HidingModel}.
+	 * @deprecated Override {@link #onHidingModelChange()} instead, to which
+	 *             this method delegates, so that nodes that are hidden or
+	 *             shown at once are processed within a single notification.
+	 * @since 5.1
+	 */
+	@Deprecated
+	protected void onHidingModelChange(SetChangeListener.Change<? extends org.eclipse.gef.graph.Node> change) {
+		onHidingModelChange();
+	}
+
 	/**
 	 * Shows the {@link #getHost() host}. By default, the {@link #getHost()
 	 * host}'s visual's visibility will be set to <code>true</code> and its
@@ -76,6 +76,22 @@ public abstract class AbstractLayoutBehavior extends AbstractBehavior {
 	 */
 	protected abstract LayoutContext getLayoutContext();
 
+	/**
+	 * Called repeatedly after an asynchronous layout pass (once per pulse) to
+	 * interpolate between the pre-layout state and the post-layout state that
+	 * was transferred from the layout model within {@link #postLayout()}. The
+	 * given fraction is <code>0</code> for the start and <code>1</code> for the
+	 * end of the transition, in which case the post-layout state has to be
+	 * fully applied. The default implementation does nothing.
+	 *
+	 * @param fraction
+	 *            The progress of the transition, between <code>0</code> and
+	 *            <code>1</code>.
+	 * @since 5.1
+	 */
+	protected void interpolateLayout(double fraction) {
+	}
+
 	/**
 	 * Called after a layout pass to adjust label positions.
 	 */
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.fx.behaviors;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.gef.mvc.fx.behaviors.AbstractBehavior;
+import org.eclipse.gef.mvc.fx.models.FocusModel;
+import org.eclipse.gef.mvc.fx.models.HoverModel;
+import org.eclipse.gef.mvc.fx.models.SelectionModel;
+import org.eclipse.gef.mvc.fx.parts.IVisualPart;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.zest.fx.ZestProperties;
+import org.eclipse.gef.zest.fx.parts.EdgeLabelPart;
+import org.eclipse.gef.zest.fx.parts.EdgePart;
+import org.eclipse.gef.zest.fx.parts.GraphPart;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.scene.Node;
+
+/**
+ * The {@link EdgeLayerBehavior} is a {@link GraphPart}-specific behavior that
+ * determines which of the {@link EdgePart} children of its {@link #getHost()
+ * host} are currently interactive, i.e. hovered, selected, or focused (either
+ * themselves or by means of one of their {@link EdgeLabelPart}s). In case
+ * the {@link ZestProperties#CANVAS_EDGES__G} attribute is set, only the
+ * interactive {@link EdgePart}s display their edges by means of their
+ * connection visual, while all others render their edges into the
+ * {@link GraphPart#getEdgeLayer() edge layer} of the {@link GraphPart}.
+ * <p>
+ * When the {@link HoverModel}, {@link SelectionModel}, or {@link FocusModel}
+ * changes, the visuals of only those {@link EdgePart}s whose interactive state
+ * changed are refreshed.
+ *
+ * @author agent
+ * @since 5.1
+ *
+ */
+// only applicable for GraphPart (see #getHost())
+public class EdgeLayerBehavior extends AbstractBehavior {
+
+	private Set<EdgePart> interactive = new HashSet<>();
+
+	private InvalidationListener interactionObserver = new InvalidationListener() {
+		@Override
+		public void invalidated(Observable observable) {
+			updateInteractive();
+		}
+	};
+
+	private void addIfEdgeChild(Set<EdgePart> edgeParts, IVisualPart<? extends Node> part) {
+		// the edge of an interactive label is interactive, too
+		if (part instanceof EdgeLabelPart && !part.getAnchoragesUnmodifiable().isEmpty()) {
+			part = part.getAnchoragesUnmodifiable().keySet().iterator().next();
+		}
+		if (part instanceof EdgePart && part.getParent() == getHost()) {
+			edgeParts.add((EdgePart) part);
+		}
+	}
+
+	@Override
+	protected void doActivate() {
+		IViewer viewer = getHost().getRoot().getViewer();
+		viewer.getAdapter(HoverModel.class).hoverProperty().addListener(interactionObserver);
+		viewer.getAdapter(SelectionModel.class).selectionUnmodifiableProperty().addListener(interactionObserver);
+		viewer.getAdapter(FocusModel.class).focusProperty().addListener(interactionObserver);
+		updateInteractive();
+	}
+
+	@Override
+	protected void doDeactivate() {
+		IViewer viewer = getHost().getRoot().getViewer();
+		viewer.getAdapter(HoverModel.class).hoverProperty().removeListener(interactionObserver);
+		viewer.getAdapter(SelectionModel.class).selectionUnmodifiableProperty().removeListener(interactionObserver);
+		viewer.getAdapter(FocusModel.class).focusProperty().removeListener(interactionObserver);
+		interactive.clear();
+	}
+
+	@Override
+	public GraphPart getHost() {
+		return (GraphPart) super.getHost();
+	}
+
+	/**
+	 * Returns <code>true</code> if the given {@link EdgePart} is currently
+	 * hovered, selected, or focused, and should thus display its edge by means
+	 * of its connection visual. Otherwise returns <code>false</code>.
+	 *
+	 * @param edgePart
+	 *            The {@link EdgePart} to test.
+	 * @return <code>true</code> if the given {@link EdgePart} is interactive,
+	 *         otherwise <code>false</code>.
+	 */
+	public boolean isInteractive(EdgePart edgePart) {
+		return interactive.contains(edgePart);
+	}
+
+	/**
+	 * Re-computes the set of interactive {@link EdgePart}s and refreshes the
+	 * visuals of those {@link EdgePart}s whose interactive state changed.
+	 */
+	protected void updateInteractive() {
+		IViewer viewer = getHost().getRoot().getViewer();
+		Set<EdgePart> newInteractive = new HashSet<>();
+		addIfEdgeChild(newInteractive, viewer.getAdapter(HoverModel.class).getHover());
+		addIfEdgeChild(newInteractive, viewer.getAdapter(FocusModel.class).getFocus());
+		for (IVisualPart<? extends Node> selected : viewer.getAdapter(SelectionModel.class)
+				.getSelectionUnmodifiable()) {
+			addIfEdgeChild(newInteractive, selected);
+		}
+
+		// determine the edge parts whose interactive state changed
+		Set<EdgePart> changed = new HashSet<>(interactive);
+		changed.addAll(newInteractive);
+		for (EdgePart edgePart : interactive) {
+			if (newInteractive.contains(edgePart)) {
+				changed.remove(edgePart);
+			}
+		}
+		interactive = newInteractive;
+
+		if (getHost().getEdgeLayer() != null) {
+			for (EdgePart edgePart : changed) {
+				edgePart.refreshVisual();
+			}
+		}
+	}
+}
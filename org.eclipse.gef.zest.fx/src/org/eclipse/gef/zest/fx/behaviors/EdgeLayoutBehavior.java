@@ -40,6 +40,15 @@ public class EdgeLayoutBehavior extends AbstractLayoutBehavior {
 		return graphPart.getAdapter(GraphLayoutBehavior.class).getLayoutContext();
 	}
 
+	@Override
+	protected void interpolateLayout(double fraction) {
+		// the edge follows its anchorages, so only the label positions need to
+		// be updated at the end of the transition
+		if (fraction >= 1) {
+			layoutLabels();
+		}
+	}
+
 	@Override
 	protected void postLayout() {
 		// refresh visual
@@ -12,10 +12,22 @@
  *******************************************************************************/
 package org.eclipse.gef.zest.fx.behaviors;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.gef.fx.nodes.InfiniteCanvas;
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.eclipse.gef.graph.Edge;
 import org.eclipse.gef.graph.Graph;
@@ -26,15 +38,19 @@ import org.eclipse.gef.layout.LayoutProperties;
 import org.eclipse.gef.mvc.fx.parts.IContentPart;
 import org.eclipse.gef.mvc.fx.parts.IVisualPart;
 import org.eclipse.gef.mvc.fx.parts.PartUtils;
+import org.eclipse.gef.mvc.fx.parts.RefreshScheduler;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
 import org.eclipse.gef.mvc.fx.viewer.InfiniteCanvasViewer;
 import org.eclipse.gef.zest.fx.ZestProperties;
 import org.eclipse.gef.zest.fx.models.HidingModel;
 import org.eclipse.gef.zest.fx.models.NavigationModel;
+import org.eclipse.gef.zest.fx.models.NavigationModel.LayoutState;
 import org.eclipse.gef.zest.fx.models.NavigationModel.ViewportState;
 import org.eclipse.gef.zest.fx.parts.GraphPart;
 import org.eclipse.gef.zest.fx.parts.NodePart;
 
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ListChangeListener;
@@ -42,10 +58,29 @@ import javafx.collections.SetChangeListener;
 import javafx.geometry.Bounds;
 import javafx.scene.Node;
 import javafx.scene.Parent;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.util.Duration;
 
 /**
  * The {@link GraphLayoutBehavior} is responsible for initiating layout passes.
  * It is only applicable to {@link GraphPart}.
+ * <p>
+ * Asynchronous layout is disabled by default and can be enabled via
+ * {@link #setAsynchronousLayoutThreshold(int)}. Graphs with at least
+ * {@link #getAsynchronousLayoutThreshold()} nodes are then layouted
+ * asynchronously: The layout algorithm is applied on a worker thread
+ * to a snapshot of the layout-relevant nodes and edges, and the results are
+ * published back on the JavaFX application thread, where the node positions
+ * are interpolated over the {@link #getAnimationDuration() animation
+ * duration}. A layout pass that is initiated while another one is still
+ * running supersedes (and cancels) the running one.
+ * <p>
+ * Layout passes that are caused by changes of the children or the
+ * {@link HidingModel} are coalesced, so that at most one layout pass is
+ * performed per pulse. If {@link #isIncrementalLayout() incremental layout} is
+ * enabled, these layout passes keep the positions of all nodes fixed, except
+ * for those that were revealed or added.
  *
  * @author mwienand
  *
@@ -53,6 +88,36 @@ import javafx.scene.Parent;
 // only applicable for GraphPart (see #getHost())
 public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 
+	/**
+	 * The default number of (layout-relevant) nodes starting from which a
+	 * graph is layouted asynchronously. It is {@link Integer#MAX_VALUE}, i.e.
+	 * asynchronous layout has to be enabled explicitly.
+	 *
+	 * @since 5.1
+	 */
+	public static final int DEFAULT_ASYNCHRONOUS_LAYOUT_THRESHOLD = Integer.MAX_VALUE;
+
+	/**
+	 * The default duration of the transition from the pre-layout to the
+	 * post-layout node positions after an asynchronous layout pass.
+	 *
+	 * @since 5.1
+	 */
+	public static final Duration DEFAULT_ANIMATION_DURATION = Duration.millis(300);
+
+	private int asynchronousLayoutThreshold = DEFAULT_ASYNCHRONOUS_LAYOUT_THRESHOLD;
+	private Duration animationDuration = DEFAULT_ANIMATION_DURATION;
+
+	// asynchronous layout (layout generation is only accessed on the JavaFX
+	// application thread)
+	private ExecutorService layoutExecutor;
+	private Future<?> pendingLayout;
+	private int layoutGeneration = 0;
+
+	// animated transition of the child layout behaviors
+	private AnimationTimer layoutAnimation;
+	private List<AbstractLayoutBehavior> animatedBehaviors = Collections.emptyList();
+
 	private Runnable postLayout = new Runnable() {
 		@Override
 		public void run() {
@@ -88,22 +153,55 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 	private ListChangeListener<IVisualPart<? extends Node>> childrenObserver = new ListChangeListener<IVisualPart<? extends Node>>() {
 		@Override
 		public void onChanged(ListChangeListener.Change<? extends IVisualPart<? extends Node>> c) {
-			applyLayout(true, null);
+			List<org.eclipse.gef.graph.Node> added = new ArrayList<>();
+			while (c.next()) {
+				for (IVisualPart<? extends Node> child : c.getAddedSubList()) {
+					if (child instanceof NodePart) {
+						added.add(((NodePart) child).getContent());
+					}
+				}
+			}
+			scheduleLayout(added);
 		}
 	};
 
 	private SetChangeListener<org.eclipse.gef.graph.Node> hidingModelObserver = new SetChangeListener<org.eclipse.gef.graph.Node>() {
 		@Override
 		public void onChanged(SetChangeListener.Change<? extends org.eclipse.gef.graph.Node> change) {
-			applyLayout(true, null);
+			// the hiding model is shared by all graphs of the viewer
+			org.eclipse.gef.graph.Node node = change.wasAdded() ? change.getElementAdded()
+					: change.getElementRemoved();
+			if (node.getGraph() != getHost().getContent()) {
+				return;
+			}
+			// only the revealed node has to be placed
+			scheduleLayout(change.wasRemoved() ? Collections.singletonList(node)
+					: Collections.<org.eclipse.gef.graph.Node> emptyList());
 		}
 	};
 
+	private boolean incrementalLayout = false;
+
+	// layout passes that are scheduled for the next pulse
+	private AnimationTimer layoutPulse;
+	private boolean layoutScheduled = false;
+	private Set<org.eclipse.gef.graph.Node> scheduledPlacements = new HashSet<>();
+
 	private boolean skipNextLayout;
 
+	// thumbnail of the graph that is displayed until the layout is applied
+	private ImageView thumbnail;
+
 	/**
 	 * Performs one layout pass using the static layout algorithm that is
 	 * configured for the layout context.
+	 * <p>
+	 * In case <i>clean</i> is <code>false</code> and a {@link Collection} of
+	 * {@link org.eclipse.gef.graph.Node}s is passed in as <i>extra</i>, an
+	 * incremental layout pass is performed: Only the given nodes are placed by
+	 * the layout algorithm, while all other nodes keep their positions (i.e.
+	 * they are not {@link LayoutProperties#isMovable(org.eclipse.gef.graph.Node)
+	 * movable} during the layout pass).
 	 *
 	 * @param clean
 	 *            Whether to fully re-compute the layout or not.
@@ -114,23 +212,38 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 	@SuppressWarnings("unchecked")
 	public void applyLayout(boolean clean, Object extra) {
 		// check child parts exist for all content children
-		if (getHost().getChildrenUnmodifiable().size() != getHost().getContentChildrenUnmodifiable().size()) {
+		List<? extends Object> contentChildren = getHost().getContentChildrenUnmodifiable();
+		if (getHost().getChildrenUnmodifiable().size() != contentChildren.size()) {
 			return;
 		} else {
+			Set<Object> contentChildrenSet = new HashSet<>(contentChildren);
 			List<IContentPart<? extends Node>> childContentParts = PartUtils
 					.filterParts(getHost().getChildrenUnmodifiable(), IContentPart.class);
 			for (IContentPart<? extends Node> cp : childContentParts) {
-				if (!getHost().getContentChildrenUnmodifiable().contains(cp.getContent())) {
+				if (!contentChildrenSet.contains(cp.getContent())) {
 					return;
 				}
 			}
 		}
 
+		// a clean layout pass supersedes the scheduled ones
+		if (clean) {
+			unscheduleLayout();
+			scheduledPlacements.clear();
+		}
+
 		if (skipNextLayout) {
 			skipNextLayout = false;
 			return;
 		}
 
+		// ensure the visuals of the child parts (which provide the pre-layout
+		// sizes) reflect all content changes
+		RefreshScheduler refreshScheduler = getHost().getRoot().getViewer().getAdapter(RefreshScheduler.class);
+		if (refreshScheduler != null) {
+			refreshScheduler.flush();
+		}
+
 		Graph graph = getHost().getContent();
 
 		// update layout algorithm (apply layout will depend on it)
@@ -151,8 +264,134 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 			layoutContext.setGraph(graph);
 		}
 
-		// apply layout (if no algorithm is set, will be a no-op)
-		layoutContext.applyLayout(true);
+		// a pending layout pass is superseded by this one; as the layout
+		// algorithm may still be in use on the worker thread, the superseding
+		// pass has to be performed asynchronously as well
+		boolean superseding = cancelLayout();
+		if (layoutContext.getLayoutAlgorithm() == null) {
+			return;
+		}
+
+		// determine the nodes to place in case of an incremental layout pass
+		Set<org.eclipse.gef.graph.Node> placements = null;
+		if (!clean && extra instanceof Collection) {
+			placements = new HashSet<>();
+			for (Object o : (Collection<?>) extra) {
+				if (o instanceof org.eclipse.gef.graph.Node) {
+					placements.add((org.eclipse.gef.graph.Node) o);
+				}
+			}
+		}
+
+		if (superseding || layoutContext.getNodes().length >= asynchronousLayoutThreshold) {
+			applyLayoutAsynchronously(layoutContext, clean, placements);
+		} else if (placements != null) {
+			stopAnimation(true);
+			applyLayoutIncrementally(layoutContext, placements);
+		} else {
+			stopAnimation(true);
+			layoutContext.applyLayout(clean);
+		}
+	}
+
+	private void applyLayoutAsynchronously(LayoutContext layoutContext, final boolean clean,
+			final Set<org.eclipse.gef.graph.Node> placements) {
+		final int generation = ++layoutGeneration;
+
+		// transfer the pre-layout information into the layout model
+		layoutContext.preLayout();
+
+		// XXX: The layout algorithm is applied to a snapshot of the
+		// layout-relevant nodes and edges, so that the attributes of the
+		// original graph (which are observed by the parts) are only changed on
+		// the application thread.
+		final List<org.eclipse.gef.graph.Node> originals = new ArrayList<>();
+		final List<org.eclipse.gef.graph.Node> copies = new ArrayList<>();
+		final Graph snapshot = createLayoutSnapshot(layoutContext, placements, originals, copies);
+		final ILayoutAlgorithm layoutAlgorithm = layoutContext.getLayoutAlgorithm();
+		pendingLayout = getLayoutExecutor().submit(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					LayoutContext snapshotContext = new LayoutContext();
+					snapshotContext.setGraph(snapshot);
+					snapshotContext.setLayoutAlgorithm(layoutAlgorithm);
+					// XXX: An incremental pass is applied clean to the
+					// snapshot (see applyLayoutIncrementally()).
+					snapshotContext.applyLayout(clean || placements != null);
+				} catch (final Throwable t) {
+					// report the failure on the application thread
+					Platform.runLater(new Runnable() {
+						@Override
+						public void run() {
+							failLayout(generation, t);
+						}
+					});
+					return;
+				}
+				if (!Thread.currentThread().isInterrupted()) {
+					Platform.runLater(new Runnable() {
+						@Override
+						public void run() {
+							publishLayout(generation, placements, originals, copies);
+						}
+					});
+				}
+			}
+		});
+	}
+
+	/**
+	 * Performs an incremental layout pass on the JavaFX application thread.
+	 * Like an asynchronous layout pass, it is applied to a snapshot of the
+	 * layout-relevant nodes and edges, so that the nodes that are not to be
+	 * placed can be fixed without changing the attributes of the original
+	 * graph.
+	 */
+	private void applyLayoutIncrementally(LayoutContext layoutContext, Set<org.eclipse.gef.graph.Node> placements) {
+		layoutContext.preLayout();
+		List<org.eclipse.gef.graph.Node> originals = new ArrayList<>();
+		List<org.eclipse.gef.graph.Node> copies = new ArrayList<>();
+		Graph snapshot = createLayoutSnapshot(layoutContext, placements, originals, copies);
+		LayoutContext snapshotContext = new LayoutContext();
+		snapshotContext.setGraph(snapshot);
+		snapshotContext.setLayoutAlgorithm(layoutContext.getLayoutAlgorithm());
+		// XXX: The layout algorithm is applied clean to the snapshot, as some
+		// algorithms (e.g. GridLayoutAlgorithm) do not place any nodes
+		// otherwise. The nodes that are not to be placed are fixed within the
+		// snapshot, and only the placements are transferred back.
+		snapshotContext.applyLayout(true);
+		transferLayout(placements, originals, copies);
+		layoutContext.postLayout();
+	}
+
+	private void applyScheduledLayout() {
+		List<org.eclipse.gef.graph.Node> placements = new ArrayList<>(scheduledPlacements);
+		scheduledPlacements.clear();
+		if (!incrementalLayout) {
+			applyLayout(true, null);
+		} else if (!placements.isEmpty()) {
+			// hidden or removed nodes do not affect the remaining ones
+			applyLayout(false, placements);
+		}
+	}
+
+	/**
+	 * Cancels a pending asynchronous layout pass, so that its results are not
+	 * published.
+	 *
+	 * @return <code>true</code> if a layout pass was pending, otherwise
+	 *         <code>false</code>.
+	 */
+	private boolean cancelLayout() {
+		if (pendingLayout == null) {
+			return false;
+		}
+		// results of previous generations are discarded when published
+		layoutGeneration++;
+		pendingLayout.cancel(true);
+		pendingLayout = null;
+		return true;
 	}
 
 	/**
@@ -181,6 +420,46 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 		return newBounds;
 	}
 
+	private Map<String, Object> copyAttributes(Map<String, Object> attributes) {
+		Map<String, Object> copy = new HashMap<>(attributes);
+		// geometric values may be changed in-place by layout algorithms
+		for (Map.Entry<String, Object> entry : copy.entrySet()) {
+			Object value = entry.getValue();
+			if (value instanceof Point) {
+				entry.setValue(((Point) value).getCopy());
+			} else if (value instanceof Dimension) {
+				entry.setValue(((Dimension) value).getCopy());
+			} else if (value instanceof Rectangle) {
+				entry.setValue(((Rectangle) value).getCopy());
+			}
+		}
+		return copy;
+	}
+
+	private Graph createLayoutSnapshot(LayoutContext layoutContext, Set<org.eclipse.gef.graph.Node> placements,
+			List<org.eclipse.gef.graph.Node> originals, List<org.eclipse.gef.graph.Node> copies) {
+		Map<org.eclipse.gef.graph.Node, org.eclipse.gef.graph.Node> copiesByOriginal = new HashMap<>();
+		for (org.eclipse.gef.graph.Node node : layoutContext.getNodes()) {
+			org.eclipse.gef.graph.Node copy = new org.eclipse.gef.graph.Node(copyAttributes(node.getAttributes()));
+			if (placements != null && !placements.contains(node)) {
+				// keep the position of the nodes that are not to be placed
+				copy.getAttributes().put(LayoutProperties.MOVABLE_PROPERTY, false);
+			}
+			copiesByOriginal.put(node, copy);
+			originals.add(node);
+			copies.add(copy);
+		}
+		List<Edge> edges = new ArrayList<>();
+		for (Edge edge : layoutContext.getEdges()) {
+			org.eclipse.gef.graph.Node source = copiesByOriginal.get(edge.getSource());
+			org.eclipse.gef.graph.Node target = copiesByOriginal.get(edge.getTarget());
+			if (source != null && target != null) {
+				edges.add(new Edge(copyAttributes(edge.getAttributes()), source, target));
+			}
+		}
+		return new Graph(copyAttributes(layoutContext.getGraph().getAttributes()), copies, edges);
+	}
+
 	@Override
 	protected void doActivate() {
 		getHost().getChildrenUnmodifiable().addListener(childrenObserver);
@@ -256,15 +535,40 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 		// nesting part and one for the viewport of the graph part, so that
 		// nested graphs are not unnecessarily layouted
 		skipNextLayout = savedViewport != null;
-		if (savedViewport == null || isNested || isViewportChanged) {
+		// restore the layout that was cached when navigating away from this
+		// graph (unless its structure changed in the meantime)
+		LayoutState layoutState = navigationModel == null || isNested ? null
+				: navigationModel.getLayoutState(getHost().getContent());
+		if (layoutState != null && layoutState.isValid(getHost().getContent())) {
+			layoutState.restore(getHost().getContent());
+			LayoutProperties.setBounds(getHost().getContent(), computeLayoutBounds());
+			skipNextLayout = true;
+		} else if (savedViewport == null || isNested || isViewportChanged) {
+			// show the cached thumbnail (if any) until the layout is applied
+			if (layoutState != null && layoutState.getThumbnail() != null) {
+				showThumbnail(layoutState.getThumbnail());
+			}
 			LayoutProperties.setBounds(getHost().getContent(), computeLayoutBounds());
 			applyLayout(true, null);
+			if (pendingLayout == null) {
+				hideThumbnail();
+			}
 		}
 	}
 
 	@Override
 	protected void doDeactivate() {
 		getHost().getChildrenUnmodifiable().removeListener(childrenObserver);
+		hideThumbnail();
+
+		// discard pending layout passes and complete running transitions
+		unscheduleLayout();
+		cancelLayout();
+		stopAnimation(true);
+		if (layoutExecutor != null) {
+			layoutExecutor.shutdownNow();
+			layoutExecutor = null;
+		}
 
 		final HidingModel hidingModel = getHost().getRoot().getViewer().getAdapter(HidingModel.class);
 		if (hidingModel != null) {
@@ -284,6 +588,84 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 		nestingVisual = null;
 	}
 
+	/**
+	 * Reports the failure of an asynchronous layout pass (if it was not
+	 * superseded in the meantime) on the JavaFX application thread.
+	 */
+	private void failLayout(int generation, Throwable t) {
+		if (generation != layoutGeneration || !isActive()) {
+			// failures of superseded (and cancelled) passes are irrelevant
+			return;
+		}
+		pendingLayout = null;
+		hideThumbnail();
+		if (t instanceof RuntimeException) {
+			throw (RuntimeException) t;
+		} else if (t instanceof Error) {
+			throw (Error) t;
+		}
+		throw new IllegalStateException("Asynchronous layout pass failed.", t);
+	}
+
+	/**
+	 * Returns the duration of the transition from the pre-layout to the
+	 * post-layout node positions after an asynchronous layout pass.
+	 *
+	 * @return The duration of the layout transition.
+	 * @since 5.1
+	 */
+	public Duration getAnimationDuration() {
+		return animationDuration;
+	}
+
+	/**
+	 * Returns the number of (layout-relevant) nodes starting from which the
+	 * graph is layouted asynchronously.
+	 *
+	 * @return The number of nodes starting from which the graph is layouted
+	 *         asynchronously.
+	 * @since 5.1
+	 */
+	public int getAsynchronousLayoutThreshold() {
+		return asynchronousLayoutThreshold;
+	}
+
+	// removes the thumbnail (if any) from the overlay of the canvas
+	private void hideThumbnail() {
+		if (thumbnail != null) {
+			getInfiniteCanvas().getOverlayGroup().getChildren().remove(thumbnail);
+			thumbnail = null;
+		}
+	}
+
+	/**
+	 * Returns whether layout passes that are caused by changes of the children
+	 * or the {@link HidingModel} are performed incrementally, i.e. only place
+	 * the revealed or added nodes, or not.
+	 *
+	 * @return <code>true</code> if layout passes that are caused by changes of
+	 *         the children or the {@link HidingModel} are performed
+	 *         incrementally, otherwise <code>false</code>.
+	 * @since 5.1
+	 */
+	public boolean isIncrementalLayout() {
+		return incrementalLayout;
+	}
+
+	private List<AbstractLayoutBehavior> getChildLayoutBehaviors() {
+		List<AbstractLayoutBehavior> childLayoutBehaviors = new ArrayList<>();
+		for (IVisualPart<? extends Node> child : getHost().getChildrenUnmodifiable()) {
+			if (child.getViewer() == null) {
+				continue;
+			}
+			AbstractLayoutBehavior childLayoutBehavior = child.getAdapter(AbstractLayoutBehavior.class);
+			if (childLayoutBehavior != null) {
+				childLayoutBehaviors.add(childLayoutBehavior);
+			}
+		}
+		return childLayoutBehaviors;
+	}
+
 	@Override
 	public GraphPart getHost() {
 		return (GraphPart) super.getHost();
@@ -305,6 +687,17 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 		return getHost().getAdapter(LayoutContext.class);
 	}
 
+	private ExecutorService getLayoutExecutor() {
+		if (layoutExecutor == null) {
+			layoutExecutor = Executors.newSingleThreadExecutor(r -> {
+				Thread thread = new Thread(r, "GraphLayoutBehavior");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return layoutExecutor;
+	}
+
 	/**
 	 * Returns the {@link NodePart} that contains the nested graph to which the
 	 * behavior corresponds, if this behavior is related to a nested graph.
@@ -321,6 +714,8 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 
 	@Override
 	protected void postLayout() {
+		hideThumbnail();
+
 		// execute post-layout of all nodes and edges
 		for (IVisualPart<? extends Node> child : getHost().getChildrenUnmodifiable()) {
 			// FIXME: Layout should only be triggered when content-part-map
@@ -351,6 +746,202 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 		}
 	}
 
+	/**
+	 * Publishes the results of an asynchronous layout pass (if it was not
+	 * superseded in the meantime) and starts the transition to the post-layout
+	 * state.
+	 */
+	private void publishLayout(int generation, Set<org.eclipse.gef.graph.Node> placements,
+			List<org.eclipse.gef.graph.Node> originals, List<org.eclipse.gef.graph.Node> copies) {
+		if (generation != layoutGeneration || !isActive()) {
+			return;
+		}
+		pendingLayout = null;
+		transferLayout(placements, originals, copies);
+
+		// XXX: A running transition is not completed, so that the next
+		// transition starts at the current (interpolated) positions.
+		List<AbstractLayoutBehavior> previouslyAnimated = stopAnimation(false);
+		getLayoutContext().postLayout();
+		List<AbstractLayoutBehavior> childLayoutBehaviors = getChildLayoutBehaviors();
+		Set<AbstractLayoutBehavior> animated = Collections.newSetFromMap(new IdentityHashMap<>());
+		animated.addAll(childLayoutBehaviors);
+		for (AbstractLayoutBehavior behavior : previouslyAnimated) {
+			if (!animated.contains(behavior)) {
+				behavior.interpolateLayout(1);
+			}
+		}
+		startAnimation(childLayoutBehaviors);
+	}
+
+	/**
+	 * Schedules a layout pass for the next pulse, so that multiple subsequent
+	 * changes (of the children or the {@link HidingModel}) only lead to a
+	 * single layout pass. In case {@link #isIncrementalLayout() incremental
+	 * layout} is enabled, only the given nodes (together with the nodes of
+	 * other scheduled passes) are placed.
+	 *
+	 * @param placements
+	 *            The nodes that need to be placed, i.e. that were added or
+	 *            revealed.
+	 * @since 5.1
+	 */
+	protected void scheduleLayout(Collection<? extends org.eclipse.gef.graph.Node> placements) {
+		scheduledPlacements.addAll(placements);
+		if (layoutScheduled) {
+			return;
+		}
+		layoutScheduled = true;
+		if (layoutPulse == null) {
+			layoutPulse = new AnimationTimer() {
+				@Override
+				public void handle(long now) {
+					unscheduleLayout();
+					applyScheduledLayout();
+				}
+			};
+		}
+		layoutPulse.start();
+	}
+
+	/**
+	 * Sets the duration of the transition from the pre-layout to the
+	 * post-layout node positions after an asynchronous layout pass. A duration
+	 * of {@link Duration#ZERO} disables the transition.
+	 *
+	 * @param animationDuration
+	 *            The duration of the layout transition.
+	 * @since 5.1
+	 */
+	public void setAnimationDuration(Duration animationDuration) {
+		this.animationDuration = animationDuration;
+	}
+
+	/**
+	 * Sets the number of (layout-relevant) nodes starting from which the graph
+	 * is layouted asynchronously. A value of <code>0</code> enforces
+	 * asynchronous layout, while {@link Integer#MAX_VALUE} disables it.
+	 *
+	 * @param asynchronousLayoutThreshold
+	 *            The number of nodes starting from which the graph is layouted
+	 *            asynchronously.
+	 * @since 5.1
+	 */
+	public void setAsynchronousLayoutThreshold(int asynchronousLayoutThreshold) {
+		this.asynchronousLayoutThreshold = asynchronousLayoutThreshold;
+	}
+
+	/**
+	 * Sets whether layout passes that are caused by changes of the children or
+	 * the {@link HidingModel} are performed incrementally, i.e. only place the
+	 * revealed or added nodes, or not.
+	 *
+	 * @param incrementalLayout
+	 *            <code>true</code> to perform layout passes that are caused by
+	 *            changes of the children or the {@link HidingModel}
+	 *            incrementally, otherwise <code>false</code>.
+	 * @since 5.1
+	 */
+	public void setIncrementalLayout(boolean incrementalLayout) {
+		this.incrementalLayout = incrementalLayout;
+	}
+
+	// displays the given thumbnail in the overlay of the canvas (stretched to
+	// the viewport), so that the graph is shown while it is layouted
+	private void showThumbnail(Image image) {
+		InfiniteCanvas canvas = getInfiniteCanvas();
+		thumbnail = new ImageView(image);
+		thumbnail.setFitWidth(canvas.getWidth());
+		thumbnail.setFitHeight(canvas.getHeight());
+		thumbnail.setMouseTransparent(true);
+		canvas.getOverlayGroup().getChildren().add(thumbnail);
+	}
+
+	private void startAnimation(List<AbstractLayoutBehavior> childLayoutBehaviors) {
+		if (animationDuration.lessThanOrEqualTo(Duration.ZERO)) {
+			for (AbstractLayoutBehavior behavior : childLayoutBehaviors) {
+				behavior.interpolateLayout(1);
+			}
+			return;
+		}
+		animatedBehaviors = childLayoutBehaviors;
+		for (AbstractLayoutBehavior behavior : animatedBehaviors) {
+			behavior.interpolateLayout(0);
+		}
+		// interpolate once per pulse
+		layoutAnimation = new AnimationTimer() {
+			private long startTime = -1;
+
+			@Override
+			public void handle(long now) {
+				if (startTime < 0) {
+					startTime = now;
+				}
+				double fraction = Math.min(1, (now - startTime) / 1e6 / animationDuration.toMillis());
+				for (AbstractLayoutBehavior behavior : animatedBehaviors) {
+					behavior.interpolateLayout(fraction);
+				}
+				if (fraction >= 1) {
+					stopAnimation(false);
+				}
+			}
+		};
+		layoutAnimation.start();
+	}
+
+	/**
+	 * Stops a running layout transition.
+	 *
+	 * @param complete
+	 *            Whether to complete the transition, i.e. to apply the
+	 *            post-layout state, or not.
+	 * @return The child layout behaviors that were animated.
+	 */
+	private List<AbstractLayoutBehavior> stopAnimation(boolean complete) {
+		List<AbstractLayoutBehavior> previouslyAnimated = animatedBehaviors;
+		if (layoutAnimation != null) {
+			layoutAnimation.stop();
+			layoutAnimation = null;
+		}
+		animatedBehaviors = Collections.emptyList();
+		if (complete) {
+			for (AbstractLayoutBehavior behavior : previouslyAnimated) {
+				behavior.interpolateLayout(1);
+			}
+		}
+		return previouslyAnimated;
+	}
+
+	/**
+	 * Transfers the results of a layout pass from the snapshot to the original
+	 * nodes. In case of an incremental layout pass, only the results of the
+	 * nodes to place are transferred (as not all layout algorithms respect the
+	 * movable property).
+	 */
+	private void transferLayout(Set<org.eclipse.gef.graph.Node> placements,
+			List<org.eclipse.gef.graph.Node> originals, List<org.eclipse.gef.graph.Node> copies) {
+		for (int i = 0; i < originals.size(); i++) {
+			if (placements != null && !placements.contains(originals.get(i))) {
+				continue;
+			}
+			Point location = LayoutProperties.getLocation(copies.get(i));
+			if (location != null) {
+				LayoutProperties.setLocation(originals.get(i), location);
+			}
+			Dimension size = LayoutProperties.getSize(copies.get(i));
+			if (size != null) {
+				LayoutProperties.setSize(originals.get(i), size);
+			}
+		}
+	}
+
+	private void unscheduleLayout() {
+		if (layoutPulse != null) {
+			layoutPulse.stop();
+		}
+		layoutScheduled = false;
+	}
+
 	/**
 	 * Updates the bounds property from the visual (viewport or nesting node)
 	 */
@@ -0,0 +1,315 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.fx.behaviors;
+
+import java.util.List;
+
+import org.eclipse.gef.fx.nodes.InfiniteCanvas;
+import org.eclipse.gef.mvc.fx.behaviors.AbstractBehavior;
+import org.eclipse.gef.mvc.fx.parts.IVisualPart;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.fx.viewer.InfiniteCanvasViewer;
+import org.eclipse.gef.zest.fx.parts.AbstractLabelPart;
+import org.eclipse.gef.zest.fx.parts.EdgePart;
+import org.eclipse.gef.zest.fx.parts.GraphPart;
+import org.eclipse.gef.zest.fx.parts.NodePart;
+import org.eclipse.gef.zest.fx.policies.SemanticZoomPolicy;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.ListChangeListener;
+import javafx.scene.Node;
+import javafx.scene.transform.Transform;
+
+/**
+ * The {@link LevelOfDetailBehavior} is a {@link GraphPart}-specific behavior
+ * that reduces the level of detail of the children of its {@link #getHost()
+ * host} depending on the zoom level (as changed by the
+ * {@link SemanticZoomPolicy}). Details that cannot be recognized at the current
+ * zoom level (but whose rendering is rather expensive) are hidden, i.e. they
+ * are excluded from layout and rendering:
+ * <ul>
+ * <li>The texts of the {@link AbstractLabelPart}s (i.e. external node labels
+ * and edge labels) are hidden below the {@link #getExternalLabelThreshold()
+ * external label threshold}.</li>
+ * <li>The decorations of the {@link EdgePart}s and the icons of the
+ * {@link NodePart}s are hidden below the {@link #getDecorationThreshold()
+ * decoration threshold}.</li>
+ * <li>The labels of the {@link NodePart}s are hidden below the
+ * {@link #getNodeLabelThreshold() node label threshold}.</li>
+ * </ul>
+ * The zoom level is determined as the on-screen scale of the visual of the
+ * {@link #getHost() host}, so that the scaling of nested graphs is respected.
+ * In order to prevent flickering when zooming around a threshold, hidden
+ * details are only shown again when the zoom level exceeds the threshold by
+ * the {@link #getHysteresis() hysteresis}.
+ * <p>
+ * Instead of letting each part observe the zoom level on its own, all affected
+ * parts are switched within one pass when a threshold is crossed. Parts that
+ * are added later on are switched to the current level of detail in batches,
+ * i.e. per change of the children of the {@link #getHost() host}.
+ *
+ * @author agent
+ * @since 5.1
+ *
+ */
+// only applicable for GraphPart (see #getHost())
+public class LevelOfDetailBehavior extends AbstractBehavior {
+
+	/**
+	 * The default zoom level below which the texts of external labels are
+	 * hidden.
+	 */
+	public static final double DEFAULT_EXTERNAL_LABEL_THRESHOLD = 0.5;
+
+	/**
+	 * The default zoom level below which edge decorations and node icons are
+	 * hidden.
+	 */
+	public static final double DEFAULT_DECORATION_THRESHOLD = 0.35;
+
+	/**
+	 * The default zoom level below which node labels are hidden.
+	 */
+	public static final double DEFAULT_NODE_LABEL_THRESHOLD = 0.25;
+
+	/**
+	 * The default (relative) amount by which the zoom level has to exceed a
+	 * threshold, so that the respective details are shown again.
+	 */
+	public static final double DEFAULT_HYSTERESIS = 0.2;
+
+	private double externalLabelThreshold = DEFAULT_EXTERNAL_LABEL_THRESHOLD;
+	private double decorationThreshold = DEFAULT_DECORATION_THRESHOLD;
+	private double nodeLabelThreshold = DEFAULT_NODE_LABEL_THRESHOLD;
+	private double hysteresis = DEFAULT_HYSTERESIS;
+
+	// the details that are currently displayed
+	private boolean externalLabelsVisible = true;
+	private boolean decorationsVisible = true;
+	private boolean nodeLabelsVisible = true;
+
+	private InvalidationListener zoomObserver = new InvalidationListener() {
+		@Override
+		public void invalidated(Observable observable) {
+			refreshLevelOfDetail(false);
+		}
+	};
+
+	private ListChangeListener<IVisualPart<? extends Node>> childrenObserver = new ListChangeListener<IVisualPart<? extends Node>>() {
+		@Override
+		public void onChanged(ListChangeListener.Change<? extends IVisualPart<? extends Node>> c) {
+			while (c.next()) {
+				if (c.wasAdded()) {
+					applyLevelOfDetail(c.getAddedSubList());
+				}
+			}
+		}
+	};
+
+	/**
+	 * Applies the current level of detail to the given parts.
+	 *
+	 * @param parts
+	 *            The parts to which the current level of detail is applied.
+	 */
+	protected void applyLevelOfDetail(List<? extends IVisualPart<? extends Node>> parts) {
+		for (IVisualPart<? extends Node> part : parts) {
+			if (part instanceof NodePart) {
+				((NodePart) part).setLabelVisible(nodeLabelsVisible);
+				((NodePart) part).setIconVisible(decorationsVisible);
+			} else if (part instanceof EdgePart) {
+				((EdgePart) part).setDecorationsVisible(decorationsVisible);
+			} else if (part instanceof AbstractLabelPart) {
+				((AbstractLabelPart) part).setTextVisible(externalLabelsVisible);
+			}
+		}
+	}
+
+	/**
+	 * Returns the current zoom level, i.e. the on-screen scale of the visual
+	 * of the {@link #getHost() host}.
+	 *
+	 * @return The current zoom level.
+	 */
+	protected double computeZoomLevel() {
+		Transform tx = getHost().getVisual().getLocalToSceneTransform();
+		return Math.sqrt(tx.getMxx() * tx.getMxx() + tx.getMyx() * tx.getMyx());
+	}
+
+	@Override
+	protected void doActivate() {
+		getInfiniteCanvas().getContentTransform().mxxProperty().addListener(zoomObserver);
+		getInfiniteCanvas().getContentTransform().myxProperty().addListener(zoomObserver);
+		getHost().getChildrenUnmodifiable().addListener(childrenObserver);
+		refreshLevelOfDetail(true);
+	}
+
+	@Override
+	protected void doDeactivate() {
+		getInfiniteCanvas().getContentTransform().mxxProperty().removeListener(zoomObserver);
+		getInfiniteCanvas().getContentTransform().myxProperty().removeListener(zoomObserver);
+		getHost().getChildrenUnmodifiable().removeListener(childrenObserver);
+	}
+
+	/**
+	 * Returns the zoom level below which edge decorations and node icons are
+	 * hidden.
+	 *
+	 * @return The zoom level below which edge decorations and node icons are
+	 *         hidden.
+	 */
+	public double getDecorationThreshold() {
+		return decorationThreshold;
+	}
+
+	/**
+	 * Returns the zoom level below which the texts of external labels (i.e.
+	 * external node labels and edge labels) are hidden.
+	 *
+	 * @return The zoom level below which the texts of external labels are
+	 *         hidden.
+	 */
+	public double getExternalLabelThreshold() {
+		return externalLabelThreshold;
+	}
+
+	@Override
+	public GraphPart getHost() {
+		return (GraphPart) super.getHost();
+	}
+
+	/**
+	 * Returns the (relative) amount by which the zoom level has to exceed a
+	 * threshold, so that the respective details are shown again.
+	 *
+	 * @return The (relative) amount by which the zoom level has to exceed a
+	 *         threshold, so that the respective details are shown again.
+	 */
+	public double getHysteresis() {
+		return hysteresis;
+	}
+
+	/**
+	 * Returns the {@link InfiniteCanvas} of the {@link IViewer} of the
+	 * {@link #getHost() host}.
+	 *
+	 * @return The {@link InfiniteCanvas} of the {@link IViewer} of the
+	 *         {@link #getHost() host}.
+	 */
+	protected InfiniteCanvas getInfiniteCanvas() {
+		return ((InfiniteCanvasViewer) getHost().getRoot().getViewer()).getCanvas();
+	}
+
+	/**
+	 * Returns the zoom level below which node labels are hidden.
+	 *
+	 * @return The zoom level below which node labels are hidden.
+	 */
+	public double getNodeLabelThreshold() {
+		return nodeLabelThreshold;
+	}
+
+	// details are hidden below the threshold, but only shown again above the
+	// threshold plus hysteresis
+	private boolean isDetailVisible(boolean wasVisible, double zoomLevel, double threshold, boolean ignoreHysteresis) {
+		if (wasVisible || ignoreHysteresis) {
+			return zoomLevel >= threshold;
+		}
+		return zoomLevel >= threshold * (1 + hysteresis);
+	}
+
+	/**
+	 * Determines the level of detail for the current zoom level and applies
+	 * it to all children of the {@link #getHost() host} if it changed.
+	 *
+	 * @param force
+	 *            <code>true</code> to ignore the hysteresis and apply the
+	 *            level of detail even if it did not change, otherwise
+	 *            <code>false</code>.
+	 */
+	protected void refreshLevelOfDetail(boolean force) {
+		double zoomLevel = computeZoomLevel();
+		boolean newExternalLabelsVisible = isDetailVisible(externalLabelsVisible, zoomLevel, externalLabelThreshold,
+				force);
+		boolean newDecorationsVisible = isDetailVisible(decorationsVisible, zoomLevel, decorationThreshold, force);
+		boolean newNodeLabelsVisible = isDetailVisible(nodeLabelsVisible, zoomLevel, nodeLabelThreshold, force);
+		if (force || newExternalLabelsVisible != externalLabelsVisible || newDecorationsVisible != decorationsVisible
+				|| newNodeLabelsVisible != nodeLabelsVisible) {
+			externalLabelsVisible = newExternalLabelsVisible;
+			decorationsVisible = newDecorationsVisible;
+			nodeLabelsVisible = newNodeLabelsVisible;
+			applyLevelOfDetail(getHost().getChildrenUnmodifiable());
+		}
+	}
+
+	/**
+	 * Sets the zoom level below which edge decorations and node icons are
+	 * hidden.
+	 *
+	 * @param decorationThreshold
+	 *            The zoom level below which edge decorations and node icons
+	 *            are hidden.
+	 */
+	public void setDecorationThreshold(double decorationThreshold) {
+		this.decorationThreshold = decorationThreshold;
+		if (isActive()) {
+			refreshLevelOfDetail(true);
+		}
+	}
+
+	/**
+	 * Sets the zoom level below which the texts of external labels (i.e.
+	 * external node labels and edge labels) are hidden.
+	 *
+	 * @param externalLabelThreshold
+	 *            The zoom level below which the texts of external labels are
+	 *            hidden.
+	 */
+	public void setExternalLabelThreshold(double externalLabelThreshold) {
+		this.externalLabelThreshold = externalLabelThreshold;
+		if (isActive()) {
+			refreshLevelOfDetail(true);
+		}
+	}
+
+	/**
+	 * Sets the (relative) amount by which the zoom level has to exceed a
+	 * threshold, so that the respective details are shown again, e.g.
+	 * <code>0.2</code> to show details again at 120% of their threshold.
+	 *
+	 * @param hysteresis
+	 *            The (relative) amount by which the zoom level has to exceed
+	 *            a threshold, so that the respective details are shown again.
+	 */
+	public void setHysteresis(double hysteresis) {
+		if (hysteresis < 0) {
+			throw new IllegalArgumentException("The hysteresis may not be negative.");
+		}
+		this.hysteresis = hysteresis;
+	}
+
+	/**
+	 * Sets the zoom level below which node labels are hidden.
+	 *
+	 * @param nodeLabelThreshold
+	 *            The zoom level below which node labels are hidden.
+	 */
+	public void setNodeLabelThreshold(double nodeLabelThreshold) {
+		this.nodeLabelThreshold = nodeLabelThreshold;
+		if (isActive()) {
+			refreshLevelOfDetail(true);
+		}
+	}
+
+}
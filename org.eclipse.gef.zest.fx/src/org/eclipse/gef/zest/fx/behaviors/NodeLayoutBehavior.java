@@ -38,6 +38,10 @@ public class NodeLayoutBehavior extends AbstractLayoutBehavior {
 
 	private Dimension preLayoutSize = null;
 
+	// visual translations used to interpolate between pre- and post-layout
+	private Point preLayoutTranslation = null;
+	private Point postLayoutTranslation = null;
+
 	@Override
 	public NodePart getHost() {
 		return (NodePart) super.getHost();
@@ -50,9 +54,31 @@ public class NodeLayoutBehavior extends AbstractLayoutBehavior {
 		return graphPart.getAdapter(GraphLayoutBehavior.class).getLayoutContext();
 	}
 
+	@Override
+	protected void interpolateLayout(double fraction) {
+		if (preLayoutTranslation == null) {
+			return;
+		}
+		// XXX: Only the visual is interpolated, the content already provides
+		// the post-layout position.
+		Affine transform = getHost().getVisualTransform();
+		if (fraction >= 1) {
+			transform.setTx(postLayoutTranslation.x);
+			transform.setTy(postLayoutTranslation.y);
+			preLayoutTranslation = null;
+			postLayoutTranslation = null;
+			layoutLabels();
+		} else {
+			transform.setTx(preLayoutTranslation.x + (postLayoutTranslation.x - preLayoutTranslation.x) * fraction);
+			transform.setTy(preLayoutTranslation.y + (postLayoutTranslation.y - preLayoutTranslation.y) * fraction);
+		}
+	}
+
 	@Override
 	protected void postLayout() {
 		org.eclipse.gef.graph.Node content = getHost().getContent();
+		Affine transform = getHost().getVisualTransform();
+		preLayoutTranslation = new Point(transform.getTx(), transform.getTy());
 
 		// update size
 		Dimension postLayoutSize = LayoutProperties.getSize(content);
@@ -69,6 +95,8 @@ public class NodeLayoutBehavior extends AbstractLayoutBehavior {
 
 		// refresh our visual
 		getHost().refreshVisual();
+		transform = getHost().getVisualTransform();
+		postLayoutTranslation = new Point(transform.getTx(), transform.getTy());
 
 		// update label positions (from visual locations) as they are not
 		// provided by layout
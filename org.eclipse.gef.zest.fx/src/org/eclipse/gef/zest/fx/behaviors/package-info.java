@@ -20,6 +20,10 @@
  * {@link org.eclipse.gef.zest.fx.behaviors.AbstractHidingBehavior},
  * {@link org.eclipse.gef.zest.fx.behaviors.NodeHidingBehavior},
  * {@link org.eclipse.gef.zest.fx.behaviors.EdgeHidingBehavior},
- * {@link org.eclipse.gef.zest.fx.behaviors.EdgeLabelHidingBehavior}).
+ * {@link org.eclipse.gef.zest.fx.behaviors.EdgeLabelHidingBehavior}), and
+ * for rendering non-interactive edges into an edge layer (
+ * {@link org.eclipse.gef.zest.fx.behaviors.EdgeLayerBehavior}) and for
+ * reducing the level of detail depending on the zoom level (
+ * {@link org.eclipse.gef.zest.fx.behaviors.LevelOfDetailBehavior}).
  */
 package org.eclipse.gef.zest.fx.behaviors;
\ No newline at end of file
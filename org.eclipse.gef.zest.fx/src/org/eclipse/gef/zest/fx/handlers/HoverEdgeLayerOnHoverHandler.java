@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.fx.handlers;
+
+import org.eclipse.gef.fx.nodes.PolylineLayer;
+import org.eclipse.gef.mvc.fx.handlers.HoverOnHoverHandler;
+import org.eclipse.gef.mvc.fx.models.HoverModel;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IVisualPart;
+import org.eclipse.gef.zest.fx.parts.EdgePart;
+import org.eclipse.gef.zest.fx.parts.GraphPart;
+
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.input.MouseEvent;
+
+/**
+ * The {@link HoverEdgeLayerOnHoverHandler} is a {@link GraphPart}-specific
+ * {@link HoverOnHoverHandler} that hovers the {@link EdgePart} whose edge is
+ * rendered into the {@link GraphPart#getEdgeLayer() edge layer} at the mouse
+ * position. If no edge is hit, the root part is hovered (as would be done by
+ * the {@link HoverOnHoverHandler} of the root part).
+ * <p>
+ * As the {@link EdgePart} displays its connection visual while it is hovered,
+ * subsequent mouse events are targeted at that visual.
+ * <p>
+ * The {@link HoverEdgeLayerOnHoverHandler} is not bound within the adapter map
+ * of the {@link GraphPart}, but installed by the {@link GraphPart} only while
+ * it provides an edge layer (see
+ * {@link GraphPart#createEdgeLayerHoverHandler()}).
+ *
+ * @author agent
+ * @since 5.1
+ *
+ */
+// only applicable for GraphPart (see #getHost())
+public class HoverEdgeLayerOnHoverHandler extends HoverOnHoverHandler {
+
+	/**
+	 * Returns the {@link EdgePart} whose edge is rendered into the edge layer
+	 * of the {@link #getHost() host} at the position of the given
+	 * {@link MouseEvent}, or <code>null</code> if no edge is hit.
+	 *
+	 * @param e
+	 *            The {@link MouseEvent} for which to determine the
+	 *            {@link EdgePart}.
+	 * @return The {@link EdgePart} at the position of the given
+	 *         {@link MouseEvent}, or <code>null</code>.
+	 */
+	protected EdgePart getEdgePartAt(MouseEvent e) {
+		PolylineLayer edgeLayer = getHost().getEdgeLayer();
+		if (edgeLayer == null || !(e.getTarget() instanceof Node)
+				|| ((Node) e.getTarget()).getParent() != edgeLayer) {
+			return null;
+		}
+		Point2D positionInLayer = edgeLayer.sceneToLocal(e.getSceneX(), e.getSceneY());
+		Object edge = edgeLayer.getKeyAt(positionInLayer.getX(), positionInLayer.getY());
+		if (edge == null) {
+			return null;
+		}
+		IContentPart<? extends Node> edgePart = getHost().getViewer().getContentPartMap().get(edge);
+		return edgePart instanceof EdgePart ? (EdgePart) edgePart : null;
+	}
+
+	@Override
+	public GraphPart getHost() {
+		return (GraphPart) super.getHost();
+	}
+
+	@Override
+	public void hover(MouseEvent e) {
+		if (!isHover(e)) {
+			return;
+		}
+		EdgePart edgePart = getEdgePartAt(e);
+		getHoverModel().setHover(edgePart != null ? edgePart : getHost().getRoot());
+	}
+
+	@Override
+	public void hoverIntent(Node hoverIntent) {
+		// the hovered edge part (if any) is the hover intent
+		HoverModel hoverModel = getHoverModel();
+		IVisualPart<? extends Node> hover = hoverModel.getHover();
+		if (hover instanceof EdgePart && hover.getParent() == getHost()) {
+			hoverModel.setHoverIntent((EdgePart) hover);
+		} else {
+			hoverModel.setHoverIntent(null);
+		}
+	}
+}
@@ -12,25 +12,44 @@
  *******************************************************************************/
 package org.eclipse.gef.zest.fx.models;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Set;
 
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
 import org.eclipse.gef.graph.Node;
 import org.eclipse.gef.mvc.fx.parts.IContentPart;
 import org.eclipse.gef.zest.fx.parts.NodePart;
 
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+import com.google.common.collect.SetMultimap;
+
 import javafx.beans.property.ReadOnlySetProperty;
 import javafx.beans.property.ReadOnlySetWrapper;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 
 /**
  * The {@link HidingModel} manages a {@link Set} of currently hidden
  * {@link org.eclipse.gef.graph.Node}s. The hidden neighbors of a
  * {@link org.eclipse.gef.graph.Node} can be identified using
  * {@link #getHiddenNeighbors(org.eclipse.gef.graph.Node)}.
+ * <p>
+ * The hidden neighbors of all nodes are maintained incrementally, so that
+ * {@link #hasHiddenNeighbors(org.eclipse.gef.graph.Node)} and
+ * {@link #getHiddenNeighborCount(org.eclipse.gef.graph.Node)} are answered in
+ * constant time, while hiding or showing a node only requires to visit its
+ * incident edges. Therefore, the edges of each {@link Graph} that contains
+ * hidden nodes are indexed (and observed for changes). Multiple nodes can be
+ * hidden or shown at once using {@link #hide(Collection)} and
+ * {@link #show(Collection)}, which notify the listeners of the
+ * {@link #hiddenProperty()} only once.
  *
  * @author mwienand
  *
@@ -46,6 +65,99 @@ public class HidingModel {
 	private ReadOnlySetWrapper<org.eclipse.gef.graph.Node> hiddenProperty = new ReadOnlySetWrapper<>(this,
 			HIDDEN_PROPERTY, FXCollections.observableSet(new HashSet<org.eclipse.gef.graph.Node>()));
 
+	/**
+	 * Indexes the incident edges of the nodes of a {@link Graph} that contains
+	 * hidden nodes, and keeps the hidden neighbors up-to-date when edges are
+	 * added or removed.
+	 */
+	private class GraphIndex implements ListChangeListener<Edge> {
+
+		private Graph graph;
+		private SetMultimap<Node, Edge> incidentEdges = HashMultimap.create();
+		private int hiddenNodeCount;
+
+		public GraphIndex(Graph graph) {
+			this.graph = graph;
+			for (Edge edge : graph.getEdges()) {
+				index(edge);
+			}
+			graph.getEdges().addListener(this);
+		}
+
+		public void dispose() {
+			graph.getEdges().removeListener(this);
+		}
+
+		private void index(Edge edge) {
+			incidentEdges.put(edge.getSource(), edge);
+			incidentEdges.put(edge.getTarget(), edge);
+		}
+
+		// whether the given node is hidden (and was contained in the indexed
+		// graph when it was hidden)
+		private boolean isIndexed(Node node) {
+			return hiddenNodeIndexes.get(node) == this;
+		}
+
+		@Override
+		public void onChanged(ListChangeListener.Change<? extends Edge> change) {
+			while (change.next()) {
+				for (Edge edge : change.getRemoved()) {
+					incidentEdges.remove(edge.getSource(), edge);
+					incidentEdges.remove(edge.getTarget(), edge);
+					if (isIndexed(edge.getSource())) {
+						removeHiddenNeighbor(edge.getTarget(), edge.getSource());
+					}
+					if (isIndexed(edge.getTarget()) && edge.getTarget() != edge.getSource()) {
+						removeHiddenNeighbor(edge.getSource(), edge.getTarget());
+					}
+				}
+				for (Edge edge : change.getAddedSubList()) {
+					index(edge);
+					if (isIndexed(edge.getSource())) {
+						addHiddenNeighbor(edge.getTarget(), edge.getSource());
+					}
+					if (isIndexed(edge.getTarget()) && edge.getTarget() != edge.getSource()) {
+						addHiddenNeighbor(edge.getSource(), edge.getTarget());
+					}
+				}
+			}
+		}
+	}
+
+	// for each node, the hidden neighbors (the count of an entry corresponds
+	// to the number of edges that connect the node and the hidden neighbor)
+	private Map<Node, Multiset<Node>> hiddenNeighbors = new IdentityHashMap<>();
+	private Map<Graph, GraphIndex> graphIndexes = new IdentityHashMap<>();
+	// the index of the graph that contained each hidden node when it was
+	// hidden
+	private Map<Node, GraphIndex> hiddenNodeIndexes = new IdentityHashMap<>();
+
+	private void addHiddenNeighbor(Node node, Node hiddenNeighbor) {
+		Multiset<Node> neighbors = hiddenNeighbors.get(node);
+		if (neighbors == null) {
+			neighbors = HashMultiset.create();
+			hiddenNeighbors.put(node, neighbors);
+		}
+		neighbors.add(hiddenNeighbor);
+	}
+
+	/**
+	 * Returns the number of hidden neighbors of the given
+	 * {@link org.eclipse.gef.graph.Node}.
+	 *
+	 * @param node
+	 *            The {@link org.eclipse.gef.graph.Node} of which the hidden
+	 *            neighbors are counted.
+	 * @return The number of hidden neighbors of the given
+	 *         {@link org.eclipse.gef.graph.Node}.
+	 * @since 5.1
+	 */
+	public int getHiddenNeighborCount(org.eclipse.gef.graph.Node node) {
+		Multiset<Node> neighbors = hiddenNeighbors.get(node);
+		return neighbors == null ? 0 : neighbors.elementSet().size();
+	}
+
 	/**
 	 * Returns a {@link Set} containing all {@link NodePart}s corresponding to
 	 * the hidden neighbors of the content of the given {@link NodePart}.
@@ -78,15 +190,13 @@ public class HidingModel {
 	 *         {@link org.eclipse.gef.graph.Node}.
 	 */
 	public Set<org.eclipse.gef.graph.Node> getHiddenNeighbors(org.eclipse.gef.graph.Node node) {
-		Set<org.eclipse.gef.graph.Node> neighbors = node.getNeighbors();
-		Set<org.eclipse.gef.graph.Node> hiddenNeighbors = Collections
+		Set<org.eclipse.gef.graph.Node> result = Collections
 				.newSetFromMap(new IdentityHashMap<org.eclipse.gef.graph.Node, Boolean>());
-		for (org.eclipse.gef.graph.Node neighbor : neighbors) {
-			if (isHidden(neighbor)) {
-				hiddenNeighbors.add(neighbor);
-			}
+		Multiset<Node> neighbors = hiddenNeighbors.get(node);
+		if (neighbors != null) {
+			result.addAll(neighbors.elementSet());
 		}
-		return hiddenNeighbors;
+		return result;
 	}
 
 	/**
@@ -128,7 +238,7 @@ public class HidingModel {
 	 *         <code>false</code>.
 	 */
 	public boolean hasHiddenNeighbors(org.eclipse.gef.graph.Node node) {
-		return getHiddenNeighbors(node).size() > 0;
+		return hiddenNeighbors.containsKey(node);
 	}
 
 	/**
@@ -163,7 +273,57 @@ public class HidingModel {
 	 *            {@link Set} of hidden {@link org.eclipse.gef.graph.Node}s.
 	 */
 	public void hide(org.eclipse.gef.graph.Node node) {
-		hiddenProperty.add(node);
+		if (!isHidden(node)) {
+			indexHidden(node);
+			hiddenProperty.add(node);
+		}
+	}
+
+	/**
+	 * Adds the given {@link org.eclipse.gef.graph.Node}s to the {@link Set} of
+	 * hidden {@link org.eclipse.gef.graph.Node}s. Other than hiding the nodes
+	 * one by one, the listeners of the {@link #hiddenProperty()} are notified
+	 * only once, i.e. invalidation and change listeners receive a single
+	 * notification (while set change listeners receive a change for each
+	 * hidden node).
+	 *
+	 * @param nodes
+	 *            The {@link org.eclipse.gef.graph.Node}s that are added to the
+	 *            {@link Set} of hidden {@link org.eclipse.gef.graph.Node}s.
+	 * @since 5.1
+	 */
+	public void hide(Collection<? extends org.eclipse.gef.graph.Node> nodes) {
+		Set<Node> newHidden = null;
+		for (Node node : nodes) {
+			if (!isHidden(node) && (newHidden == null || !newHidden.contains(node))) {
+				if (newHidden == null) {
+					newHidden = new HashSet<>(hiddenProperty.get());
+				}
+				indexHidden(node);
+				newHidden.add(node);
+			}
+		}
+		if (newHidden != null) {
+			setHidden(newHidden);
+		}
+	}
+
+	// registers the given (to be hidden) node as a hidden neighbor of the
+	// nodes that are connected to it
+	private void indexHidden(Node node) {
+		if (node.getGraph() == null) {
+			return;
+		}
+		GraphIndex graphIndex = graphIndexes.get(node.getGraph());
+		if (graphIndex == null) {
+			graphIndex = new GraphIndex(node.getGraph());
+			graphIndexes.put(node.getGraph(), graphIndex);
+		}
+		graphIndex.hiddenNodeCount++;
+		hiddenNodeIndexes.put(node, graphIndex);
+		for (Edge edge : graphIndex.incidentEdges.get(node)) {
+			addHiddenNeighbor(edge.getSource() == node ? edge.getTarget() : edge.getSource(), node);
+		}
 	}
 
 	/**
@@ -200,6 +360,24 @@ public class HidingModel {
 		return hiddenProperty.contains(node);
 	}
 
+	private void removeHiddenNeighbor(Node node, Node hiddenNeighbor) {
+		Multiset<Node> neighbors = hiddenNeighbors.get(node);
+		if (neighbors != null) {
+			neighbors.remove(hiddenNeighbor);
+			if (neighbors.isEmpty()) {
+				hiddenNeighbors.remove(node);
+			}
+		}
+	}
+
+	// XXX: Replacing the set (instead of adding/removing the nodes one by one)
+	// results in a single notification of invalidation and change listeners.
+	private void setHidden(Set<Node> hidden) {
+		hiddenProperty.set(FXCollections.observableSet(hidden));
+		// ensure subsequent replacements are notified, too
+		hiddenProperty.get();
+	}
+
 	/**
 	 * Remove the content of the given {@link NodePart} from the {@link Set} of
 	 * hidden {@link org.eclipse.gef.graph.Node} s. Notifies all property change
@@ -224,7 +402,56 @@ public class HidingModel {
 	 *            s.
 	 */
 	public void show(org.eclipse.gef.graph.Node node) {
-		hiddenProperty.remove(node);
+		if (isHidden(node)) {
+			unindexHidden(node);
+			hiddenProperty.remove(node);
+		}
+	}
+
+	/**
+	 * Removes the given {@link org.eclipse.gef.graph.Node}s from the
+	 * {@link Set} of hidden {@link org.eclipse.gef.graph.Node}s. Other than
+	 * showing the nodes one by one, the listeners of the
+	 * {@link #hiddenProperty()} are notified only once, i.e. invalidation and
+	 * change listeners receive a single notification (while set change
+	 * listeners receive a change for each shown node).
+	 *
+	 * @param nodes
+	 *            The {@link org.eclipse.gef.graph.Node}s that are removed from
+	 *            the {@link Set} of hidden {@link org.eclipse.gef.graph.Node}s.
+	 * @since 5.1
+	 */
+	public void show(Collection<? extends org.eclipse.gef.graph.Node> nodes) {
+		Set<Node> newHidden = null;
+		for (Node node : nodes) {
+			if (isHidden(node) && (newHidden == null || newHidden.contains(node))) {
+				if (newHidden == null) {
+					newHidden = new HashSet<>(hiddenProperty.get());
+				}
+				unindexHidden(node);
+				newHidden.remove(node);
+			}
+		}
+		if (newHidden != null) {
+			setHidden(newHidden);
+		}
+	}
+
+	// unregisters the given (to be shown) node as a hidden neighbor of the
+	// nodes that are connected to it
+	private void unindexHidden(Node node) {
+		GraphIndex graphIndex = hiddenNodeIndexes.remove(node);
+		if (graphIndex == null) {
+			return;
+		}
+		for (Edge edge : graphIndex.incidentEdges.get(node)) {
+			removeHiddenNeighbor(edge.getSource() == node ? edge.getTarget() : edge.getSource(), node);
+		}
+		graphIndex.hiddenNodeCount--;
+		if (graphIndex.hiddenNodeCount == 0) {
+			graphIndex.dispose();
+			graphIndexes.remove(graphIndex.graph);
+		}
 	}
 
 }
@@ -13,19 +13,34 @@
  *******************************************************************************/
 package org.eclipse.gef.zest.fx.models;
 
+import java.util.ArrayList;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.gef.geometry.planar.AffineTransform;
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.graph.Edge;
 import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.zest.fx.ZestProperties;
+
+import javafx.scene.image.Image;
 
 /**
  * The {@link NavigationModel} manages a {@link Set} of {@link Graph}s for which
  * the next layout pass should be skipped (due to transformation or navigation
  * changes). Moreover, it manages a {@link Map} saving a {@link ViewportState}
  * per {@link Graph}, so that the scroll position and zoom factor can be
- * restored when navigating nested graphs.
+ * restored when navigating nested graphs. Furthermore, it caches a
+ * {@link LayoutState} per {@link Graph}, so that a previously visited
+ * {@link Graph} can be restored without re-computing its layout, as long as its
+ * structure did not change in the meantime. As each {@link LayoutState} keeps a
+ * thumbnail, only the {@link LayoutState}s of the most recently used
+ * {@link Graph}s are cached.
  *
  * @author mwienand
  * @author anyssen
@@ -33,6 +48,136 @@ import org.eclipse.gef.graph.Graph;
  */
 public class NavigationModel {
 
+	/**
+	 * Representation of the layout of a {@link Graph}, i.e. the positions and
+	 * sizes of its nodes and the control points of its edges, together with a
+	 * thumbnail snapshot of its visualization. The layout is only restored in
+	 * case the structure of the {@link Graph} (i.e. its nodes and edges, as
+	 * well as their connections) did not change since the layout was
+	 * captured.
+	 *
+	 * @author agent
+	 * @since 5.1
+	 *
+	 */
+	public static class LayoutState {
+
+		// the structure of the graph (the endpoints of each edge are stored
+		// consecutively)
+		private Node[] nodes;
+		private Edge[] edges;
+		private Node[] endpoints;
+		private Map<Node, Point> positions = new IdentityHashMap<>();
+		private Map<Node, Dimension> sizes = new IdentityHashMap<>();
+		private Map<Edge, List<Point>> controlPoints = new IdentityHashMap<>();
+		private Image thumbnail;
+
+		/**
+		 * Creates a new {@link LayoutState} that captures the current layout
+		 * of the given {@link Graph}.
+		 *
+		 * @param graph
+		 *            The {@link Graph} whose layout is captured.
+		 * @param thumbnail
+		 *            A snapshot of the visualization of the given
+		 *            {@link Graph}, or <code>null</code>.
+		 */
+		public LayoutState(Graph graph, Image thumbnail) {
+			this.nodes = graph.getNodes().toArray(new Node[0]);
+			this.edges = graph.getEdges().toArray(new Edge[0]);
+			this.endpoints = new Node[2 * edges.length];
+			for (int i = 0; i < edges.length; i++) {
+				endpoints[2 * i] = edges[i].getSource();
+				endpoints[2 * i + 1] = edges[i].getTarget();
+			}
+			this.thumbnail = thumbnail;
+			for (Node node : graph.getNodes()) {
+				Point position = ZestProperties.getPosition(node);
+				if (position != null) {
+					positions.put(node, position.getCopy());
+				}
+				Dimension size = ZestProperties.getSize(node);
+				if (size != null) {
+					sizes.put(node, size.getCopy());
+				}
+			}
+			for (Edge edge : graph.getEdges()) {
+				List<Point> points = ZestProperties.getControlPoints(edge);
+				if (points != null && !points.isEmpty()) {
+					controlPoints.put(edge, new ArrayList<>(points));
+				}
+			}
+		}
+
+		/**
+		 * Returns the thumbnail snapshot of the visualization of the
+		 * {@link Graph}, which was taken when this {@link LayoutState} was
+		 * captured.
+		 *
+		 * @return The thumbnail {@link Image}, or <code>null</code>.
+		 */
+		public Image getThumbnail() {
+			return thumbnail;
+		}
+
+		/**
+		 * Returns <code>true</code> if the structure of the given
+		 * {@link Graph} did not change since this {@link LayoutState} was
+		 * captured, so that it can be {@link #restore(Graph) restored}.
+		 *
+		 * @param graph
+		 *            The {@link Graph} to test.
+		 * @return <code>true</code> if this {@link LayoutState} can be
+		 *         restored for the given {@link Graph}, otherwise
+		 *         <code>false</code>.
+		 */
+		public boolean isValid(Graph graph) {
+			List<Node> nodes = graph.getNodes();
+			List<Edge> edges = graph.getEdges();
+			if (nodes.size() != this.nodes.length || edges.size() != this.edges.length) {
+				return false;
+			}
+			for (int i = 0; i < this.nodes.length; i++) {
+				if (nodes.get(i) != this.nodes[i]) {
+					return false;
+				}
+			}
+			for (int i = 0; i < this.edges.length; i++) {
+				Edge edge = edges.get(i);
+				if (edge != this.edges[i] || edge.getSource() != endpoints[2 * i]
+						|| edge.getTarget() != endpoints[2 * i + 1]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Restores the captured layout for the given {@link Graph}.
+		 *
+		 * @param graph
+		 *            The {@link Graph} whose layout is restored.
+		 */
+		public void restore(Graph graph) {
+			for (Node node : graph.getNodes()) {
+				Point position = positions.get(node);
+				if (position != null && !position.equals(ZestProperties.getPosition(node))) {
+					ZestProperties.setPosition(node, position.getCopy());
+				}
+				Dimension size = sizes.get(node);
+				if (size != null && !size.equals(ZestProperties.getSize(node))) {
+					ZestProperties.setSize(node, size.getCopy());
+				}
+			}
+			for (Edge edge : graph.getEdges()) {
+				List<Point> points = controlPoints.get(edge);
+				if (points != null && !points.equals(ZestProperties.getControlPoints(edge))) {
+					ZestProperties.setControlPoints(edge, new ArrayList<>(points));
+				}
+			}
+		}
+	}
+
 	/*
 	 * TODO: Store translateX, translateY, width, and height relative to the
 	 * underlying contents.
@@ -195,14 +340,48 @@ public class NavigationModel {
 		}
 	}
 
+	/**
+	 * The maximum number of {@link LayoutState}s that are cached. When
+	 * exceeded, the {@link LayoutState} of the least recently used
+	 * {@link Graph} is evicted.
+	 *
+	 * @since 5.1
+	 */
+	public static final int MAX_LAYOUT_STATES = 16;
+
 	private Map<Graph, ViewportState> viewportStates = new IdentityHashMap<>();
 
+	// XXX: Graph does not override equals() and hashCode(), so that the
+	// (access-ordered) LinkedHashMap compares graphs by identity.
+	@SuppressWarnings("serial")
+	private Map<Graph, LayoutState> layoutStates = new LinkedHashMap<Graph, LayoutState>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Graph, LayoutState> eldest) {
+			return size() > MAX_LAYOUT_STATES;
+		}
+	};
+
 	/**
 	 * Default constructor.
 	 */
 	public NavigationModel() {
 	}
 
+	/**
+	 * Retrieves the {@link LayoutState} that is currently cached for the given
+	 * {@link Graph}.
+	 *
+	 * @param graph
+	 *            The {@link Graph} of which the cached {@link LayoutState} is
+	 *            returned.
+	 * @return The {@link LayoutState} that was cached for the given
+	 *         {@link Graph}, or <code>null</code>.
+	 * @since 5.1
+	 */
+	public LayoutState getLayoutState(Graph graph) {
+		return layoutStates.get(graph);
+	}
+
 	/**
 	 * Retrieves the {@link ViewportState} that is currently saved for the given
 	 * {@link Graph}.
@@ -217,6 +396,18 @@ public class NavigationModel {
 		return viewportStates.get(graph);
 	}
 
+	/**
+	 * Removes the cached {@link LayoutState} for the given {@link Graph}.
+	 *
+	 * @param graph
+	 *            The {@link Graph} for which to remove the
+	 *            {@link LayoutState}.
+	 * @since 5.1
+	 */
+	public void removeLayoutState(Graph graph) {
+		layoutStates.remove(graph);
+	}
+
 	/**
 	 * Removes the {@link ViewportState} for the given {@link Graph}.
 	 *
@@ -228,6 +419,20 @@ public class NavigationModel {
 		viewportStates.remove(graph);
 	}
 
+	/**
+	 * Caches the given {@link LayoutState} for the given {@link Graph}.
+	 *
+	 * @param graph
+	 *            The {@link Graph} for which to cache a {@link LayoutState}.
+	 * @param state
+	 *            The {@link LayoutState} that is cached for the given
+	 *            {@link Graph}.
+	 * @since 5.1
+	 */
+	public void setLayoutState(Graph graph, LayoutState state) {
+		layoutStates.put(graph, state);
+	}
+
 	/**
 	 * Saves the given {@link ViewportState} for the given {@link Graph}.
 	 *
@@ -36,8 +36,13 @@ import org.eclipse.gef.mvc.fx.operations.ReverseUndoCompositeOperation;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
 import org.eclipse.gef.mvc.fx.viewer.InfiniteCanvasViewer;
 import org.eclipse.gef.zest.fx.models.NavigationModel;
+import org.eclipse.gef.zest.fx.models.NavigationModel.LayoutState;
 import org.eclipse.gef.zest.fx.models.NavigationModel.ViewportState;
 
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.Image;
+import javafx.scene.transform.Scale;
+
 /**
  * The {@link NavigateOperation} is a {@link ReverseUndoCompositeOperation} that
  * combines a {@link ChangeContentsOperation} and an
@@ -102,11 +107,15 @@ public class NavigateOperation extends ForwardUndoCompositeOperation {
 
 	}
 
+	// the scale at which thumbnails of the visualization are taken
+	private static final double THUMBNAIL_SCALE = 0.5;
+
 	private ChangeContentsOperation changeContentsOperation;
 	private ChangeViewportOperation changeViewportOperation;
 	private NavigationModel navigationModel;
 	private IViewer viewer;
 	private Graph sourceGraph;
+	private Graph targetGraph;
 	private UpdateViewportStateOperation updateViewportStateOperation;
 
 	/**
@@ -172,11 +181,37 @@ public class NavigateOperation extends ForwardUndoCompositeOperation {
 		// interaction
 		viewer.getAdapter(HoverModel.class).clearHover();
 		viewer.getRootPart().getAdapter(HoverBehavior.class).deactivate();
+		if (targetGraph != null && targetGraph != sourceGraph) {
+			cacheLayoutState(sourceGraph);
+		}
 		IStatus status = super.execute(monitor, info);
 		viewer.getRootPart().getAdapter(HoverBehavior.class).activate();
 		return status;
 	}
 
+	/**
+	 * Caches the layout (and a thumbnail snapshot) of the given {@link Graph}
+	 * at the {@link NavigationModel} in case it is currently displayed, so
+	 * that it can be restored without re-computing the layout when navigating
+	 * back to it.
+	 *
+	 * @param graph
+	 *            The {@link Graph} that is navigated away from.
+	 */
+	private void cacheLayoutState(Graph graph) {
+		if (viewer.getContents().isEmpty() || viewer.getContents().get(0) != graph) {
+			return;
+		}
+		InfiniteCanvas canvas = ((InfiniteCanvasViewer) viewer).getCanvas();
+		Image thumbnail = null;
+		if (canvas.getWidth() > 0 && canvas.getHeight() > 0) {
+			SnapshotParameters parameters = new SnapshotParameters();
+			parameters.setTransform(new Scale(THUMBNAIL_SCALE, THUMBNAIL_SCALE));
+			thumbnail = canvas.snapshot(parameters, null);
+		}
+		navigationModel.setLayoutState(graph, new LayoutState(graph, thumbnail));
+	}
+
 	/**
 	 * Returns the {@link ChangeViewportOperation} that is used by this
 	 * {@link NavigateOperation} to update the viewport.
@@ -230,7 +265,31 @@ public class NavigateOperation extends ForwardUndoCompositeOperation {
 		changeViewportOperation.setNewContentTransform(newViewportState.getContentsTransform());
 
 		// update the change contents operation
+		this.targetGraph = targetGraph;
 		changeContentsOperation.setNewContents(Collections.singletonList(targetGraph));
 	}
 
+	@Override
+	public IStatus redo(IProgressMonitor monitor, IAdaptable info) throws ExecutionException {
+		if (targetGraph != null && targetGraph != sourceGraph) {
+			cacheLayoutState(sourceGraph);
+		}
+		return super.redo(monitor, info);
+	}
+
+	@Override
+	public ITransactionalOperation unwrap(boolean filterNoOps) {
+		// XXX: This operation is not reduced to its sub-operations, because it
+		// caches the layout of the graphs when executed, undone, or redone.
+		return super.unwrap(filterNoOps) == null ? null : this;
+	}
+
+	@Override
+	public IStatus undo(IProgressMonitor monitor, IAdaptable info) throws ExecutionException {
+		if (targetGraph != null && targetGraph != sourceGraph) {
+			cacheLayoutState(targetGraph);
+		}
+		return super.undo(monitor, info);
+	}
+
 }
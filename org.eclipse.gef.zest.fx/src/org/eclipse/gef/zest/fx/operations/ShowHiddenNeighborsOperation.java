@@ -64,11 +64,14 @@ public class ShowHiddenNeighborsOperation extends AbstractOperation implements I
 		shownNeighbors.clear();
 		Set<NodePart> hiddenNeighbors = hidingModel.getHiddenNeighborParts(nodePart);
 		if (hiddenNeighbors != null && !hiddenNeighbors.isEmpty()) {
+			List<org.eclipse.gef.graph.Node> neighbors = new ArrayList<>();
 			for (NodePart neighborPart : hiddenNeighbors) {
 				neighborPart.activate();
-				hidingModel.show(neighborPart);
+				neighbors.add(neighborPart.getContent());
 				shownNeighbors.add(neighborPart);
 			}
+			// show all neighbors at once
+			hidingModel.show(neighbors);
 		}
 		return Status.OK_STATUS;
 	}
@@ -91,8 +94,13 @@ public class ShowHiddenNeighborsOperation extends AbstractOperation implements I
 
 	@Override
 	public IStatus undo(IProgressMonitor monitor, IAdaptable info) throws ExecutionException {
+		// hide all neighbors at once
+		List<org.eclipse.gef.graph.Node> neighbors = new ArrayList<>();
+		for (NodePart neighborPart : shownNeighbors) {
+			neighbors.add(neighborPart.getContent());
+		}
+		hidingModel.hide(neighbors);
 		for (NodePart neighborPart : shownNeighbors) {
-			hidingModel.hide(neighborPart);
 			neighborPart.deactivate();
 		}
 		return Status.OK_STATUS;
@@ -69,11 +69,19 @@ public abstract class AbstractLabelPart extends AbstractContentPart<Group> imple
 	private MapChangeListener<String, Object> elementAttributesObserver = new MapChangeListener<String, Object>() {
 		@Override
 		public void onChanged(MapChangeListener.Change<? extends String, ? extends Object> change) {
-			refreshVisual();
+			// only refresh if the label text, style, or position changed
+			String key = change.getKey();
+			if (getContent().getValue().equals(key) || getLabelCssStyleAttributeKey().equals(key)
+					|| getLabelPositionAttributeKey().equals(key)) {
+				scheduleRefreshVisual();
+			}
 		}
 	};
 
 	private Text text;
+	// the visibility of the text may be specified before the visual is created
+	// (see LevelOfDetailBehavior)
+	private boolean textVisible = true;
 
 	/**
 	 * Computes a position for this label.
@@ -95,6 +103,7 @@ public abstract class AbstractLabelPart extends AbstractContentPart<Group> imple
 		text.setPickOnBounds(true);
 		// add css class
 		text.getStyleClass().add(CSS_CLASS_LABEL);
+		text.setVisible(textVisible);
 		return text;
 	}
 
@@ -140,6 +149,30 @@ public abstract class AbstractLabelPart extends AbstractContentPart<Group> imple
 		return new Affine(new Translate(p.x, p.y));
 	}
 
+	/**
+	 * Retrieves the CSS style attribute key for the given label role.
+	 *
+	 * @return The key via which to retrieve the CSS style attribute for the
+	 *         label.
+	 * @since 5.1
+	 */
+	protected String getLabelCssStyleAttributeKey() {
+		String labelRole = getContent().getValue();
+		String attributeKey = null;
+		if (ZestProperties.EXTERNAL_LABEL__NE.equals(labelRole)) {
+			attributeKey = ZestProperties.EXTERNAL_LABEL_CSS_STYLE__NE;
+		} else if (ZestProperties.LABEL__NE.equals(labelRole)) {
+			attributeKey = ZestProperties.LABEL_CSS_STYLE__NE;
+		} else if (ZestProperties.SOURCE_LABEL__E.equals(labelRole)) {
+			attributeKey = ZestProperties.SOURCE_LABEL_CSS_STYLE__E;
+		} else if (ZestProperties.TARGET_LABEL__E.equals(labelRole)) {
+			attributeKey = ZestProperties.TARGET_LABEL_CSS_STYLE__E;
+		} else {
+			throw new IllegalArgumentException("Unsupported content element.");
+		}
+		return attributeKey;
+	}
+
 	/**
 	 * Retrieves the stored position for the label.
 	 *
@@ -187,6 +220,18 @@ public abstract class AbstractLabelPart extends AbstractContentPart<Group> imple
 		return text;
 	}
 
+	/**
+	 * Returns whether the text of this label is displayed.
+	 *
+	 * @return <code>true</code> if the text is displayed, otherwise
+	 *         <code>false</code>.
+	 * @see #setTextVisible(boolean)
+	 * @since 5.1
+	 */
+	public boolean isTextVisible() {
+		return textVisible;
+	}
+
 	/**
 	 * Recomputes the label position.
 	 */
@@ -215,6 +260,39 @@ public abstract class AbstractLabelPart extends AbstractContentPart<Group> imple
 		}
 	}
 
+	/**
+	 * Applies the given CSS style to the visual of this label, in case it
+	 * differs from the current one. Re-applying an equal style would
+	 * invalidate the CSS of the visual, so that the text would have to be
+	 * measured again.
+	 *
+	 * @param cssStyle
+	 *            The CSS style to apply.
+	 * @since 5.1
+	 */
+	protected void refreshCssStyle(String cssStyle) {
+		String currentCssStyle = getVisual().getStyle();
+		if (cssStyle == null ? currentCssStyle != null && !currentCssStyle.isEmpty()
+				: !cssStyle.equals(currentCssStyle)) {
+			getVisual().setStyle(cssStyle);
+		}
+	}
+
+	/**
+	 * Sets the given label as the text of this label, in case it differs from
+	 * the current one. Re-setting an equal text would invalidate the (cached)
+	 * measurement of the text.
+	 *
+	 * @param label
+	 *            The label text to display.
+	 * @since 5.1
+	 */
+	protected void refreshText(String label) {
+		if (label != null && !label.equals(getText().getText())) {
+			getText().setText(label);
+		}
+	}
+
 	@Override
 	public void setContentTransform(Affine transform) {
 		setLabelPosition(new Point(transform.getTx(), transform.getTy()));
@@ -230,4 +308,26 @@ public abstract class AbstractLabelPart extends AbstractContentPart<Group> imple
 		getContent().getKey().getAttributes().put(getLabelPositionAttributeKey(), computedPosition);
 	}
 
+
+	/**
+	 * Specifies whether the text of this label is to be displayed. Other than
+	 * hiding the label (see
+	 * {@link org.eclipse.gef.zest.fx.behaviors.EdgeLabelHidingBehavior}), this
+	 * is used to hide labels that are too small to be read (see
+	 * {@link org.eclipse.gef.zest.fx.behaviors.LevelOfDetailBehavior}). As the
+	 * text is not managed, a hidden text is neither laid out nor rendered.
+	 *
+	 * @param textVisible
+	 *            <code>true</code> to display the text, <code>false</code> to
+	 *            hide it.
+	 * @since 5.1
+	 */
+	public void setTextVisible(boolean textVisible) {
+		if (this.textVisible != textVisible) {
+			this.textVisible = textVisible;
+			if (getText() != null) {
+				getText().setVisible(textVisible);
+			}
+		}
+	}
 }
\ No newline at end of file
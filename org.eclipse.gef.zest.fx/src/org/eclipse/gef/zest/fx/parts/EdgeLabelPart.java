@@ -20,12 +20,16 @@ import org.eclipse.gef.geometry.euclidean.Vector;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.graph.Edge;
 import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IVisualPart;
 import org.eclipse.gef.zest.fx.ZestProperties;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.SetMultimap;
 
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.text.Text;
 import javafx.util.Pair;
 
@@ -38,6 +42,13 @@ import javafx.util.Pair;
  */
 public class EdgeLabelPart extends AbstractLabelPart {
 
+	private InvalidationListener connectionPointsObserver = new InvalidationListener() {
+		@Override
+		public void invalidated(Observable observable) {
+			refreshVisual();
+		}
+	};
+
 	@Override
 	public Point computeLabelPosition() {
 		Point position = null;
@@ -54,6 +65,26 @@ public class EdgeLabelPart extends AbstractLabelPart {
 		return position;
 	}
 
+	// converts the given point from the local coordinate system of the given
+	// connection into the parent coordinate system of this part's visual
+	private Point connectionToLocal(Connection connection, Point point) {
+		// XXX: A connection that is not realized (see
+		// EdgePart#isConnectionRealized()) is not part of the scene graph. It
+		// would be a sibling of this part's visual if it was.
+		if (connection.getParent() == null) {
+			return NodeUtils.localToParent(connection, point);
+		}
+		return NodeUtils.sceneToLocal(getVisual().getParent(), NodeUtils.localToScene(connection, point));
+	}
+
+	@Override
+	protected void doAttachToAnchorageVisual(IVisualPart<? extends Node> anchorage, String role) {
+		// XXX: The position of an edge label only depends on the points of the
+		// connection, which are provided even if the connection is not part of
+		// the scene graph (see EdgePart#isConnectionRealized()).
+		((Connection) anchorage.getVisual()).pointsUnmodifiableProperty().addListener(connectionPointsObserver);
+	}
+
 	@Override
 	protected Group doCreateVisual() {
 		Text text = createText();
@@ -63,6 +94,11 @@ public class EdgeLabelPart extends AbstractLabelPart {
 		return g;
 	}
 
+	@Override
+	protected void doDetachFromAnchorageVisual(IVisualPart<? extends Node> anchorage, String role) {
+		((Connection) anchorage.getVisual()).pointsUnmodifiableProperty().removeListener(connectionPointsObserver);
+	}
+
 	@Override
 	protected SetMultimap<? extends Object, String> doGetContentAnchorages() {
 		SetMultimap<Object, String> contentAnchorages = HashMultimap.create();
@@ -78,40 +114,28 @@ public class EdgeLabelPart extends AbstractLabelPart {
 		// label or external label (depends on which element we control)
 		if (ZestProperties.LABEL__NE.equals(getContent().getValue())) {
 			String label = ZestProperties.getLabel(edge);
-			if (label != null) {
-				getText().setText(label);
-			}
-			if (attrs.containsKey(ZestProperties.LABEL_CSS_STYLE__NE)) {
-				String textCssStyle = ZestProperties.getLabelCssStyle(edge);
-				getVisual().setStyle(textCssStyle);
-			}
+			refreshText(label);
+			String textCssStyle = attrs.containsKey(ZestProperties.LABEL_CSS_STYLE__NE)
+					? ZestProperties.getLabelCssStyle(edge) : null;
+			refreshCssStyle(textCssStyle);
 		} else if (ZestProperties.EXTERNAL_LABEL__NE.equals(getContent().getValue())) {
 			String label = ZestProperties.getExternalLabel(edge);
-			if (label != null) {
-				getText().setText(label);
-			}
-			if (attrs.containsKey(ZestProperties.EXTERNAL_LABEL_CSS_STYLE__NE)) {
-				String textCssStyle = ZestProperties.getExternalLabelCssStyle(edge);
-				getVisual().setStyle(textCssStyle);
-			}
+			refreshText(label);
+			String textCssStyle = attrs.containsKey(ZestProperties.EXTERNAL_LABEL_CSS_STYLE__NE)
+					? ZestProperties.getExternalLabelCssStyle(edge) : null;
+			refreshCssStyle(textCssStyle);
 		} else if (ZestProperties.SOURCE_LABEL__E.equals(getContent().getValue())) {
 			String label = ZestProperties.getSourceLabel(edge);
-			if (label != null) {
-				getText().setText(label);
-			}
-			if (attrs.containsKey(ZestProperties.SOURCE_LABEL_CSS_STYLE__E)) {
-				String textCssStyle = ZestProperties.getSourceLabelCssStyle(edge);
-				getVisual().setStyle(textCssStyle);
-			}
+			refreshText(label);
+			String textCssStyle = attrs.containsKey(ZestProperties.SOURCE_LABEL_CSS_STYLE__E)
+					? ZestProperties.getSourceLabelCssStyle(edge) : null;
+			refreshCssStyle(textCssStyle);
 		} else if (ZestProperties.TARGET_LABEL__E.equals(getContent().getValue())) {
 			String label = ZestProperties.getTargetLabel(edge);
-			if (label != null) {
-				getText().setText(label);
-			}
-			if (attrs.containsKey(ZestProperties.TARGET_LABEL_CSS_STYLE__E)) {
-				String textCssStyle = ZestProperties.getTargetLabelCssStyle(edge);
-				getVisual().setStyle(textCssStyle);
-			}
+			refreshText(label);
+			String textCssStyle = attrs.containsKey(ZestProperties.TARGET_LABEL_CSS_STYLE__E)
+					? ZestProperties.getTargetLabelCssStyle(edge) : null;
+			refreshCssStyle(textCssStyle);
 		}
 
 		// XXX: We may be refreshed before being anchored on the anchorage.
@@ -141,8 +165,7 @@ public class EdgeLabelPart extends AbstractLabelPart {
 		if (!v.isNull()) {
 			v = v.getNormalized().getMultiplied(getText().getLayoutBounds().getHeight());
 		}
-		return NodeUtils.sceneToLocal(getVisual().getParent(),
-				NodeUtils.localToScene(connection, endPoint.getTranslated(v.x, v.y)));
+		return connectionToLocal(connection, endPoint.getTranslated(v.x, v.y));
 	}
 
 	/**
@@ -167,7 +190,7 @@ public class EdgeLabelPart extends AbstractLabelPart {
 	protected Point getMidPoint() {
 		Connection connection = getFirstAnchorage().getVisual();
 		Point midPoint = connection.getCenter();
-		return NodeUtils.sceneToLocal(getVisual().getParent(), NodeUtils.localToScene(connection, midPoint));
+		return connectionToLocal(connection, midPoint);
 	}
 
 	/**
@@ -183,7 +206,6 @@ public class EdgeLabelPart extends AbstractLabelPart {
 		if (!v.isNull()) {
 			v = v.getNormalized().getMultiplied(getText().getLayoutBounds().getHeight());
 		}
-		return NodeUtils.sceneToLocal(getVisual().getParent(),
-				NodeUtils.localToScene(connection, startPoint.getTranslated(v.x, v.y)));
+		return connectionToLocal(connection, startPoint.getTranslated(v.x, v.y));
 	}
 }
\ No newline at end of file
@@ -13,15 +13,20 @@
 package org.eclipse.gef.zest.fx.parts;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.eclipse.gef.fx.anchors.IAnchor;
 import org.eclipse.gef.fx.nodes.Connection;
 import org.eclipse.gef.fx.nodes.IConnectionInterpolator;
 import org.eclipse.gef.fx.nodes.IConnectionRouter;
+import org.eclipse.gef.fx.nodes.PolylineInterpolator;
+import org.eclipse.gef.fx.nodes.PolylineLayer;
+import org.eclipse.gef.fx.nodes.StraightRouter;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.graph.Edge;
 import org.eclipse.gef.mvc.fx.parts.AbstractContentPart;
@@ -29,16 +34,31 @@ import org.eclipse.gef.mvc.fx.parts.IBendableContentPart;
 import org.eclipse.gef.mvc.fx.parts.IVisualPart;
 import org.eclipse.gef.mvc.fx.providers.IAnchorProvider;
 import org.eclipse.gef.zest.fx.ZestProperties;
+import org.eclipse.gef.zest.fx.behaviors.EdgeLayerBehavior;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.SetMultimap;
 
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.collections.MapChangeListener;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
 import javafx.scene.Node;
+import javafx.scene.paint.Paint;
+import javafx.util.Pair;
 
 /**
  * The {@link EdgePart} is the controller for an {@link Edge} content object. It
  * uses {@link Connection} for the visualization.
+ * <p>
+ * In case the parent {@link GraphPart} provides an
+ * {@link GraphPart#getEdgeLayer() edge layer}, the {@link EdgePart} renders its
+ * edge into that layer, unless it is interactive (see
+ * {@link EdgeLayerBehavior#isInteractive(EdgePart)}). The {@link Connection}
+ * is then not realized (see {@link #isConnectionRealized()}), i.e. it is not
+ * added to the scene graph, it is not attached to the anchorages by means of
+ * anchors, and its curve and decorations are not styled.
  *
  * @author mwienand
  *
@@ -61,6 +81,15 @@ public class EdgePart extends AbstractContentPart<Connection> implements IBendab
 	 */
 	public static final String CSS_CLASS_DECORATION = "decoration";
 
+	// attributes that do not affect the visual of an edge part
+	private static final Set<String> IRRELEVANT_ATTRIBUTES = new HashSet<>(Arrays.asList(
+			ZestProperties.LAYOUT_IRRELEVANT__NE, ZestProperties.INVISIBLE__NE, ZestProperties.LABEL__NE,
+			ZestProperties.LABEL_CSS_STYLE__NE, ZestProperties.LABEL_POSITION__E, ZestProperties.EXTERNAL_LABEL__NE,
+			ZestProperties.EXTERNAL_LABEL_CSS_STYLE__NE, ZestProperties.EXTERNAL_LABEL_POSITION__NE,
+			ZestProperties.SOURCE_LABEL__E, ZestProperties.SOURCE_LABEL_CSS_STYLE__E,
+			ZestProperties.SOURCE_LABEL_POSITION__E, ZestProperties.TARGET_LABEL__E,
+			ZestProperties.TARGET_LABEL_CSS_STYLE__E, ZestProperties.TARGET_LABEL_POSITION__E));
+
 	private MapChangeListener<String, Object> edgeAttributesObserver = new MapChangeListener<String, Object>() {
 
 		@Override
@@ -74,15 +103,49 @@ public class EdgePart extends AbstractContentPart<Connection> implements IBendab
 					doAttachToAnchorageVisual(anchoragesByRole.getKey(), anchoragesByRole.getValue());
 				}
 			}
-			refreshVisual();
+			// only re-apply the affected aspect of the visual (if possible)
+			if (!isActive() || !isRefreshVisual() || !refreshAttribute(change.getKey())) {
+				scheduleRefreshVisual();
+			}
+		}
+
+	};
+
+	private InvalidationListener anchorageBoundsObserver = new InvalidationListener() {
+
+		@Override
+		public void invalidated(Observable observable) {
+			refreshAnchoragePoints();
 		}
+	};
+
+	private InvalidationListener edgeLayerObserver = new InvalidationListener() {
 
+		@Override
+		public void invalidated(Observable observable) {
+			// points or visibility changed
+			if (getEdgeLayer() != null) {
+				refreshEdgeLayer();
+			}
+		}
 	};
 
+	// the curve and decorations of the visual as created, which are restored
+	// in case the respective attributes are removed
+	private Node defaultCurve;
+	private Node defaultSourceDecoration;
+	private Node defaultTargetDecoration;
+	private boolean isRenderedOnEdgeLayer = false;
+	private boolean connectionRealized = true;
+	private boolean decorationsVisible = true;
+
 	@Override
 	protected void doActivate() {
 		super.doActivate();
 		getContent().attributesProperty().addListener(edgeAttributesObserver);
+		getVisual().pointsUnmodifiableProperty().addListener(edgeLayerObserver);
+		getVisual().visibleProperty().addListener(edgeLayerObserver);
+		refreshEdgeLayer();
 	}
 
 	@Override
@@ -94,13 +157,22 @@ public class EdgePart extends AbstractContentPart<Connection> implements IBendab
 
 	@Override
 	protected void doAttachToAnchorageVisual(IVisualPart<? extends Node> anchorage, String role) {
+		if (!SOURCE_ROLE.equals(role) && !TARGET_ROLE.equals(role)) {
+			throw new IllegalArgumentException("Cannot attach to anchor with role <" + role + ">.");
+		}
+		if (!connectionRealized) {
+			// XXX: The end points of a connection that is not realized are
+			// computed from the bounds of the anchorages (see
+			// refreshAnchoragePoints()), so that no anchors are needed.
+			anchorage.getVisual().boundsInParentProperty().addListener(anchorageBoundsObserver);
+			refreshAnchoragePoints();
+			return;
+		}
 		IAnchor anchor = anchorage.getAdapter(IAnchorProvider.class).get(this, role);
 		if (SOURCE_ROLE.equals(role)) {
 			getVisual().setStartAnchor(anchor);
-		} else if (TARGET_ROLE.equals(role)) {
-			getVisual().setEndAnchor(anchor);
 		} else {
-			throw new IllegalArgumentException("Cannot attach to anchor with role <" + role + ">.");
+			getVisual().setEndAnchor(anchor);
 		}
 	}
 
@@ -121,9 +193,12 @@ public class EdgePart extends AbstractContentPart<Connection> implements IBendab
 		visual.getStyleClass().add(CSS_CLASS);
 
 		// initialize style class for (default) curve
-		visual.getCurve().getStyleClass().add(CSS_CLASS_CURVE);
+		defaultCurve = visual.getCurve();
+		defaultCurve.getStyleClass().add(CSS_CLASS_CURVE);
 
 		// initialized style class for (default) decorations
+		defaultSourceDecoration = visual.getStartDecoration();
+		defaultTargetDecoration = visual.getEndDecoration();
 		if (visual.getStartDecoration() != null) {
 			if (!visual.getStartDecoration().getStyleClass().contains(CSS_CLASS_DECORATION)) {
 				visual.getStartDecoration().getStyleClass().add(CSS_CLASS_DECORATION);
@@ -140,11 +215,24 @@ public class EdgePart extends AbstractContentPart<Connection> implements IBendab
 	@Override
 	protected void doDeactivate() {
 		getContent().attributesProperty().removeListener(edgeAttributesObserver);
+		getVisual().pointsUnmodifiableProperty().removeListener(edgeLayerObserver);
+		getVisual().visibleProperty().removeListener(edgeLayerObserver);
+		if (isRenderedOnEdgeLayer) {
+			PolylineLayer edgeLayer = getEdgeLayer();
+			if (edgeLayer != null) {
+				edgeLayer.remove(getContent());
+			}
+			isRenderedOnEdgeLayer = false;
+		}
 		super.doDeactivate();
 	}
 
 	@Override
 	protected void doDetachFromAnchorageVisual(IVisualPart<? extends Node> anchorage, String role) {
+		if (!connectionRealized) {
+			anchorage.getVisual().boundsInParentProperty().removeListener(anchorageBoundsObserver);
+			return;
+		}
 		Connection connection = getVisual();
 		if (role.equals(SOURCE_ROLE)) {
 			Point startPoint = connection.getStartPoint();
@@ -189,102 +277,13 @@ public class EdgePart extends AbstractContentPart<Connection> implements IBendab
 
 	@Override
 	protected void doRefreshVisual(Connection visual) {
-		Edge edge = getContent();
-		Map<String, Object> attrs = edge.attributesProperty();
-
-		refreshCurve();
-
-		// css class
-		if (attrs.containsKey(ZestProperties.CSS_CLASS__NE)) {
-			String cssClass = ZestProperties.getCssClass(edge);
-			if (!visual.getStyleClass().contains(cssClass)) {
-				visual.getStyleClass().add(cssClass);
-			}
-		}
-
-		// css id
-		if (attrs.containsKey(ZestProperties.CSS_ID__NE)) {
-			String cssId = ZestProperties.getCssId(edge);
-			visual.setId(cssId);
-		}
-
-		// css style
-		String curveCssStyle = ZestProperties.getCurveCssStyle(edge);
-		if (attrs.containsKey(ZestProperties.CURVE_CSS_STYLE__E)) {
-			visual.getCurve().setStyle(curveCssStyle);
-		}
-
-		// custom decoration
-		Node sourceDecoration = ZestProperties.getSourceDecoration(edge);
-		if (sourceDecoration != null) {
-			visual.setStartDecoration(sourceDecoration);
-			// apply CSS class
-			if (!sourceDecoration.getStyleClass().contains(CSS_CLASS_DECORATION)) {
-				sourceDecoration.getStyleClass().add(CSS_CLASS_DECORATION);
-			}
-		}
-		// apply source decoration CSS style (even if decoration is not set via
-		// property)
-		String sourceDecorationCssStyle = ZestProperties.getSourceDecorationCssStyle(edge);
-		if (sourceDecorationCssStyle != null && visual.getStartDecoration() != null) {
-			visual.getStartDecoration().setStyle(sourceDecorationCssStyle);
-		}
-
-		Node targetDecoration = ZestProperties.getTargetDecoration(edge);
-		if (targetDecoration != null) {
-			visual.setEndDecoration(targetDecoration);
-			// apply CSS class
-			if (!targetDecoration.getStyleClass().contains(CSS_CLASS_DECORATION)) {
-				targetDecoration.getStyleClass().add(CSS_CLASS_DECORATION);
-			}
-		}
-		// apply target decoration CSS style (even if decoration is not set via
-		// property)
-		String targetDecorationCssStyle = ZestProperties.getTargetDecorationCssStyle(edge);
-		if (targetDecorationCssStyle != null && visual.getEndDecoration() != null) {
-			visual.getEndDecoration().setStyle(targetDecorationCssStyle);
-		}
-
-		// connection router
-		IConnectionRouter router = ZestProperties.getRouter(edge);
-		if (router != null) {
-			visual.setRouter(router);
-		}
-
-		// interpolator
-		IConnectionInterpolator interpolator = ZestProperties.getInterpolator(edge);
-		if (interpolator != null) {
-			visual.setInterpolator(interpolator);
-		}
-
-		// TODO: replace the following code with
-		// setVisualBendPoints(getContentBendPoints());
-
-		// start point or hint
-		Point startPoint = ZestProperties.getStartPoint(edge);
-		if (!getContentAnchoragesUnmodifiable().containsValue(SOURCE_ROLE)) {
-			if (startPoint != null) {
-				visual.setStartPoint(startPoint);
-			}
-		} else {
-			visual.setStartPointHint(startPoint);
-		}
-
-		// end point or hint
-		Point endPoint = ZestProperties.getEndPoint(edge);
-		if (!getContentAnchoragesUnmodifiable().containsValue(TARGET_ROLE)) {
-			if (endPoint != null) {
-				visual.setEndPoint(endPoint);
-			}
-		} else {
-			visual.setEndPointHint(endPoint);
-		}
-
-		// control points
-		List<Point> controlPoints = new ArrayList<>(ZestProperties.getControlPoints(edge));
-		if (!visual.getControlPoints().equals(controlPoints)) {
-			visual.setControlPoints(controlPoints);
+		if (connectionRealized) {
+			refreshConnection();
 		}
+		refreshRouter();
+		refreshInterpolator();
+		refreshPoints();
+		refreshEdgeLayer();
 	}
 
 	@Override
@@ -333,6 +332,48 @@ public class EdgePart extends AbstractContentPart<Connection> implements IBendab
 		return bendPoints;
 	}
 
+	// the bounds of the given anchorage visual within the coordinate system of
+	// the parent visual
+	private Bounds getBoundsInGraph(Node anchorageVisual) {
+		Node graphVisual = getParent().getVisual();
+		if (anchorageVisual.getParent() == graphVisual) {
+			return anchorageVisual.getBoundsInParent();
+		}
+		return graphVisual.sceneToLocal(anchorageVisual.localToScene(anchorageVisual.getLayoutBounds()));
+	}
+
+	// the intersection of the outline of the given bounds with the line from
+	// their center to the given reference point
+	private Point getChopBoxPoint(Bounds bounds, Point reference) {
+		Point center = new Point(bounds.getMinX() + bounds.getWidth() / 2, bounds.getMinY() + bounds.getHeight() / 2);
+		if (reference == null) {
+			return center;
+		}
+		double dx = reference.x - center.x;
+		double dy = reference.y - center.y;
+		if (dx == 0 && dy == 0) {
+			return center;
+		}
+		double scale = Math.min(dx == 0 ? Double.POSITIVE_INFINITY : bounds.getWidth() / 2 / Math.abs(dx),
+				dy == 0 ? Double.POSITIVE_INFINITY : bounds.getHeight() / 2 / Math.abs(dy));
+		return new Point(center.x + dx * scale, center.y + dy * scale);
+	}
+
+	/**
+	 * Returns the {@link PolylineLayer} of the parent {@link GraphPart} into
+	 * which this {@link EdgePart} renders its edge when not being interactive,
+	 * or <code>null</code> if no such layer is provided.
+	 *
+	 * @return The edge layer of the parent {@link GraphPart}, or
+	 *         <code>null</code>.
+	 */
+	private PolylineLayer getEdgeLayer() {
+		if (getParent() instanceof GraphPart) {
+			return ((GraphPart) getParent()).getEdgeLayer();
+		}
+		return null;
+	}
+
 	/**
 	 * Returns the {@link Node} that displays the edge.
 	 *
@@ -342,9 +383,180 @@ public class EdgePart extends AbstractContentPart<Connection> implements IBendab
 		return getVisual().getCurve();
 	}
 
+	/**
+	 * Returns whether the {@link Connection} of this {@link EdgePart} is
+	 * realized, i.e. whether it is attached to the anchorages by means of
+	 * anchors, styled, and added to the visual of the parent {@link GraphPart}.
+	 * The {@link Connection} is not realized while the edge is rendered into
+	 * the {@link GraphPart#getEdgeLayer() edge layer} of the parent
+	 * {@link GraphPart}. It then only provides the points of the edge.
+	 *
+	 * @return <code>true</code> if the {@link Connection} is realized,
+	 *         otherwise <code>false</code>.
+	 * @since 5.1
+	 */
+	public boolean isConnectionRealized() {
+		return connectionRealized;
+	}
+
+	/**
+	 * Returns whether the source and target decorations of this
+	 * {@link EdgePart} are displayed (unless the edge is rendered on the edge
+	 * layer).
+	 *
+	 * @return <code>true</code> if the decorations are displayed, otherwise
+	 *         <code>false</code>.
+	 * @see #setDecorationsVisible(boolean)
+	 * @since 5.1
+	 */
+	public boolean isDecorationsVisible() {
+		return decorationsVisible;
+	}
+
+	// determines whether the edge is to be rendered into the edge layer
+	private boolean isOnEdgeLayer() {
+		if (getEdgeLayer() == null) {
+			return false;
+		}
+		EdgeLayerBehavior edgeLayerBehavior = getParent().getAdapter(EdgeLayerBehavior.class);
+		return edgeLayerBehavior != null && !edgeLayerBehavior.isInteractive(this);
+	}
+
+	/**
+	 * Refreshes only those aspects of the visual that are affected by a change
+	 * of the attribute with the given key, so that not every attribute change
+	 * (e.g. of the curve CSS style when highlighting a path) requires a
+	 * complete {@link #refreshVisual()}. Attributes that do not affect the
+	 * visual of this {@link EdgePart} (e.g. those of its labels) are ignored.
+	 *
+	 * @param attributeKey
+	 *            The key of the attribute that changed.
+	 * @return <code>true</code> if the change was handled, <code>false</code>
+	 *         if a complete refresh of the visual is needed.
+	 * @since 5.1
+	 */
+	protected boolean refreshAttribute(String attributeKey) {
+		if (ZestProperties.CSS_CLASS__NE.equals(attributeKey)) {
+			if (connectionRealized) {
+				refreshCssClass();
+			} else {
+				// the curve style within the edge layer might change
+				refreshEdgeLayer();
+			}
+		} else if (ZestProperties.CSS_ID__NE.equals(attributeKey)) {
+			if (connectionRealized) {
+				refreshCssId();
+			} else {
+				refreshEdgeLayer();
+			}
+		} else if (ZestProperties.CURVE_CSS_STYLE__E.equals(attributeKey)) {
+			if (connectionRealized) {
+				refreshCurveCssStyle();
+			} else {
+				refreshEdgeLayer();
+			}
+		} else if (ZestProperties.SOURCE_DECORATION__E.equals(attributeKey)
+				|| ZestProperties.SOURCE_DECORATION_CSS_STYLE__E.equals(attributeKey)) {
+			if (connectionRealized) {
+				refreshSourceDecoration();
+			}
+		} else if (ZestProperties.TARGET_DECORATION__E.equals(attributeKey)
+				|| ZestProperties.TARGET_DECORATION_CSS_STYLE__E.equals(attributeKey)) {
+			if (connectionRealized) {
+				refreshTargetDecoration();
+			}
+		} else if (ZestProperties.ROUTER__E.equals(attributeKey)) {
+			refreshRouter();
+		} else if (ZestProperties.INTERPOLATOR__E.equals(attributeKey)) {
+			refreshInterpolator();
+		} else if (ZestProperties.START_POINT__E.equals(attributeKey)
+				|| ZestProperties.END_POINT__E.equals(attributeKey)
+				|| ZestProperties.CONTROL_POINTS__E.equals(attributeKey)) {
+			refreshPoints();
+		} else if (!IRRELEVANT_ATTRIBUTES.contains(attributeKey)) {
+			// the curve or an unknown attribute changed
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Computes the end points of the {@link Connection} from the bounds of the
+	 * anchorages, similar to a chop box anchor, in case the {@link Connection}
+	 * is not realized (see {@link #isConnectionRealized()}).
+	 */
+	private void refreshAnchoragePoints() {
+		if (connectionRealized || getParent() == null) {
+			return;
+		}
+		Bounds sourceBounds = null;
+		Bounds targetBounds = null;
+		for (Entry<IVisualPart<? extends Node>, String> anchorage : getAnchoragesUnmodifiable().entries()) {
+			if (SOURCE_ROLE.equals(anchorage.getValue())) {
+				sourceBounds = getBoundsInGraph(anchorage.getKey().getVisual());
+			} else if (TARGET_ROLE.equals(anchorage.getValue())) {
+				targetBounds = getBoundsInGraph(anchorage.getKey().getVisual());
+			}
+		}
+		Connection visual = getVisual();
+		List<Point> controlPoints = visual.getControlPoints();
+		if (sourceBounds != null) {
+			Point reference = !controlPoints.isEmpty() ? controlPoints.get(0)
+					: targetBounds != null ? getChopBoxPoint(targetBounds, null) : visual.getEndPoint();
+			Point startPoint = getChopBoxPoint(sourceBounds, reference);
+			if (!startPoint.equals(visual.getStartPoint())) {
+				visual.setStartPoint(startPoint);
+			}
+		}
+		if (targetBounds != null) {
+			Point reference = !controlPoints.isEmpty() ? controlPoints.get(controlPoints.size() - 1)
+					: sourceBounds != null ? getChopBoxPoint(sourceBounds, null) : visual.getStartPoint();
+			Point endPoint = getChopBoxPoint(targetBounds, reference);
+			if (!endPoint.equals(visual.getEndPoint())) {
+				visual.setEndPoint(endPoint);
+			}
+		}
+	}
+
+	// refreshes those aspects of the visual that are only needed in case the
+	// connection is realized
+	private void refreshConnection() {
+		refreshCurve();
+		refreshCssClass();
+		refreshCssId();
+		refreshCurveCssStyle();
+		refreshSourceDecoration();
+		refreshTargetDecoration();
+	}
+
+	private void refreshCssClass() {
+		List<String> cssClasses = new ArrayList<>();
+		cssClasses.add(CSS_CLASS);
+		if (getContent().attributesProperty().containsKey(ZestProperties.CSS_CLASS__NE)) {
+			cssClasses.add(ZestProperties.getCssClass(getContent()));
+		}
+		if (!getVisual().getStyleClass().equals(cssClasses)) {
+			getVisual().getStyleClass().setAll(cssClasses);
+		}
+	}
+
+	private void refreshCssId() {
+		String id = null;
+		if (getContent().attributesProperty().containsKey(ZestProperties.CSS_ID__NE)) {
+			id = ZestProperties.getCssId(getContent());
+		}
+		if (getVisual().getId() != id || id != null && !id.equals(getVisual().getId())) {
+			getVisual().setId(id);
+		}
+	}
+
 	private void refreshCurve() {
 		Node curve = ZestProperties.getCurve(getContent());
-		if (getVisual().getCurve() != curve && curve != null) {
+		if (curve == null) {
+			// restore the default curve (in case a curve was specified before)
+			curve = defaultCurve;
+		}
+		if (curve != null && getVisual().getCurve() != curve) {
 			getVisual().setCurve(curve);
 			if (!curve.getStyleClass().contains(CSS_CLASS_CURVE)) {
 				curve.getStyleClass().add(CSS_CLASS_CURVE);
@@ -352,6 +564,161 @@ public class EdgePart extends AbstractContentPart<Connection> implements IBendab
 		}
 	}
 
+	private void refreshCurveCssStyle() {
+		String style = null;
+		if (getContent().attributesProperty().containsKey(ZestProperties.CURVE_CSS_STYLE__E)) {
+			style = ZestProperties.getCurveCssStyle(getContent());
+		}
+		setCssStyle(getVisual().getCurve(), style);
+	}
+
+	/**
+	 * Renders the points of the {@link Connection} into the
+	 * {@link #getEdgeLayer() edge layer} (and releases the {@link Connection},
+	 * see {@link #isConnectionRealized()}) in case an edge layer is provided by
+	 * the parent {@link GraphPart} and this {@link EdgePart} is not
+	 * interactive. Otherwise ensures this {@link EdgePart} is not rendered into
+	 * the edge layer and its {@link Connection} is realized.
+	 */
+	private void refreshEdgeLayer() {
+		if (!isActive()) {
+			return;
+		}
+		boolean onEdgeLayer = isOnEdgeLayer();
+		if (connectionRealized == onEdgeLayer) {
+			setConnectionRealized(!onEdgeLayer);
+		}
+
+		// XXX: Hidden edges (see EdgeHidingBehavior) are not rendered.
+		Connection visual = getVisual();
+		PolylineLayer edgeLayer = getEdgeLayer();
+		List<Point> points = visual.getPointsUnmodifiable();
+		if (onEdgeLayer && visual.isVisible() && points.size() > 1) {
+			List<Point> pointsInLayer = new ArrayList<>(points.size());
+			for (Point p : points) {
+				Point2D pInParent = visual.localToParent(p.x, p.y);
+				pointsInLayer.add(new Point(pInParent.getX(), pInParent.getY()));
+			}
+			// XXX: The connection is not part of the scene graph, so the
+			// effective curve style (considering CSS) is resolved by the
+			// graph part.
+			Pair<Paint, Double> style = ((GraphPart) getParent()).getEdgeLayerCurveStyle(getContent());
+			edgeLayer.put(getContent(), pointsInLayer, style.getKey(), style.getValue());
+			isRenderedOnEdgeLayer = true;
+		} else if (isRenderedOnEdgeLayer) {
+			if (edgeLayer != null) {
+				edgeLayer.remove(getContent());
+			}
+			isRenderedOnEdgeLayer = false;
+		}
+	}
+
+	private void refreshInterpolator() {
+		IConnectionInterpolator interpolator = ZestProperties.getInterpolator(getContent());
+		if (interpolator != null) {
+			getVisual().setInterpolator(interpolator);
+		} else if (!(getVisual().getInterpolator() instanceof PolylineInterpolator)) {
+			// restore the default interpolator
+			getVisual().setInterpolator(new PolylineInterpolator());
+		}
+	}
+
+	private void refreshPoints() {
+		Edge edge = getContent();
+		Connection visual = getVisual();
+
+		// TODO: replace the following code with
+		// setVisualBendPoints(getContentBendPoints());
+
+		// start point or hint
+		Point startPoint = ZestProperties.getStartPoint(edge);
+		if (!getContentAnchoragesUnmodifiable().containsValue(SOURCE_ROLE)) {
+			if (startPoint != null) {
+				visual.setStartPoint(startPoint);
+			}
+		} else {
+			visual.setStartPointHint(startPoint);
+		}
+
+		// end point or hint
+		Point endPoint = ZestProperties.getEndPoint(edge);
+		if (!getContentAnchoragesUnmodifiable().containsValue(TARGET_ROLE)) {
+			if (endPoint != null) {
+				visual.setEndPoint(endPoint);
+			}
+		} else {
+			visual.setEndPointHint(endPoint);
+		}
+
+		// control points
+		List<Point> controlPoints = new ArrayList<>(ZestProperties.getControlPoints(edge));
+		if (!visual.getControlPoints().equals(controlPoints)) {
+			visual.setControlPoints(controlPoints);
+		}
+
+		refreshAnchoragePoints();
+	}
+
+	private void refreshRouter() {
+		IConnectionRouter router = ZestProperties.getRouter(getContent());
+		if (router != null) {
+			getVisual().setRouter(router);
+		} else if (!(getVisual().getRouter() instanceof StraightRouter)) {
+			// restore the default router
+			getVisual().setRouter(new StraightRouter());
+		}
+	}
+
+	private void refreshSourceDecoration() {
+		Connection visual = getVisual();
+		// custom decoration
+		Node sourceDecoration = ZestProperties.getSourceDecoration(getContent());
+		if (sourceDecoration == null) {
+			sourceDecoration = defaultSourceDecoration;
+		}
+		if (sourceDecoration != null) {
+			// apply CSS class
+			if (!sourceDecoration.getStyleClass().contains(CSS_CLASS_DECORATION)) {
+				sourceDecoration.getStyleClass().add(CSS_CLASS_DECORATION);
+			}
+		}
+		// apply source decoration CSS style (even if decoration is not set via
+		// property)
+		setCssStyle(sourceDecoration, ZestProperties.getSourceDecorationCssStyle(getContent()));
+		// XXX: Hidden decorations (see #setDecorationsVisible(boolean)) are
+		// removed from the connection, so that they are neither rendered nor
+		// arranged.
+		Node startDecoration = decorationsVisible ? sourceDecoration : null;
+		if (visual.getStartDecoration() != startDecoration) {
+			visual.setStartDecoration(startDecoration);
+		}
+	}
+
+	private void refreshTargetDecoration() {
+		Connection visual = getVisual();
+		// custom decoration
+		Node targetDecoration = ZestProperties.getTargetDecoration(getContent());
+		if (targetDecoration == null) {
+			targetDecoration = defaultTargetDecoration;
+		}
+		if (targetDecoration != null) {
+			// apply CSS class
+			if (!targetDecoration.getStyleClass().contains(CSS_CLASS_DECORATION)) {
+				targetDecoration.getStyleClass().add(CSS_CLASS_DECORATION);
+			}
+		}
+		// apply target decoration CSS style (even if decoration is not set via
+		// property)
+		setCssStyle(targetDecoration, ZestProperties.getTargetDecorationCssStyle(getContent()));
+		// XXX: Hidden decorations (see #setDecorationsVisible(boolean)) are
+		// removed from the connection, so that they are neither rendered nor
+		// arranged.
+		Node endDecoration = decorationsVisible ? targetDecoration : null;
+		if (visual.getEndDecoration() != endDecoration) {
+			visual.setEndDecoration(endDecoration);
+		}
+	}
+
 	@Override
 	public void setContentBendPoints(List<org.eclipse.gef.mvc.fx.parts.IBendableContentPart.BendPoint> bendPoints) {
 		// disable refreshing of visuals
@@ -437,4 +804,70 @@ public class EdgePart extends AbstractContentPart<Connection> implements IBendab
 		setRefreshVisual(wasRefreshVisual);
 		refreshVisual();
 	}
+
+	// re-attaches the connection to the anchorages (by means of anchors or by
+	// means of the anchorage bounds) and realizes or releases the connection
+	private void setConnectionRealized(boolean realized) {
+		List<Entry<IVisualPart<? extends Node>, String>> anchorages = new ArrayList<>(
+				getAnchoragesUnmodifiable().entries());
+		for (Entry<IVisualPart<? extends Node>, String> anchorage : anchorages) {
+			doDetachFromAnchorageVisual(anchorage.getKey(), anchorage.getValue());
+		}
+		connectionRealized = realized;
+		for (Entry<IVisualPart<? extends Node>, String> anchorage : anchorages) {
+			doAttachToAnchorageVisual(anchorage.getKey(), anchorage.getValue());
+		}
+		if (getParent() instanceof GraphPart) {
+			((GraphPart) getParent()).refreshEdgeVisual(this);
+		}
+		if (realized) {
+			refreshConnection();
+		}
+	}
+
+	// XXX: Setting an (equal) style invalidates the CSS of the node and its
+	// children, so it is only applied if it actually changed.
+	private void setCssStyle(Node node, String style) {
+		if (node == null) {
+			return;
+		}
+		String currentStyle = node.getStyle();
+		if (style == null ? currentStyle != null && !currentStyle.isEmpty() : !style.equals(currentStyle)) {
+			node.setStyle(style);
+		}
+	}
+
+	@Override
+	public void setParent(IVisualPart<? extends Node> newParent) {
+		super.setParent(newParent);
+		// XXX: Determine whether the connection is realized before it is
+		// attached to the anchorages, so that no anchors are created for an
+		// edge that is rendered into the edge layer.
+		if (getAnchoragesUnmodifiable().isEmpty()) {
+			connectionRealized = !isOnEdgeLayer();
+		}
+	}
+
+	/**
+	 * Specifies whether the source and target decorations of this
+	 * {@link EdgePart} are to be displayed. The decorations may be hidden when
+	 * they are too small to be recognized, e.g. when zoomed out (see
+	 * {@link org.eclipse.gef.zest.fx.behaviors.LevelOfDetailBehavior}). Hidden
+	 * decorations are removed from the {@link Connection}, so that they do not
+	 * have to be arranged along with it.
+	 *
+	 * @param decorationsVisible
+	 *            <code>true</code> to display the decorations,
+	 *            <code>false</code> to hide them.
+	 * @since 5.1
+	 */
+	public void setDecorationsVisible(boolean decorationsVisible) {
+		if (this.decorationsVisible != decorationsVisible) {
+			this.decorationsVisible = decorationsVisible;
+			if (connectionRealized && getContent() != null) {
+				refreshSourceDecoration();
+				refreshTargetDecoration();
+			}
+		}
+	}
 }
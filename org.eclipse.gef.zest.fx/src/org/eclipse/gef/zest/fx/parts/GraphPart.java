@@ -13,53 +13,199 @@
 package org.eclipse.gef.zest.fx.parts;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.eclipse.gef.common.attributes.IAttributeStore;
+import org.eclipse.gef.fx.nodes.Connection;
+import org.eclipse.gef.fx.nodes.GeometryNode;
+import org.eclipse.gef.fx.nodes.PolylineLayer;
 import org.eclipse.gef.graph.Edge;
 import org.eclipse.gef.graph.Graph;
 import org.eclipse.gef.mvc.fx.parts.AbstractContentPart;
 import org.eclipse.gef.mvc.fx.parts.IVisualPart;
 import org.eclipse.gef.zest.fx.ZestProperties;
+import org.eclipse.gef.zest.fx.handlers.HoverEdgeLayerOnHoverHandler;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.SetMultimap;
 
 import javafx.collections.ListChangeListener;
+import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.Group;
 import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
 import javafx.util.Pair;
 
 /**
  * The {@link GraphPart} is the controller for a {@link Graph} content object.
  * It starts a layout pass after activation and when its content children
  * change.
+ * <p>
+ * In case the {@link ZestProperties#CANVAS_EDGES__G} attribute is set for the
+ * {@link Graph}, the {@link GraphPart} provides a {@link PolylineLayer} (see
+ * {@link #getEdgeLayer()}) into which the {@link EdgePart}s render their
+ * edges, unless they are hovered, selected, or focused. The visuals of such
+ * {@link EdgePart}s are not added to the visual of the {@link GraphPart} (see
+ * {@link EdgePart#isConnectionRealized()}), and a
+ * {@link HoverEdgeLayerOnHoverHandler} is installed to hover the edges within
+ * the edge layer.
+ * <p>
+ * After activation, the content children are maintained incrementally: changes
+ * of the {@link Graph}'s nodes and edges, as well as changes of the visibility
+ * and label attributes of individual nodes and edges, only add and remove the
+ * affected content children (see {@link #contentChildrenAdded(int, List)} and
+ * {@link #contentChildrenRemoved(Collection)}), so that only the delta has to
+ * be synchronized. Newly revealed content children are appended to the end of
+ * their section (nodes, node labels, edges, edge labels), i.e. the graph order
+ * is only restored by {@link #refreshContentChildren()}.
  *
  * @author mwienand
  *
  */
 public class GraphPart extends AbstractContentPart<Group> {
 
+	/**
+	 * The CSS class that is assigned to the {@link #getEdgeLayer() edge layer}
+	 * of this {@link GraphPart}.
+	 *
+	 * @since 5.1
+	 */
+	public static final String CSS_CLASS_EDGE_LAYER = "edge-layer";
+
+	// the attributes of nodes and edges that affect the content children
+	private static final Set<String> CONTENT_CHILDREN_ATTRIBUTES = new HashSet<>(
+			Arrays.asList(ZestProperties.INVISIBLE__NE, ZestProperties.LABEL__NE, ZestProperties.EXTERNAL_LABEL__NE,
+					ZestProperties.SOURCE_LABEL__E, ZestProperties.TARGET_LABEL__E));
+
+	// the sections of the content children (see doGetContentChildren())
+	private static final int NODES = 0;
+	private static final int NODE_LABELS = 1;
+	private static final int EDGES = 2;
+	private static final int EDGE_LABELS = 3;
+
+	private PolylineLayer edgeLayer;
+	private HoverEdgeLayerOnHoverHandler edgeLayerHoverHandler;
+	// XXX: Edges that are rendered into the edge layer are not part of the
+	// scene graph, so that CSS is not applied to their curves. Their effective
+	// curve style is thus resolved by applying CSS to a probe connection, and
+	// cached per CSS class, CSS id, and curve CSS style.
+	private Connection edgeStyleProbe;
+	private Map<List<String>, Pair<Paint, Double>> edgeLayerCurveStyles = new HashMap<>();
+
+	// the edge parts whose visuals are not added to the visual of this part
+	private Set<EdgePart> detachedEdges = new HashSet<>();
+	private boolean updatingEdgeLayer = false;
+
+	private MapChangeListener<String, Object> graphAttributesObserver = new MapChangeListener<String, Object>() {
+
+		@Override
+		public void onChanged(MapChangeListener.Change<? extends String, ? extends Object> change) {
+			if (ZestProperties.CANVAS_EDGES__G.equals(change.getKey())) {
+				scheduleRefreshVisual();
+			}
+		}
+	};
+
+	// index of the content children (to compute deltas)
+	private Set<Object> contentChildrenIndex = new HashSet<>();
+	private int[] sectionSizes = new int[4];
+	// XXX: Changes of the source or target of an edge are not observable, so
+	// edges are indexed by the nodes they referenced when they were indexed.
+	private SetMultimap<org.eclipse.gef.graph.Node, Edge> incidentEdges = HashMultimap.create();
+	private Map<Edge, Pair<org.eclipse.gef.graph.Node, org.eclipse.gef.graph.Node>> indexedEndpoints = new HashMap<>();
+	private Map<Object, MapChangeListener<String, Object>> elementAttributesObservers = new HashMap<>();
+
 	private ListChangeListener<Object> graphChildrenObserver = new ListChangeListener<Object>() {
 
 		@Override
 		public void onChanged(ListChangeListener.Change<? extends Object> c) {
 			// synchronize children (triggered through content children)
-			refreshContentChildren();
+			Set<Object> dirty = new LinkedHashSet<>();
+			while (c.next()) {
+				// XXX: Order changes (permutations) are only reflected by a
+				// full refresh.
+				dirty.addAll(c.getRemoved());
+				dirty.addAll(c.getAddedSubList());
+			}
+			for (Object element : dirty) {
+				if (getGraph(element) == getContent()) {
+					observe(element);
+				} else {
+					unobserve(element);
+				}
+			}
+			updateContentChildren(dirty);
 			refreshVisual();
 		}
 	};
 
+	/**
+	 * Creates the {@link HoverEdgeLayerOnHoverHandler} that is installed at
+	 * this {@link GraphPart} while it provides an {@link #getEdgeLayer() edge
+	 * layer}. May be overwritten by subclasses to customize hovering of the
+	 * edges within the edge layer.
+	 *
+	 * @return The {@link HoverEdgeLayerOnHoverHandler} to install.
+	 * @since 5.1
+	 */
+	protected HoverEdgeLayerOnHoverHandler createEdgeLayerHoverHandler() {
+		return new HoverEdgeLayerOnHoverHandler();
+	}
+
 	@Override
 	protected void doActivate() {
 		super.doActivate();
 		getContent().getNodes().addListener(graphChildrenObserver);
 		getContent().getEdges().addListener(graphChildrenObserver);
+		getContent().attributesProperty().addListener(graphAttributesObserver);
+		for (org.eclipse.gef.graph.Node n : getContent().getNodes()) {
+			observe(n);
+		}
+		for (Edge e : getContent().getEdges()) {
+			observe(e);
+		}
+		indexContentChildren();
 	}
 
 	@Override
 	protected void doAddChildVisual(IVisualPart<? extends Node> child, int index) {
-		getVisual().getChildren().add(index, child.getVisual());
+		if (child instanceof EdgePart && !((EdgePart) child).isConnectionRealized()) {
+			detachedEdges.add((EdgePart) child);
+			return;
+		}
+		getVisual().getChildren().add(getVisualIndex(child, index), child.getVisual());
+	}
+
+	@Override
+	protected void doAddChildVisuals(List<? extends IVisualPart<? extends Node>> children, int index) {
+		// XXX: Register the detached edges first, so that the remaining
+		// visuals are contiguous and can be added at once.
+		List<Node> childVisuals = new ArrayList<>(children.size());
+		int firstIndex = -1;
+		for (int i = 0; i < children.size(); i++) {
+			IVisualPart<? extends Node> child = children.get(i);
+			if (child instanceof EdgePart && !((EdgePart) child).isConnectionRealized()) {
+				detachedEdges.add((EdgePart) child);
+			} else {
+				if (firstIndex < 0) {
+					firstIndex = index + i;
+				}
+				childVisuals.add(child.getVisual());
+			}
+		}
+		if (!childVisuals.isEmpty()) {
+			getVisual().getChildren().addAll(
+					getVisualIndex(getChildrenUnmodifiable().get(firstIndex), firstIndex), childVisuals);
+		}
 	}
 
 	@Override
@@ -71,8 +217,12 @@ public class GraphPart extends AbstractContentPart<Group> {
 
 	@Override
 	protected void doDeactivate() {
+		getContent().attributesProperty().removeListener(graphAttributesObserver);
 		getContent().getNodes().removeListener(graphChildrenObserver);
 		getContent().getEdges().removeListener(graphChildrenObserver);
+		for (Object element : new ArrayList<>(elementAttributesObservers.keySet())) {
+			unobserve(element);
+		}
 
 		super.doDeactivate();
 	}
@@ -89,7 +239,7 @@ public class GraphPart extends AbstractContentPart<Group> {
 		ObservableList<org.eclipse.gef.graph.Node> nodes = getContent().getNodes();
 		ArrayList<org.eclipse.gef.graph.Node> visibleNodes = new ArrayList<>();
 		for (org.eclipse.gef.graph.Node n : nodes) {
-			if (!Boolean.TRUE.equals(ZestProperties.getInvisible(n))) {
+			if (isVisible(n)) {
 				visibleNodes.add(n);
 			}
 		}
@@ -105,9 +255,7 @@ public class GraphPart extends AbstractContentPart<Group> {
 		ObservableList<Edge> edges = getContent().getEdges();
 		ArrayList<Edge> visibleEdges = new ArrayList<>();
 		for (Edge e : edges) {
-			if (!Boolean.TRUE.equals(ZestProperties.getInvisible(e)) && e.getSource() != null
-					&& !Boolean.TRUE.equals(ZestProperties.getInvisible(e.getSource())) && e.getTarget() != null
-					&& !Boolean.TRUE.equals(ZestProperties.getInvisible(e.getTarget()))) {
+			if (isVisible(e)) {
 				visibleEdges.add(e);
 			}
 		}
@@ -133,11 +281,122 @@ public class GraphPart extends AbstractContentPart<Group> {
 
 	@Override
 	public void doRefreshVisual(Group visual) {
+		boolean canvasEdges = Boolean.TRUE.equals(ZestProperties.getCanvasEdges(getContent()));
+		if (canvasEdges == (edgeLayer != null)) {
+			return;
+		}
+		if (canvasEdges) {
+			edgeLayerCurveStyles.clear();
+			edgeLayer = new PolylineLayer();
+			edgeLayer.getStyleClass().add(CSS_CLASS_EDGE_LAYER);
+			visual.getChildren().add(0, edgeLayer);
+			edgeLayerHoverHandler = createEdgeLayerHoverHandler();
+			setAdapter(edgeLayerHoverHandler);
+		} else {
+			unsetAdapter(edgeLayerHoverHandler);
+			edgeLayerHoverHandler = null;
+			visual.getChildren().remove(edgeLayer);
+			edgeLayer = null;
+		}
+		// let the edges (un-)register at the edge layer
+		updatingEdgeLayer = true;
+		try {
+			for (IVisualPart<? extends Node> child : getChildrenUnmodifiable()) {
+				if (child instanceof EdgePart) {
+					child.refreshVisual();
+				}
+			}
+		} finally {
+			updatingEdgeLayer = false;
+		}
+		// XXX: Re-add all child visuals at once, as adding or removing the
+		// visuals of all edge parts one by one is quadratic.
+		List<Node> childVisuals = new ArrayList<>();
+		if (edgeLayer != null) {
+			childVisuals.add(edgeLayer);
+		}
+		for (IVisualPart<? extends Node> child : getChildrenUnmodifiable()) {
+			if (!detachedEdges.contains(child)) {
+				childVisuals.add(child.getVisual());
+			}
+		}
+		visual.getChildren().setAll(childVisuals);
 	}
 
 	@Override
 	protected void doRemoveChildVisual(IVisualPart<? extends Node> child, int index) {
-		getVisual().getChildren().remove(child.getVisual());
+		if (!detachedEdges.remove(child)) {
+			getVisual().getChildren().remove(child.getVisual());
+		}
+	}
+
+	@Override
+	protected void doRemoveChildVisuals(List<? extends IVisualPart<? extends Node>> children) {
+		Set<Node> childVisuals = new HashSet<>();
+		for (IVisualPart<? extends Node> child : children) {
+			if (!detachedEdges.remove(child)) {
+				childVisuals.add(child.getVisual());
+			}
+		}
+		if (!childVisuals.isEmpty()) {
+			getVisual().getChildren().removeAll(childVisuals);
+		}
+	}
+
+	/**
+	 * Returns the {@link PolylineLayer} into which the {@link EdgePart}s render
+	 * their edges in case the {@link ZestProperties#CANVAS_EDGES__G} attribute
+	 * is set for the {@link Graph}, or <code>null</code> otherwise.
+	 *
+	 * @return The {@link PolylineLayer} of this {@link GraphPart} or
+	 *         <code>null</code>.
+	 * @since 5.1
+	 */
+	public PolylineLayer getEdgeLayer() {
+		return edgeLayer;
+	}
+
+	/**
+	 * Returns the stroke and stroke width that result from applying CSS to the
+	 * curve of the given {@link Edge}, considering its CSS class, CSS id, and
+	 * curve CSS style, so that it can be rendered into the edge layer.
+	 */
+	Pair<Paint, Double> getEdgeLayerCurveStyle(Edge edge) {
+		List<String> key = Arrays.asList(ZestProperties.getCssClass(edge), ZestProperties.getCssId(edge),
+				ZestProperties.getCurveCssStyle(edge));
+		Pair<Paint, Double> style = edgeLayerCurveStyles.get(key);
+		if (style != null) {
+			return style;
+		}
+		if (edgeStyleProbe == null) {
+			edgeStyleProbe = new Connection();
+			edgeStyleProbe.setManaged(false);
+			edgeStyleProbe.getCurve().getStyleClass().add(EdgePart.CSS_CLASS_CURVE);
+		}
+		List<String> cssClasses = new ArrayList<>();
+		cssClasses.add(EdgePart.CSS_CLASS);
+		if (key.get(0) != null) {
+			cssClasses.add(key.get(0));
+		}
+		edgeStyleProbe.getStyleClass().setAll(cssClasses);
+		edgeStyleProbe.setId(key.get(1));
+		edgeStyleProbe.getCurve().setStyle(key.get(2));
+		// the probe is only temporarily added, so it is never rendered
+		getVisual().getChildren().add(edgeStyleProbe);
+		edgeStyleProbe.applyCss();
+		getVisual().getChildren().remove(edgeStyleProbe);
+		Paint stroke = Color.BLACK;
+		double strokeWidth = 1;
+		if (edgeStyleProbe.getCurve() instanceof GeometryNode) {
+			stroke = ((GeometryNode<?>) edgeStyleProbe.getCurve()).getStroke();
+			strokeWidth = ((GeometryNode<?>) edgeStyleProbe.getCurve()).getStrokeWidth();
+		}
+		style = new Pair<>(stroke, strokeWidth);
+		// XXX: Without a scene, the style sheets are not known yet.
+		if (getVisual().getScene() != null) {
+			edgeLayerCurveStyles.put(key, style);
+		}
+		return style;
 	}
 
 	@Override
@@ -145,8 +404,263 @@ public class GraphPart extends AbstractContentPart<Group> {
 		return (Graph) super.getContent();
 	}
 
+	// returns the graph that contains the given node or edge
+	private Graph getGraph(Object element) {
+		return element instanceof org.eclipse.gef.graph.Node ? ((org.eclipse.gef.graph.Node) element).getGraph()
+				: ((Edge) element).getGraph();
+	}
+
+	// returns the value of the given label attribute of the given node or edge
+	private String getLabel(Object element, String label) {
+		if (element instanceof org.eclipse.gef.graph.Node) {
+			return ZestProperties.getExternalLabel((org.eclipse.gef.graph.Node) element);
+		}
+		Edge edge = (Edge) element;
+		if (ZestProperties.LABEL__NE.equals(label)) {
+			return ZestProperties.getLabel(edge);
+		} else if (ZestProperties.EXTERNAL_LABEL__NE.equals(label)) {
+			return ZestProperties.getExternalLabel(edge);
+		} else if (ZestProperties.SOURCE_LABEL__E.equals(label)) {
+			return ZestProperties.getSourceLabel(edge);
+		}
+		return ZestProperties.getTargetLabel(edge);
+	}
+
+	// returns the content children that may be provided for the given node or
+	// edge (in the order of doGetContentChildren())
+	private List<Object> getPotentialContentChildren(Object element) {
+		List<Object> potentialContentChildren = new ArrayList<>();
+		potentialContentChildren.add(element);
+		if (element instanceof org.eclipse.gef.graph.Node) {
+			potentialContentChildren.add(new Pair<>(element, ZestProperties.EXTERNAL_LABEL__NE));
+		} else {
+			potentialContentChildren.add(new Pair<>(element, ZestProperties.LABEL__NE));
+			potentialContentChildren.add(new Pair<>(element, ZestProperties.EXTERNAL_LABEL__NE));
+			potentialContentChildren.add(new Pair<>(element, ZestProperties.SOURCE_LABEL__E));
+			potentialContentChildren.add(new Pair<>(element, ZestProperties.TARGET_LABEL__E));
+		}
+		return potentialContentChildren;
+	}
+
+	// returns the section of the content children the given content child
+	// belongs to
+	private int getSection(Object contentChild) {
+		if (contentChild instanceof Pair) {
+			return ((Pair<?, ?>) contentChild).getKey() instanceof org.eclipse.gef.graph.Node ? NODE_LABELS
+					: EDGE_LABELS;
+		}
+		return contentChild instanceof org.eclipse.gef.graph.Node ? NODES : EDGES;
+	}
+
+	// the index within the children of the visual for a child part at the
+	// given index, which respects the edge layer and the detached edge parts
+	private int getVisualIndex(IVisualPart<? extends Node> child, int index) {
+		// the edge layer (if any) is always the first child
+		int visualIndex = edgeLayer == null ? index : index + 1;
+		if (!detachedEdges.isEmpty()) {
+			if (child instanceof EdgeLabelPart) {
+				// all edges precede the edge labels
+				visualIndex -= detachedEdges.size();
+			} else if (child instanceof EdgePart) {
+				List<IVisualPart<? extends Node>> children = getChildrenUnmodifiable();
+				for (int i = 0; i < index; i++) {
+					if (detachedEdges.contains(children.get(i))) {
+						visualIndex--;
+					}
+				}
+			}
+		}
+		return Math.max(0, Math.min(visualIndex, getVisual().getChildren().size()));
+	}
+
+	// indexes the current content children, so that deltas can be computed
+	private void indexContentChildren() {
+		contentChildrenIndex.clear();
+		Arrays.fill(sectionSizes, 0);
+		for (Object contentChild : getContentChildrenUnmodifiable()) {
+			contentChildrenIndex.add(contentChild);
+			sectionSizes[getSection(contentChild)]++;
+		}
+	}
+
+	// (re-)indexes the given edge by its current source and target node
+	private void indexEdge(Edge edge) {
+		unindexEdge(edge);
+		Pair<org.eclipse.gef.graph.Node, org.eclipse.gef.graph.Node> endpoints = new Pair<>(edge.getSource(),
+				edge.getTarget());
+		if (endpoints.getKey() != null) {
+			incidentEdges.put(endpoints.getKey(), edge);
+		}
+		if (endpoints.getValue() != null) {
+			incidentEdges.put(endpoints.getValue(), edge);
+		}
+		indexedEndpoints.put(edge, endpoints);
+	}
+
+	// determines whether the given potential content child is to be provided
+	private boolean isContentChild(Object potentialContentChild) {
+		if (potentialContentChild instanceof Pair) {
+			Pair<?, ?> pair = (Pair<?, ?>) potentialContentChild;
+			return isContentChild(pair.getKey()) && getLabel(pair.getKey(), (String) pair.getValue()) != null;
+		}
+		if (getGraph(potentialContentChild) != getContent()) {
+			return false;
+		}
+		return potentialContentChild instanceof org.eclipse.gef.graph.Node
+				? isVisible((org.eclipse.gef.graph.Node) potentialContentChild) : isVisible((Edge) potentialContentChild);
+	}
+
 	@Override
 	public boolean isSelectable() {
 		return false;
 	}
+
+	private boolean isVisible(Edge edge) {
+		return !Boolean.TRUE.equals(ZestProperties.getInvisible(edge)) && edge.getSource() != null
+				&& isVisible(edge.getSource()) && edge.getTarget() != null && isVisible(edge.getTarget());
+	}
+
+	private boolean isVisible(org.eclipse.gef.graph.Node node) {
+		return !Boolean.TRUE.equals(ZestProperties.getInvisible(node));
+	}
+
+	// registers an attributes observer for the given node or edge
+	private void observe(final Object element) {
+		if (element instanceof Edge) {
+			// source and target may have changed since the edge was indexed
+			indexEdge((Edge) element);
+		}
+		if (elementAttributesObservers.containsKey(element)) {
+			return;
+		}
+		MapChangeListener<String, Object> elementAttributesObserver = new MapChangeListener<String, Object>() {
+
+			@Override
+			public void onChanged(MapChangeListener.Change<? extends String, ? extends Object> change) {
+				if (element instanceof Edge) {
+					indexEdge((Edge) element);
+				}
+				if (!CONTENT_CHILDREN_ATTRIBUTES.contains(change.getKey())) {
+					return;
+				}
+				Set<Object> dirty = new LinkedHashSet<>();
+				dirty.add(element);
+				if (element instanceof org.eclipse.gef.graph.Node
+						&& ZestProperties.INVISIBLE__NE.equals(change.getKey())) {
+					// the visibility of a node affects its incident edges
+					for (Edge edge : new ArrayList<>(incidentEdges.get((org.eclipse.gef.graph.Node) element))) {
+						indexEdge(edge);
+						dirty.add(edge);
+					}
+				}
+				updateContentChildren(dirty);
+			}
+		};
+		elementAttributesObservers.put(element, elementAttributesObserver);
+		((IAttributeStore) element).getAttributes().addListener(elementAttributesObserver);
+	}
+
+	@Override
+	public void refreshContentChildren() {
+		super.refreshContentChildren();
+		// re-index all edges, as their source or target may have changed
+		for (Object element : elementAttributesObservers.keySet()) {
+			if (element instanceof Edge) {
+				indexEdge((Edge) element);
+			}
+		}
+		indexContentChildren();
+	}
+
+	/**
+	 * Adds the visual of the given {@link EdgePart} child to the visual of this
+	 * {@link GraphPart} or removes it, depending on whether its connection is
+	 * realized (see {@link EdgePart#isConnectionRealized()}).
+	 *
+	 * @param edgePart
+	 *            The {@link EdgePart} child whose visual is to be refreshed.
+	 */
+	void refreshEdgeVisual(EdgePart edgePart) {
+		if (edgePart.getParent() != this) {
+			return;
+		}
+		if (edgePart.isConnectionRealized()) {
+			if (detachedEdges.remove(edgePart) && !updatingEdgeLayer) {
+				int index = getChildrenUnmodifiable().indexOf(edgePart);
+				getVisual().getChildren().add(getVisualIndex(edgePart, index), edgePart.getVisual());
+			}
+		} else if (detachedEdges.add(edgePart) && !updatingEdgeLayer) {
+			getVisual().getChildren().remove(edgePart.getVisual());
+		}
+	}
+
+	// unregisters the attributes observer of the given node or edge
+	private void unobserve(Object element) {
+		MapChangeListener<String, Object> elementAttributesObserver = elementAttributesObservers.remove(element);
+		if (elementAttributesObserver == null) {
+			return;
+		}
+		((IAttributeStore) element).getAttributes().removeListener(elementAttributesObserver);
+		if (element instanceof Edge) {
+			unindexEdge((Edge) element);
+		} else {
+			// only edges that still reference the removed node remain indexed
+			// by it (so that they are found in case it is added again)
+			for (Edge edge : new ArrayList<>(incidentEdges.get((org.eclipse.gef.graph.Node) element))) {
+				indexEdge(edge);
+			}
+		}
+	}
+
+	private void unindexEdge(Edge edge) {
+		Pair<org.eclipse.gef.graph.Node, org.eclipse.gef.graph.Node> endpoints = indexedEndpoints.remove(edge);
+		if (endpoints != null) {
+			incidentEdges.remove(endpoints.getKey(), edge);
+			incidentEdges.remove(endpoints.getValue(), edge);
+		}
+	}
+
+	/**
+	 * Updates the content children for the given nodes and edges, only adding
+	 * and removing those content children that changed. Newly provided content
+	 * children are appended to the end of their section.
+	 *
+	 * @param elements
+	 *            The nodes and edges whose content children are to be updated.
+	 */
+	private void updateContentChildren(Collection<? extends Object> elements) {
+		Set<Object> removed = new HashSet<>();
+		List<List<Object>> added = new ArrayList<>();
+		for (int i = 0; i < sectionSizes.length; i++) {
+			added.add(new ArrayList<>());
+		}
+		for (Object element : elements) {
+			for (Object potentialContentChild : getPotentialContentChildren(element)) {
+				boolean provided = contentChildrenIndex.contains(potentialContentChild);
+				if (provided != isContentChild(potentialContentChild)) {
+					if (provided) {
+						removed.add(potentialContentChild);
+					} else {
+						added.get(getSection(potentialContentChild)).add(potentialContentChild);
+					}
+				}
+			}
+		}
+		// remove obsolete content children
+		contentChildrenIndex.removeAll(removed);
+		for (Object contentChild : removed) {
+			sectionSizes[getSection(contentChild)]--;
+		}
+		contentChildrenRemoved(removed);
+		// append new content children to their sections
+		int index = 0;
+		for (int section = 0; section < sectionSizes.length; section++) {
+			List<Object> addedToSection = added.get(section);
+			index += sectionSizes[section];
+			contentChildrenIndex.addAll(addedToSection);
+			sectionSizes[section] += addedToSection.size();
+			contentChildrenAdded(index, addedToSection);
+			index += addedToSection.size();
+		}
+	}
 }
@@ -90,7 +90,7 @@ public class HiddenNeighborsFeedbackPart extends AbstractFeedbackPart<Group> {
 
 		// update text
 		HidingModel hidingModel = getViewer().getAdapter(HidingModel.class);
-		int count = hidingModel.getHiddenNeighbors(((NodePart) anchorage).getContent()).size();
+		int count = hidingModel.getHiddenNeighborCount(((NodePart) anchorage).getContent());
 		text.setText(Integer.toString(count));
 
 		Bounds textLayoutBounds = text.getLayoutBounds();
@@ -76,15 +76,12 @@ public class NodeLabelPart extends AbstractLabelPart {
 		Node node = getContent().getKey();
 		Map<String, Object> attrs = node.attributesProperty();
 
-		if (attrs.containsKey(ZestProperties.EXTERNAL_LABEL_CSS_STYLE__NE)) {
-			String textCssStyle = ZestProperties.getExternalLabelCssStyle(node);
-			getVisual().setStyle(textCssStyle);
-		}
+		String textCssStyle = attrs.containsKey(ZestProperties.EXTERNAL_LABEL_CSS_STYLE__NE)
+				? ZestProperties.getExternalLabelCssStyle(node) : null;
+		refreshCssStyle(textCssStyle);
 
 		String label = ZestProperties.getExternalLabel(node);
-		if (label != null) {
-			getText().setText(label);
-		}
+		refreshText(label);
 
 		IVisualPart<? extends javafx.scene.Node> firstAnchorage = getFirstAnchorage();
 		if (firstAnchorage == null) {
@@ -15,8 +15,9 @@ package org.eclipse.gef.zest.fx.parts;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.gef.fx.nodes.GeometryNode;
 import org.eclipse.gef.fx.utils.NodeUtils;
@@ -33,12 +34,16 @@ import org.eclipse.gef.zest.fx.ZestProperties;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.SetMultimap;
 
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.ListChangeListener;
 import javafx.collections.MapChangeListener;
 import javafx.geometry.Bounds;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Group;
 import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
 import javafx.scene.control.Tooltip;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -67,6 +72,13 @@ import javafx.scene.transform.Translate;
 /**
  * The {@link NodePart} is the controller for a
  * {@link org.eclipse.gef.graph.Node} content object.
+ * <p>
+ * In case the node has a nested {@link Graph}, the content of the nested graph
+ * is only realized (as a content child) when the on-screen width of the
+ * {@link NodePart} exceeds the {@link #getNestedGraphRealizationThreshold()
+ * realization threshold}, and it is released again when falling below 80% of
+ * it. While released, a snapshot of the nested graph (or an icon in case no
+ * snapshot is available) is displayed.
  *
  * @author mwienand
  *
@@ -107,8 +119,9 @@ public class NodePart extends AbstractContentPart<Group>
 	private static final String DEFAULT_SHAPE_ROLE = "defaultShape";
 
 	/**
-	 * The zoom level that needs to be reached for the
-	 * {@link #doGetContentChildren()} method to return a nested {@link Graph}.
+	 * The zoom level that needs to be reached (by a nesting node of default
+	 * size) for the {@link #doGetContentChildren()} method to return a nested
+	 * {@link Graph}.
 	 */
 	protected static final double ZOOMLEVEL_SHOW_NESTED_GRAPH = 2;
 
@@ -141,6 +154,20 @@ public class NodePart extends AbstractContentPart<Group>
 	public static final double DEFAULT_OUTER_LAYOUT_CONTAINER_HEIGHT_NESTING = DEFAULT_CHILDREN_PANE_HEIGHT
 			* DEFAULT_NESTED_CHILDREN_ZOOM_FACTOR;
 
+	/**
+	 * The default on-screen width a nesting node has to exceed, so that the
+	 * content of its nested {@link Graph} is realized (see
+	 * {@link #getNestedGraphRealizationThreshold()}).
+	 *
+	 * @since 5.1
+	 */
+	public static final double DEFAULT_NESTED_GRAPH_REALIZATION_THRESHOLD = ZOOMLEVEL_SHOW_NESTED_GRAPH
+			* DEFAULT_OUTER_LAYOUT_CONTAINER_WIDTH_NESTING;
+
+	// fraction of the realization threshold below which a realized nested
+	// graph is released
+	private static final double NESTED_GRAPH_RELEASE_RATIO = 0.8;
+
 	// CSS classes for styling nodes
 	/**
 	 * The CSS class that is applied to the {@link #getVisual() visual} of this
@@ -168,10 +195,18 @@ public class NodePart extends AbstractContentPart<Group>
 
 	private static final String NODE_LABEL_EMPTY = "";
 
+	// attributes that do not affect the visual of a node part
+	private static final Set<String> IRRELEVANT_ATTRIBUTES = new HashSet<>(Arrays.asList(
+			ZestProperties.LAYOUT_IRRELEVANT__NE, ZestProperties.INVISIBLE__NE, ZestProperties.EXTERNAL_LABEL__NE,
+			ZestProperties.EXTERNAL_LABEL_CSS_STYLE__NE, ZestProperties.EXTERNAL_LABEL_POSITION__NE));
+
 	private MapChangeListener<String, Object> nodeAttributesObserver = new MapChangeListener<String, Object>() {
 		@Override
 		public void onChanged(MapChangeListener.Change<? extends String, ? extends Object> change) {
-			refreshVisual();
+			// only re-apply the affected aspect of the visual (if possible)
+			if (!isActive() || !isRefreshVisual() || !refreshAttribute(change.getKey())) {
+				scheduleRefreshVisual();
+			}
 		}
 	};
 
@@ -179,6 +214,7 @@ public class NodePart extends AbstractContentPart<Group>
 	private ImageView iconImageView;
 	private Tooltip tooltipNode;
 	private VBox vbox;
+	private HBox hbox;
 	private Node shape;
 
 	private Node nestedGraphIcon;
@@ -186,6 +222,36 @@ public class NodePart extends AbstractContentPart<Group>
 	private Pane nestedContentPane;
 	private AnchorPane nestedContentAnchorPane;
 
+	private double nestedGraphRealizationThreshold = DEFAULT_NESTED_GRAPH_REALIZATION_THRESHOLD;
+	private ImageView nestedGraphSnapshot;
+	private Graph observedNestedGraph;
+	private boolean isObservingVisual = false;
+
+	// the visibility of icon and label may be specified before the visual is
+	// created (see LevelOfDetailBehavior)
+	private boolean iconVisible = true;
+	private boolean labelVisible = true;
+
+	private InvalidationListener visualObserver = new InvalidationListener() {
+		@Override
+		public void invalidated(Observable observable) {
+			// on-screen size changed (zoom or resize)
+			refreshNestedGraphRealization();
+		}
+	};
+
+	private ListChangeListener<Object> nestedGraphObserver = new ListChangeListener<Object>() {
+		@Override
+		public void onChanged(ListChangeListener.Change<? extends Object> c) {
+			// the snapshot of the nested graph is outdated
+			if (nestedGraphSnapshot != null) {
+				hideNestedGraphSnapshot();
+				nestedGraphSnapshot = null;
+				refreshNesting();
+			}
+		}
+	};
+
 	/**
 	 * Creates the shape used to display the node's border and background.
 	 *
@@ -220,6 +286,7 @@ public class NodePart extends AbstractContentPart<Group>
 	protected void doActivate() {
 		super.doActivate();
 		getContent().attributesProperty().addListener(nodeAttributesObserver);
+		refreshNestingObservers(isActive() && isNesting());
 	}
 
 	@Override
@@ -227,6 +294,15 @@ public class NodePart extends AbstractContentPart<Group>
 		getNestedContentPane().getChildren().add(index, child.getVisual());
 	}
 
+	@Override
+	protected void doAddChildVisuals(List<? extends IVisualPart<? extends Node>> children, int index) {
+		List<Node> childVisuals = new ArrayList<>(children.size());
+		for (IVisualPart<? extends Node> child : children) {
+			childVisuals.add(child.getVisual());
+		}
+		getNestedContentPane().getChildren().addAll(index, childVisuals);
+	}
+
 	@Override
 	protected Group doCreateVisual() {
 		// container set-up
@@ -299,10 +375,54 @@ public class NodePart extends AbstractContentPart<Group>
 		labelText.setText(NODE_LABEL_EMPTY);
 		labelText.getStyleClass().add(CSS_CLASS_LABEL);
 
-		HBox hbox = new HBox();
+		hbox = new HBox() {
+			// XXX: Hidden icon and label are not managed (see
+			// refreshDetailVisibility()), but they keep their space, so that
+			// the size of the node does not depend on the level of detail.
+			@Override
+			protected double computeMinHeight(double width) {
+				return Math.max(super.computeMinHeight(width), computeUnmanagedHeight());
+			}
+
+			@Override
+			protected double computeMinWidth(double height) {
+				return super.computeMinWidth(height) + computeUnmanagedWidth();
+			}
+
+			@Override
+			protected double computePrefHeight(double width) {
+				return Math.max(super.computePrefHeight(width), computeUnmanagedHeight());
+			}
+
+			@Override
+			protected double computePrefWidth(double height) {
+				return super.computePrefWidth(height) + computeUnmanagedWidth();
+			}
+
+			private double computeUnmanagedHeight() {
+				double height = 0;
+				for (Node child : getChildren()) {
+					if (!child.isManaged()) {
+						height = Math.max(height, child.prefHeight(-1));
+					}
+				}
+				return snappedTopInset() + height + snappedBottomInset();
+			}
+
+			private double computeUnmanagedWidth() {
+				double width = 0;
+				for (Node child : getChildren()) {
+					if (!child.isManaged()) {
+						width += child.prefWidth(-1);
+					}
+				}
+				return width;
+			}
+		};
 		hbox.getChildren().addAll(iconImageView, labelText);
 		hbox.setAlignment(Pos.CENTER);
 		hbox.setPrefSize(Region.USE_COMPUTED_SIZE, Region.USE_COMPUTED_SIZE);
+		refreshDetailVisibility();
 
 		nestedContentPane = createNestedContentPane();
 		nestedContentStackPane = new StackPane();
@@ -331,6 +451,12 @@ public class NodePart extends AbstractContentPart<Group>
 	@Override
 	protected void doDeactivate() {
 		getContent().attributesProperty().removeListener(nodeAttributesObserver);
+		refreshNestingObservers(false);
+		// XXX: The snapshot of the nested graph cannot be kept up-to-date
+		// while the nested graph is not observed (and this part might be
+		// recycled for another node), so it is discarded.
+		hideNestedGraphSnapshot();
+		nestedGraphSnapshot = null;
 		super.doDeactivate();
 	}
 
@@ -345,10 +471,8 @@ public class NodePart extends AbstractContentPart<Group>
 		if (nestedGraph == null) {
 			return Collections.emptyList();
 		}
-		// only show children when zoomed in
-		Transform tx = getVisual().getLocalToSceneTransform();
-		double scale = FX2Geometry.toAffineTransform(tx).getScaleX();
-		if (scale > ZOOMLEVEL_SHOW_NESTED_GRAPH) {
+		// only realize the nested graph when zoomed in far enough
+		if (isNestedGraphRealizable()) {
 			return Collections.singletonList(nestedGraph);
 		}
 		return Collections.emptyList();
@@ -356,103 +480,20 @@ public class NodePart extends AbstractContentPart<Group>
 
 	@Override
 	protected void doRefreshVisual(Group visual) {
-		org.eclipse.gef.graph.Node node = getContent();
-		if (node == null) {
+		if (getContent() == null) {
 			throw new IllegalStateException();
 		}
-
-		// set CSS class
-		Map<String, Object> attrs = node.attributesProperty();
-		List<String> cssClasses = new ArrayList<>();
-		cssClasses.add(CSS_CLASS);
-		if (attrs.containsKey(ZestProperties.CSS_CLASS__NE)) {
-			cssClasses.add(ZestProperties.getCssClass(node));
-		}
-		if (!visual.getStyleClass().equals(cssClasses)) {
-			visual.getStyleClass().setAll(cssClasses);
-		}
-
-		// set CSS id
-		String id = null;
-		if (attrs.containsKey(ZestProperties.CSS_ID__NE)) {
-			id = ZestProperties.getCssId(node);
-		}
-		if (visual.getId() != id || id != null && !id.equals(visual.getId())) {
-			visual.setId(id);
-		}
-
+		refreshCssClass();
+		refreshCssId();
 		refreshShape();
-
-		// set CSS style
-		if (attrs.containsKey(ZestProperties.SHAPE_CSS_STYLE__N)) {
-			if (getShape() != null) {
-				if (!getShape().getStyle().equals(ZestProperties.getShapeCssStyle(node))) {
-					getShape().setStyle(ZestProperties.getShapeCssStyle(node));
-				}
-			}
-		}
-		if (attrs.containsKey(ZestProperties.LABEL_CSS_STYLE__NE)) {
-			if (getLabelText() != null) {
-				if (!getLabelText().getStyle().equals(ZestProperties.getLabelCssStyle(node))) {
-					getLabelText().setStyle(ZestProperties.getLabelCssStyle(node));
-				}
-			}
-		}
-
-		if (vbox != null) {
-			if (getShape() != null && DEFAULT_SHAPE_ROLE.equals(getShape().getUserData()) || isNesting()) {
-				vbox.setPadding(new Insets(DEFAULT_SHAPE_PADDING));
-			} else {
-				vbox.setPadding(Insets.EMPTY);
-			}
-			if (isNesting()) {
-				if (!vbox.getChildren().contains(nestedContentAnchorPane)) {
-					vbox.getChildren().add(nestedContentAnchorPane);
-					if (vbox.getPrefWidth() == Region.USE_COMPUTED_SIZE
-							&& vbox.getPrefHeight() == Region.USE_COMPUTED_SIZE) {
-						vbox.setPrefSize(DEFAULT_OUTER_LAYOUT_CONTAINER_WIDTH_NESTING,
-								DEFAULT_OUTER_LAYOUT_CONTAINER_HEIGHT_NESTING);
-						vbox.autosize();
-					}
-				}
-				// show a nested graph icon dependent on the zoom level
-				if (!getChildrenUnmodifiable().isEmpty()) {
-					hideNestedGraphIcon();
-				} else {
-					// show an icon as a replacement when the zoom threshold is
-					// not reached
-					showNestedGraphIcon();
-				}
-			} else {
-				if (vbox.getChildren().contains(nestedContentAnchorPane)) {
-					vbox.getChildren().remove(nestedContentAnchorPane);
-					vbox.setPrefSize(Region.USE_COMPUTED_SIZE, Region.USE_COMPUTED_SIZE);
-					vbox.autosize();
-				}
-			}
-		}
-
+		refreshShapeCssStyle();
+		refreshLabelCssStyle();
+		refreshNesting();
 		refreshLabel();
 		refreshIcon();
 		refreshTooltip();
-
-		Point position = ZestProperties.getPosition(node);
-		if (position != null) {
-			Affine newTransform = new Affine(new Translate(position.x, position.y));
-			if (!NodeUtils.equals(getVisualTransform(), newTransform)) {
-				setVisualTransform(newTransform);
-			}
-		}
-
-		Dimension size = ZestProperties.getSize(node);
-		if (size != null) {
-			// XXX: Resize is needed even though the visual size is already
-			// up-to-date, because otherwise a nesting node might be resized to
-			// 0, 0 (unknown reason, need debug).
-			getVisual().resize(size.width, size.height);
-		} else {
-			getVisual().autosize();
-		}
+		refreshPosition();
+		refreshSize();
 	}
 
 	@Override
@@ -460,6 +501,15 @@ public class NodePart extends AbstractContentPart<Group>
 		getNestedContentPane().getChildren().remove(index);
 	}
 
+	@Override
+	protected void doRemoveChildVisuals(List<? extends IVisualPart<? extends Node>> children) {
+		Set<Node> childVisuals = new HashSet<>();
+		for (IVisualPart<? extends Node> child : children) {
+			childVisuals.add(child.getVisual());
+		}
+		getNestedContentPane().getChildren().removeAll(childVisuals);
+	}
+
 	@Override
 	public org.eclipse.gef.graph.Node getContent() {
 		return (org.eclipse.gef.graph.Node) super.getContent();
@@ -501,6 +551,20 @@ public class NodePart extends AbstractContentPart<Group>
 		return labelText;
 	}
 
+	/**
+	 * Returns the on-screen width (i.e. the width in scene coordinates) that
+	 * the visual of this {@link NodePart} has to exceed, so that the content
+	 * of the nested {@link Graph} is realized. When the visual falls below 80%
+	 * of this width again (e.g. when zooming out), the content of the nested
+	 * {@link Graph} is released and a snapshot of it is displayed instead.
+	 *
+	 * @return The on-screen width above which the nested graph is realized.
+	 * @since 5.1
+	 */
+	public double getNestedGraphRealizationThreshold() {
+		return nestedGraphRealizationThreshold;
+	}
+
 	/**
 	 * Returns the {@link Pane} to which nested children are added.
 	 *
@@ -541,6 +605,62 @@ public class NodePart extends AbstractContentPart<Group>
 		}
 	}
 
+	/**
+	 * Removes the snapshot of the nested graph from the
+	 * {@link #getNestedContentStackPane()} (if displayed).
+	 */
+	private void hideNestedGraphSnapshot() {
+		if (nestedGraphSnapshot != null) {
+			getNestedContentStackPane().getChildren().remove(nestedGraphSnapshot);
+		}
+	}
+
+	/**
+	 * Returns whether the icon of this {@link NodePart} is displayed.
+	 *
+	 * @return <code>true</code> if the icon is displayed, otherwise
+	 *         <code>false</code>.
+	 * @see #setIconVisible(boolean)
+	 * @since 5.1
+	 */
+	public boolean isIconVisible() {
+		return iconVisible;
+	}
+
+	/**
+	 * Returns whether the label of this {@link NodePart} is displayed.
+	 *
+	 * @return <code>true</code> if the label is displayed, otherwise
+	 *         <code>false</code>.
+	 * @see #setLabelVisible(boolean)
+	 * @since 5.1
+	 */
+	public boolean isLabelVisible() {
+		return labelVisible;
+	}
+
+	/**
+	 * Returns <code>true</code> if the on-screen width of the visual of this
+	 * {@link NodePart} exceeds the
+	 * {@link #getNestedGraphRealizationThreshold() realization threshold}, or,
+	 * in case the nested graph is already realized, if it did not fall below
+	 * the release threshold.
+	 *
+	 * @return <code>true</code> if the nested graph is to be realized,
+	 *         otherwise <code>false</code>.
+	 */
+	private boolean isNestedGraphRealizable() {
+		Transform tx = getVisual().getLocalToSceneTransform();
+		double scale = FX2Geometry.toAffineTransform(tx).getScaleX();
+		double width = getVisual().getLayoutBounds().getWidth() * scale;
+		// XXX: Use a hysteresis band, so that zooming around the threshold
+		// does not repeatedly realize and release the nested graph.
+		if (!getContentChildrenUnmodifiable().isEmpty()) {
+			return width >= nestedGraphRealizationThreshold * NESTED_GRAPH_RELEASE_RATIO;
+		}
+		return width > nestedGraphRealizationThreshold;
+	}
+
 	/**
 	 * Returns <code>true</code> if this {@link NodePart} contains a nested
 	 * {@link Graph}. Otherwise, <code>false</code> is returned.
@@ -552,6 +672,84 @@ public class NodePart extends AbstractContentPart<Group>
 		return getContent().getNestedGraph() != null;
 	}
 
+	/**
+	 * Refreshes only those aspects of the visual that are affected by a change
+	 * of the attribute with the given key, so that not every attribute change
+	 * requires a complete {@link #refreshVisual()}. Attributes that do not
+	 * affect the visual of this {@link NodePart} (e.g. those of external
+	 * labels) are ignored.
+	 *
+	 * @param attributeKey
+	 *            The key of the attribute that changed.
+	 * @return <code>true</code> if the change was handled, <code>false</code>
+	 *         if a complete refresh of the visual is needed.
+	 * @since 5.1
+	 */
+	protected boolean refreshAttribute(String attributeKey) {
+		if (ZestProperties.CSS_CLASS__NE.equals(attributeKey)) {
+			refreshCssClass();
+		} else if (ZestProperties.CSS_ID__NE.equals(attributeKey)) {
+			refreshCssId();
+		} else if (ZestProperties.SHAPE_CSS_STYLE__N.equals(attributeKey)) {
+			refreshShapeCssStyle();
+		} else if (ZestProperties.LABEL_CSS_STYLE__NE.equals(attributeKey)) {
+			refreshLabelCssStyle();
+			refreshSize();
+		} else if (ZestProperties.LABEL__NE.equals(attributeKey)) {
+			refreshLabel();
+			refreshSize();
+		} else if (ZestProperties.ICON__N.equals(attributeKey)) {
+			refreshIcon();
+			refreshSize();
+		} else if (ZestProperties.TOOLTIP__N.equals(attributeKey)) {
+			refreshTooltip();
+		} else if (ZestProperties.POSITION__N.equals(attributeKey)) {
+			refreshPosition();
+		} else if (ZestProperties.SIZE__N.equals(attributeKey)) {
+			refreshSize();
+		} else if (!IRRELEVANT_ATTRIBUTES.contains(attributeKey)) {
+			// the shape or an unknown attribute changed
+			return false;
+		}
+		return true;
+	}
+
+	private void refreshCssClass() {
+		List<String> cssClasses = new ArrayList<>();
+		cssClasses.add(CSS_CLASS);
+		if (getContent().attributesProperty().containsKey(ZestProperties.CSS_CLASS__NE)) {
+			cssClasses.add(ZestProperties.getCssClass(getContent()));
+		}
+		if (!getVisual().getStyleClass().equals(cssClasses)) {
+			getVisual().getStyleClass().setAll(cssClasses);
+		}
+	}
+
+	private void refreshCssId() {
+		String id = null;
+		if (getContent().attributesProperty().containsKey(ZestProperties.CSS_ID__NE)) {
+			id = ZestProperties.getCssId(getContent());
+		}
+		if (getVisual().getId() != id || id != null && !id.equals(getVisual().getId())) {
+			getVisual().setId(id);
+		}
+	}
+
+	// hidden icon and label are excluded from layout and rendering
+	private void refreshDetailVisibility() {
+		if (hbox == null) {
+			return;
+		}
+		if (iconImageView.isVisible() != iconVisible) {
+			iconImageView.setManaged(iconVisible);
+			iconImageView.setVisible(iconVisible);
+		}
+		if (labelText.isVisible() != labelVisible) {
+			labelText.setManaged(labelVisible);
+			labelText.setVisible(labelVisible);
+		}
+	}
+
 	/**
 	 * If the given <i>icon</i> is an {@link Image}, that {@link Image} will be
 	 * used as the icon of this {@link NodePart}.
@@ -576,10 +774,135 @@ public class NodePart extends AbstractContentPart<Group>
 		}
 	}
 
+	private void refreshLabelCssStyle() {
+		String style = null;
+		if (getContent().attributesProperty().containsKey(ZestProperties.LABEL_CSS_STYLE__NE)) {
+			style = ZestProperties.getLabelCssStyle(getContent());
+		}
+		setCssStyle(getLabelText(), style);
+	}
+
+	private void refreshNesting() {
+		refreshNestingObservers(isActive() && isNesting());
+		if (vbox == null) {
+			return;
+		}
+		if (getShape() != null && DEFAULT_SHAPE_ROLE.equals(getShape().getUserData()) || isNesting()) {
+			vbox.setPadding(new Insets(DEFAULT_SHAPE_PADDING));
+		} else {
+			vbox.setPadding(Insets.EMPTY);
+		}
+		if (isNesting()) {
+			if (!vbox.getChildren().contains(nestedContentAnchorPane)) {
+				vbox.getChildren().add(nestedContentAnchorPane);
+				if (vbox.getPrefWidth() == Region.USE_COMPUTED_SIZE
+						&& vbox.getPrefHeight() == Region.USE_COMPUTED_SIZE) {
+					vbox.setPrefSize(DEFAULT_OUTER_LAYOUT_CONTAINER_WIDTH_NESTING,
+							DEFAULT_OUTER_LAYOUT_CONTAINER_HEIGHT_NESTING);
+					vbox.autosize();
+				}
+			}
+			// show the nested graph dependent on the zoom level
+			if (!getChildrenUnmodifiable().isEmpty()) {
+				hideNestedGraphIcon();
+				hideNestedGraphSnapshot();
+			} else if (nestedGraphSnapshot != null) {
+				// show a snapshot of the nested graph (taken when it was
+				// released) when the realization threshold is not reached
+				hideNestedGraphIcon();
+				showNestedGraphSnapshot();
+			} else {
+				// show an icon as a replacement when the realization threshold
+				// is not reached and no snapshot is available
+				showNestedGraphIcon();
+			}
+		} else {
+			hideNestedGraphSnapshot();
+			nestedGraphSnapshot = null;
+			if (vbox.getChildren().contains(nestedContentAnchorPane)) {
+				vbox.getChildren().remove(nestedContentAnchorPane);
+				vbox.setPrefSize(Region.USE_COMPUTED_SIZE, Region.USE_COMPUTED_SIZE);
+				vbox.autosize();
+			}
+		}
+	}
+
+	/**
+	 * Realizes or releases the content of the nested graph, in case the
+	 * on-screen width of the visual of this {@link NodePart} exceeded the
+	 * {@link #getNestedGraphRealizationThreshold() realization threshold} or
+	 * fell below the release threshold. A snapshot of the nested graph is taken
+	 * before it is released.
+	 */
+	private void refreshNestedGraphRealization() {
+		if (!isNesting()) {
+			return;
+		}
+		boolean isRealized = !getContentChildrenUnmodifiable().isEmpty();
+		if (isRealized != isNestedGraphRealizable()) {
+			if (isRealized) {
+				snapshotNestedGraph();
+			}
+			refreshContentChildren();
+			refreshNesting();
+		}
+	}
+
+	/**
+	 * Registers or unregisters the observers for the on-screen size of the
+	 * visual and for the nested graph.
+	 *
+	 * @param observe
+	 *            <code>true</code> if the observers are to be registered,
+	 *            <code>false</code> if they are to be unregistered.
+	 */
+	private void refreshNestingObservers(boolean observe) {
+		if (observe != isObservingVisual) {
+			if (observe) {
+				getVisual().localToSceneTransformProperty().addListener(visualObserver);
+				getVisual().layoutBoundsProperty().addListener(visualObserver);
+			} else {
+				getVisual().localToSceneTransformProperty().removeListener(visualObserver);
+				getVisual().layoutBoundsProperty().removeListener(visualObserver);
+			}
+			isObservingVisual = observe;
+		}
+		Graph nestedGraph = observe ? getContent().getNestedGraph() : null;
+		if (observedNestedGraph != nestedGraph) {
+			if (observedNestedGraph != null) {
+				observedNestedGraph.getNodes().removeListener(nestedGraphObserver);
+				observedNestedGraph.getEdges().removeListener(nestedGraphObserver);
+			}
+			observedNestedGraph = nestedGraph;
+			if (observedNestedGraph != null) {
+				observedNestedGraph.getNodes().addListener(nestedGraphObserver);
+				observedNestedGraph.getEdges().addListener(nestedGraphObserver);
+			}
+		}
+	}
+
+	private void refreshPosition() {
+		Point position = ZestProperties.getPosition(getContent());
+		if (position == null) {
+			position = new Point();
+		}
+		Affine newTransform = new Affine(new Translate(position.x, position.y));
+		if (!NodeUtils.equals(getVisualTransform(), newTransform)) {
+			setVisualTransform(newTransform);
+		}
+	}
+
 	private void refreshShape() {
 		Node shape = ZestProperties.getShape(getContent());
-		if (this.shape != shape && shape != null) {
-			getVisual().getChildren().remove(shape);
+		if (shape == null) {
+			// restore the default shape (in case a shape was specified before)
+			if (DEFAULT_SHAPE_ROLE.equals(this.shape.getUserData())) {
+				return;
+			}
+			shape = createDefaultShape();
+		}
+		if (this.shape != shape) {
+			getVisual().getChildren().remove(this.shape);
 			this.shape = shape;
 			if (shape instanceof GeometryNode) {
 				((GeometryNode<?>) shape).setStrokeType(StrokeType.INSIDE);
@@ -593,6 +916,26 @@ public class NodePart extends AbstractContentPart<Group>
 		}
 	}
 
+	private void refreshShapeCssStyle() {
+		String style = null;
+		if (getContent().attributesProperty().containsKey(ZestProperties.SHAPE_CSS_STYLE__N)) {
+			style = ZestProperties.getShapeCssStyle(getContent());
+		}
+		setCssStyle(getShape(), style);
+	}
+
+	private void refreshSize() {
+		Dimension size = ZestProperties.getSize(getContent());
+		if (size != null) {
+			// XXX: Resize is needed even though the visual size is already
+			// up-to-date, because otherwise a nesting node might be resized to
+			// 0, 0 (unknown reason, need debug).
+			getVisual().resize(size.width, size.height);
+		} else {
+			getVisual().autosize();
+		}
+	}
+
 	/**
 	 * Changes the tooltip of this {@link NodePart} to the given value.
 	 *
@@ -609,6 +952,7 @@ public class NodePart extends AbstractContentPart<Group>
 		} else {
 			if (tooltipNode != null) {
 				Tooltip.uninstall(getVisual(), tooltipNode);
+				tooltipNode = null;
 			}
 		}
 	}
@@ -623,6 +967,77 @@ public class NodePart extends AbstractContentPart<Group>
 		ZestProperties.setPosition(getContent(), new Point(totalTransform.getTx(), totalTransform.getTy()));
 	}
 
+	// XXX: Setting an (equal) style invalidates the CSS of the node and its
+	// children (and thereby the measurement of texts), so it is only applied
+	// if it actually changed.
+	private void setCssStyle(Node node, String style) {
+		if (node == null) {
+			return;
+		}
+		String currentStyle = node.getStyle();
+		if (style == null ? currentStyle != null && !currentStyle.isEmpty() : !style.equals(currentStyle)) {
+			node.setStyle(style);
+		}
+	}
+
+	/**
+	 * Specifies whether the icon of this {@link NodePart} is to be displayed.
+	 * A hidden icon is neither laid out nor rendered, but it keeps its space
+	 * within the node, so that hiding it (e.g. when it is too small to be
+	 * recognized, see
+	 * {@link org.eclipse.gef.zest.fx.behaviors.LevelOfDetailBehavior}) does
+	 * not affect the size of the node.
+	 *
+	 * @param iconVisible
+	 *            <code>true</code> to display the icon, <code>false</code> to
+	 *            hide it.
+	 * @since 5.1
+	 */
+	public void setIconVisible(boolean iconVisible) {
+		if (this.iconVisible != iconVisible) {
+			this.iconVisible = iconVisible;
+			refreshDetailVisibility();
+		}
+	}
+
+	/**
+	 * Specifies whether the label of this {@link NodePart} is to be displayed.
+	 * A hidden label is neither laid out nor rendered, but it keeps its space
+	 * within the node, so that hiding it (e.g. when it is too small to be
+	 * read, see
+	 * {@link org.eclipse.gef.zest.fx.behaviors.LevelOfDetailBehavior}) does
+	 * not affect the size of the node.
+	 *
+	 * @param labelVisible
+	 *            <code>true</code> to display the label, <code>false</code> to
+	 *            hide it.
+	 * @since 5.1
+	 */
+	public void setLabelVisible(boolean labelVisible) {
+		if (this.labelVisible != labelVisible) {
+			this.labelVisible = labelVisible;
+			refreshDetailVisibility();
+		}
+	}
+
+	/**
+	 * Sets the on-screen width that the visual of this {@link NodePart} has to
+	 * exceed, so that the content of the nested {@link Graph} is realized. The
+	 * content is released when falling below 80% of this width.
+	 *
+	 * @param nestedGraphRealizationThreshold
+	 *            The on-screen width above which the nested graph is
+	 *            realized.
+	 * @see #getNestedGraphRealizationThreshold()
+	 * @since 5.1
+	 */
+	public void setNestedGraphRealizationThreshold(double nestedGraphRealizationThreshold) {
+		this.nestedGraphRealizationThreshold = nestedGraphRealizationThreshold;
+		if (isActive()) {
+			refreshNestedGraphRealization();
+		}
+	}
+
 	/**
 	 * Creates the nested graph icon and adds it to the
 	 * {@link #getNestedContentStackPane()}.
@@ -633,4 +1048,31 @@ public class NodePart extends AbstractContentPart<Group>
 			getNestedContentStackPane().getChildren().add(nestedGraphIcon);
 		}
 	}
+
+	/**
+	 * Adds the snapshot of the nested graph to the
+	 * {@link #getNestedContentStackPane()} (if not already displayed).
+	 */
+	private void showNestedGraphSnapshot() {
+		if (!getNestedContentStackPane().getChildren().contains(nestedGraphSnapshot)) {
+			getNestedContentStackPane().getChildren().add(nestedGraphSnapshot);
+		}
+	}
+
+	/**
+	 * Takes a snapshot of the (realized) nested graph, which is displayed
+	 * after the nested graph is released.
+	 */
+	private void snapshotNestedGraph() {
+		Bounds bounds = getNestedContentPane().getBoundsInParent();
+		if (bounds.getWidth() <= 0 || bounds.getHeight() <= 0) {
+			nestedGraphSnapshot = null;
+			return;
+		}
+		SnapshotParameters parameters = new SnapshotParameters();
+		parameters.setFill(Color.TRANSPARENT);
+		nestedGraphSnapshot = new ImageView(getNestedContentPane().snapshot(parameters, null));
+		nestedGraphSnapshot.setFitWidth(bounds.getWidth());
+		nestedGraphSnapshot.setFitHeight(bounds.getHeight());
+	}
 }
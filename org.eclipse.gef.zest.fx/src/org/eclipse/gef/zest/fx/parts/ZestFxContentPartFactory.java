@@ -40,7 +40,6 @@ public class ZestFxContentPartFactory implements IContentPartFactory {
 	@Inject
 	private Injector injector;
 
-	@SuppressWarnings("rawtypes")
 	@Override
 	public IContentPart<? extends Node> createContentPart(Object content, Map<Object, Object> contextMap) {
 		IContentPart<? extends Node> part = null;
@@ -50,14 +49,9 @@ public class ZestFxContentPartFactory implements IContentPartFactory {
 			part = new NodePart();
 		} else if (content instanceof Edge) {
 			part = new EdgePart();
-		} else if (content instanceof Pair && ((Pair) content).getKey() instanceof Edge
-				&& (ZestProperties.LABEL__NE.equals(((Pair) content).getValue())
-						|| ZestProperties.EXTERNAL_LABEL__NE.equals(((Pair) content).getValue())
-						|| ZestProperties.SOURCE_LABEL__E.equals(((Pair) content).getValue())
-						|| ZestProperties.TARGET_LABEL__E.equals(((Pair) content).getValue()))) {
+		} else if (isEdgeLabel(content)) {
 			part = new EdgeLabelPart();
-		} else if (content instanceof Pair && ((Pair) content).getKey() instanceof org.eclipse.gef.graph.Node
-				&& ZestProperties.EXTERNAL_LABEL__NE.equals(((Pair) content).getValue())) {
+		} else if (isNodeLabel(content)) {
 			part = new NodeLabelPart();
 		}
 		if (part != null) {
@@ -78,4 +72,47 @@ public class ZestFxContentPartFactory implements IContentPartFactory {
 		return injector;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * {@link NodePart}s, {@link EdgePart}s, {@link NodeLabelPart}s, and
+	 * {@link EdgeLabelPart}s are recycled, as they re-initialize their visuals
+	 * from the attributes of their content. {@link GraphPart}s are not
+	 * recycled, because their behaviors maintain layout related state. Clients
+	 * that override {@link #createContentPart(Object, Map)} to create other
+	 * parts for some content elements have to override this method
+	 * accordingly.
+	 *
+	 * @since 5.1
+	 */
+	@Override
+	public Class<? extends IContentPart<? extends Node>> getRecyclablePartType(Object content,
+			Map<Object, Object> contextMap) {
+		if (content instanceof org.eclipse.gef.graph.Node) {
+			return NodePart.class;
+		} else if (content instanceof Edge) {
+			return EdgePart.class;
+		} else if (isEdgeLabel(content)) {
+			return EdgeLabelPart.class;
+		} else if (isNodeLabel(content)) {
+			return NodeLabelPart.class;
+		}
+		return null;
+	}
+
+	@SuppressWarnings("rawtypes")
+	private boolean isEdgeLabel(Object content) {
+		return content instanceof Pair && ((Pair) content).getKey() instanceof Edge
+				&& (ZestProperties.LABEL__NE.equals(((Pair) content).getValue())
+						|| ZestProperties.EXTERNAL_LABEL__NE.equals(((Pair) content).getValue())
+						|| ZestProperties.SOURCE_LABEL__E.equals(((Pair) content).getValue())
+						|| ZestProperties.TARGET_LABEL__E.equals(((Pair) content).getValue()));
+	}
+
+	@SuppressWarnings("rawtypes")
+	private boolean isNodeLabel(Object content) {
+		return content instanceof Pair && ((Pair) content).getKey() instanceof org.eclipse.gef.graph.Node
+				&& ZestProperties.EXTERNAL_LABEL__NE.equals(((Pair) content).getValue());
+	}
+
 }
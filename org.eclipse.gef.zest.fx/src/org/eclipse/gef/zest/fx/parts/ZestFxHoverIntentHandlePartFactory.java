@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.mvc.fx.behaviors.AnchoredPartPool;
 import org.eclipse.gef.mvc.fx.parts.DefaultHoverIntentHandlePartFactory;
 import org.eclipse.gef.mvc.fx.parts.IHandlePart;
 import org.eclipse.gef.mvc.fx.parts.IVisualPart;
@@ -48,7 +49,7 @@ public class ZestFxHoverIntentHandlePartFactory extends DefaultHoverIntentHandle
 		List<IHandlePart<? extends Node>> handleParts = new ArrayList<>();
 		if (target instanceof NodePart) {
 			// create prune handle at first vertex
-			HideHoverHandlePart hidePart = injector.getInstance(HideHoverHandlePart.class);
+			HideHoverHandlePart hidePart = AnchoredPartPool.getOrCreate(target, HideHoverHandlePart.class, injector);
 			hidePart.setSegmentsProvider(segmentsProvider);
 			hidePart.setSegmentIndex(0);
 			hidePart.setSegmentParameter(0);
@@ -58,8 +59,8 @@ public class ZestFxHoverIntentHandlePartFactory extends DefaultHoverIntentHandle
 			// neighbors, first
 			HidingModel hidingModel = target.getRoot().getViewer().getAdapter(HidingModel.class);
 			if (hidingModel.hasHiddenNeighbors((NodePart) target)) {
-				ShowHiddenNeighborsHoverHandlePart showPart = injector
-						.getInstance(ShowHiddenNeighborsHoverHandlePart.class);
+				ShowHiddenNeighborsHoverHandlePart showPart = AnchoredPartPool.getOrCreate(target,
+						ShowHiddenNeighborsHoverHandlePart.class, injector);
 				showPart.setSegmentsProvider(segmentsProvider);
 				showPart.setSegmentIndex(1);
 				showPart.setSegmentParameter(0);
@@ -25,6 +25,7 @@ import org.eclipse.gef.geometry.convert.fx.Geometry2FX;
 import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.Line;
 import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.mvc.fx.behaviors.AnchoredPartPool;
 import org.eclipse.gef.mvc.fx.parts.DefaultSelectionFeedbackPartFactory;
 import org.eclipse.gef.mvc.fx.parts.IFeedbackPart;
 import org.eclipse.gef.mvc.fx.parts.IFeedbackPartFactory;
@@ -111,7 +112,7 @@ public class ZestFxSelectionFeedbackPartFactory extends DefaultSelectionFeedback
 				}
 
 			};
-			SelectionLinkFeedbackPart part = injector.getInstance(SelectionLinkFeedbackPart.class);
+			SelectionLinkFeedbackPart part = AnchoredPartPool.getOrCreate(anchored, SelectionLinkFeedbackPart.class, injector);
 			part.setGeometryProvider(linkFeedbackGeometryProvider);
 			return part;
 		}
@@ -181,15 +181,9 @@ public class SemanticZoomPolicy extends ViewportPolicy {
 			super.zoom(true, true, relativeZoom, sceneX, sceneY);
 		}
 
-		// synchronize content children of nesting node parts
-		// TODO: we need to extract the synchronization into a navigation
-		// behavior, so it also works when undoing a navigate operation, or when
-		// navigating graphs via OpenNestedGraphOnDoubleClickPolicy and
-		// OpenParentGraphOnDoubleClickPolicy.
-		for (NodePart nestingNodePart : findNestingNodes()) {
-			nestingNodePart.refreshContentChildren();
-			nestingNodePart.refreshVisual();
-		}
+		// XXX: The content children of nesting node parts (i.e. the nested
+		// graphs) are realized and released by the node parts themselves,
+		// depending on their on-screen size.
 		// System.out.println("zoom - " + (System.nanoTime() - startTimeNanos) /
 		// 1000 / 1000 + "ms");
 	}
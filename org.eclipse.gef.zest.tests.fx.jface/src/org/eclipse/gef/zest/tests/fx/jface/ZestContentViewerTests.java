@@ -16,11 +16,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -35,6 +38,7 @@ import org.eclipse.gef.zest.fx.jface.IGraphAttributesProvider;
 import org.eclipse.gef.zest.fx.jface.IGraphContentProvider;
 import org.eclipse.gef.zest.fx.jface.ZestContentViewer;
 import org.eclipse.gef.zest.fx.jface.ZestFxJFaceModule;
+import org.eclipse.gef.zest.fx.parts.NodePart;
 import org.eclipse.jface.viewers.IColorProvider;
 import org.eclipse.jface.viewers.IFontProvider;
 import org.eclipse.jface.viewers.ISelectionChangedListener;
@@ -54,7 +58,9 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import javafx.collections.MapChangeListener;
 import javafx.scene.Node;
+import javafx.scene.Parent;
 
 public class ZestContentViewerTests {
 
@@ -88,6 +94,39 @@ public class ZestContentViewerTests {
 		}
 	}
 
+	static class MutableContentProvider implements IGraphContentProvider {
+		private Map<Object, List<Object>> adjacentNodes = new LinkedHashMap<>();
+		private Map<Object, List<Object>> nestedGraphNodes = new HashMap<>();
+
+		@Override
+		public void dispose() {
+		}
+
+		@Override
+		public Object[] getAdjacentNodes(Object node) {
+			return adjacentNodes.containsKey(node) ? adjacentNodes.get(node).toArray() : null;
+		}
+
+		@Override
+		public Object[] getNestedGraphNodes(Object node) {
+			return nestedGraphNodes.containsKey(node) ? nestedGraphNodes.get(node).toArray() : null;
+		}
+
+		@Override
+		public Object[] getNodes() {
+			return adjacentNodes.keySet().toArray();
+		}
+
+		@Override
+		public boolean hasNestedGraph(Object node) {
+			return nestedGraphNodes.containsKey(node);
+		}
+
+		@Override
+		public void inputChanged(org.eclipse.jface.viewers.Viewer viewer, Object oldInput, Object newInput) {
+		}
+	}
+
 	static class MyContentProvider implements IGraphContentProvider {
 		public static String alpha() {
 			return "alpha";
@@ -303,6 +342,22 @@ public class ZestContentViewerTests {
 
 	private static Display display;
 
+	// determines whether the given visual contains an icon that replaces the
+	// content of a nested graph
+	private static boolean containsNestedGraphIcon(Node visual) {
+		if (visual instanceof NodePart.NestedGraphIcon) {
+			return true;
+		}
+		if (visual instanceof Parent) {
+			for (Node child : ((Parent) visual).getChildrenUnmodifiable()) {
+				if (containsNestedGraphIcon(child)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	@AfterClass
 	public static void cleanUpClass() {
 		display.dispose();
@@ -336,6 +391,29 @@ public class ZestContentViewerTests {
 		viewer.setLabelProvider(new MyLabelProvider());
 	}
 
+	@Test
+	public void test_add() {
+		MutableContentProvider contentProvider = new MutableContentProvider();
+		contentProvider.adjacentNodes.put("1", new ArrayList<>());
+		viewer.setContentProvider(contentProvider);
+		viewer.setInput(new Object());
+		Graph rootGraph = (Graph) viewer.getContentViewer().getContents().get(0);
+		org.eclipse.gef.graph.Node node1 = viewer.getContentNodeMap().get("1");
+
+		// add a node that is connected to the existing one (in both directions)
+		contentProvider.adjacentNodes.put("2", new ArrayList<>(Arrays.asList((Object) "1")));
+		contentProvider.adjacentNodes.get("1").add("2");
+		viewer.add("2");
+		org.eclipse.gef.graph.Node node2 = viewer.getContentNodeMap().get("2");
+		assertNotNull(node2);
+		assertEquals(rootGraph, node2.getGraph());
+		assertEquals(2, rootGraph.getEdges().size());
+		assertEquals(1, node1.getOutgoingEdges().size());
+		assertEquals(1, node2.getOutgoingEdges().size());
+		// the existing node is preserved
+		assertEquals(node1, viewer.getContentNodeMap().get("1"));
+	}
+
 	@Test
 	public void test_colorProvider() {
 		viewer.setInput(new Object());
@@ -453,6 +531,78 @@ public class ZestContentViewerTests {
 		viewer.setInput(new Object());
 	}
 
+	@Test
+	public void test_refreshElement() {
+		MutableContentProvider contentProvider = new MutableContentProvider();
+		contentProvider.adjacentNodes.put("1", new ArrayList<>(Arrays.asList((Object) "2")));
+		contentProvider.adjacentNodes.put("2", new ArrayList<>());
+		contentProvider.adjacentNodes.put("3", new ArrayList<>());
+		viewer.setContentProvider(contentProvider);
+		viewer.setInput(new Object());
+		Graph rootGraph = (Graph) viewer.getContentViewer().getContents().get(0);
+		org.eclipse.gef.graph.Node node1 = viewer.getContentNodeMap().get("1");
+		Edge edge12 = rootGraph.getEdges().get(0);
+
+		// add an edge; the existing edge and nodes are preserved
+		contentProvider.adjacentNodes.get("1").add("3");
+		viewer.refresh("1");
+		assertEquals(node1, viewer.getContentNodeMap().get("1"));
+		assertEquals(2, rootGraph.getEdges().size());
+		assertTrue(rootGraph.getEdges().contains(edge12));
+
+		// remove the original edge
+		contentProvider.adjacentNodes.get("1").remove("2");
+		viewer.refresh("1");
+		assertEquals(1, rootGraph.getEdges().size());
+		assertFalse(rootGraph.getEdges().contains(edge12));
+		assertEquals(viewer.getContentNodeMap().get("3"), rootGraph.getEdges().get(0).getTarget());
+	}
+
+	@Test
+	public void test_refreshNestedGraph() {
+		MutableContentProvider contentProvider = new MutableContentProvider();
+		contentProvider.adjacentNodes.put("1", new ArrayList<>());
+		viewer.setContentProvider(contentProvider);
+		viewer.setInput(new Object());
+		org.eclipse.gef.graph.Node node1 = viewer.getContentNodeMap().get("1");
+		IContentPart<? extends Node> part1 = viewer.getContentViewer().getContentPartMap().get(node1);
+		assertFalse(containsNestedGraphIcon(part1.getVisual()));
+
+		// the part of the nesting node reflects the created nested graph
+		contentProvider.nestedGraphNodes.put("1", new ArrayList<>(Arrays.asList((Object) "1.1")));
+		viewer.refresh("1");
+		assertNotNull(node1.getNestedGraph());
+		assertEquals(node1.getNestedGraph(), viewer.getContentNodeMap().get("1.1").getGraph());
+		assertSame(part1, viewer.getContentViewer().getContentPartMap().get(node1));
+		assertTrue(containsNestedGraphIcon(part1.getVisual()));
+
+		// as well as the removed one
+		contentProvider.nestedGraphNodes.remove("1");
+		viewer.refresh("1");
+		assertNull(node1.getNestedGraph());
+		assertNull(viewer.getContentNodeMap().get("1.1"));
+		assertFalse(containsNestedGraphIcon(part1.getVisual()));
+	}
+
+	@Test
+	public void test_remove() {
+		MutableContentProvider contentProvider = new MutableContentProvider();
+		contentProvider.adjacentNodes.put("1", new ArrayList<>(Arrays.asList((Object) "2")));
+		contentProvider.adjacentNodes.put("2", new ArrayList<>(Arrays.asList((Object) "3")));
+		contentProvider.adjacentNodes.put("3", new ArrayList<>());
+		viewer.setContentProvider(contentProvider);
+		viewer.setInput(new Object());
+		Graph rootGraph = (Graph) viewer.getContentViewer().getContents().get(0);
+		org.eclipse.gef.graph.Node node1 = viewer.getContentNodeMap().get("1");
+
+		// removing a node removes its incident edges
+		viewer.remove("2");
+		assertNull(viewer.getContentNodeMap().get("2"));
+		assertEquals(2, rootGraph.getNodes().size());
+		assertTrue(rootGraph.getEdges().isEmpty());
+		assertEquals(node1, viewer.getContentNodeMap().get("1"));
+	}
+
 	@Test
 	public void test_selectionModel() {
 		final List<Object> expectation = new ArrayList<>();
@@ -509,4 +659,70 @@ public class ZestContentViewerTests {
 		assertEquals(MyContentProvider.second().toUpperCase(), ZestProperties.getTooltip(node));
 	}
 
+	@Test
+	public void test_update() {
+		final String[] prefix = new String[] { "" };
+		viewer.setLabelProvider(new MyLabelProvider() {
+			@Override
+			public String getText(Object element) {
+				return prefix[0] + super.getText(element);
+			}
+		});
+		viewer.setInput(new Object());
+		org.eclipse.gef.graph.Node firstNode = viewer.getContentNodeMap().get(MyContentProvider.first());
+		javafx.scene.image.Image icon = ZestProperties.getIcon(firstNode);
+		final List<String> changedKeys = new ArrayList<>();
+		firstNode.attributesProperty().addListener(new MapChangeListener<String, Object>() {
+			@Override
+			public void onChanged(MapChangeListener.Change<? extends String, ? extends Object> change) {
+				changedKeys.add(change.getKey());
+			}
+		});
+
+		// unchanged values (including the converted icon) are not reported
+		viewer.update(MyContentProvider.first(), null);
+		assertTrue(changedKeys.isEmpty());
+		assertSame(icon, ZestProperties.getIcon(firstNode));
+
+		// while a changed label is
+		prefix[0] = "updated ";
+		viewer.update(MyContentProvider.first(), null);
+		assertEquals(Collections.singletonList(ZestProperties.LABEL__NE), changedKeys);
+		assertEquals("updated " + MyContentProvider.first(), ZestProperties.getLabel(firstNode));
+	}
+
+	@Test
+	public void test_updateRemovesAttributes() {
+		final boolean[] provided = new boolean[] { true };
+		viewer.setLabelProvider(new MyLabelProvider() {
+			@Override
+			public Image getImage(Object element) {
+				return provided[0] ? super.getImage(element) : null;
+			}
+
+			@Override
+			public Map<String, Object> getNodeAttributes(Object node) {
+				return provided[0] ? super.getNodeAttributes(node) : Collections.<String, Object> emptyMap();
+			}
+
+			@Override
+			public String getToolTipText(Object element) {
+				return provided[0] ? super.getToolTipText(element) : null;
+			}
+		});
+		viewer.setInput(new Object());
+		org.eclipse.gef.graph.Node firstNode = viewer.getContentNodeMap().get(MyContentProvider.first());
+		assertNotNull(ZestProperties.getIcon(firstNode));
+		assertNotNull(ZestProperties.getTooltip(firstNode));
+		assertTrue(firstNode.attributesProperty().containsKey("node"));
+
+		// attributes that are no longer provided are removed
+		provided[0] = false;
+		viewer.update(MyContentProvider.first(), null);
+		assertNull(ZestProperties.getIcon(firstNode));
+		assertNull(ZestProperties.getTooltip(firstNode));
+		assertFalse(firstNode.attributesProperty().containsKey("node"));
+		assertEquals(MyContentProvider.first(), ZestProperties.getLabel(firstNode));
+	}
+
 }
@@ -17,6 +17,9 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses({ NodeLayoutBehaviorTests.class })
+@SuiteClasses({ AttributeRefreshTests.class, ContentPartRecyclingTests.class, EdgeLayerTests.class,
+		GraphLayoutBehaviorTests.class, GraphPartTests.class, HidingBehaviorTests.class, HidingModelTests.class,
+		LevelOfDetailBehaviorTests.class, NavigationModelTests.class, NestedGraphRealizationTests.class,
+		NodeLayoutBehaviorTests.class })
 public class AllTests {
 }
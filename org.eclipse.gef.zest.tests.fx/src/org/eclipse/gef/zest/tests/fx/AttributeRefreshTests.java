@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.parts.RefreshScheduler;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
+import org.eclipse.gef.zest.fx.ZestFxModule;
+import org.eclipse.gef.zest.fx.ZestProperties;
+import org.eclipse.gef.zest.fx.parts.EdgePart;
+import org.eclipse.gef.zest.fx.parts.NodePart;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+import javafx.scene.shape.Circle;
+import javafx.scene.text.Text;
+
+/**
+ * Tests for the refresh of the affected visual aspects of {@link NodePart} and
+ * {@link EdgePart} upon attribute changes.
+ *
+ * @author agent
+ *
+ */
+public class AttributeRefreshTests {
+
+	private static IDomain domain;
+	private static IViewer viewer;
+
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
+	private Node a;
+	private Edge ab;
+	private RefreshScheduler refreshScheduler;
+
+	@Before
+	public void activate() throws Throwable {
+		if (domain == null) {
+			domain = Guice.createInjector(new ZestFxModule()).getInstance(IDomain.class);
+			viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+			ctx.createScene(viewer.getCanvas(), 400, 400);
+		}
+		refreshScheduler = viewer.getAdapter(RefreshScheduler.class);
+		a = new Node();
+		Node b = new Node();
+		ab = new Edge(a, b);
+		Graph graph = new Graph.Builder().nodes(a, b).edges(ab).build();
+		ctx.runAndWait(() -> {
+			domain.activate();
+			viewer.getContents().setAll(graph);
+			refreshScheduler.flush();
+		});
+	}
+
+	@After
+	public void deactivate() throws Throwable {
+		ctx.runAndWait(() -> {
+			viewer.getContents().clear();
+			domain.deactivate();
+		});
+	}
+
+	private EdgePart getEdgePart() {
+		return (EdgePart) viewer.getContentPartMap().get(ab);
+	}
+
+	private NodePart getNodePart() {
+		return (NodePart) viewer.getContentPartMap().get(a);
+	}
+
+	@Test
+	public void edgeCurveCssStyle() throws Throwable {
+		ctx.runAndWait(() -> {
+			ZestProperties.setCurveCssStyle(ab, "-fx-stroke: red;");
+			assertEquals("-fx-stroke: red;", getEdgePart().getVisual().getCurve().getStyle());
+			assertFalse(refreshScheduler.isScheduled(getEdgePart()));
+		});
+	}
+
+	@Test
+	public void edgeUnknownAttribute() throws Throwable {
+		ctx.runAndWait(() -> {
+			ab.getAttributes().put("custom", true);
+			assertTrue(refreshScheduler.isScheduled(getEdgePart()));
+		});
+	}
+
+	@Test
+	public void nodeExternalLabel() throws Throwable {
+		ctx.runAndWait(() -> {
+			// external labels are visualized by separate parts
+			ZestProperties.setExternalLabel(a, "external");
+			ZestProperties.setExternalLabelCssStyle(a, "-fx-fill: red;");
+			assertFalse(refreshScheduler.isScheduled(getNodePart()));
+		});
+	}
+
+	@Test
+	public void nodeLabel() throws Throwable {
+		ctx.runAndWait(() -> {
+			ZestProperties.setLabel(a, "label");
+			ZestProperties.setLabelCssStyle(a, "-fx-fill: red;");
+			Text text = (Text) getNodePart().getVisual().lookup("." + NodePart.CSS_CLASS_LABEL);
+			assertEquals("label", text.getText());
+			assertEquals("-fx-fill: red;", text.getStyle());
+			assertFalse(refreshScheduler.isScheduled(getNodePart()));
+		});
+	}
+
+	@Test
+	public void nodeShape() throws Throwable {
+		Circle shape = new Circle(10);
+		ctx.runAndWait(() -> {
+			// a changed shape requires a complete refresh
+			ZestProperties.setShape(a, shape);
+			assertTrue(refreshScheduler.isScheduled(getNodePart()));
+			refreshScheduler.flush();
+			assertSame(shape, getNodePart().getShape());
+		});
+	}
+}
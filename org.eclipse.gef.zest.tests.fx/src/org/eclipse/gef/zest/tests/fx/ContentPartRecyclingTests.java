@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.mvc.fx.behaviors.ContentPartPool;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
+import org.eclipse.gef.zest.fx.ZestFxModule;
+import org.eclipse.gef.zest.fx.ZestProperties;
+import org.eclipse.gef.zest.fx.parts.EdgePart;
+import org.eclipse.gef.zest.fx.parts.NodePart;
+import org.eclipse.gef.zest.fx.parts.ZestFxContentPartFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Text;
+
+/**
+ * Tests for the recycling of the parts that are created by the
+ * {@link ZestFxContentPartFactory}.
+ *
+ * @author agent
+ *
+ */
+public class ContentPartRecyclingTests {
+
+	private static IDomain domain;
+	private static IViewer viewer;
+
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
+	@Before
+	public void activate() throws Throwable {
+		if (domain == null) {
+			domain = Guice.createInjector(new ZestFxModule()).getInstance(IDomain.class);
+			viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+			ctx.createScene(viewer.getCanvas(), 400, 400);
+		}
+		ctx.runAndWait(() -> {
+			// start with an empty pool, so that the recycled parts are known
+			viewer.getAdapter(ContentPartPool.class).clear();
+			domain.activate();
+		});
+	}
+
+	@After
+	public void deactivate() throws Throwable {
+		ctx.runAndWait(() -> {
+			viewer.getContents().clear();
+			domain.deactivate();
+		});
+	}
+
+	@Test
+	public void recycleEdgePart() throws Throwable {
+		Node a = new Node();
+		Node b = new Node();
+		Node c = new Node();
+		Edge ab = new Edge(a, b);
+		ZestProperties.setCssClass(ab, "custom");
+		ZestProperties.setCurveCssStyle(ab, "-fx-stroke: red;");
+		ZestProperties.setTargetDecoration(ab, new Rectangle(5, 5));
+		Graph graph = new Graph.Builder().nodes(a, b, c).edges(ab).build();
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(graph);
+		});
+		EdgePart edgePart = (EdgePart) viewer.getContentPartMap().get(ab);
+
+		// the part of the removed edge is recycled for the added one
+		Edge bc = new Edge(b, c);
+		ctx.runAndWait(() -> {
+			graph.getEdges().remove(ab);
+			graph.getEdges().add(bc);
+		});
+		assertNull(viewer.getContentPartMap().get(ab));
+		assertSame(edgePart, viewer.getContentPartMap().get(bc));
+		assertSame(bc, edgePart.getContent());
+		assertTrue(edgePart.isActive());
+
+		// the visual does not reflect the attributes of the removed edge
+		assertFalse(edgePart.getVisual().getStyleClass().contains("custom"));
+		assertTrue(edgePart.getVisual().getCurve().getStyle() == null
+				|| edgePart.getVisual().getCurve().getStyle().isEmpty());
+		assertNull(edgePart.getVisual().getEndDecoration());
+		assertTrue(edgePart.getAnchoragesUnmodifiable().containsKey(viewer.getContentPartMap().get(b)));
+		assertTrue(edgePart.getAnchoragesUnmodifiable().containsKey(viewer.getContentPartMap().get(c)));
+	}
+
+	@Test
+	public void recycleNodePart() throws Throwable {
+		Node a = new Node();
+		ZestProperties.setLabel(a, "a");
+		ZestProperties.setShapeCssStyle(a, "-fx-fill: red;");
+		ZestProperties.setTooltip(a, "tooltip");
+		Node b = new Node();
+		ZestProperties.setLabel(b, "b");
+		Graph graph = new Graph.Builder().nodes(a, b).build();
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(graph);
+		});
+		NodePart nodePart = (NodePart) viewer.getContentPartMap().get(a);
+
+		// the part of the removed node is recycled for the added one
+		Node c = new Node();
+		ZestProperties.setLabel(c, "c");
+		ctx.runAndWait(() -> {
+			graph.getNodes().remove(a);
+			graph.getNodes().add(c);
+		});
+		assertNull(viewer.getContentPartMap().get(a));
+		assertSame(nodePart, viewer.getContentPartMap().get(c));
+		assertSame(c, nodePart.getContent());
+		assertTrue(nodePart.isActive());
+
+		// the visual reflects the attributes of the added node
+		assertEquals("c", ((Text) nodePart.getVisual().lookup("." + NodePart.CSS_CLASS_LABEL)).getText());
+		assertTrue(nodePart.getShape().getStyle() == null || nodePart.getShape().getStyle().isEmpty());
+	}
+
+}
@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.fx.anchors.DynamicAnchor;
+import org.eclipse.gef.fx.anchors.StaticAnchor;
+import org.eclipse.gef.fx.nodes.PolylineLayer;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.models.HoverModel;
+import org.eclipse.gef.mvc.fx.parts.RefreshScheduler;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
+import org.eclipse.gef.zest.fx.ZestFxModule;
+import org.eclipse.gef.zest.fx.ZestProperties;
+import org.eclipse.gef.zest.fx.handlers.HoverEdgeLayerOnHoverHandler;
+import org.eclipse.gef.zest.fx.parts.EdgePart;
+import org.eclipse.gef.zest.fx.parts.GraphPart;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+import javafx.scene.paint.Color;
+
+/**
+ * Tests for rendering edges into the edge layer of a {@link GraphPart} (see
+ * {@link ZestProperties#CANVAS_EDGES__G}).
+ *
+ * @author agent
+ *
+ */
+public class EdgeLayerTests {
+
+	private static IDomain domain;
+	private static IViewer viewer;
+
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
+	private Graph graph;
+	private Edge ab;
+	private Edge bc;
+
+	@Before
+	public void activate() throws Throwable {
+		if (domain == null) {
+			domain = Guice.createInjector(new ZestFxModule()).getInstance(IDomain.class);
+			viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+			ctx.createScene(viewer.getCanvas(), 400, 400);
+		}
+		Node a = new Node();
+		Node b = new Node();
+		Node c = new Node();
+		ab = new Edge(a, b);
+		bc = new Edge(b, c);
+		graph = new Graph.Builder().nodes(a, b, c).edges(ab, bc).build();
+		ctx.runAndWait(() -> {
+			domain.activate();
+		});
+	}
+
+	@After
+	public void deactivate() throws Throwable {
+		ctx.runAndWait(() -> {
+			viewer.getContents().clear();
+			domain.deactivate();
+		});
+	}
+
+	private EdgePart getEdgePart(Edge edge) {
+		return (EdgePart) viewer.getContentPartMap().get(edge);
+	}
+
+	private GraphPart getGraphPart() {
+		return (GraphPart) viewer.getContentPartMap().get(graph);
+	}
+
+	private boolean isInGraphVisual(EdgePart edgePart) {
+		return getGraphPart().getVisual().getChildren().contains(edgePart.getVisual());
+	}
+
+	@Test
+	public void connectionsNotRealizedOnEdgeLayer() throws Throwable {
+		ZestProperties.setCanvasEdges(graph, true);
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(graph);
+		});
+
+		GraphPart graphPart = getGraphPart();
+		assertNotNull(graphPart.getEdgeLayer());
+		assertNotNull(graphPart.getAdapter(HoverEdgeLayerOnHoverHandler.class));
+		for (Edge edge : graph.getEdges()) {
+			EdgePart edgePart = getEdgePart(edge);
+			assertFalse(edgePart.isConnectionRealized());
+			assertFalse(isInGraphVisual(edgePart));
+			// no anchors are created for edges on the edge layer
+			assertTrue(edgePart.getVisual().getStartAnchor() instanceof StaticAnchor);
+			assertTrue(edgePart.getVisual().getEndAnchor() instanceof StaticAnchor);
+			assertTrue(graphPart.getEdgeLayer().isContained(edge));
+		}
+	}
+
+	@Test
+	public void curveStyleOnEdgeLayer() throws Throwable {
+		ZestProperties.setCanvasEdges(graph, true);
+		ZestProperties.setCurveCssStyle(ab, "-fx-stroke: red; -fx-stroke-width: 3");
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(graph);
+		});
+		PolylineLayer edgeLayer = getGraphPart().getEdgeLayer();
+		// the curve CSS style is applied
+		assertEquals(Color.RED, edgeLayer.getStroke(ab));
+		assertEquals(3, edgeLayer.getStrokeWidth(ab), 0);
+		// the style sheet is applied to edges without curve CSS style
+		assertEquals(Color.rgb(99, 123, 71), edgeLayer.getStroke(bc));
+		assertEquals(1.5, edgeLayer.getStrokeWidth(bc), 0);
+
+		// style changes are propagated to the edge layer
+		ctx.runAndWait(() -> {
+			ZestProperties.setCurveCssStyle(ab, "-fx-stroke: blue;");
+			viewer.getAdapter(RefreshScheduler.class).flush();
+		});
+		assertEquals(Color.BLUE, edgeLayer.getStroke(ab));
+		assertEquals(1.5, edgeLayer.getStrokeWidth(ab), 0);
+	}
+
+	@Test
+	public void hoverRealizesConnection() throws Throwable {
+		ZestProperties.setCanvasEdges(graph, true);
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(graph);
+		});
+		EdgePart edgePart = getEdgePart(ab);
+		HoverModel hoverModel = viewer.getAdapter(HoverModel.class);
+
+		// hovered edge is realized and removed from the edge layer
+		ctx.runAndWait(() -> {
+			hoverModel.setHover(edgePart);
+		});
+		assertTrue(edgePart.isConnectionRealized());
+		assertTrue(isInGraphVisual(edgePart));
+		assertTrue(edgePart.getVisual().getStartAnchor() instanceof DynamicAnchor);
+		assertFalse(getGraphPart().getEdgeLayer().isContained(ab));
+		// other edges are not affected
+		assertFalse(getEdgePart(bc).isConnectionRealized());
+
+		// unhovered edge is released again
+		ctx.runAndWait(() -> {
+			hoverModel.setHover(viewer.getRootPart());
+		});
+		assertFalse(edgePart.isConnectionRealized());
+		assertFalse(isInGraphVisual(edgePart));
+		assertTrue(edgePart.getVisual().getStartAnchor() instanceof StaticAnchor);
+		assertTrue(getGraphPart().getEdgeLayer().isContained(ab));
+	}
+
+	@Test
+	public void toggleCanvasEdges() throws Throwable {
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(graph);
+		});
+		GraphPart graphPart = getGraphPart();
+		// without edge layer, all connections are realized
+		assertNull(graphPart.getEdgeLayer());
+		assertNull(graphPart.getAdapter(HoverEdgeLayerOnHoverHandler.class));
+		assertTrue(getEdgePart(ab).isConnectionRealized());
+		assertTrue(isInGraphVisual(getEdgePart(ab)));
+
+		ctx.runAndWait(() -> {
+			ZestProperties.setCanvasEdges(graph, true);
+			viewer.getAdapter(RefreshScheduler.class).flush();
+		});
+		assertNotNull(graphPart.getEdgeLayer());
+		assertNotNull(graphPart.getAdapter(HoverEdgeLayerOnHoverHandler.class));
+		assertFalse(getEdgePart(ab).isConnectionRealized());
+		assertFalse(isInGraphVisual(getEdgePart(bc)));
+		// edge layer and node visuals remain
+		assertEquals(1 + graph.getNodes().size(), graphPart.getVisual().getChildren().size());
+
+		ctx.runAndWait(() -> {
+			ZestProperties.setCanvasEdges(graph, false);
+			viewer.getAdapter(RefreshScheduler.class).flush();
+		});
+		assertNull(graphPart.getEdgeLayer());
+		assertNull(graphPart.getAdapter(HoverEdgeLayerOnHoverHandler.class));
+		assertTrue(getEdgePart(ab).isConnectionRealized());
+		assertTrue(getEdgePart(bc).getVisual().getStartAnchor() instanceof DynamicAnchor);
+		assertEquals(graph.getNodes().size() + graph.getEdges().size(), graphPart.getVisual().getChildren().size());
+	}
+}
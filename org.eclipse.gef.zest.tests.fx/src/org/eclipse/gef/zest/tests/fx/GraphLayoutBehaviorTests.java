@@ -0,0 +1,288 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.algorithms.GridLayoutAlgorithm;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
+import org.eclipse.gef.zest.fx.ZestFxModule;
+import org.eclipse.gef.zest.fx.ZestProperties;
+import org.eclipse.gef.zest.fx.behaviors.GraphLayoutBehavior;
+import org.eclipse.gef.zest.fx.models.HidingModel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+import javafx.util.Duration;
+
+/**
+ * Tests for the asynchronous and incremental layout passes of the
+ * {@link GraphLayoutBehavior}.
+ *
+ * @author agent
+ *
+ */
+public class GraphLayoutBehaviorTests {
+
+	/**
+	 * Places all nodes (regardless of whether they are movable) at the same
+	 * x-coordinate. A pass can be blocked until it is released (or
+	 * interrupted), or fail.
+	 */
+	private static class BlockingLayoutAlgorithm implements ILayoutAlgorithm {
+		volatile double x;
+		volatile CountDownLatch block;
+		volatile CountDownLatch started;
+		volatile boolean interrupted;
+		volatile RuntimeException failure;
+		volatile int fixedNodes;
+
+		@Override
+		public void applyLayout(LayoutContext layoutContext, boolean clean) {
+			double x = this.x;
+			CountDownLatch block = this.block;
+			if (started != null) {
+				started.countDown();
+			}
+			if (block != null) {
+				try {
+					block.await();
+				} catch (InterruptedException e) {
+					interrupted = true;
+					Thread.currentThread().interrupt();
+				}
+			}
+			if (failure != null) {
+				throw failure;
+			}
+			// results of interrupted passes have to be discarded
+			int fixedNodes = 0;
+			for (Node node : layoutContext.getNodes()) {
+				if (!LayoutProperties.isMovable(node)) {
+					fixedNodes++;
+				}
+				LayoutProperties.setLocation(node, new Point(x, 0));
+			}
+			this.fixedNodes = fixedNodes;
+		}
+	}
+
+	private static IDomain domain;
+	private static IViewer viewer;
+
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
+	private BlockingLayoutAlgorithm algorithm;
+	private Node node;
+	private Node other;
+	private GraphLayoutBehavior behavior;
+
+	@Before
+	public void activate() throws Throwable {
+		if (domain == null) {
+			domain = Guice.createInjector(new ZestFxModule()).getInstance(IDomain.class);
+			viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+			ctx.createScene(viewer.getCanvas(), 400, 400);
+		}
+		algorithm = new BlockingLayoutAlgorithm();
+		algorithm.x = 10;
+		node = new Node();
+		other = new Node();
+		Graph graph = new Graph.Builder().nodes(node, other).build();
+		ZestProperties.setLayoutAlgorithm(graph, algorithm);
+		ctx.runAndWait(() -> {
+			domain.activate();
+			viewer.getContents().setAll(graph);
+			behavior = viewer.getContentPartMap().get(graph).getAdapter(GraphLayoutBehavior.class);
+			behavior.setAsynchronousLayoutThreshold(0);
+			behavior.setAnimationDuration(Duration.ZERO);
+		});
+		// the initial layout pass is performed once the viewport is sized
+		waitFor(() -> ZestProperties.getPosition(node) != null);
+	}
+
+	@After
+	public void deactivate() throws Throwable {
+		ctx.runAndWait(() -> {
+			if (!domain.isActive()) {
+				domain.activate();
+			}
+			viewer.getContents().clear();
+			domain.deactivate();
+		});
+	}
+
+	private Point getPosition(Node node) throws Throwable {
+		Point[] position = new Point[1];
+		ctx.runAndWait(() -> {
+			position[0] = ZestProperties.getPosition(node);
+		});
+		return position[0];
+	}
+
+	private void startBlockedLayout(double x) throws Throwable {
+		algorithm.x = x;
+		algorithm.block = new CountDownLatch(1);
+		algorithm.started = new CountDownLatch(1);
+		ctx.runAndWait(() -> {
+			behavior.applyLayout(true, null);
+		});
+		assertTrue(algorithm.started.await(5, TimeUnit.SECONDS));
+	}
+
+	private void waitFor(BooleanSupplier condition) throws Throwable {
+		long deadline = System.currentTimeMillis() + 5000;
+		boolean[] met = new boolean[1];
+		while (!met[0]) {
+			assertTrue("Condition not met in time.", System.currentTimeMillis() < deadline);
+			Thread.sleep(10);
+			ctx.runAndWait(() -> {
+				met[0] = condition.getAsBoolean();
+			});
+		}
+	}
+
+	@Test
+	public void cancelLayout() throws Throwable {
+		Point initialPosition = getPosition(node);
+		startBlockedLayout(100);
+
+		// deactivation cancels the pending pass
+		ctx.runAndWait(() -> {
+			domain.deactivate();
+		});
+		waitFor(() -> algorithm.interrupted);
+		// process events that may have been posted by the cancelled pass
+		ctx.runAndWait(() -> {
+		});
+		assertEquals(initialPosition, getPosition(node));
+	}
+
+	@Test
+	public void incrementalLayout() throws Throwable {
+		Point position = getPosition(node);
+		algorithm.x = 300;
+		ctx.runAndWait(() -> {
+			behavior.setAsynchronousLayoutThreshold(Integer.MAX_VALUE);
+			behavior.applyLayout(false, Collections.singleton(other));
+		});
+		assertEquals(1, algorithm.fixedNodes);
+		// only the given node is placed, and the fixed one is not altered
+		assertEquals(position, getPosition(node));
+		assertEquals(300 - ZestProperties.getSize(other).width / 2, getPosition(other).x, 0);
+		assertFalse(node.getAttributes().containsKey(LayoutProperties.MOVABLE_PROPERTY));
+		assertFalse(other.getAttributes().containsKey(LayoutProperties.MOVABLE_PROPERTY));
+	}
+
+	@Test
+	public void incrementalLayoutOfRevealedNode() throws Throwable {
+		Node revealed = new Node();
+		Graph graph = new Graph.Builder().nodes(new Node(), new Node(), revealed).build();
+		ZestProperties.setLayoutAlgorithm(graph, new GridLayoutAlgorithm());
+		HidingModel hidingModel = viewer.getAdapter(HidingModel.class);
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(graph);
+			behavior = viewer.getContentPartMap().get(graph).getAdapter(GraphLayoutBehavior.class);
+			behavior.setIncrementalLayout(true);
+		});
+		waitFor(() -> ZestProperties.getPosition(revealed) != null);
+
+		Point outside = new Point(-1000, -1000);
+		ctx.runAndWait(() -> {
+			hidingModel.hide(revealed);
+			ZestProperties.setPosition(revealed, outside);
+			hidingModel.show(revealed);
+		});
+		// the revealed node is placed by the scheduled incremental pass, even
+		// though the layout algorithm only places nodes in a clean pass
+		waitFor(() -> !outside.equals(ZestProperties.getPosition(revealed)));
+	}
+
+	@Test
+	public void incrementalLayoutAsynchronously() throws Throwable {
+		Point position = getPosition(node);
+		Point otherPosition = getPosition(other);
+		algorithm.x = 300;
+		ctx.runAndWait(() -> {
+			behavior.applyLayout(false, Collections.singleton(other));
+		});
+		waitFor(() -> !otherPosition.equals(ZestProperties.getPosition(other)));
+		assertEquals(1, algorithm.fixedNodes);
+		assertEquals(position, getPosition(node));
+		assertFalse(node.getAttributes().containsKey(LayoutProperties.MOVABLE_PROPERTY));
+	}
+
+	@Test
+	public void incrementalLayoutFailure() throws Throwable {
+		Point position = getPosition(node);
+		algorithm.failure = new IllegalStateException();
+		ctx.runAndWait(() -> {
+			behavior.setAsynchronousLayoutThreshold(Integer.MAX_VALUE);
+			try {
+				behavior.applyLayout(false, Collections.singleton(other));
+				fail("Failure of the layout algorithm is not propagated.");
+			} catch (IllegalStateException e) {
+				assertSame(algorithm.failure, e);
+			}
+		});
+		// the fixed state is not leaked into the model
+		assertEquals(position, getPosition(node));
+		assertFalse(node.getAttributes().containsKey(LayoutProperties.MOVABLE_PROPERTY));
+	}
+
+	@Test
+	public void supersedeLayout() throws Throwable {
+		startBlockedLayout(100);
+
+		// a newer pass supersedes (and interrupts) the pending one
+		algorithm.x = 200;
+		algorithm.block = null;
+		algorithm.started = null;
+		ctx.runAndWait(() -> {
+			behavior.applyLayout(true, null);
+		});
+		waitFor(() -> {
+			Point location = LayoutProperties.getLocation(node);
+			return location != null && location.x == 200;
+		});
+		assertTrue(algorithm.interrupted);
+		Point position = getPosition(node);
+
+		// the results of the superseded pass are not published afterwards
+		Thread.sleep(50);
+		assertEquals(position, getPosition(node));
+	}
+}
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
+import org.eclipse.gef.zest.fx.ZestFxModule;
+import org.eclipse.gef.zest.fx.ZestProperties;
+import org.eclipse.gef.zest.fx.parts.GraphPart;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+/**
+ * Tests for the incremental update of the content children of the
+ * {@link GraphPart}.
+ *
+ * @author agent
+ *
+ */
+public class GraphPartTests {
+
+	private static IDomain domain;
+	private static IViewer viewer;
+
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
+	private Node a;
+	private Node b;
+	private Node c;
+	private Graph graph;
+
+	@Before
+	public void activate() throws Throwable {
+		if (domain == null) {
+			domain = Guice.createInjector(new ZestFxModule()).getInstance(IDomain.class);
+			viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+			ctx.createScene(viewer.getCanvas(), 400, 400);
+		}
+		a = new Node();
+		b = new Node();
+		c = new Node();
+		graph = new Graph.Builder().nodes(a).build();
+		ctx.runAndWait(() -> {
+			domain.activate();
+			viewer.getContents().setAll(graph);
+		});
+	}
+
+	@After
+	public void deactivate() throws Throwable {
+		ctx.runAndWait(() -> {
+			viewer.getContents().clear();
+			domain.deactivate();
+		});
+	}
+
+	private boolean isProvided(Object contentChild) {
+		return viewer.getContentPartMap().get(graph).getContentChildrenUnmodifiable().contains(contentChild);
+	}
+
+	private void setInvisible(Node node, boolean invisible) throws Throwable {
+		ctx.runAndWait(() -> {
+			ZestProperties.setInvisible(node, invisible);
+		});
+	}
+
+	@Test
+	public void addEdgeBeforeNode() throws Throwable {
+		Edge ab = new Edge(a, b);
+		ctx.runAndWait(() -> {
+			graph.getEdges().add(ab);
+			graph.getNodes().add(b);
+		});
+		assertTrue(isProvided(b));
+		assertTrue(isProvided(ab));
+
+		// the edge is indexed by the node that was added after it
+		setInvisible(b, true);
+		assertFalse(isProvided(ab));
+		setInvisible(b, false);
+		assertTrue(isProvided(ab));
+	}
+
+	@Test
+	public void changeEdgeTarget() throws Throwable {
+		Edge ab = new Edge(a, b);
+		ctx.runAndWait(() -> {
+			graph.getNodes().addAll(b, c);
+			graph.getEdges().add(ab);
+		});
+
+		// the index is updated along with the attributes of the edge
+		ctx.runAndWait(() -> {
+			ab.setTarget(c);
+			ZestProperties.setLabel(ab, "ac");
+		});
+		setInvisible(b, true);
+		assertTrue(isProvided(ab));
+		setInvisible(c, true);
+		assertFalse(isProvided(ab));
+		setInvisible(c, false);
+		assertTrue(isProvided(ab));
+
+		// the index is rebuilt by a full refresh
+		ctx.runAndWait(() -> {
+			ab.setTarget(b);
+			viewer.getContentPartMap().get(graph).refreshContentChildren();
+		});
+		assertFalse(isProvided(ab));
+		setInvisible(b, false);
+		assertTrue(isProvided(ab));
+	}
+
+	@Test
+	public void removeAndAddNode() throws Throwable {
+		Edge ab = new Edge(a, b);
+		ctx.runAndWait(() -> {
+			graph.getNodes().add(b);
+			graph.getEdges().add(ab);
+		});
+
+		// the edge still references the removed node, so that it is found once
+		// the node is added again
+		ctx.runAndWait(() -> {
+			graph.getNodes().remove(b);
+			graph.getNodes().add(b);
+		});
+		setInvisible(b, true);
+		assertFalse(isProvided(ab));
+		setInvisible(b, false);
+		assertTrue(isProvided(ab));
+
+		// removing node and edge does not affect the remaining content children
+		ctx.runAndWait(() -> {
+			graph.getEdges().remove(ab);
+			graph.getNodes().remove(b);
+		});
+		assertFalse(isProvided(ab));
+		assertFalse(isProvided(b));
+		setInvisible(a, true);
+		assertFalse(isProvided(a));
+		setInvisible(a, false);
+		assertEquals(Arrays.asList(a), viewer.getContentPartMap().get(graph).getContentChildrenUnmodifiable());
+	}
+
+	@Test
+	public void revealNodes() throws Throwable {
+		Edge ab = new Edge(a, b);
+		Edge bc = new Edge(b, c);
+		ctx.runAndWait(() -> {
+			graph.getNodes().addAll(b, c);
+			graph.getEdges().addAll(ab, bc);
+		});
+		setInvisible(a, true);
+		setInvisible(b, true);
+		assertFalse(isProvided(ab));
+		assertFalse(isProvided(bc));
+
+		// an edge is provided once both of its nodes are revealed
+		setInvisible(b, false);
+		assertFalse(isProvided(ab));
+		assertTrue(isProvided(bc));
+		setInvisible(a, false);
+		assertTrue(isProvided(ab));
+
+		// revealed content children are appended to their section
+		assertEquals(Arrays.asList(c, b, a, bc, ab),
+				viewer.getContentPartMap().get(graph).getContentChildrenUnmodifiable());
+	}
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
+import org.eclipse.gef.zest.fx.ZestFxModule;
+import org.eclipse.gef.zest.fx.behaviors.AbstractHidingBehavior;
+import org.eclipse.gef.zest.fx.behaviors.NodeHidingBehavior;
+import org.eclipse.gef.zest.fx.models.HidingModel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+import javafx.collections.SetChangeListener;
+
+/**
+ * Tests for the notification of the {@link AbstractHidingBehavior} about
+ * changes of the {@link HidingModel}.
+ *
+ * @author agent
+ *
+ */
+public class HidingBehaviorTests {
+
+	/**
+	 * A {@link NodeHidingBehavior} that still overrides the deprecated change
+	 * handler.
+	 */
+	public static class LegacyNodeHidingBehavior extends NodeHidingBehavior {
+		private List<Node> changedNodes = new ArrayList<>();
+
+		@SuppressWarnings("deprecation")
+		@Override
+		protected void onHidingModelChange(SetChangeListener.Change<? extends Node> change) {
+			changedNodes.add(change.wasAdded() ? change.getElementAdded() : change.getElementRemoved());
+			super.onHidingModelChange(change);
+		}
+	}
+
+	private static IDomain domain;
+	private static IViewer viewer;
+
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
+	private Node a;
+	private Node b;
+	private Node c;
+
+	@Before
+	public void activate() throws Throwable {
+		if (domain == null) {
+			domain = Guice.createInjector(new ZestFxModule() {
+				@Override
+				protected void configure() {
+					super.configure();
+					binder().bind(NodeHidingBehavior.class).to(LegacyNodeHidingBehavior.class);
+				}
+			}).getInstance(IDomain.class);
+			viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+			ctx.createScene(viewer.getCanvas(), 400, 400);
+		}
+		a = new Node();
+		b = new Node();
+		c = new Node();
+		Graph graph = new Graph.Builder().nodes(a, b, c).build();
+		ctx.runAndWait(() -> {
+			domain.activate();
+			viewer.getContents().setAll(graph);
+		});
+	}
+
+	@After
+	public void deactivate() throws Throwable {
+		ctx.runAndWait(() -> {
+			viewer.getContents().clear();
+			domain.deactivate();
+		});
+	}
+
+	@Test
+	public void legacyChangeHandler() throws Throwable {
+		ctx.runAndWait(() -> {
+			LegacyNodeHidingBehavior behavior = (LegacyNodeHidingBehavior) viewer.getContentPartMap().get(a)
+					.getAdapter(NodeHidingBehavior.class);
+			HidingModel hidingModel = viewer.getAdapter(HidingModel.class);
+
+			// overrides of the deprecated change handler are notified about
+			// each node that is hidden or shown
+			hidingModel.hide(Arrays.asList(b, c));
+			assertEquals(new HashSet<>(Arrays.asList(b, c)), new HashSet<>(behavior.changedNodes));
+			assertEquals(2, behavior.changedNodes.size());
+
+			behavior.changedNodes.clear();
+			hidingModel.show(b);
+			assertEquals(Arrays.asList(b), behavior.changedNodes);
+			assertTrue(hidingModel.isHidden(c));
+		});
+	}
+}
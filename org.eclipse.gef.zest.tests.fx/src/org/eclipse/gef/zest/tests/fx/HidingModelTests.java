@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.zest.fx.models.HidingModel;
+import org.junit.Test;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+
+/**
+ * Tests for the incremental tracking of hidden neighbors and the bulk
+ * operations of the {@link HidingModel}.
+ *
+ * @author agent
+ *
+ */
+public class HidingModelTests {
+
+	private static class InvalidationCounter implements InvalidationListener {
+		private int count;
+
+		@Override
+		public void invalidated(Observable observable) {
+			count++;
+		}
+	}
+
+	@Test
+	public void bulkHideAndShow() {
+		Node a = new Node();
+		Node b = new Node();
+		Node c = new Node();
+		Node d = new Node();
+		Graph graph = new Graph.Builder().nodes(a, b, c, d).edges(new Edge(a, b), new Edge(a, c), new Edge(a, d))
+				.build();
+		HidingModel hidingModel = new HidingModel();
+		InvalidationCounter counter = new InvalidationCounter();
+		hidingModel.hiddenProperty().addListener(counter);
+
+		// hiding multiple nodes results in a single notification
+		hidingModel.hide(Arrays.asList(b, c, d));
+		assertEquals(1, counter.count);
+		assertEquals(3, hidingModel.getHiddenNodesUnmodifiable().size());
+		assertEquals(3, hidingModel.getHiddenNeighborCount(a));
+		assertFalse(hidingModel.hasHiddenNeighbors(b));
+
+		// hiding already hidden nodes does not notify
+		hidingModel.hide(Arrays.asList(b, c));
+		assertEquals(1, counter.count);
+
+		// showing multiple nodes results in a single notification
+		hidingModel.show(Arrays.asList(b, c));
+		assertEquals(2, counter.count);
+		assertEquals(1, hidingModel.getHiddenNeighborCount(a));
+		assertTrue(hidingModel.getHiddenNeighbors(a).contains(d));
+		assertFalse(hidingModel.isHidden(b));
+		assertTrue(hidingModel.isHidden(d));
+		assertEquals(4, graph.getNodes().size());
+	}
+
+	@Test
+	public void hiddenNeighbors() {
+		Node a = new Node();
+		Node b = new Node();
+		Node c = new Node();
+		Edge ab = new Edge(a, b);
+		Edge ab2 = new Edge(a, b);
+		Graph graph = new Graph.Builder().nodes(a, b, c).edges(ab, ab2, new Edge(c, b)).build();
+		HidingModel hidingModel = new HidingModel();
+		assertFalse(hidingModel.hasHiddenNeighbors(a));
+
+		// neighbors are counted once (regardless of the number of edges)
+		hidingModel.hide(b);
+		assertTrue(hidingModel.hasHiddenNeighbors(a));
+		assertTrue(hidingModel.hasHiddenNeighbors(c));
+		assertEquals(1, hidingModel.getHiddenNeighborCount(a));
+		assertEquals(0, hidingModel.getHiddenNeighborCount(b));
+
+		// edge changes are respected while nodes are hidden
+		graph.getEdges().remove(ab);
+		assertEquals(1, hidingModel.getHiddenNeighborCount(a));
+		graph.getEdges().remove(ab2);
+		assertFalse(hidingModel.hasHiddenNeighbors(a));
+		graph.getEdges().add(new Edge(b, a));
+		assertEquals(1, hidingModel.getHiddenNeighborCount(a));
+		assertTrue(hidingModel.getHiddenNeighbors(a).contains(b));
+
+		// showing the node removes it from the hidden neighbors
+		hidingModel.show(b);
+		assertFalse(hidingModel.hasHiddenNeighbors(a));
+		assertFalse(hidingModel.hasHiddenNeighbors(c));
+	}
+
+}
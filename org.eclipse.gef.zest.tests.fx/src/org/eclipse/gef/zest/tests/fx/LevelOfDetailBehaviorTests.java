@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.fx.nodes.InfiniteCanvas;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.fx.viewer.InfiniteCanvasViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
+import org.eclipse.gef.zest.fx.ZestFxModule;
+import org.eclipse.gef.zest.fx.ZestProperties;
+import org.eclipse.gef.zest.fx.behaviors.LevelOfDetailBehavior;
+import org.eclipse.gef.zest.fx.parts.AbstractLabelPart;
+import org.eclipse.gef.zest.fx.parts.EdgePart;
+import org.eclipse.gef.zest.fx.parts.NodePart;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Affine;
+import javafx.scene.transform.Scale;
+
+/**
+ * Tests for the level of detail that is applied by the
+ * {@link LevelOfDetailBehavior} when zooming across its thresholds.
+ *
+ * @author agent
+ *
+ */
+public class LevelOfDetailBehaviorTests {
+
+	private static IDomain domain;
+	private static IViewer viewer;
+
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
+	private Node a;
+	private Edge ab;
+
+	@Before
+	public void activate() throws Throwable {
+		if (domain == null) {
+			domain = Guice.createInjector(new ZestFxModule()).getInstance(IDomain.class);
+			viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+			ctx.createScene(viewer.getCanvas(), 400, 400);
+		}
+		a = new Node();
+		ZestProperties.setLabel(a, "label");
+		ZestProperties.setExternalLabel(a, "external");
+		Node b = new Node();
+		ab = new Edge(a, b);
+		ZestProperties.setTargetDecoration(ab, new Rectangle(5, 5));
+		Graph graph = new Graph.Builder().nodes(a, b).edges(ab).build();
+		ctx.runAndWait(() -> {
+			domain.activate();
+			viewer.getContents().setAll(graph);
+		});
+	}
+
+	@After
+	public void deactivate() throws Throwable {
+		ctx.runAndWait(() -> {
+			getCanvas().setContentTransform(new Affine());
+			viewer.getContents().clear();
+			domain.deactivate();
+		});
+	}
+
+	private InfiniteCanvas getCanvas() {
+		return ((InfiniteCanvasViewer) viewer).getCanvas();
+	}
+
+	private EdgePart getEdgePart() {
+		return (EdgePart) viewer.getContentPartMap().get(ab);
+	}
+
+	private AbstractLabelPart getExternalLabelPart() {
+		for (IContentPart<? extends javafx.scene.Node> part : viewer.getContentPartMap().values()) {
+			if (part instanceof AbstractLabelPart) {
+				return (AbstractLabelPart) part;
+			}
+		}
+		return null;
+	}
+
+	private NodePart getNodePart() {
+		return (NodePart) viewer.getContentPartMap().get(a);
+	}
+
+	private javafx.scene.Node lookup(IContentPart<? extends javafx.scene.Node> part, String cssClass) {
+		return part.getVisual().lookup("." + cssClass);
+	}
+
+	private void zoom(double zoomLevel) throws Throwable {
+		ctx.runAndWait(() -> {
+			getCanvas().setContentTransform(new Affine(new Scale(zoomLevel, zoomLevel)));
+		});
+	}
+
+	@Test
+	public void hiddenDetails() throws Throwable {
+		double[] size = new double[2];
+		ctx.runAndWait(() -> {
+			size[0] = getNodePart().getVisual().prefWidth(-1);
+			size[1] = getNodePart().getVisual().prefHeight(-1);
+		});
+		zoom(0.2);
+		ctx.runAndWait(() -> {
+			// hidden details are excluded from layout and rendering
+			assertFalse(lookup(getNodePart(), NodePart.CSS_CLASS_LABEL).isManaged());
+			assertFalse(lookup(getNodePart(), NodePart.CSS_CLASS_LABEL).isVisible());
+			assertFalse(lookup(getNodePart(), NodePart.CSS_CLASS_ICON).isManaged());
+			assertNull(getEdgePart().getVisual().getEndDecoration());
+			assertFalse(lookup(getExternalLabelPart(), AbstractLabelPart.CSS_CLASS_LABEL).isVisible());
+			// but the node keeps its size
+			assertEquals(size[0], getNodePart().getVisual().prefWidth(-1), 0);
+			assertEquals(size[1], getNodePart().getVisual().prefHeight(-1), 0);
+		});
+		zoom(1);
+		ctx.runAndWait(() -> {
+			assertTrue(lookup(getNodePart(), NodePart.CSS_CLASS_LABEL).isManaged());
+			assertTrue(lookup(getNodePart(), NodePart.CSS_CLASS_LABEL).isVisible());
+			assertTrue(lookup(getNodePart(), NodePart.CSS_CLASS_ICON).isManaged());
+			assertNotNull(getEdgePart().getVisual().getEndDecoration());
+			assertTrue(lookup(getExternalLabelPart(), AbstractLabelPart.CSS_CLASS_LABEL).isVisible());
+			assertEquals(size[0], getNodePart().getVisual().prefWidth(-1), 0);
+			assertEquals(size[1], getNodePart().getVisual().prefHeight(-1), 0);
+		});
+	}
+
+	@Test
+	public void thresholds() throws Throwable {
+		ctx.runAndWait(() -> {
+			assertTrue(getExternalLabelPart().isTextVisible());
+			assertTrue(getEdgePart().isDecorationsVisible());
+			assertTrue(getNodePart().isIconVisible());
+			assertTrue(getNodePart().isLabelVisible());
+		});
+
+		// details are hidden one after the other when zooming out
+		zoom(LevelOfDetailBehavior.DEFAULT_EXTERNAL_LABEL_THRESHOLD * 0.9);
+		ctx.runAndWait(() -> {
+			assertFalse(getExternalLabelPart().isTextVisible());
+			assertTrue(getEdgePart().isDecorationsVisible());
+		});
+		zoom(LevelOfDetailBehavior.DEFAULT_DECORATION_THRESHOLD * 0.9);
+		ctx.runAndWait(() -> {
+			assertFalse(getEdgePart().isDecorationsVisible());
+			assertFalse(getNodePart().isIconVisible());
+			assertTrue(getNodePart().isLabelVisible());
+		});
+		zoom(LevelOfDetailBehavior.DEFAULT_NODE_LABEL_THRESHOLD * 0.9);
+		ctx.runAndWait(() -> {
+			assertFalse(getNodePart().isLabelVisible());
+		});
+
+		// and shown again only above the threshold plus hysteresis
+		zoom(LevelOfDetailBehavior.DEFAULT_NODE_LABEL_THRESHOLD * 1.1);
+		ctx.runAndWait(() -> {
+			assertFalse(getNodePart().isLabelVisible());
+		});
+		zoom(LevelOfDetailBehavior.DEFAULT_NODE_LABEL_THRESHOLD * 1.3);
+		ctx.runAndWait(() -> {
+			assertTrue(getNodePart().isLabelVisible());
+			assertFalse(getEdgePart().isDecorationsVisible());
+		});
+
+		// details that are shown are kept within the hysteresis band
+		zoom(LevelOfDetailBehavior.DEFAULT_NODE_LABEL_THRESHOLD * 1.1);
+		ctx.runAndWait(() -> {
+			assertTrue(getNodePart().isLabelVisible());
+		});
+
+		// zooming in beyond all thresholds shows all details at once
+		zoom(1);
+		ctx.runAndWait(() -> {
+			assertTrue(getExternalLabelPart().isTextVisible());
+			assertTrue(getEdgePart().isDecorationsVisible());
+			assertTrue(getNodePart().isIconVisible());
+			assertTrue(getNodePart().isLabelVisible());
+		});
+	}
+}
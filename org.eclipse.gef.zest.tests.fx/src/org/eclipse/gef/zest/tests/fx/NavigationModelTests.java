@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.tests.fx;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.commands.operations.IOperationHistory;
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.mvc.fx.domain.HistoricizingDomain;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
+import org.eclipse.gef.zest.fx.ZestFxModule;
+import org.eclipse.gef.zest.fx.models.NavigationModel;
+import org.eclipse.gef.zest.fx.models.NavigationModel.LayoutState;
+import org.eclipse.gef.zest.fx.operations.NavigateOperation;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+/**
+ * Tests for the caching of {@link LayoutState}s by the {@link NavigationModel}.
+ *
+ * @author agent
+ *
+ */
+public class NavigationModelTests {
+
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
+	@Test
+	public void captureLayoutStateOnRedo() throws Throwable {
+		HistoricizingDomain domain = (HistoricizingDomain) Guice.createInjector(new ZestFxModule())
+				.getInstance(IDomain.class);
+		IViewer viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+		ctx.createScene(viewer.getCanvas(), 400, 400);
+		NavigationModel navigationModel = viewer.getAdapter(NavigationModel.class);
+		IOperationHistory history = domain.getOperationHistory();
+		Graph source = new Graph.Builder().nodes(new Node()).build();
+		Graph target = new Graph.Builder().nodes(new Node()).build();
+		ctx.runAndWait(() -> {
+			domain.activate();
+			viewer.getContents().setAll(source);
+		});
+
+		ctx.runAndWait(() -> {
+			try {
+				domain.execute(new NavigateOperation(viewer, target, false), null);
+				assertNotNull(navigationModel.getLayoutState(source));
+				history.undo(domain.getUndoContext(), null, null);
+				assertNotNull(navigationModel.getLayoutState(target));
+
+				// the layout of the source graph is captured again on redo
+				navigationModel.removeLayoutState(source);
+				history.redo(domain.getUndoContext(), null, null);
+				assertNotNull(navigationModel.getLayoutState(source));
+			} catch (ExecutionException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+
+		ctx.runAndWait(() -> {
+			viewer.getContents().clear();
+			domain.deactivate();
+		});
+	}
+
+	@Test
+	public void evictLeastRecentlyUsed() {
+		NavigationModel navigationModel = new NavigationModel();
+		List<Graph> graphs = new ArrayList<>();
+		for (int i = 0; i < NavigationModel.MAX_LAYOUT_STATES; i++) {
+			Graph graph = new Graph();
+			graphs.add(graph);
+			navigationModel.setLayoutState(graph, new LayoutState(graph, null));
+		}
+
+		// the first graph is used again, so that the second one is evicted
+		assertNotNull(navigationModel.getLayoutState(graphs.get(0)));
+		Graph graph = new Graph();
+		navigationModel.setLayoutState(graph, new LayoutState(graph, null));
+		assertNotNull(navigationModel.getLayoutState(graphs.get(0)));
+		assertNull(navigationModel.getLayoutState(graphs.get(1)));
+		assertNotNull(navigationModel.getLayoutState(graphs.get(2)));
+		assertNotNull(navigationModel.getLayoutState(graph));
+	}
+
+	@Test
+	public void validity() {
+		Node a = new Node();
+		Node b = new Node();
+		Node c = new Node();
+		Edge ab = new Edge(a, b);
+		Graph graph = new Graph.Builder().nodes(a, b, c).edges(ab).build();
+		LayoutState layoutState = new LayoutState(graph, null);
+		assertTrue(layoutState.isValid(graph));
+
+		// changed endpoints invalidate the layout state
+		ab.setTarget(c);
+		assertFalse(layoutState.isValid(graph));
+		ab.setTarget(b);
+		assertTrue(layoutState.isValid(graph));
+
+		// as well as replaced nodes (even if the size is the same)
+		graph.getNodes().set(2, new Node());
+		assertFalse(layoutState.isValid(graph));
+		graph.getNodes().set(2, c);
+		assertTrue(layoutState.isValid(graph));
+
+		// and added edges
+		graph.getEdges().add(new Edge(b, c));
+		assertFalse(layoutState.isValid(graph));
+	}
+}
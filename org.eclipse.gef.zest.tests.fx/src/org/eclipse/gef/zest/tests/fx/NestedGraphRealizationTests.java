@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.tests.fx;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.fx.nodes.InfiniteCanvas;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.fx.viewer.InfiniteCanvasViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
+import org.eclipse.gef.zest.fx.ZestFxModule;
+import org.eclipse.gef.zest.fx.parts.NodePart;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+import javafx.scene.transform.Affine;
+import javafx.scene.transform.Scale;
+
+/**
+ * Tests for the realization of nested graphs by the {@link NodePart} depending
+ * on its on-screen size.
+ *
+ * @author agent
+ *
+ */
+public class NestedGraphRealizationTests {
+
+	private static IDomain domain;
+	private static IViewer viewer;
+
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
+	private Graph nestedGraph;
+	private NodePart nodePart;
+	private double width;
+
+	@Before
+	public void activate() throws Throwable {
+		if (domain == null) {
+			domain = Guice.createInjector(new ZestFxModule()).getInstance(IDomain.class);
+			viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+			ctx.createScene(viewer.getCanvas(), 400, 400);
+		}
+		nestedGraph = new Graph.Builder().nodes(new Node()).build();
+		Node nesting = new Node();
+		nesting.setNestedGraph(nestedGraph);
+		Graph graph = new Graph.Builder().nodes(nesting).build();
+		ctx.runAndWait(() -> {
+			domain.activate();
+			viewer.getContents().setAll(graph);
+			nodePart = (NodePart) viewer.getContentPartMap().get(nesting);
+			width = nodePart.getVisual().localToScene(nodePart.getVisual().getLayoutBounds()).getWidth();
+		});
+	}
+
+	@After
+	public void deactivate() throws Throwable {
+		ctx.runAndWait(() -> {
+			getCanvas().setContentTransform(new Affine());
+			viewer.getContents().clear();
+			domain.deactivate();
+		});
+	}
+
+	private InfiniteCanvas getCanvas() {
+		return ((InfiniteCanvasViewer) viewer).getCanvas();
+	}
+
+	private boolean isRealized() {
+		return viewer.getContentPartMap().containsKey(nestedGraph);
+	}
+
+	@Test
+	public void hysteresis() throws Throwable {
+		ctx.runAndWait(() -> {
+			nodePart.setNestedGraphRealizationThreshold(width * 0.9);
+			assertTrue(isRealized());
+
+			// the realized nested graph is kept within the hysteresis band
+			nodePart.setNestedGraphRealizationThreshold(width * 1.1);
+			assertTrue(isRealized());
+			nodePart.setNestedGraphRealizationThreshold(width * 1.3);
+			assertFalse(isRealized());
+
+			// the released nested graph is only realized above the threshold
+			nodePart.setNestedGraphRealizationThreshold(width * 1.1);
+			assertFalse(isRealized());
+			nodePart.setNestedGraphRealizationThreshold(width * 0.9);
+			assertTrue(isRealized());
+		});
+	}
+
+	@Test
+	public void zoom() throws Throwable {
+		ctx.runAndWait(() -> {
+			nodePart.setNestedGraphRealizationThreshold(width * 1.5);
+			assertFalse(isRealized());
+		});
+
+		// zooming in realizes the nested graph
+		ctx.runAndWait(() -> {
+			getCanvas().setContentTransform(new Affine(new Scale(2, 2)));
+		});
+		ctx.runAndWait(() -> {
+			assertTrue(isRealized());
+		});
+
+		// zooming out within the hysteresis band keeps it realized
+		ctx.runAndWait(() -> {
+			getCanvas().setContentTransform(new Affine(new Scale(1.3, 1.3)));
+		});
+		ctx.runAndWait(() -> {
+			assertTrue(isRealized());
+		});
+
+		// zooming out further releases it
+		ctx.runAndWait(() -> {
+			getCanvas().setContentTransform(new Affine(new Scale(1, 1)));
+		});
+		ctx.runAndWait(() -> {
+			assertFalse(isRealized());
+		});
+	}
+}
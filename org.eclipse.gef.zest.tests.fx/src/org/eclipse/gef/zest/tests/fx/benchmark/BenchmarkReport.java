@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.tests.fx.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The {@link BenchmarkReport} collects the measurements of the
+ * {@link ZestBenchmark} and serializes them as JSON, so that the results of
+ * different revisions can be compared by tools.
+ *
+ * @author agent
+ *
+ */
+public class BenchmarkReport {
+
+	/**
+	 * The measurements of one benchmark run, i.e. for one graph size.
+	 */
+	public static class Run {
+
+		private final int nodeCount;
+		private final int edgeCount;
+		private long retainedBytesPerNode = -1;
+		private final Map<String, long[]> phases = new LinkedHashMap<>();
+
+		/**
+		 * Creates a new {@link Run} for a graph of the given size.
+		 *
+		 * @param nodeCount
+		 *            The number of nodes of the benchmarked graph.
+		 * @param edgeCount
+		 *            The number of edges of the benchmarked graph.
+		 */
+		public Run(int nodeCount, int edgeCount) {
+			this.nodeCount = nodeCount;
+			this.edgeCount = edgeCount;
+		}
+
+		/**
+		 * Records the measurements of the phase with the given name.
+		 *
+		 * @param name
+		 *            The name of the phase.
+		 * @param nanos
+		 *            The elapsed (wall clock) time in nanoseconds.
+		 * @param allocatedBytes
+		 *            The number of bytes that were allocated by the
+		 *            benchmarking thread during the phase, or <code>-1</code>
+		 *            if this could not be determined.
+		 */
+		public void addPhase(String name, long nanos, long allocatedBytes) {
+			phases.put(name, new long[] { nanos, allocatedBytes });
+		}
+
+		/**
+		 * Sets the number of heap bytes that are retained per node after the
+		 * graph has been rendered.
+		 *
+		 * @param retainedBytesPerNode
+		 *            The number of retained heap bytes per node.
+		 */
+		public void setRetainedBytesPerNode(long retainedBytesPerNode) {
+			this.retainedBytesPerNode = retainedBytesPerNode;
+		}
+
+		private void write(Writer writer) throws IOException {
+			writer.write("    {\n");
+			writer.write("      \"nodes\": " + nodeCount + ",\n");
+			writer.write("      \"edges\": " + edgeCount + ",\n");
+			writer.write("      \"retainedBytesPerNode\": " + retainedBytesPerNode + ",\n");
+			writer.write("      \"phases\": {");
+			boolean first = true;
+			for (Map.Entry<String, long[]> phase : phases.entrySet()) {
+				writer.write(first ? "\n" : ",\n");
+				first = false;
+				writer.write("        \"" + phase.getKey() + "\": { \"millis\": "
+						+ String.format(Locale.ROOT, "%.3f", phase.getValue()[0] / 1e6)
+						+ ", \"allocatedBytes\": " + phase.getValue()[1] + " }");
+			}
+			writer.write("\n      }\n");
+			writer.write("    }");
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder();
+			sb.append(nodeCount).append(" nodes, ").append(edgeCount).append(" edges, ").append(retainedBytesPerNode)
+					.append(" bytes/node");
+			for (Map.Entry<String, long[]> phase : phases.entrySet()) {
+				sb.append(String.format(Locale.ROOT, "%n  %-12s %10.1f ms %14d bytes", phase.getKey(),
+						phase.getValue()[0] / 1e6, phase.getValue()[1]));
+			}
+			return sb.toString();
+		}
+	}
+
+	private final Map<String, String> environment = new LinkedHashMap<>();
+	private final List<Run> runs = new ArrayList<>();
+
+	/**
+	 * Creates a new {@link BenchmarkReport}, recording the properties of the
+	 * current Java runtime.
+	 */
+	public BenchmarkReport() {
+		for (String key : new String[] { "java.version", "java.vm.name", "os.name", "os.arch", "javafx.runtime.version",
+				"glass.platform", "prism.order" }) {
+			environment.put(key, System.getProperty(key, ""));
+		}
+		environment.put("maxHeapBytes", Long.toString(Runtime.getRuntime().maxMemory()));
+	}
+
+	/**
+	 * Adds the given {@link Run} to this report.
+	 *
+	 * @param run
+	 *            The {@link Run} to add.
+	 */
+	public void addRun(Run run) {
+		runs.add(run);
+	}
+
+	private String quote(String value) {
+		return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+	}
+
+	/**
+	 * Writes this report as JSON to the given {@link Writer}.
+	 *
+	 * @param writer
+	 *            The {@link Writer} to write to.
+	 * @throws IOException
+	 *             In case writing fails.
+	 */
+	public void write(Writer writer) throws IOException {
+		writer.write("{\n  \"environment\": {");
+		boolean first = true;
+		for (Map.Entry<String, String> entry : environment.entrySet()) {
+			writer.write(first ? "\n" : ",\n");
+			first = false;
+			writer.write("    " + quote(entry.getKey()) + ": " + quote(entry.getValue()));
+		}
+		writer.write("\n  },\n  \"runs\": [");
+		first = true;
+		for (Run run : runs) {
+			writer.write(first ? "\n" : ",\n");
+			first = false;
+			run.write(writer);
+		}
+		writer.write("\n  ]\n}\n");
+		writer.flush();
+	}
+
+}
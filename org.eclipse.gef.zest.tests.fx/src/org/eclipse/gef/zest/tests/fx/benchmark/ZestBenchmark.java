@@ -0,0 +1,271 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.tests.fx.benchmark;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import javax.management.ObjectName;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.algorithms.GridLayoutAlgorithm;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.parts.RefreshScheduler;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.zest.fx.ZestFxModule;
+import org.eclipse.gef.zest.fx.ZestProperties;
+import org.eclipse.gef.zest.fx.behaviors.GraphLayoutBehavior;
+import org.eclipse.gef.zest.fx.parts.GraphPart;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+/**
+ * The {@link ZestBenchmark} measures how Zest.FX scales with the size of the
+ * rendered graph. For each of the requested sizes, a synthetic graph is
+ * rendered within a viewer that is configured by the {@link ZestFxModule}, and
+ * the following phases are measured:
+ * <ul>
+ * <li><code>build</code>: Construction of the {@link Graph}.</li>
+ * <li><code>firstFrame</code>: Setting the graph as the viewer contents until
+ * the first frame is rendered (including the initial layout pass).</li>
+ * <li><code>relayout</code>: A clean layout pass until the next frame is
+ * rendered.</li>
+ * <li><code>update</code>: Changing the labels of 10% of the nodes until the
+ * next frame is rendered.</li>
+ * <li><code>dispose</code>: Clearing the viewer contents.</li>
+ * </ul>
+ * A frame is rendered by taking a snapshot of the whole scene (see
+ * {@link Scene#snapshot(javafx.scene.image.WritableImage)}), so that each
+ * phase (except for <code>build</code>) includes a complete software rendering
+ * of the scene, which is considerably more expensive than an incremental
+ * on-screen pulse. The results are therefore only comparable between runs of
+ * this benchmark.
+ * <p>
+ * Besides the elapsed time, the number of bytes that are allocated during each
+ * phase is recorded (where supported by the JVM), as well as the number of heap
+ * bytes that are retained per node. The results are printed and written as
+ * JSON to a report file.
+ * <p>
+ * The benchmark is not part of the test suite, as it is long running. It is
+ * started as a JavaFX application with the following (optional) named
+ * parameters:
+ * <ul>
+ * <li><code>--sizes=1000,10000,100000</code>: The numbers of nodes to
+ * benchmark.</li>
+ * <li><code>--edgesPerNode=2</code>: The number of edges that connect each node
+ * to previously created nodes.</li>
+ * <li><code>--seed=42</code>: The seed for the generation of the graphs.</li>
+ * <li><code>--report=zest-benchmark.json</code>: The report file.</li>
+ * </ul>
+ * In order to run the benchmark without a display, the headless Monocle
+ * platform can be used by passing
+ * <code>-Dglass.platform=Monocle -Dmonocle.platform=Headless -Dprism.order=sw</code>
+ * to the JVM. Depending on the largest size, the heap should be enlarged, e.g.
+ * <code>-Xmx4g</code>. The <code>ZestBenchmark.launch</code> configuration of
+ * this bundle runs the benchmark accordingly.
+ *
+ * @author agent
+ *
+ */
+public class ZestBenchmark extends Application {
+
+	private static final int[] DEFAULT_SIZES = new int[] { 1000, 10000, 100000 };
+	private static final int DEFAULT_EDGES_PER_NODE = 2;
+	private static final long DEFAULT_SEED = 42;
+	private static final String DEFAULT_REPORT = "zest-benchmark.json";
+
+	/**
+	 * Launches the {@link ZestBenchmark}.
+	 *
+	 * @param args
+	 *            The named parameters of the benchmark (see
+	 *            {@link ZestBenchmark}).
+	 */
+	public static void main(String[] args) {
+		launch(args);
+	}
+
+	private Stage stage;
+	private IViewer viewer;
+	private int edgesPerNode;
+	private Random random;
+
+	private long phaseStartNanos;
+	private long phaseStartAllocatedBytes;
+
+	private void beginPhase() {
+		phaseStartAllocatedBytes = getAllocatedBytes();
+		phaseStartNanos = System.nanoTime();
+	}
+
+	private Graph createGraph(int nodeCount) {
+		List<Node> nodes = new ArrayList<>(nodeCount);
+		List<Edge> edges = new ArrayList<>(nodeCount * edgesPerNode);
+		for (int i = 0; i < nodeCount; i++) {
+			Node node = new Node();
+			ZestProperties.setLabel(node, "n" + i);
+			// connect to randomly chosen previous nodes, so that the graph is
+			// connected but its degree distribution is irregular
+			for (int j = 0; j < edgesPerNode && i > 0; j++) {
+				edges.add(new Edge(nodes.get(random.nextInt(i)), node));
+			}
+			nodes.add(node);
+		}
+		Graph graph = new Graph(nodes, edges);
+		ZestProperties.setLayoutAlgorithm(graph, new GridLayoutAlgorithm());
+		return graph;
+	}
+
+	private void endPhase(BenchmarkReport.Run run, String name) {
+		long nanos = System.nanoTime() - phaseStartNanos;
+		long allocatedBytes = getAllocatedBytes();
+		run.addPhase(name, nanos,
+				allocatedBytes < 0 || phaseStartAllocatedBytes < 0 ? -1 : allocatedBytes - phaseStartAllocatedBytes);
+	}
+
+	// XXX: Uses the platform MBean server instead of
+	// com.sun.management.ThreadMXBean, so that no JVM specific package has to
+	// be imported.
+	private long getAllocatedBytes() {
+		try {
+			return (Long) ManagementFactory.getPlatformMBeanServer().invoke(
+					new ObjectName(ManagementFactory.THREAD_MXBEAN_NAME), "getThreadAllocatedBytes",
+					new Object[] { Thread.currentThread().getId() }, new String[] { long.class.getName() });
+		} catch (Exception e) {
+			return -1;
+		}
+	}
+
+	private long getUsedHeapBytes() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private int[] parseSizes(String sizes) {
+		String[] tokens = sizes.split(",");
+		int[] result = new int[tokens.length];
+		for (int i = 0; i < tokens.length; i++) {
+			result[i] = Integer.parseInt(tokens[i].trim());
+		}
+		return result;
+	}
+
+	// enforces CSS processing, layout, and rendering of the scene (the snapshot
+	// renders the whole scene in software, not only the dirty regions)
+	private void renderFrame() {
+		Scene scene = stage.getScene();
+		scene.getRoot().applyCss();
+		scene.getRoot().layout();
+		scene.snapshot(null);
+	}
+
+	private BenchmarkReport.Run run(int nodeCount) {
+		long usedHeapBytes = getUsedHeapBytes();
+
+		beginPhase();
+		Graph graph = createGraph(nodeCount);
+		BenchmarkReport.Run run = new BenchmarkReport.Run(graph.getNodes().size(), graph.getEdges().size());
+		endPhase(run, "build");
+
+		beginPhase();
+		viewer.getContents().setAll(graph);
+		renderFrame();
+		endPhase(run, "firstFrame");
+
+		run.setRetainedBytesPerNode((getUsedHeapBytes() - usedHeapBytes) / nodeCount);
+
+		GraphPart graphPart = (GraphPart) viewer.getContentPartMap().get(graph);
+		beginPhase();
+		graphPart.getAdapter(GraphLayoutBehavior.class).applyLayout(true, null);
+		renderFrame();
+		endPhase(run, "relayout");
+
+		beginPhase();
+		List<Node> nodes = graph.getNodes();
+		for (int i = 0; i < nodes.size(); i += 10) {
+			ZestProperties.setLabel(nodes.get(i), "m" + i);
+		}
+		viewer.getAdapter(RefreshScheduler.class).flush();
+		renderFrame();
+		endPhase(run, "update");
+
+		beginPhase();
+		viewer.getContents().clear();
+		renderFrame();
+		endPhase(run, "dispose");
+
+		return run;
+	}
+
+	@Override
+	public void start(Stage primaryStage) throws Exception {
+		Map<String, String> parameters = getParameters().getNamed();
+		int[] sizes = parameters.containsKey("sizes") ? parseSizes(parameters.get("sizes")) : DEFAULT_SIZES;
+		edgesPerNode = parameters.containsKey("edgesPerNode") ? Integer.parseInt(parameters.get("edgesPerNode"))
+				: DEFAULT_EDGES_PER_NODE;
+		random = new Random(
+				parameters.containsKey("seed") ? Long.parseLong(parameters.get("seed")) : DEFAULT_SEED);
+		String reportPath = parameters.containsKey("report") ? parameters.get("report") : DEFAULT_REPORT;
+
+		Injector injector = Guice.createInjector(new ZestFxModule());
+		IDomain domain = injector.getInstance(IDomain.class);
+		viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+		stage = primaryStage;
+		stage.setScene(new Scene(viewer.getCanvas(), 1024, 768));
+		stage.setTitle("Zest.FX Benchmark");
+		stage.show();
+		domain.activate();
+
+		BenchmarkReport report = new BenchmarkReport();
+		try {
+			for (int size : sizes) {
+				BenchmarkReport.Run run = run(size);
+				System.out.println(run);
+				report.addRun(run);
+			}
+			writeReport(report, reportPath);
+		} finally {
+			domain.deactivate();
+			domain.dispose();
+			Platform.exit();
+		}
+	}
+
+	private void writeReport(BenchmarkReport report, String reportPath) throws IOException {
+		try (Writer writer = new OutputStreamWriter(new FileOutputStream(reportPath), StandardCharsets.UTF_8)) {
+			report.write(writer);
+		}
+		System.out.println("Report written to " + reportPath);
+	}
+
+}